@@ -0,0 +1,178 @@
+package com.strikesenchantcore;
+
+import com.strikesenchantcore.config.AutoSellConfig;
+import com.strikesenchantcore.data.PlayerData;
+import com.strikesenchantcore.enchants.EnchantmentWrapper;
+import com.strikesenchantcore.listeners.BlockBreakListener;
+import com.strikesenchantcore.pickaxe.PickaxeManager;
+import com.strikesenchantcore.testing.FakePlayer;
+import com.strikesenchantcore.testing.FakeServer;
+import com.strikesenchantcore.testing.FakeWorld;
+import com.strikesenchantcore.testing.FakeWorldGuardHook;
+import com.strikesenchantcore.util.ColorUtils;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Block-break hot path benchmarks, run against the real plugin enabled on {@link FakeServer}
+ * with its default configs: a 32x32x32 stone mine covered by a {@link FakeWorldGuardHook}, one
+ * player holding an EnchantCore pickaxe, and the fake Vault economy so autosell prices blocks.
+ * <p>
+ * The fakes are proxies and cost more than CraftBukkit's classes, so the numbers are for
+ * comparing commits with each other, not for predicting tick time on a real server.
+ * Run with {@code gradle jmh -PjmhArgs="HotPath"} (add {@code -prof gc} for allocation rates).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HotPathBenchmark {
+
+    private static final int MINE_SIZE = 32;
+    private static final int ENCHANTS_ON_PICKAXE = 8;
+    private static final String COLOR_SAMPLE = "&6&lEnchantCore #FFAA00Tokens: &f%tokens% &8| &eLevel &f%level%";
+    private static final Material[] SELL_SAMPLE = {
+            Material.STONE, Material.COBBLESTONE, Material.COAL_ORE, Material.IRON_ORE, Material.GOLD_ORE,
+            Material.DIAMOND_ORE, Material.EMERALD_ORE, Material.DEEPSLATE, Material.ANDESITE, Material.DIRT
+    };
+
+    private FakeServer server;
+    private BlockBreakListener listener;
+    private PickaxeManager pickaxeManager;
+    private AutoSellConfig autoSellConfig;
+    private Player player;
+    private PlayerData playerData;
+    private ItemStack pickaxe;
+    private Block block;
+    private Location center;
+    private MethodHandle processSingleBlockBreak;
+    private MethodHandle findBlocksInRadius;
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        server = FakeServer.get();
+        server.reset();
+        FakeWorld mine = server.addWorld("mine");
+        int max = MINE_SIZE - 1;
+        mine.fill(0, 0, 0, max, max, max, Material.STONE);
+        EnchantCore plugin = server.enableEnchantCore(null,
+                enchantCore -> new FakeWorldGuardHook(enchantCore, mine.getWorld(), 0, 0, 0, max, max, max));
+
+        FakePlayer fakePlayer = server.addPlayer("Bench", new Location(mine.getWorld(), MINE_SIZE / 2.0, MINE_SIZE, MINE_SIZE / 2.0));
+        player = fakePlayer.getPlayer();
+        playerData = plugin.getPlayerDataManager().getPlayerData(player.getUniqueId());
+        pickaxeManager = plugin.getPickaxeManager();
+        autoSellConfig = plugin.getAutoSellConfig();
+        listener = plugin.getBlockBreakListener();
+        if (playerData == null || pickaxeManager == null || autoSellConfig == null || listener == null) {
+            throw new IllegalStateException("EnchantCore did not enable completely, see the log");
+        }
+
+        pickaxe = pickaxeManager.createDefaultPickaxe();
+        int enchants = 0;
+        for (EnchantmentWrapper enchant : plugin.getEnchantRegistry().getAllEnchants()) {
+            if (enchants++ >= ENCHANTS_ON_PICKAXE) break;
+            pickaxeManager.setEnchantLevel(pickaxe, enchant.getRawName(), 10);
+        }
+        pickaxeManager.updatePickaxe(pickaxe, player);
+        fakePlayer.setItemInMainHand(pickaxe);
+
+        block = mine.getBlockAt(MINE_SIZE / 2, MINE_SIZE / 2, MINE_SIZE / 2);
+        center = block.getLocation();
+        processSingleBlockBreak = privateMethod("processSingleBlockBreak",
+                Player.class, Block.class, Material.class, ItemStack.class, BlockBreakEvent.class, PlayerData.class);
+        findBlocksInRadius = privateMethod("findBlocksInRadius", Location.class, int.class, boolean.class, String.class);
+    }
+
+    private static MethodHandle privateMethod(String name, Class<?>... parameterTypes) throws ReflectiveOperationException {
+        Method method = BlockBreakListener.class.getDeclaredMethod(name, parameterTypes);
+        method.setAccessible(true);
+        return MethodHandles.lookup().unreflect(method);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.reset();
+    }
+
+    // --- Block Break ---
+
+    /** Autosell pricing, the Vault deposit and the blocks-mined PDC write of one mined block. */
+    @Benchmark
+    public Object processSingleBlockBreak() throws Throwable {
+        return processSingleBlockBreak.invoke(listener, player, block, Material.STONE, pickaxe, (BlockBreakEvent) null, playerData);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Radius {
+        @Param({"3", "8"})
+        public int radius;
+    }
+
+    /** The sphere scan behind Explosive and Nuke, with the region check per block. */
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public int findBlocksInRadius(Radius radius) throws Throwable {
+        return ((List<Block>) findBlocksInRadius.invoke(listener, center, radius.radius, false, "explosive")).size();
+    }
+
+    // --- Pickaxe ---
+
+    @Benchmark
+    public int getAllEnchantLevels() {
+        return pickaxeManager.getAllEnchantLevels(pickaxe).size();
+    }
+
+    @Benchmark
+    public ItemStack updatePickaxe() {
+        return pickaxeManager.updatePickaxe(pickaxe, player);
+    }
+
+    @Benchmark
+    public long getBlocksRequiredForLevel() {
+        return pickaxeManager.getBlocksRequiredForLevel(1 + (counter++ % 1000));
+    }
+
+    // --- Config & Text ---
+
+    @Benchmark
+    public double getSellPrice() {
+        return autoSellConfig.getSellPrice(SELL_SAMPLE[counter++ % SELL_SAMPLE.length]);
+    }
+
+    @Benchmark
+    public String translateColors() {
+        return ColorUtils.translateColors(COLOR_SAMPLE);
+    }
+
+    @Benchmark
+    public String translateColorsUncached() {
+        return ColorUtils.translateColorsUncached(COLOR_SAMPLE);
+    }
+}
@@ -0,0 +1,103 @@
+package com.strikesenchantcore.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link NumberFormatUtil} against the String.format and DecimalFormat/NumberFormat calls it
+ * replaced, one pair per output shape. The JDK formatters are per benchmark thread because they
+ * are not thread-safe. Run with {@code gradle jmh -PjmhArgs="NumberFormat -prof gc"} to see the
+ * allocation per call next to the time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberFormatBenchmark {
+
+    // Token balances, costs and boost percentages as they show up in lore and messages
+    private static final long[] LONGS = {7L, 950L, 12_345L, 1_500_000L, 987_654_321L, 42_000_000_000L, 3_250_000_000_000L};
+    private static final double[] DOUBLES = {0.05, 2.5, 17.125, 1_234.5678, 99_999.995, 1_500_000.25, 7.0};
+
+    private final NumberFormat integerFormat = NumberFormat.getIntegerInstance(Locale.US);
+    private final DecimalFormat percentageFormat = new DecimalFormat("#,##0.00##", DecimalFormatSymbols.getInstance(Locale.US));
+    private int index;
+
+    private long nextLong() {
+        index = (index + 1) % LONGS.length;
+        return LONGS[index];
+    }
+
+    private double nextDouble() {
+        index = (index + 1) % DOUBLES.length;
+        return DOUBLES[index];
+    }
+
+    // --- Grouped Integer ("1,234,567") ---
+
+    @Benchmark
+    public String groupedNumberFormat() {
+        return integerFormat.format(nextLong());
+    }
+
+    @Benchmark
+    public String groupedStringFormat() {
+        return String.format(Locale.US, "%,d", nextLong());
+    }
+
+    @Benchmark
+    public String groupedUtil() {
+        return NumberFormatUtil.formatGrouped(nextLong());
+    }
+
+    // --- Fixed One Decimal ("17.1") ---
+
+    @Benchmark
+    public String fixedStringFormat() {
+        return String.format("%.1f", nextDouble());
+    }
+
+    @Benchmark
+    public String fixedUtil() {
+        return NumberFormatUtil.formatFixed(nextDouble(), 1);
+    }
+
+    // --- Grouped Two Decimals ("1,234.57") ---
+
+    @Benchmark
+    public String groupedFixedStringFormat() {
+        return String.format(Locale.US, "%,.2f", nextDouble());
+    }
+
+    @Benchmark
+    public String groupedFixedUtil() {
+        return NumberFormatUtil.formatGroupedFixed(nextDouble(), 2);
+    }
+
+    // --- Two To Four Decimals ("1,234.5678") ---
+
+    @Benchmark
+    public String decimalDecimalFormat() {
+        return percentageFormat.format(nextDouble());
+    }
+
+    @Benchmark
+    public String decimalUtil() {
+        return NumberFormatUtil.formatDecimal(nextDouble(), 2, 4, true);
+    }
+}
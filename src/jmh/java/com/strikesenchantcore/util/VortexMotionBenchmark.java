@@ -0,0 +1,155 @@
+package com.strikesenchantcore.util;
+
+import com.strikesenchantcore.testing.FakeBlockData;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.util.EulerAngle;
+import org.bukkit.util.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One Blackhole update of every floating block: {@link VortexMotion#advance} against the
+ * object-per-block math it replaced, where each update built Vectors, a Location and an
+ * EulerAngle per block. Both fly the same blocks with the default Speed of 0.02 and respawn them
+ * when a flight ends, as a vortex pulling in a steady stream of blocks does.
+ * Run with {@code gradle jmh -PjmhArgs="VortexMotion -prof gc"}; gc.alloc.rate.norm is the
+ * allocation per update.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VortexMotionBenchmark {
+
+    private static final double SPEED = 0.02;
+    private static final int UPDATES_PER_FLIGHT = (int) Math.ceil(1.0 / SPEED);
+
+    @Param({"75", "500"})
+    public int blocks;
+
+    // Per-block flight parameters shared by both variants
+    private double[] fromX, fromY, fromZ, toX, toY, toZ, arc;
+    private float[] pitchStep, yawStep, rollStep;
+    private BlockData blockData;
+    private Location vortexCenter;
+
+    private VortexMotion motion;
+    private List<ObjectBlock> objectBlocks;
+    private int motionUpdates;
+    private int objectUpdates;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        vortexCenter = new Location(null, 0.5, 80.5, 0.5);
+        blockData = FakeBlockData.of(Material.STONE);
+        fromX = new double[blocks]; fromY = new double[blocks]; fromZ = new double[blocks];
+        toX = new double[blocks]; toY = new double[blocks]; toZ = new double[blocks];
+        arc = new double[blocks];
+        pitchStep = new float[blocks]; yawStep = new float[blocks]; rollStep = new float[blocks];
+        for (int i = 0; i < blocks; i++) {
+            fromX[i] = random.nextInt(32) - 16 + 0.5;
+            fromY[i] = 64 + random.nextInt(16) + 0.5;
+            fromZ[i] = random.nextInt(32) - 16 + 0.5;
+            toX[i] = vortexCenter.getX() + (random.nextDouble() - 0.5) * 6.0;
+            toY[i] = vortexCenter.getY() + (random.nextDouble() - 0.5) * 6.0;
+            toZ[i] = vortexCenter.getZ() + (random.nextDouble() - 0.5) * 6.0;
+            arc[i] = random.nextDouble() * 8.0;
+            pitchStep[i] = (float) ((random.nextDouble() - 0.5) * 0.4);
+            yawStep[i] = (float) ((random.nextDouble() - 0.5) * 0.4);
+            rollStep[i] = (float) ((random.nextDouble() - 0.5) * 0.4);
+        }
+        motion = new VortexMotion(blocks);
+        spawnMotion();
+        objectBlocks = new ArrayList<>(blocks);
+        spawnObjects();
+    }
+
+    private void spawnMotion() {
+        motion.clear();
+        for (int i = 0; i < blocks; i++) {
+            motion.add(fromX[i], fromY[i], fromZ[i], toX[i], toY[i], toZ[i], arc[i], pitchStep[i], yawStep[i], rollStep[i], blockData);
+        }
+    }
+
+    private void spawnObjects() {
+        objectBlocks.clear();
+        for (int i = 0; i < blocks; i++) {
+            objectBlocks.add(new ObjectBlock(i));
+        }
+    }
+
+    // --- Benchmarks ---
+
+    @Benchmark
+    public double vortexMotion() {
+        if (++motionUpdates % UPDATES_PER_FLIGHT == 0) spawnMotion();
+        motion.advance(SPEED);
+        double sum = 0;
+        for (int i = motion.size() - 1; i >= 0; i--) {
+            sum += motion.getY(i) + motion.getPitch(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double objectPerBlock() {
+        if (++objectUpdates % UPDATES_PER_FLIGHT == 0) spawnObjects();
+        double sum = 0;
+        for (ObjectBlock block : objectBlocks) {
+            block.update();
+            sum += block.position.getY() + block.pose.getX();
+        }
+        return sum;
+    }
+
+    /**
+     * The floating block as it was before VortexMotion: the armor stand's head pose and teleport
+     * target are kept in fields so they escape like they did when handed to the entity.
+     */
+    private final class ObjectBlock {
+        private final Location startPos;
+        private final Location finalDestination;
+        private final Vector rotationSpeeds;
+        private final double arcHeight;
+        private double progress;
+        private EulerAngle pose = EulerAngle.ZERO;
+        private Location position;
+
+        private ObjectBlock(int i) {
+            this.startPos = new Location(null, fromX[i], fromY[i], fromZ[i]);
+            this.finalDestination = vortexCenter.clone().add(toX[i] - vortexCenter.getX(), toY[i] - vortexCenter.getY(), toZ[i] - vortexCenter.getZ());
+            this.rotationSpeeds = new Vector(pitchStep[i], yawStep[i], rollStep[i]);
+            this.arcHeight = arc[i];
+            this.position = startPos;
+        }
+
+        private void update() {
+            progress = Math.min(1.0, progress + SPEED);
+            double smoothProgress = progress * progress * (3 - 2 * progress);
+            Vector path = finalDestination.toVector().subtract(startPos.toVector());
+            Vector interpolatedPosition = startPos.toVector().add(path.multiply(smoothProgress));
+            double arcOffset = 4 * arcHeight * smoothProgress * (1 - smoothProgress);
+            position = new Location(startPos.getWorld(), interpolatedPosition.getX(), interpolatedPosition.getY() + arcOffset, interpolatedPosition.getZ());
+            pose = new EulerAngle(pose.getX() + rotationSpeeds.getX(), pose.getY() + rotationSpeeds.getY(), pose.getZ() + rotationSpeeds.getZ());
+        }
+    }
+}
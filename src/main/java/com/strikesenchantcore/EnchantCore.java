@@ -17,6 +17,13 @@ import com.strikesenchantcore.util.ItemsAdderUtil;
 import com.strikesenchantcore.gui.PickaxeSkinsGUIListener;
 import com.strikesenchantcore.gui.PickaxeSkinsGUI;
 import com.strikesenchantcore.managers.BlackholeManager;
+import com.strikesenchantcore.managers.VortexDisplayManager;
+import com.strikesenchantcore.managers.EntityRegistry;
+import com.strikesenchantcore.managers.BreakPipeline;
+import com.strikesenchantcore.managers.DegradationController;
+import com.strikesenchantcore.managers.MetricsEndpoint;
+import com.strikesenchantcore.gui.GuiItemCache;
+import com.strikesenchantcore.managers.VisualEffectService;
 import com.strikesenchantcore.commands.CrystalsCommand;
 import com.strikesenchantcore.managers.CrystalManager;
 import com.strikesenchantcore.managers.MortarManager;
@@ -33,15 +40,19 @@ import com.strikesenchantcore.listeners.AttachmentBoxListener;
 // import com.strikesenchantcore.util.StrikesLicenseManager;
 
 import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
 import org.bukkit.command.PluginCommand;
+import org.bukkit.plugin.PluginDescriptionFile;
 import org.bukkit.plugin.PluginManager;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.java.JavaPluginLoader;
 import org.bukkit.scheduler.BukkitTask;
 import org.bstats.bukkit.Metrics;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import com.strikesenchantcore.gui.CrystalsGUIListener;
 
+import java.io.File;
 import java.nio.charset.StandardCharsets; // For encoding
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -65,10 +76,18 @@ public final class EnchantCore extends JavaPlugin {
     private PapiHook papiHook;
     private WorldGuardHook worldGuardHook;
     private BukkitTask passiveEffectTask;
+    private PassiveEffectTask passiveEffects;
     private BlockBreakListener blockBreakListener;
     private static final int BSTATS_PLUGIN_ID = 25927;
     private SkinConfig skinConfig;
     private BlackholeManager blackholeManager;
+    private VortexDisplayManager vortexDisplayManager;
+    private VisualEffectService visualEffects;
+    private EntityRegistry entityRegistry;
+    private BreakPipeline breakPipeline;
+    private MetricsEndpoint metricsEndpoint;
+    private DegradationController degradationController;
+    private GuiItemCache guiItemCache;
     private CrystalManager crystalManager;
     private CrystalsGUIListener crystalsGUIListener;
     private MortarManager mortarManager;
@@ -79,6 +98,15 @@ public final class EnchantCore extends JavaPlugin {
         return pinataListener;
     }
 
+    public EnchantCore() {
+        super();
+    }
+
+    /** Used by the test fixtures (FakeServer) to create the plugin outside a plugin class loader. */
+    EnchantCore(@NotNull JavaPluginLoader loader, @NotNull PluginDescriptionFile description, @NotNull File dataFolder, @NotNull File file) {
+        super(loader, description, dataFolder, file);
+    }
+
     // +++ License Configuration (TEMPORARILY DISABLED FOR DEVELOPMENT) +++
     // All license-related code is commented out below
 
@@ -119,6 +147,9 @@ public final class EnchantCore extends JavaPlugin {
         this.itemsAdderUtil = new ItemsAdderUtil(this);
         this.skinConfig = new SkinConfig(this);
         this.blackholeManager = new BlackholeManager(this);
+        this.vortexDisplayManager = new VortexDisplayManager(this);
+        this.entityRegistry = new EntityRegistry(this);
+        this.guiItemCache = new GuiItemCache();
         this.playerDataManager = new PlayerDataManager(this);
         this.crystalManager = new CrystalManager(this);
         this.mortarManager = new MortarManager(this);
@@ -132,8 +163,16 @@ public final class EnchantCore extends JavaPlugin {
         log.info("Initializing core managers...");
         // --- FIXED: Removed redundant PlayerDataManager initialization ---
         this.pickaxeManager = new PickaxeManager(this);
-        this.enchantRegistry = new EnchantRegistry(this);
-        this.enchantRegistry.loadEnchantsFromConfig();
+        this.enchantRegistry = new EnchantRegistry(this); // Serves the enchantments loaded with the configs
+        this.visualEffects = new VisualEffectService(this);
+        this.visualEffects.load(configManager.getConfig().getConfigurationSection("Visual-Effects"));
+        this.breakPipeline = new BreakPipeline(this);
+        this.breakPipeline.load(configManager.getConfig().getConfigurationSection("Performance"));
+        this.metricsEndpoint = new MetricsEndpoint(this);
+        this.metricsEndpoint.load(configManager.getConfig().getConfigurationSection("Metrics-Endpoint"));
+        this.degradationController = new DegradationController(this);
+        this.degradationController.load(configManager.getConfig().getConfigurationSection("Degradation"));
+        this.playerDataManager.load(configManager.getConfig().getConfigurationSection("Player-Data-Cache"));
 
 
 
@@ -197,24 +236,40 @@ public final class EnchantCore extends JavaPlugin {
                 getLogger().log(Level.SEVERE, "Error during Blackhole block/sphere cleanup", e);
             }
         }
-        if (blackholeManager != null) {
+        if (vortexDisplayManager != null) {
             try {
-                // 3. Clean up the orphaned flying armor stand entities
-                blackholeManager.cleanupOrphanedArmorStands();
+                // 3. Remove any floating block displays still registered (they are never saved to disk),
+                //    then sweep for tagged ones that slipped out of the manager
+                vortexDisplayManager.removeAll();
+                vortexDisplayManager.removeOrphans();
             } catch (Exception e) {
-                getLogger().log(Level.SEVERE, "Error during Blackhole orphaned armor stand cleanup", e);
+                getLogger().log(Level.SEVERE, "Error during Blackhole block display cleanup", e);
             }
         }
-        // ADDED THE NEW ARMOR STAND CLEANUP CALL
-        if (blackholeManager != null) {
+        if (entityRegistry != null) {
             try {
-                blackholeManager.cleanupOrphanedArmorStands(); // Cleans the flying block entities
+                // 4. Remove tracked plugin entities (piñatas); anything missed is caught as an orphan on chunk load
+                entityRegistry.stop();
+                entityRegistry.removeAll();
             } catch (Exception e) {
-                getLogger().log(Level.SEVERE, "Error during Blackhole orphaned armor stand cleanup", e);
+                getLogger().log(Level.SEVERE, "Error during plugin entity cleanup", e);
             }
         }
 
         getLogger().info("Cancelling tasks...");
+        if (visualEffects != null) {
+            visualEffects.stop();
+        }
+        if (metricsEndpoint != null) {
+            metricsEndpoint.stop();
+        }
+        if (degradationController != null) {
+            degradationController.stop();
+        }
+        if (breakPipeline != null) {
+            breakPipeline.stop();
+            breakPipeline.cancelAll();
+        }
         if (passiveEffectTask != null && !passiveEffectTask.isCancelled()) {
             try { passiveEffectTask.cancel(); } catch (Exception e) { getLogger().warning("Error cancelling PassiveEffectTask: " + e.getMessage()); }
         }
@@ -276,8 +331,16 @@ public final class EnchantCore extends JavaPlugin {
         this.papiHook = null;
         this.worldGuardHook = null;
         this.passiveEffectTask = null;
+        this.passiveEffects = null;
         this.blockBreakListener = null;
         this.blackholeManager = null;
+        this.vortexDisplayManager = null;
+        this.visualEffects = null;
+        this.entityRegistry = null;
+        this.breakPipeline = null;
+        this.metricsEndpoint = null;
+        this.degradationController = null;
+        this.guiItemCache = null;
         this.crystalManager = null;
         this.crystalsGUIListener = null;
         instance = null;
@@ -320,6 +383,11 @@ public final class EnchantCore extends JavaPlugin {
         pm.registerEvents(new PlayerQuitListener(this), this);
         this.pinataListener = new PinataListener(this);
         pm.registerEvents(this.pinataListener, this);
+        if (entityRegistry != null) {
+            entityRegistry.addOrphanTag(PinataListener.PINATA_KEY, this.pinataListener::removePinataEntity);
+            entityRegistry.addOrphanTag(new NamespacedKey(this, "blackhole_armor_stand")); // Armor stands from older versions
+            pm.registerEvents(entityRegistry, this);
+        }
         pm.registerEvents(new OverchargeListener(this), this);
         crystalsGUIListener = new CrystalsGUIListener(this);
         pm.registerEvents(crystalsGUIListener, this);
@@ -419,13 +487,32 @@ public final class EnchantCore extends JavaPlugin {
             return;
         }
         long delay = 40L;
-        long period = 20L;
+        long period = 1L; // Runs every tick; players are spread across ticks inside the task
         try {
-            this.passiveEffectTask = new PassiveEffectTask(this).runTaskTimer(this, delay, period);
-            getLogger().log(Level.INFO, "Passive Effect Task started (Interval: " + (period / 20.0) + "s).");
+            this.passiveEffects = new PassiveEffectTask(this);
+            this.passiveEffectTask = passiveEffects.runTaskTimer(this, delay, period);
+            getLogger().log(Level.INFO, "Passive Effect Task started (players spread over 1s).");
         } catch (Exception e) {
             getLogger().log(Level.SEVERE, "Failed to start PassiveEffectTask!", e);
         }
+        if (visualEffects != null) {
+            visualEffects.start();
+        }
+        if (entityRegistry != null) {
+            entityRegistry.start();
+        }
+        if (vortexDisplayManager != null) {
+            vortexDisplayManager.removeOrphans(); // Displays a previous instance failed to remove (e.g. /reload)
+        }
+        if (breakPipeline != null) {
+            breakPipeline.start();
+        }
+        if (metricsEndpoint != null) {
+            metricsEndpoint.start();
+        }
+        if (degradationController != null) {
+            degradationController.start();
+        }
     }
 
     @NotNull
@@ -447,6 +534,7 @@ public final class EnchantCore extends JavaPlugin {
     @Nullable public PickaxeManager getPickaxeManager() { return this.pickaxeManager; }
     @Nullable public EnchantRegistry getEnchantRegistry() { return enchantRegistry; }
     @Nullable public VaultHook getVaultHook() { return vaultHook; }
+    @Nullable public PassiveEffectTask getPassiveEffects() { return passiveEffects; }
     @Nullable public PapiHook getPapiHook() { return (papiHook != null && papiHook.isHooked()) ? papiHook : null; }
     public boolean isPlaceholderAPIEnabled() { return papiHook != null && papiHook.isHooked(); }
     @Nullable public WorldGuardHook getWorldGuardHook() { return worldGuardHook; }
@@ -455,6 +543,14 @@ public final class EnchantCore extends JavaPlugin {
     public BlackholeManager getBlackholeManager() {
         return blackholeManager;
     }
+    @Nullable public VortexDisplayManager getVortexDisplayManager() { return vortexDisplayManager; }
+    @Nullable public VisualEffectService getVisualEffects() { return visualEffects; }
+    @Nullable public EntityRegistry getEntityRegistry() { return entityRegistry; }
+    @Nullable public BreakPipeline getBreakPipeline() { return breakPipeline; }
+    @Nullable public MetricsEndpoint getMetricsEndpoint() { return metricsEndpoint; }
+    @Nullable public DegradationController getDegradationController() { return degradationController; }
+    @Nullable public BlockBreakListener getBlockBreakListener() { return blockBreakListener; }
+    @Nullable public GuiItemCache getGuiItemCache() { return guiItemCache; }
     public CrystalManager getCrystalManager() {
         return crystalManager;
     }
@@ -1,5 +1,6 @@
 package com.strikesenchantcore.commands;
 
+import com.strikesenchantcore.util.NumberFormatUtil;
 import com.strikesenchantcore.EnchantCore;
 import com.strikesenchantcore.gui.AttachmentsGUI;
 import com.strikesenchantcore.managers.AttachmentManager;
@@ -76,6 +77,7 @@ public class AttachmentsCommand implements CommandExecutor, TabCompleter {
                     // Test mortar save
                     // --- THIS IS THE FIX ---
                     pd.getMortarData().setLevel(5);
+                    if (plugin.getMortarManager() != null) plugin.getMortarManager().reschedule(p.getUniqueId());
                     // --- END FIX ---
                     plugin.getPlayerDataManager().savePlayerData(pd, false); // Force sync save
                     ChatUtil.sendMessage(p, "&aMortar level set to 5 and saved!");
@@ -225,14 +227,14 @@ public class AttachmentsCommand implements CommandExecutor, TabCompleter {
 
         ChatUtil.sendMessage(player, "&6&l=== ATTACHMENT STATS ===");
         ChatUtil.sendMessage(player, "&eEquipped: &6" + storage.getEquippedCount() + "&7/&6" + AttachmentManager.MAX_EQUIPPED_ATTACHMENTS);
-        ChatUtil.sendMessage(player, "&eTotal Proc Bonus: &6+" + String.format("%.2f", totalBonus * 100) + "%");
+        ChatUtil.sendMessage(player, "&eTotal Proc Bonus: &6+" + NumberFormatUtil.formatFixed(totalBonus * 100, 2) + "%");
 
         ChatUtil.sendMessage(player, "&6&lEquipped Attachments:");
         for (int slot = 0; slot < AttachmentManager.MAX_EQUIPPED_ATTACHMENTS; slot++) {
             Integer tier = storage.getEquippedAttachment(slot);
             if (tier != null) {
                 double bonus = attachmentManager.getProcBonusForTier(tier);
-                ChatUtil.sendMessage(player, "&e  Slot " + (slot + 1) + ": &6Tier " + tier + " &7(+" + String.format("%.1f", bonus * 100) + "%)");
+                ChatUtil.sendMessage(player, "&e  Slot " + (slot + 1) + ": &6Tier " + tier + " &7(+" + NumberFormatUtil.formatFixed(bonus * 100, 1) + "%)");
             }
         }
 
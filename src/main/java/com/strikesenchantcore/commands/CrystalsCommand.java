@@ -1,5 +1,6 @@
 package com.strikesenchantcore.commands;
 
+import com.strikesenchantcore.util.NumberFormatUtil;
 import com.strikesenchantcore.EnchantCore;
 import com.strikesenchantcore.managers.CrystalManager;
 import com.strikesenchantcore.util.ChatUtil;
@@ -101,13 +102,13 @@ public class CrystalsCommand implements CommandExecutor, TabCompleter {
         ChatUtil.sendMessage(player, "&8&m--------------------------------");
         ChatUtil.sendMessage(player, "&b&lCRYSTAL STATISTICS");
         ChatUtil.sendMessage(player, "&8&m--------------------------------");
-        ChatUtil.sendMessage(player, "&eToken Boost: &a+" + String.format("%.1f", tokenBoost) + "%");
-        ChatUtil.sendMessage(player, "&bGem Boost: &a+" + String.format("%.1f", gemBoost) + "%");
-        ChatUtil.sendMessage(player, "&dProc Boost: &a+" + String.format("%.1f", procBoost) + "%");
-        ChatUtil.sendMessage(player, "&aRank Boost: &a+" + String.format("%.1f", rankBoost) + "%");
-        ChatUtil.sendMessage(player, "&6Pickaxe XP Boost: &a+" + String.format("%.1f", pickaxeXpBoost) + "%");
-        ChatUtil.sendMessage(player, "&9Pet Boost: &a+" + String.format("%.1f", petBoost) + "%");
-        ChatUtil.sendMessage(player, "&cSalvage Boost: &a+" + String.format("%.1f", salvageBoost) + "%");
+        ChatUtil.sendMessage(player, "&eToken Boost: &a+" + NumberFormatUtil.formatFixed(tokenBoost, 1) + "%");
+        ChatUtil.sendMessage(player, "&bGem Boost: &a+" + NumberFormatUtil.formatFixed(gemBoost, 1) + "%");
+        ChatUtil.sendMessage(player, "&dProc Boost: &a+" + NumberFormatUtil.formatFixed(procBoost, 1) + "%");
+        ChatUtil.sendMessage(player, "&aRank Boost: &a+" + NumberFormatUtil.formatFixed(rankBoost, 1) + "%");
+        ChatUtil.sendMessage(player, "&6Pickaxe XP Boost: &a+" + NumberFormatUtil.formatFixed(pickaxeXpBoost, 1) + "%");
+        ChatUtil.sendMessage(player, "&9Pet Boost: &a+" + NumberFormatUtil.formatFixed(petBoost, 1) + "%");
+        ChatUtil.sendMessage(player, "&cSalvage Boost: &a+" + NumberFormatUtil.formatFixed(salvageBoost, 1) + "%");
         ChatUtil.sendMessage(player, "&8&m--------------------------------");
 
         return true;
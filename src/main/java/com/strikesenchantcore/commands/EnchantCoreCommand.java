@@ -8,9 +8,13 @@ import com.strikesenchantcore.data.PlayerData;
 import com.strikesenchantcore.data.PlayerDataManager;
 import com.strikesenchantcore.enchants.EnchantmentWrapper;
 import com.strikesenchantcore.enchants.EnchantRegistry;
+import com.strikesenchantcore.managers.DegradationController;
+import com.strikesenchantcore.managers.VisualEffectService;
 import com.strikesenchantcore.pickaxe.PickaxeManager;
 import com.strikesenchantcore.util.ChatUtil;
+import com.strikesenchantcore.util.NumberFormatUtil;
 import com.strikesenchantcore.util.PDCUtil;
+import com.strikesenchantcore.util.PerfStats;
 
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
@@ -23,6 +27,10 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.File;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
@@ -93,6 +101,8 @@ public class EnchantCoreCommand implements CommandExecutor {
             case "setlevel"     -> handleSetLevel(sender, args, label);
             case "addblocks"    -> handleAddBlocks(sender, args, label);
             case "cleanup_armorstands" -> handleCleanup(sender);
+            case "effects"      -> handleEffects(sender, args);
+            case "perf"         -> handlePerf(sender, args);
             default             -> sendUsage(sender);
         }
         return true;
@@ -117,6 +127,84 @@ public class EnchantCoreCommand implements CommandExecutor {
         ChatUtil.sendMessage(sender, "&aCleanup complete. Removed " + removedCount + " stray armor stands.");
     }
 
+    /** Handles the /ec effects [reset] subcommand (particle budget usage) */
+    private void handleEffects(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("enchantcore.admin")) {
+            ChatUtil.sendMessage(sender, messageManager.getMessage("common.no_permission"));
+            return;
+        }
+        VisualEffectService visualEffects = plugin.getVisualEffects();
+        if (visualEffects == null) {
+            ChatUtil.sendMessage(sender, "&cVisual effect service is not available.");
+            return;
+        }
+        if (args.length >= 2 && args[1].equalsIgnoreCase("reset")) {
+            visualEffects.resetStats();
+            ChatUtil.sendMessage(sender, "&aVisual effect statistics reset.");
+            return;
+        }
+        ChatUtil.sendMessage(sender, "&6--- EnchantCore Visual Effects ---");
+        for (String line : visualEffects.getUsageReport()) {
+            ChatUtil.sendMessage(sender, "&7" + line);
+        }
+    }
+
+    /** Handles the /ec perf [reset|dump] subcommand (per-stage timings) */
+    private void handlePerf(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("enchantcore.admin")) {
+            ChatUtil.sendMessage(sender, messageManager.getMessage("common.no_permission"));
+            return;
+        }
+        String action = (args.length >= 2) ? args[1].toLowerCase() : "";
+        if (action.equals("reset")) {
+            PerfStats.reset();
+            ChatUtil.sendMessage(sender, "&aPerformance counters reset.");
+            return;
+        }
+
+        List<PerfStats.Snapshot> snapshots = PerfStats.snapshot();
+        if (action.equals("dump")) {
+            String fileName = "perf-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + ".csv";
+            File file = new File(new File(plugin.getDataFolder(), "perf"), fileName);
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                try {
+                    PerfStats.writeCsv(file, snapshots);
+                    logger.info("Wrote performance counters to " + file.getPath());
+                } catch (IOException e) {
+                    logger.log(Level.WARNING, "Could not write performance counters to " + file.getPath(), e);
+                }
+            });
+            ChatUtil.sendMessage(sender, "&aWriting " + snapshots.size() + " stages to perf/" + fileName);
+            return;
+        }
+
+        ChatUtil.sendMessage(sender, "&6--- EnchantCore Perf (" + NumberFormatUtil.formatFixed(PerfStats.getWindowSeconds(), 0) + "s) ---");
+        DegradationController degradation = plugin.getDegradationController();
+        if (degradation != null) {
+            ChatUtil.sendMessage(sender, degradation.getStatusLine());
+        }
+        PlayerDataManager playerDataManager = plugin.getPlayerDataManager();
+        if (playerDataManager != null) {
+            ChatUtil.sendMessage(sender, playerDataManager.getStatusLine());
+        }
+        if (snapshots.isEmpty()) {
+            ChatUtil.sendMessage(sender, "&7No samples recorded yet.");
+            return;
+        }
+        ChatUtil.sendMessage(sender, "&8stage: calls/s | p50 | p99 | max | total");
+        for (PerfStats.Snapshot s : snapshots) {
+            ChatUtil.sendMessage(sender, "&e" + s.name + "&7: " + NumberFormatUtil.formatFixed(s.callsPerSecond, 1) + "/s | "
+                    + formatMicros(s.p50Nanos) + " | " + formatMicros(s.p99Nanos) + " | " + formatMicros(s.maxNanos)
+                    + " | " + NumberFormatUtil.formatFixed(s.totalNanos / 1_000_000.0, 1) + "ms");
+        }
+    }
+
+    private static String formatMicros(long nanos) {
+        return (nanos >= 1_000_000L)
+                ? NumberFormatUtil.formatFixed(nanos / 1_000_000.0, 2) + "ms"
+                : NumberFormatUtil.formatFixed(nanos / 1000.0, 1) + "µs";
+    }
+
     /** Sends the command usage message from messages.yml */
     private void sendUsage(CommandSender sender) {
         List<String> usage = messageManager.getMessageList("commands.enchantcore.usage");
@@ -138,8 +226,14 @@ public class EnchantCoreCommand implements CommandExecutor {
             return;
         }
         try {
-            configManager.reloadConfigs(); // This should handle reloading all necessary configs
-            ChatUtil.sendMessage(sender, messageManager.getMessage("commands.enchantcore.reload_success"));
+            // Files are read off the main thread; the reply comes once the new settings are live
+            configManager.reloadConfigs(published -> {
+                if (published) {
+                    ChatUtil.sendMessage(sender, messageManager.getMessage("commands.enchantcore.reload_success"));
+                } else {
+                    ChatUtil.sendMessage(sender, "&cAn error occurred during reload. Check console logs.");
+                }
+            });
         } catch (Exception e) {
             logger.log(Level.SEVERE, "Error during configuration reload triggered by command", e);
             ChatUtil.sendMessage(sender, "&cAn error occurred during reload. Check console logs.");
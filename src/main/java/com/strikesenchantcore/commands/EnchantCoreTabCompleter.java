@@ -27,7 +27,7 @@ public class EnchantCoreTabCompleter implements TabCompleter {
 
     // Subcommands available to administrators
     private static final List<String> SUBCOMMANDS_ADMIN = Arrays.asList(
-            "reload", "give", "givemax", "setlevel", "addblocks"
+            "reload", "give", "givemax", "setlevel", "addblocks", "effects", "perf"
     );
     // Add lists for non-admin commands if any are created later
     // private static final List<String> SUBCOMMANDS_PLAYER = Arrays.asList("help", "gui"); // Example
@@ -73,6 +73,12 @@ public class EnchantCoreTabCompleter implements TabCompleter {
                 }
                 // No suggestions for 3rd+ args (level/amount) for these commands currently
             }
+            else if (sender.hasPermission("enchantcore.admin") && subCommand.equals("effects") && args.length == 2) {
+                StringUtil.copyPartialMatches(args[1], Collections.singletonList("reset"), completions);
+            }
+            else if (sender.hasPermission("enchantcore.admin") && subCommand.equals("perf") && args.length == 2) {
+                StringUtil.copyPartialMatches(args[1], Arrays.asList("reset", "dump"), completions);
+            }
             // Add argument completions for other subcommands here if needed
             // else if (subCommand.equals("someothercommand")) { ... }
 
@@ -1,5 +1,6 @@
 package com.strikesenchantcore.commands;
 
+import com.strikesenchantcore.util.NumberFormatUtil;
 import com.strikesenchantcore.EnchantCore;
 import com.strikesenchantcore.gui.MortarGUI;
 import com.strikesenchantcore.managers.MortarManager;
@@ -58,6 +59,7 @@ public class MortarCommand implements CommandExecutor, TabCompleter {
                 if (plugin.getMortarManager() != null) {
                     com.strikesenchantcore.managers.MortarManager.MortarData mortarData = plugin.getMortarManager().getMortarData(player.getUniqueId());
                     mortarData.setLevel(3);
+                    plugin.getMortarManager().reschedule(player.getUniqueId());
                     ChatUtil.sendMessage(player, "&aMortar level set to 3 in manager");
 
                     // Force save
@@ -124,7 +126,7 @@ public class MortarCommand implements CommandExecutor, TabCompleter {
         if (mortarManager.hasActiveBoost(playerId)) {
             double multiplier = mortarManager.getActiveBoostMultiplier(playerId);
             long boostRemaining = mortarData.getBoostEndTime() - System.currentTimeMillis();
-            ChatUtil.sendMessage(player, "&eActive Boost: &6" + String.format("%.1f", multiplier) + "x &efor &6" + formatTime(boostRemaining));
+            ChatUtil.sendMessage(player, "&eActive Boost: &6" + NumberFormatUtil.formatFixed(multiplier, 1) + "x &efor &6" + formatTime(boostRemaining));
         } else {
             ChatUtil.sendMessage(player, "&eActive Boost: &7None");
         }
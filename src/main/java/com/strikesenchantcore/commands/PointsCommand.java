@@ -1,5 +1,6 @@
 package com.strikesenchantcore.commands;
 
+import com.strikesenchantcore.util.NumberFormatUtil;
 import com.strikesenchantcore.EnchantCore;
 import com.strikesenchantcore.config.MessageManager;
 import com.strikesenchantcore.data.PlayerData;
@@ -16,7 +17,6 @@ import org.bukkit.util.StringUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -31,7 +31,6 @@ public class PointsCommand implements CommandExecutor, TabCompleter {
     private final PlayerDataManager dataManager;
     private final MessageManager messageManager;
     private final Logger logger;
-    private final NumberFormat pointFormat = NumberFormat.getNumberInstance(Locale.US);
 
     // Default messages
     private static final String DEF_NO_PERM = "&cYou do not have permission.";
@@ -92,7 +91,7 @@ public class PointsCommand implements CommandExecutor, TabCompleter {
             }
 
             ChatUtil.sendMessage(player, messageManager.getMessage("commands.points.balance_self", DEF_BALANCE_SELF)
-                    .replace("%balance%", pointFormat.format(data.getPoints())));
+                    .replace("%balance%", NumberFormatUtil.formatGrouped(data.getPoints())));
             return true;
         }
 
@@ -129,7 +128,7 @@ public class PointsCommand implements CommandExecutor, TabCompleter {
                 return;
             }
             ChatUtil.sendMessage(player, messageManager.getMessage("commands.points.balance_self", DEF_BALANCE_SELF)
-                    .replace("%balance%", pointFormat.format(data.getPoints())));
+                    .replace("%balance%", NumberFormatUtil.formatGrouped(data.getPoints())));
 
         } else if (args.length == 2) {
             if (!sender.hasPermission("enchantcore.points.balance.others")) {
@@ -148,7 +147,7 @@ public class PointsCommand implements CommandExecutor, TabCompleter {
             }
             ChatUtil.sendMessage(sender, messageManager.getMessage("commands.points.balance_other", DEF_BALANCE_OTHER)
                     .replace("%player%", target.getName() != null ? target.getName() : args[1])
-                    .replace("%balance%", pointFormat.format(data.getPoints())));
+                    .replace("%balance%", NumberFormatUtil.formatGrouped(data.getPoints())));
         } else {
             ChatUtil.sendMessage(sender, messageManager.getMessage("commands.points.usage_balance", DEF_USAGE_BALANCE));
         }
@@ -218,7 +217,7 @@ public class PointsCommand implements CommandExecutor, TabCompleter {
         }
 
         long currentBal = targetData.getPoints();
-        String formattedAmount = pointFormat.format(amount);
+        String formattedAmount = NumberFormatUtil.formatGrouped(amount);
 
         switch (type) {
             case "give":
@@ -230,7 +229,7 @@ public class PointsCommand implements CommandExecutor, TabCompleter {
             case "take":
                 if (!targetData.removePoints(amount)) {
                     ChatUtil.sendMessage(sender, messageManager.getMessage("commands.points.take_fail_insufficient", DEF_TAKE_FAIL)
-                            .replace("%balance%", pointFormat.format(currentBal)));
+                            .replace("%balance%", NumberFormatUtil.formatGrouped(currentBal)));
                     return;
                 }
                 ChatUtil.sendMessage(sender, messageManager.getMessage(successMessageKey, successDefault)
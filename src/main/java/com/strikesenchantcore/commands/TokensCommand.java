@@ -1,5 +1,6 @@
 package com.strikesenchantcore.commands;
 
+import com.strikesenchantcore.util.NumberFormatUtil;
 import com.strikesenchantcore.EnchantCore;
 import com.strikesenchantcore.config.MessageManager; // Import MessageManager
 import com.strikesenchantcore.data.PlayerData;
@@ -18,7 +19,6 @@ import org.bukkit.util.StringUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -33,8 +33,6 @@ public class TokensCommand implements CommandExecutor, TabCompleter {
     private final PlayerDataManager dataManager; // Cached
     private final MessageManager messageManager; // Cached
     private final Logger logger; // Cached
-    // Use a reusable NumberFormat instance
-    private final NumberFormat tokenFormat = NumberFormat.getNumberInstance(Locale.US);
 
     // Default messages (used if keys missing from messages.yml)
     private static final String DEF_NO_PERM = "&cYou do not have permission.";
@@ -103,7 +101,7 @@ public class TokensCommand implements CommandExecutor, TabCompleter {
             }
 
             ChatUtil.sendMessage(player, messageManager.getMessage("commands.tokens.balance_self", DEF_BALANCE_SELF)
-                    .replace("%balance%", tokenFormat.format(data.getTokens())));
+                    .replace("%balance%", NumberFormatUtil.formatGrouped(data.getTokens())));
             return true;
         }
 
@@ -151,7 +149,7 @@ public class TokensCommand implements CommandExecutor, TabCompleter {
                 return;
             }
             ChatUtil.sendMessage(player, messageManager.getMessage("commands.tokens.balance_self", DEF_BALANCE_SELF)
-                    .replace("%balance%", tokenFormat.format(data.getTokens())));
+                    .replace("%balance%", NumberFormatUtil.formatGrouped(data.getTokens())));
 
         } else if (args.length == 2) { // /tokens balance <player>
             if (!sender.hasPermission("enchantcore.tokens.balance.others")) {
@@ -170,7 +168,7 @@ public class TokensCommand implements CommandExecutor, TabCompleter {
             }
             ChatUtil.sendMessage(sender, messageManager.getMessage("commands.tokens.balance_other", DEF_BALANCE_OTHER)
                     .replace("%player%", target.getName() != null ? target.getName() : args[1])
-                    .replace("%balance%", tokenFormat.format(data.getTokens())));
+                    .replace("%balance%", NumberFormatUtil.formatGrouped(data.getTokens())));
         } else {
             ChatUtil.sendMessage(sender, messageManager.getMessage("commands.tokens.usage_balance", DEF_USAGE_BALANCE));
         }
@@ -241,7 +239,7 @@ public class TokensCommand implements CommandExecutor, TabCompleter {
         }
 
         long currentBal = targetData.getTokens();
-        String formattedAmount = tokenFormat.format(amount); // Format amount for messages
+        String formattedAmount = NumberFormatUtil.formatGrouped(amount); // Format amount for messages
 
         switch (type) {
             case "give":
@@ -253,7 +251,7 @@ public class TokensCommand implements CommandExecutor, TabCompleter {
             case "take":
                 if (!targetData.removeTokens(amount)) { // removeTokens handles check and deduction
                     ChatUtil.sendMessage(sender, messageManager.getMessage("commands.tokens.take_fail_insufficient", DEF_TAKE_FAIL)
-                            .replace("%balance%", tokenFormat.format(currentBal)));
+                            .replace("%balance%", NumberFormatUtil.formatGrouped(currentBal)));
                     return; // Don't save if failed
                 }
                 ChatUtil.sendMessage(sender, messageManager.getMessage(successMessageKey, successDefault)
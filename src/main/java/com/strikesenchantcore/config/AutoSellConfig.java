@@ -11,7 +11,8 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger; // Import Logger
@@ -24,22 +25,33 @@ public class AutoSellConfig {
     private final EnchantCore plugin;
     private final Logger logger; // Cache logger
     private File autoSellFile;
-    private FileConfiguration autoSellConfig;
 
-    // Cache sell prices: Material -> Price per item
-    private final Map<Material, Double> sellPrices = new HashMap<>();
-    // Default price for items not explicitly listed in the config
-    private double defaultPrice = 0.0;
+    /**
+     * Immutable sell prices from one load of autosell.yml. Part of the {@link ConfigSnapshot}.
+     */
+    static final class PriceTable {
+        static final PriceTable EMPTY = new PriceTable(new YamlConfiguration(), Collections.emptyMap(), 0.0);
+
+        private final FileConfiguration config; // The autosell.yml tree the prices came from
+        private final Map<Material, Double> sellPrices; // Material -> Price per item
+        private final double defaultPrice; // For items not explicitly listed in the config
+
+        private PriceTable(FileConfiguration config, Map<Material, Double> sellPrices, double defaultPrice) {
+            this.config = config;
+            this.sellPrices = sellPrices;
+            this.defaultPrice = defaultPrice;
+        }
+    }
 
     public AutoSellConfig(@NotNull EnchantCore plugin) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
         setup();
-        // load() is called by ConfigManager after construction
+        // Prices are loaded by ConfigManager as part of its snapshot
     }
 
     /**
-     * Sets up the file and configuration object. Creates default if missing.
+     * Sets up the file object. Creates default if missing.
      */
     private void setup() {
         if (!plugin.getDataFolder().exists()) {
@@ -50,39 +62,32 @@ public class AutoSellConfig {
             plugin.saveResource("autosell.yml", false); // Copy default from JAR
             logger.info("Created default autosell.yml");
         }
-
-        autoSellConfig = new YamlConfiguration();
-        try {
-            autoSellConfig.load(autoSellFile);
-        } catch (IOException | InvalidConfigurationException e) {
-            logger.log(Level.SEVERE, "Could not load autosell.yml during setup!", e);
-        }
     }
 
     /**
-     * Loads or reloads sell prices from autosell.yml into the cached map.
-     * Called by ConfigManager.
+     * Reads autosell.yml and builds its price table. Only touches this file and the logger,
+     * so ConfigManager runs it off the main thread during a reload.
+     *
+     * @param debug Debug mode of the config.yml being loaded alongside.
+     * @return The new prices, or null if the file could not be read (the caller keeps the previous ones).
      */
-    public void load() {
+    @Nullable
+    PriceTable loadPrices(boolean debug) {
         // Ensure file exists, attempt setup if not
         if (!autoSellFile.exists()) {
             logger.warning("autosell.yml not found! Attempting to recreate...");
             setup();
-        } else {
-            // Reload from disk if file exists
-            try {
-                autoSellConfig.load(autoSellFile);
-            } catch (IOException | InvalidConfigurationException e) {
-                logger.log(Level.SEVERE, "Could not reload autosell.yml! Using potentially stale prices.", e);
-                // Avoid clearing prices if reload fails, keep using old ones
-                return; // Stop loading process if reload fails
-            }
+        }
+        FileConfiguration autoSellConfig = new YamlConfiguration();
+        try {
+            autoSellConfig.load(autoSellFile);
+        } catch (IOException | InvalidConfigurationException e) {
+            logger.log(Level.SEVERE, "Could not reload autosell.yml! Using potentially stale prices.", e);
+            return null; // Keep using old prices
         }
 
-        // Clear old prices before loading new ones
-        sellPrices.clear();
+        Map<Material, Double> sellPrices = new EnumMap<>(Material.class);
         int loadedCount = 0;
-        final boolean debug = plugin.getConfigManager() != null && plugin.getConfigManager().isDebugMode(); // Check if debug enabled
 
         // Load prices from the "Prices" section
         ConfigurationSection pricesSection = autoSellConfig.getConfigurationSection("Prices");
@@ -115,13 +120,19 @@ public class AutoSellConfig {
         }
 
         // Load default price (0.0 if not specified or invalid)
-        defaultPrice = autoSellConfig.getDouble("DefaultPrice", 0.0);
+        double defaultPrice = autoSellConfig.getDouble("DefaultPrice", 0.0);
         if (defaultPrice < 0) {
             logger.warning("DefaultPrice in autosell.yml cannot be negative. Setting to 0.0.");
             defaultPrice = 0.0;
         }
 
         logger.info("Loaded " + loadedCount + " item prices from autosell.yml. Default price: " + defaultPrice);
+        return new PriceTable(autoSellConfig, Collections.unmodifiableMap(sellPrices), defaultPrice);
+    }
+
+    @NotNull
+    private PriceTable prices() {
+        return plugin.getConfigManager().getSnapshot().getPrices();
     }
 
     /**
@@ -135,17 +146,19 @@ public class AutoSellConfig {
             return 0.0; // Cannot sell null or air
         }
         // Return the specific price if found, otherwise return the default price (which might be 0)
-        return sellPrices.getOrDefault(material, defaultPrice);
+        PriceTable table = prices(); // One snapshot for both lookups
+        Double price = table.sellPrices.get(material);
+        return (price != null) ? price : table.defaultPrice;
     }
 
     /**
      * Provides direct access to the FileConfiguration object for autosell.yml.
-     * Use cautiously; prefer getSellPrice().
+     * Use cautiously; prefer getSellPrice(). The instance is replaced, not modified, on reload.
      *
-     * @return The FileConfiguration for autosell.yml, or null if setup failed.
+     * @return The FileConfiguration for autosell.yml from the current snapshot.
      */
-    @Nullable
+    @NotNull
     public FileConfiguration getConfig() {
-        return autoSellConfig;
+        return prices().config;
     }
 }
\ No newline at end of file
@@ -1,7 +1,16 @@
 package com.strikesenchantcore.config;
 
 import com.strikesenchantcore.EnchantCore;
+import com.strikesenchantcore.data.PlayerDataManager;
 import com.strikesenchantcore.enchants.EnchantRegistry; // Import EnchantRegistry
+import com.strikesenchantcore.enchants.EnchantmentWrapper;
+import com.strikesenchantcore.gui.GuiItemCache;
+import com.strikesenchantcore.managers.BreakPipeline;
+import com.strikesenchantcore.managers.DegradationController;
+import com.strikesenchantcore.managers.MetricsEndpoint;
+import com.strikesenchantcore.managers.VisualEffectService;
+import com.strikesenchantcore.util.PapiHook;
+import org.bukkit.Bukkit;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.FileConfiguration;
@@ -10,14 +19,15 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import java.io.File;
 import java.io.IOException;
-import java.util.Collections;
-import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger; // Import Logger
 
 /**
  * Manages loading config.yml, including CurrencyType and AutoSell interval.
- * Also coordinates the loading and reloading of other configuration managers.
+ * Also coordinates the loading and reloading of other configuration managers: every file is
+ * read into one {@link ConfigSnapshot}, which the managers serve their settings from.
  */
 public class ConfigManager {
 
@@ -27,13 +37,10 @@ public class ConfigManager {
     private final EnchantCore plugin;
     private final Logger logger; // Cache logger
     private File configFile;
-    private FileConfiguration config;
 
-    // --- Cached Settings ---
-    private boolean debugMode = false;
-    private CurrencyType currencyType = CurrencyType.TOKENS; // Default to TOKENS
-    private int autoSellSummaryIntervalSeconds = 0; // Default to 0 (disabled)
-    // --- End Cached Settings ---
+    // Current settings of every file; replaced as a whole on reload, never modified in place
+    private volatile ConfigSnapshot snapshot;
+    private long generation = 0L; // Main thread only
 
     public ConfigManager(EnchantCore plugin) {
         this.plugin = plugin;
@@ -43,129 +50,236 @@ public class ConfigManager {
 
     /**
      * Sets up the config file object and loads the configuration initially.
-     * Creates default config.yml if it doesn't exist.
+     * Creates default config.yml if it doesn't exist. The other files are added by loadConfigs().
      */
     private void setup() {
         configFile = new File(plugin.getDataFolder(), "config.yml");
+        createIfMissing();
+        FileConfiguration config = readConfigFile();
+        snapshot = ConfigSnapshot.of(config != null ? config : new YamlConfiguration(), ++generation, logger);
+    }
+
+    private void createIfMissing() {
         if (!configFile.exists()) {
             plugin.saveResource("config.yml", false); // Copy default from JAR
             logger.info("Created default config.yml");
         }
-        config = new YamlConfiguration();
+    }
+
+    /**
+     * Parses config.yml into a fresh instance.
+     * @return The parsed file, or null if it could not be read (logged).
+     */
+    @Nullable
+    private FileConfiguration readConfigFile() {
+        FileConfiguration config = new YamlConfiguration();
         try {
             config.load(configFile);
+            return config;
         } catch (IOException | InvalidConfigurationException e) {
-            logger.log(Level.SEVERE, "Could not load config.yml during initial setup!", e);
-            // Plugin might be in a partially broken state here. Consider fallback defaults.
+            logger.log(Level.SEVERE, "Could not load config.yml! Using previous values where available.", e);
+            return null;
         }
     }
 
     /**
-     * Loads settings from config.yml into memory and triggers load methods
-     * for other relevant configuration managers.
+     * Loads every configuration file and publishes them as one snapshot, on the calling thread.
+     * Used on startup, before anything else reads the settings.
      */
     public void loadConfigs() {
-        // Ensure file exists, attempt setup if not (e.g., deleted after startup)
-        if (!configFile.exists()) {
-            logger.warning("config.yml not found! Attempting to recreate...");
-            setup();
-            // If setup fails again, config will be null/empty, defaults will be used below.
-        }
+        publish(buildSnapshot(snapshot, ++generation));
+    }
 
-        try {
-            config.load(configFile); // Reload from disk
-            logger.info("Loaded settings from config.yml.");
-        } catch (IOException | InvalidConfigurationException e) {
-            logger.log(Level.SEVERE, "Could not reload config.yml! Using potentially stale values.", e);
-            // Continue with potentially old config values if load fails, but log severity.
-            // Avoid returning here, try to load other configs anyway if possible.
-        }
+    /**
+     * Reloads all configuration files managed by EnchantCore.
+     * This includes config.yml, messages.yml, enchants.yml, pickaxe.yml, autosell.yml.
+     * See {@link #reloadConfigs(Consumer)}.
+     */
+    public void reloadConfigs() {
+        reloadConfigs(null);
+    }
 
+    /**
+     * Reloads all configuration files managed by EnchantCore. The files are read and the new
+     * snapshot is built on an async task; the main thread then publishes it with one write and
+     * hands the new sections to the managers that keep their own settings. Until then every
+     * reader keeps seeing the previous snapshot, never a mix of old and new files.
+     *
+     * @param whenDone Called on the main thread once the reload is over, with true if the new snapshot
+     *                 was published. Not called if the plugin is disabled in the meantime.
+     */
+    public void reloadConfigs(@Nullable Consumer<Boolean> whenDone) {
+        logger.info("Reloading all EnchantCore configurations...");
+        final long startTime = System.nanoTime();
+        final ConfigSnapshot previous = snapshot;
+        final long nextGeneration = ++generation;
 
-        if (plugin.getSkinConfig() != null) {
-            plugin.getSkinConfig().loadConfig();
-        }
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            ConfigSnapshot next;
+            try {
+                next = buildSnapshot(previous, nextGeneration);
+            } catch (Exception e) {
+                logger.log(Level.SEVERE, "Error reloading configurations! Using previous values.", e);
+                next = null;
+            }
+            if (!plugin.isEnabled()) return;
 
-        // --- Load Core Settings ---
-        debugMode = config.getBoolean("Settings.Debug", false);
-        String currencyString = config.getString("Settings.CurrencyType", "TOKENS").toUpperCase();
-        try {
-            currencyType = CurrencyType.valueOf(currencyString);
-        } catch (IllegalArgumentException e) {
-            currencyType = CurrencyType.TOKENS; // Default on invalid value
-            logger.warning("Invalid CurrencyType '" + currencyString + "' in config.yml. Defaulting to TOKENS.");
-        }
+            final ConfigSnapshot built = next;
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                boolean published = built != null && built.getGeneration() > snapshot.getGeneration(); // A later reload may have finished first
+                if (published) {
+                    publish(built);
+                    applyToManagers(built);
+                    double durationMs = (System.nanoTime() - startTime) / 1_000_000.0;
+                    logger.info(String.format("All configurations reloaded (%.2f ms).", durationMs));
+                }
+                if (whenDone != null) whenDone.accept(published);
+            });
+        });
+    }
 
-        // Load AutoSell Interval
-        // Use getInt which defaults to 0 if path is invalid or value is not an int
-        autoSellSummaryIntervalSeconds = config.getInt("AutoSell.Summary-Interval", 0);
-        if (autoSellSummaryIntervalSeconds < 0) {
-            logger.warning("AutoSell Summary-Interval cannot be negative. Setting to 0 (disabled).");
-            autoSellSummaryIntervalSeconds = 0;
+    /**
+     * Reads every file into a new snapshot. A file that can't be read keeps its part of
+     * {@code previous}. Only touches the files and the logger, so it may run off the main thread.
+     */
+    @NotNull
+    private ConfigSnapshot buildSnapshot(@NotNull ConfigSnapshot previous, long nextGeneration) {
+        // Ensure file exists, attempt to recreate it if not (e.g., deleted after startup)
+        if (!configFile.exists()) {
+            logger.warning("config.yml not found! Attempting to recreate...");
+            createIfMissing();
         }
-        // --- End Core Settings ---
 
+        // config.yml first: the other files are loaded with its debug and currency settings
+        FileConfiguration config = readConfigFile();
+        ConfigSnapshot settings = ConfigSnapshot.of(config != null ? config : previous.getConfig(), nextGeneration, logger);
+        if (config != null) logger.info("Loaded settings from config.yml.");
+        final boolean debug = settings.isDebugMode();
 
-        // --- Trigger Loading for Other Config Managers ---
-        // Use try-catch for each dependent load to prevent one failure stopping others.
+        // --- Load Other Config Files ---
+        // Use try-catch for each file to prevent one failure stopping others.
         // Add null checks for the manager instances themselves.
-        PickaxeConfig pickaxeConf = plugin.getPickaxeConfig();
-        if (pickaxeConf != null) {
-            try { pickaxeConf.load(); } catch (Exception e) { logger.log(Level.SEVERE, "Error loading pickaxe.yml", e); }
-        } else { logger.severe("Cannot load pickaxe.yml: PickaxeConfig instance is null!"); }
+        MessageManager.CompiledMessages messages = previous.getMessages();
+        MessageManager msgManager = plugin.getMessageManager();
+        if (msgManager != null) {
+            try {
+                MessageManager.CompiledMessages loaded = msgManager.loadMessages(debug);
+                if (loaded != null) messages = loaded;
+            } catch (Exception e) { logger.log(Level.SEVERE, "Error loading messages.yml", e); }
+        } else { logger.severe("Cannot load messages.yml: MessageManager instance is null!"); }
 
+        EnchantManager.GuiSettings enchantGui = previous.getEnchantGuiSettings();
         EnchantManager enchantMgr = plugin.getEnchantManager();
         if (enchantMgr != null) {
-            try { enchantMgr.load(); } catch (Exception e) { logger.log(Level.SEVERE, "Error loading enchants.yml", e); }
+            try {
+                EnchantManager.GuiSettings loaded = enchantMgr.loadGuiSettings(debug);
+                if (loaded != null) enchantGui = loaded;
+            } catch (Exception e) { logger.log(Level.SEVERE, "Error loading enchants.yml", e); }
         } else { logger.severe("Cannot load enchants.yml: EnchantManager instance is null!"); }
 
+        // Enchantment definitions, compiled with this load's currency even if enchants.yml itself didn't change
+        Map<String, EnchantmentWrapper> enchants = previous.getEnchants();
+        ConfigurationSection enchantsSection = enchantGui.config.getConfigurationSection("enchants");
+        if (enchantsSection != null) {
+            try { enchants = EnchantRegistry.compile(plugin, enchantsSection, settings.getCurrencyType(), debug); } catch (Exception e) { logger.log(Level.SEVERE, "Error loading enchantment definitions", e); }
+        } else { logger.severe("The 'enchants' section is missing in enchants.yml! Keeping the previous enchantments."); }
+
+        PickaxeConfig.Settings pickaxeSettings = previous.getPickaxeSettings();
+        PickaxeConfig pickaxeConf = plugin.getPickaxeConfig();
+        if (pickaxeConf != null) {
+            try {
+                PickaxeConfig.Settings loaded = pickaxeConf.loadSettings();
+                if (loaded != null) pickaxeSettings = loaded;
+            } catch (Exception e) { logger.log(Level.SEVERE, "Error loading pickaxe.yml", e); }
+        } else { logger.severe("Cannot load pickaxe.yml: PickaxeConfig instance is null!"); }
+
+        AutoSellConfig.PriceTable prices = previous.getPrices();
         AutoSellConfig autoSellConf = plugin.getAutoSellConfig();
         if (autoSellConf != null) {
-            try { autoSellConf.load(); } catch (Exception e) { logger.log(Level.SEVERE, "Error loading autosell.yml", e); }
+            try {
+                AutoSellConfig.PriceTable loaded = autoSellConf.loadPrices(debug);
+                if (loaded != null) prices = loaded;
+            } catch (Exception e) { logger.log(Level.SEVERE, "Error loading autosell.yml", e); }
         } else { logger.severe("Cannot load autosell.yml: AutoSellConfig instance is null!"); }
-        // --- End Triggering ---
+        // --- End Loading ---
 
-        logger.info("Core configurations processed. Debug: " + debugMode + ", Currency: " + currencyType + ", AutoSell Interval: " + autoSellSummaryIntervalSeconds + "s.");
-        if (debugMode) { logger.info("[Debug] Debug mode is ENABLED."); }
+        return settings.withFiles(messages, enchantGui, enchants, pickaxeSettings, prices);
     }
 
     /**
-     * Reloads all configuration files managed by EnchantCore.
-     * This includes config.yml, messages.yml, enchants.yml, pickaxe.yml, autosell.yml.
+     * Makes a snapshot current. Main thread only.
      */
-    public void reloadConfigs() {
-        logger.info("Reloading all EnchantCore configurations...");
-        long startTime = System.nanoTime();
+    private void publish(@NotNull ConfigSnapshot next) {
+        snapshot = next; // The single write readers synchronize on
 
-        // 1. Reload config.yml and trigger dependent loads (pickaxe, enchants, autosell)
-        loadConfigs();
+        // skins.yml is edited and saved at runtime, so it is not part of the snapshot
+        if (plugin.getSkinConfig() != null) {
+            plugin.getSkinConfig().loadConfig();
+        }
 
-        // 2. Reload messages.yml
-        MessageManager msgManager = plugin.getMessageManager();
-        if (msgManager != null) {
-            try { msgManager.reloadMessages(); } catch (Exception e) { logger.log(Level.SEVERE, "Error reloading messages.yml", e); }
-        } else { logger.severe("Cannot reload messages.yml: MessageManager instance is null!"); }
+        logger.info("Core configurations processed. Debug: " + next.isDebugMode() + ", Currency: " + next.getCurrencyType() + ", AutoSell Interval: " + next.getAutoSellSummaryIntervalSeconds() + "s.");
+        if (next.isDebugMode()) { logger.info("[Debug] Debug mode is ENABLED."); }
+    }
+
+    /**
+     * Hands a newly published snapshot to the managers that keep their own settings. Main thread only.
+     */
+    private void applyToManagers(@NotNull ConfigSnapshot current) {
+        // 1. Apply placeholder cache settings (also drops stale cached values)
+        PapiHook papiHook = plugin.getPapiHook();
+        if (papiHook != null) {
+            papiHook.reloadCacheSettings();
+        }
 
-        // 3. Reload enchantment definitions from enchants.yml into the registry
-        EnchantRegistry enchRegistry = plugin.getEnchantRegistry();
-        if (enchRegistry != null) {
-            try { enchRegistry.loadEnchantsFromConfig(); } catch (Exception e) { logger.log(Level.SEVERE, "Error reloading enchantment definitions into registry", e); }
-        } else { logger.severe("Cannot reload enchantment definitions: EnchantRegistry instance is null!"); }
+        // 2. Apply particle budget / level-of-detail and block break budget settings
+        FileConfiguration config = current.getConfig();
+        VisualEffectService visualEffects = plugin.getVisualEffects();
+        if (visualEffects != null) {
+            visualEffects.load(config.getConfigurationSection("Visual-Effects"));
+        }
+        BreakPipeline breakPipeline = plugin.getBreakPipeline();
+        if (breakPipeline != null) {
+            breakPipeline.load(config.getConfigurationSection("Performance"));
+        }
+        MetricsEndpoint metricsEndpoint = plugin.getMetricsEndpoint();
+        if (metricsEndpoint != null) {
+            metricsEndpoint.load(config.getConfigurationSection("Metrics-Endpoint"));
+        }
+        DegradationController degradationController = plugin.getDegradationController();
+        if (degradationController != null) {
+            degradationController.load(config.getConfigurationSection("Degradation"));
+        }
+        PlayerDataManager playerDataManager = plugin.getPlayerDataManager();
+        if (playerDataManager != null) {
+            playerDataManager.load(config.getConfigurationSection("Player-Data-Cache"));
+        }
 
-        double durationMs = (System.nanoTime() - startTime) / 1_000_000.0;
-        logger.info(String.format("All configurations reloaded (%.2f ms).", durationMs));
+        // 3. Drop rendered GUI items (enchant, message and crystal settings feed them)
+        GuiItemCache guiItemCache = plugin.getGuiItemCache();
+        if (guiItemCache != null) {
+            guiItemCache.invalidateAll();
+        }
     }
 
-    // --- Getters for Cached Settings ---
-    public boolean isDebugMode() { return debugMode; }
-    @NotNull public CurrencyType getCurrencyType() { return currencyType; } // Should always have a default
-    public int getAutoSellSummaryIntervalSeconds() { return autoSellSummaryIntervalSeconds; }
+    /**
+     * Gets the current settings. Grab this once per operation instead of calling the
+     * getters below repeatedly, so a reload in between can't mix old and new values.
+     * @return The current snapshot. Never null.
+     */
+    @NotNull
+    public ConfigSnapshot getSnapshot() { return snapshot; }
+
+    // --- Getters for Cached Settings (read the current snapshot) ---
+    public boolean isDebugMode() { return snapshot.isDebugMode(); }
+    @NotNull public CurrencyType getCurrencyType() { return snapshot.getCurrencyType(); } // Should always have a default
+    public int getAutoSellSummaryIntervalSeconds() { return snapshot.getAutoSellSummaryIntervalSeconds(); }
 
     /**
      * Provides direct access to the loaded config.yml FileConfiguration.
-     * Use cautiously; prefer specific getters where possible.
+     * Use cautiously; prefer specific getters where possible. The instance is replaced,
+     * not modified, on reload.
      * @return The FileConfiguration for config.yml, or null if loading failed critically.
      */
     @Nullable
-    public FileConfiguration getConfig() { return config; }
+    public FileConfiguration getConfig() { return snapshot.getConfig(); }
 }
\ No newline at end of file
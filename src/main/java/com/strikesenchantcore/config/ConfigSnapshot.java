@@ -0,0 +1,136 @@
+package com.strikesenchantcore.config;
+
+import com.strikesenchantcore.enchants.EnchantmentWrapper;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Immutable view of every configuration file: config.yml settings plus what was loaded from
+ * messages.yml, enchants.yml (GUI settings and the enchantments), pickaxe.yml and autosell.yml.
+ * Built in full on every (re)load and published by {@link ConfigManager} with a single volatile
+ * write, so a reader never sees one file from a reload next to another file from before it.
+ * Readers should grab it once per operation ({@link ConfigManager#getSnapshot()}) so every value
+ * they use comes from the same load.
+ * <p>
+ * The underlying {@link FileConfiguration}s are fresh instances per load and are never modified
+ * after publication, so sections read through {@link #getConfig()} are also consistent.
+ */
+public final class ConfigSnapshot {
+
+    private final FileConfiguration config;
+    private final long generation;
+
+    // --- Other Files ---
+    private final MessageManager.CompiledMessages messages;
+    private final EnchantManager.GuiSettings enchantGuiSettings;
+    private final Map<String, EnchantmentWrapper> enchants;
+    private final PickaxeConfig.Settings pickaxeSettings;
+    private final AutoSellConfig.PriceTable prices;
+
+    // --- Settings ---
+    private final boolean debugMode;
+    private final ConfigManager.CurrencyType currencyType;
+    private final int autoSellSummaryIntervalSeconds;
+    private final boolean autoSellEnabled;
+    private final boolean autoPickupEnabled;
+    private final int maxBlocksPerTick;
+    private final long maxNanosPerTick;
+
+    private ConfigSnapshot(FileConfiguration config, long generation, Logger logger) {
+        this.config = config;
+        this.generation = generation;
+        this.messages = MessageManager.CompiledMessages.EMPTY;
+        this.enchantGuiSettings = EnchantManager.GuiSettings.DEFAULTS;
+        this.enchants = Collections.emptyMap();
+        this.pickaxeSettings = PickaxeConfig.Settings.DEFAULTS;
+        this.prices = AutoSellConfig.PriceTable.EMPTY;
+
+        this.debugMode = config.getBoolean("Settings.Debug", false);
+        String currencyString = config.getString("Settings.CurrencyType", "TOKENS").toUpperCase();
+        ConfigManager.CurrencyType currency;
+        try {
+            currency = ConfigManager.CurrencyType.valueOf(currencyString);
+        } catch (IllegalArgumentException e) {
+            currency = ConfigManager.CurrencyType.TOKENS; // Default on invalid value
+            logger.warning("Invalid CurrencyType '" + currencyString + "' in config.yml. Defaulting to TOKENS.");
+        }
+        this.currencyType = currency;
+
+        int interval = config.getInt("AutoSell.Summary-Interval", 0);
+        if (interval < 0) {
+            logger.warning("AutoSell Summary-Interval cannot be negative. Setting to 0 (disabled).");
+            interval = 0;
+        }
+        this.autoSellSummaryIntervalSeconds = interval;
+        this.autoSellEnabled = config.getBoolean("AutoSell.Enabled", false);
+        this.autoPickupEnabled = config.getBoolean("AutoPickup.Enabled", false);
+        this.maxBlocksPerTick = config.getInt("Performance.MaxBlocksPerTick", 300);
+        this.maxNanosPerTick = config.getLong("Performance.MaxNanosPerTick", 3000000L);
+    }
+
+    private ConfigSnapshot(ConfigSnapshot settings, MessageManager.CompiledMessages messages, EnchantManager.GuiSettings enchantGuiSettings,
+                           Map<String, EnchantmentWrapper> enchants, PickaxeConfig.Settings pickaxeSettings, AutoSellConfig.PriceTable prices) {
+        this.config = settings.config;
+        this.generation = settings.generation;
+        this.debugMode = settings.debugMode;
+        this.currencyType = settings.currencyType;
+        this.autoSellSummaryIntervalSeconds = settings.autoSellSummaryIntervalSeconds;
+        this.autoSellEnabled = settings.autoSellEnabled;
+        this.autoPickupEnabled = settings.autoPickupEnabled;
+        this.maxBlocksPerTick = settings.maxBlocksPerTick;
+        this.maxNanosPerTick = settings.maxNanosPerTick;
+        this.messages = messages;
+        this.enchantGuiSettings = enchantGuiSettings;
+        this.enchants = enchants;
+        this.pickaxeSettings = pickaxeSettings;
+        this.prices = prices;
+    }
+
+    /**
+     * Builds a snapshot from a freshly loaded config.yml. The other files start out empty;
+     * add them with {@link #withFiles}.
+     * @param config     The loaded configuration. Must not be modified afterwards.
+     * @param generation Load counter, increased on every reload.
+     */
+    @NotNull
+    static ConfigSnapshot of(@NotNull FileConfiguration config, long generation, @NotNull Logger logger) {
+        return new ConfigSnapshot(config, generation, logger);
+    }
+
+    /**
+     * @return A snapshot with this one's config.yml settings and the given contents of the other files.
+     */
+    @NotNull
+    ConfigSnapshot withFiles(@NotNull MessageManager.CompiledMessages messages, @NotNull EnchantManager.GuiSettings enchantGuiSettings,
+                             @NotNull Map<String, EnchantmentWrapper> enchants, @NotNull PickaxeConfig.Settings pickaxeSettings,
+                             @NotNull AutoSellConfig.PriceTable prices) {
+        return new ConfigSnapshot(this, messages, enchantGuiSettings, enchants, pickaxeSettings, prices);
+    }
+
+    /** @return The config.yml tree this snapshot was built from. Treat as read-only. */
+    @NotNull public FileConfiguration getConfig() { return config; }
+    /** @return How many times config.yml has been loaded when this snapshot was built (1 for the first load). */
+    public long getGeneration() { return generation; }
+
+    public boolean isDebugMode() { return debugMode; }
+    @NotNull public ConfigManager.CurrencyType getCurrencyType() { return currencyType; }
+    public int getAutoSellSummaryIntervalSeconds() { return autoSellSummaryIntervalSeconds; }
+    public boolean isAutoSellEnabled() { return autoSellEnabled; }
+    public boolean isAutoPickupEnabled() { return autoPickupEnabled; }
+    /** Performance.MaxBlocksPerTick, used by area break tasks. */
+    public int getMaxBlocksPerTick() { return maxBlocksPerTick; }
+    /** Performance.MaxNanosPerTick, used by area break tasks. */
+    public long getMaxNanosPerTick() { return maxNanosPerTick; }
+
+    // --- Other Files (read through their managers) ---
+    @NotNull MessageManager.CompiledMessages getMessages() { return messages; }
+    @NotNull EnchantManager.GuiSettings getEnchantGuiSettings() { return enchantGuiSettings; }
+    /** @return The enabled enchantments from enchants.yml, keyed by lowercase RawName. Unmodifiable. */
+    @NotNull public Map<String, EnchantmentWrapper> getEnchants() { return enchants; }
+    @NotNull PickaxeConfig.Settings getPickaxeSettings() { return pickaxeSettings; }
+    @NotNull AutoSellConfig.PriceTable getPrices() { return prices; }
+}
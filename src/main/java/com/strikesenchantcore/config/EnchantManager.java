@@ -29,28 +29,38 @@ public class EnchantManager {
     private final EnchantCore plugin;
     private final Logger logger; // Cache logger
     private File enchantsFile;
-    private FileConfiguration enchantsConfig;
-
-    // --- Cached GUI Settings (Raw formats, colors translated on use) ---
-    private String guiTitleFormat = "&1&lPickaxe Enchantments"; // Default title format
-    private int guiSize = 54; // Default size
-    private boolean guiFillEmptySlots = true; // Default filler enabled
-    private Material guiFillerMaterial = Material.GRAY_STAINED_GLASS_PANE; // Default filler material
-    private String guiFillerNameFormat = " "; // Default filler name format
-    private int guiFillerCustomModelData = 0; // Default filler model data
-    // Stores the raw ConfigurationSections for static GUI items defined under EnchantGUI.Items
-    private Map<String, ConfigurationSection> guiStaticItems = new HashMap<>();
-    // --- End GUI Settings ---
+
+    /**
+     * GUI settings from one load of enchants.yml (raw formats, colors translated on use).
+     * Filled in by loadGuiSettings() and never modified afterwards. Part of the {@link ConfigSnapshot}.
+     */
+    static final class GuiSettings {
+        static final GuiSettings DEFAULTS = new GuiSettings(new YamlConfiguration());
+
+        final FileConfiguration config; // The enchants.yml tree, also read by the EnchantRegistry
+        String titleFormat = "&1&lPickaxe Enchantments"; // Default title format
+        int size = 54; // Default size
+        boolean fillEmptySlots = true; // Default filler enabled
+        Material fillerMaterial = Material.GRAY_STAINED_GLASS_PANE; // Default filler material
+        String fillerNameFormat = " "; // Default filler name format
+        int fillerCustomModelData = 0; // Default filler model data
+        // Stores the raw ConfigurationSections for static GUI items defined under EnchantGUI.Items
+        Map<String, ConfigurationSection> staticItems = Collections.emptyMap();
+
+        private GuiSettings(FileConfiguration config) {
+            this.config = config;
+        }
+    }
 
     public EnchantManager(@NotNull EnchantCore plugin) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
         setup();
-        // Note: load() is typically called by ConfigManager after all managers are constructed
+        // Settings are loaded by ConfigManager as part of its snapshot
     }
 
     /**
-     * Sets up the enchants.yml file object and configuration instance.
+     * Sets up the enchants.yml file object.
      * Creates the default file if it doesn't exist.
      */
     private void setup() {
@@ -62,130 +72,116 @@ public class EnchantManager {
             plugin.saveResource("enchants.yml", false); // Copy default from JAR
             logger.info("Created default enchants.yml");
         }
-
-        enchantsConfig = new YamlConfiguration();
-        try {
-            enchantsConfig.load(enchantsFile);
-            logger.info("Initial load of enchants.yml successful.");
-        } catch (IOException | InvalidConfigurationException e) {
-            logger.log(Level.SEVERE, "Could not load enchants.yml during setup!", e);
-            // Configuration might be invalid, proceed with defaults where possible
-        }
     }
 
     /**
-     * Loads GUI settings values from the enchants.yml file into memory.
-     * Called by ConfigManager.loadConfigs().
+     * Reads enchants.yml and its GUI settings. Only touches this file and the logger, so
+     * ConfigManager runs it off the main thread during a reload.
+     *
+     * @param debug Debug mode of the config.yml being loaded alongside.
+     * @return The new settings, or null if the file could not be read (the caller keeps the previous ones).
      */
-    public void load() {
+    @Nullable
+    GuiSettings loadGuiSettings(boolean debug) {
         // Ensure file exists, attempt setup if not (e.g., deleted after startup)
         if (!enchantsFile.exists()) {
             logger.warning("enchants.yml not found! Attempting to recreate...");
-            setup(); // This will load it if created successfully
-            // If setup fails again, enchantsConfig might be empty or null, defaults below will be used.
-        } else {
-            // If file exists, reload it from disk
-            try {
-                enchantsConfig.load(enchantsFile);
-                logger.info("Loaded/Reloaded settings from enchants.yml.");
-            } catch (IOException | InvalidConfigurationException e) {
-                logger.log(Level.SEVERE, "Could not reload enchants.yml! Using potentially stale values for GUI.", e);
-                // Don't return; proceed with potentially old values or defaults.
-            }
+            setup();
         }
-
+        FileConfiguration enchantsConfig = new YamlConfiguration();
+        try {
+            enchantsConfig.load(enchantsFile);
+            logger.info("Loaded/Reloaded settings from enchants.yml.");
+        } catch (IOException | InvalidConfigurationException e) {
+            logger.log(Level.SEVERE, "Could not reload enchants.yml! Using previous enchantments and GUI settings.", e);
+            return null;
+        }
+        final GuiSettings next = new GuiSettings(enchantsConfig); // Starts at defaults
 
         // Load GUI Settings section
         ConfigurationSection guiSection = enchantsConfig.getConfigurationSection("EnchantGUI");
 
         if (guiSection != null) {
             // Store titles/names WITH format codes; translate when needed using ColorUtils
-            guiTitleFormat = guiSection.getString("Title", "&1&lPickaxe Enchantments");
-            guiSize = guiSection.getInt("Size", 54);
+            next.titleFormat = guiSection.getString("Title", "&1&lPickaxe Enchantments");
+            next.size = guiSection.getInt("Size", 54);
             // Validate GUI size (must be multiple of 9, between 9 and 54)
-            if (guiSize <= 0 || guiSize > 54 || guiSize % 9 != 0) {
-                logger.warning("Invalid GUI Size (" + guiSize + ") in enchants.yml. Must be multiple of 9 up to 54. Using 54.");
-                guiSize = 54; // Force default valid size
+            if (next.size <= 0 || next.size > 54 || next.size % 9 != 0) {
+                logger.warning("Invalid GUI Size (" + next.size + ") in enchants.yml. Must be multiple of 9 up to 54. Using 54.");
+                next.size = 54; // Force default valid size
             }
 
-            guiFillEmptySlots = guiSection.getBoolean("FillEmptySlots", true);
+            next.fillEmptySlots = guiSection.getBoolean("FillEmptySlots", true);
             try {
                 String matName = guiSection.getString("FillerMaterial", "GRAY_STAINED_GLASS_PANE").toUpperCase();
-                guiFillerMaterial = Material.valueOf(matName);
-                if (guiFillerMaterial == Material.AIR) {
+                next.fillerMaterial = Material.valueOf(matName);
+                if (next.fillerMaterial == Material.AIR) {
                     logger.warning("FillerMaterial cannot be AIR in enchants.yml. Using GRAY_STAINED_GLASS_PANE.");
-                    guiFillerMaterial = Material.GRAY_STAINED_GLASS_PANE;
+                    next.fillerMaterial = Material.GRAY_STAINED_GLASS_PANE;
                 }
             } catch (IllegalArgumentException e) {
                 logger.warning("Invalid FillerMaterial in enchants.yml: " + guiSection.getString("FillerMaterial") + ". Using GRAY_STAINED_GLASS_PANE.");
-                guiFillerMaterial = Material.GRAY_STAINED_GLASS_PANE; // Fallback
+                next.fillerMaterial = Material.GRAY_STAINED_GLASS_PANE; // Fallback
             }
-            guiFillerNameFormat = guiSection.getString("FillerName", " "); // Store raw name format
-            guiFillerCustomModelData = guiSection.getInt("FillerCustomModelData", 0);
+            next.fillerNameFormat = guiSection.getString("FillerName", " "); // Store raw name format
+            next.fillerCustomModelData = guiSection.getInt("FillerCustomModelData", 0);
 
             // Load static GUI items configuration sections
-            guiStaticItems.clear(); // Clear previous static items
+            Map<String, ConfigurationSection> staticItems = new LinkedHashMap<>();
             ConfigurationSection itemsSection = guiSection.getConfigurationSection("Items");
             if (itemsSection != null) {
                 for (String key : itemsSection.getKeys(false)) {
                     ConfigurationSection itemSec = itemsSection.getConfigurationSection(key);
                     if (itemSec != null) {
-                        guiStaticItems.put(key, itemSec); // Store the whole section for the GUI builder
+                        staticItems.put(key, itemSec); // Store the whole section for the GUI builder
                     } else {
                         logger.warning("Invalid configuration for static GUI item '" + key + "' under EnchantGUI.Items in enchants.yml.");
                     }
                 }
-                if (plugin.getConfigManager().isDebugMode()) {
-                    logger.fine("Loaded " + guiStaticItems.size() + " static GUI item definitions.");
+                if (debug) {
+                    logger.fine("Loaded " + staticItems.size() + " static GUI item definitions.");
                 }
             }
+            next.staticItems = Collections.unmodifiableMap(staticItems);
 
         } else {
-            // GUI section missing, use hardcoded defaults and log a warning
+            // GUI section missing, the defaults above stay in place
             logger.warning("'EnchantGUI' section missing in enchants.yml. Using default GUI settings.");
-            // Reset all GUI settings to their defaults
-            guiTitleFormat = "&1&lPickaxe Enchantments";
-            guiSize = 54;
-            guiFillEmptySlots = true;
-            guiFillerMaterial = Material.GRAY_STAINED_GLASS_PANE;
-            guiFillerNameFormat = " ";
-            guiFillerCustomModelData = 0;
-            guiStaticItems.clear();
         }
 
-        // Note: Loading of individual enchantments definitions is handled by EnchantRegistry
-        // which calls getEnchantsSection() on this manager.
+        // Note: Loading of individual enchantments definitions is handled by EnchantRegistry.compile,
+        // which ConfigManager calls with this file's 'enchants' section.
         logger.info("EnchantManager processed GUI settings from enchants.yml.");
+        return next;
+    }
+
+    @NotNull
+    private GuiSettings settings() {
+        return plugin.getConfigManager().getSnapshot().getEnchantGuiSettings();
     }
 
     /**
      * Gets the main "enchants" configuration section from the loaded enchants.yml.
      * This section contains the definitions for all individual enchantments.
-     * Assumes the configuration has already been loaded by load().
+     * Read from the current snapshot.
      *
      * @return The ConfigurationSection for "enchants", or null if the config wasn't loaded or the section is missing.
      */
     @Nullable
     public ConfigurationSection getEnchantsSection() {
-        if (enchantsConfig == null) {
-            logger.severe("getEnchantsSection called but enchantsConfig is null! Was setup/load skipped or failed?");
-            return null;
-        }
-        // *** REMOVED Redundant File Load ***
-        // The config should be in memory from the initial load or reload triggered by ConfigManager.
-        return enchantsConfig.getConfigurationSection("enchants");
+        return settings().config.getConfigurationSection("enchants");
     }
 
     // --- Getters for GUI settings ---
     // Note: Getters return the values as stored (potentially with format codes).
     // The GUI class should use ColorUtils.translateColors() when displaying them.
 
-    public String getGuiTitleFormat() { return guiTitleFormat; }
-    public int getGuiSize() { return guiSize; }
-    public boolean isGuiFillEmptySlots() { return guiFillEmptySlots; }
-    @NotNull public Material getGuiFillerMaterial() { return guiFillerMaterial; } // Should have a default
-    public String getGuiFillerNameFormat() { return guiFillerNameFormat; }
-    public int getGuiFillerCustomModelData() { return guiFillerCustomModelData; }
+    public String getGuiTitleFormat() { return settings().titleFormat; }
+    public int getGuiSize() { return settings().size; }
+    public boolean isGuiFillEmptySlots() { return settings().fillEmptySlots; }
+    @NotNull public Material getGuiFillerMaterial() { return settings().fillerMaterial; } // Should have a default
+    public String getGuiFillerNameFormat() { return settings().fillerNameFormat; }
+    public int getGuiFillerCustomModelData() { return settings().fillerCustomModelData; }
 
     /**
      * Gets the configuration sections for static items defined under EnchantGUI.Items.
@@ -196,8 +192,8 @@ public class EnchantManager {
      */
     @NotNull
     public Map<String, ConfigurationSection> getGuiStaticItems() {
-        // Return an unmodifiable view to prevent external modification
-        return Collections.unmodifiableMap(guiStaticItems);
+        // Already unmodifiable; replaced as a whole on reload
+        return settings().staticItems;
     }
 
     /**
@@ -205,10 +201,10 @@ public class EnchantManager {
      * Use cautiously; prefer specific getter methods or getEnchantsSection().
      * Assumes the configuration has been loaded.
      *
-     * @return The FileConfiguration for enchants.yml, or null if setup/load failed.
+     * @return The FileConfiguration for enchants.yml from the current snapshot.
      */
-    @Nullable
+    @NotNull
     public FileConfiguration getConfig() {
-        return enchantsConfig;
+        return settings().config;
     }
 } // End of EnchantManager class
\ No newline at end of file
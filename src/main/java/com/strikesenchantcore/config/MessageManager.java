@@ -1,21 +1,23 @@
 package com.strikesenchantcore.config;
 
 import com.strikesenchantcore.EnchantCore;
-import com.strikesenchantcore.util.ChatUtil; // Required for coloring
+import com.strikesenchantcore.util.ColorUtils;
+import com.strikesenchantcore.util.MessageTemplate;
 import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.jetbrains.annotations.NotNull; // Import NotNull
 import org.jetbrains.annotations.Nullable; // For @Nullable annotation
-import java.util.Objects;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger; // Import Logger
-import java.util.stream.Collectors;
 
 /**
  * Manages loading and retrieving messages from messages.yml.
@@ -26,17 +28,33 @@ public class MessageManager {
     private final EnchantCore plugin;
     private final Logger logger; // Cache logger
     private File messagesFile;
-    private FileConfiguration messagesConfig;
+
+    /**
+     * Immutable templates compiled from one load of messages.yml. Part of the {@link ConfigSnapshot}.
+     */
+    static final class CompiledMessages {
+        static final CompiledMessages EMPTY = new CompiledMessages(new YamlConfiguration(), Collections.emptyMap(), Collections.emptyMap());
+
+        private final FileConfiguration config; // The messages.yml tree the templates came from
+        private final Map<String, MessageTemplate> templates;
+        private final Map<String, List<MessageTemplate>> templateLists;
+
+        private CompiledMessages(FileConfiguration config, Map<String, MessageTemplate> templates, Map<String, List<MessageTemplate>> templateLists) {
+            this.config = config;
+            this.templates = templates;
+            this.templateLists = templateLists;
+        }
+    }
 
     public MessageManager(@NotNull EnchantCore plugin) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
         setup();
-        loadMessages(); // Load messages immediately on initialization
+        // Messages are loaded by ConfigManager as part of its snapshot
     }
 
     /**
-     * Sets up the messages file object and configuration instance.
+     * Sets up the messages file object.
      * Creates the default file if it doesn't exist.
      */
     private void setup() {
@@ -48,46 +66,37 @@ public class MessageManager {
             plugin.saveResource("messages.yml", false); // Copy default from JAR
             logger.info("Created default messages.yml");
         }
-        messagesConfig = new YamlConfiguration();
     }
 
     /**
-     * Loads messages from the messages.yml file into the configuration object.
+     * Reads messages.yml and compiles its templates. Only touches this file, the logger and the
+     * thread-safe template caches, so ConfigManager runs it off the main thread during a reload.
+     *
+     * @param debug Debug mode of the config.yml being loaded alongside.
+     * @return The compiled messages, or null if the file could not be read (the caller keeps the previous ones).
      */
-    public void loadMessages() {
+    @Nullable
+    CompiledMessages loadMessages(boolean debug) {
         // Ensure file exists, attempt setup if not
         if (!messagesFile.exists()) {
             logger.warning("messages.yml not found! Attempting to recreate...");
-            setup(); // This will load if creation is successful
-        } else {
-            // If file exists, load it
-            try {
-                messagesConfig.load(messagesFile);
-                logger.info("Loaded messages from messages.yml");
-            } catch (IOException | InvalidConfigurationException e) {
-                logger.log(Level.SEVERE, "Could not load messages.yml! Default messages will be used where possible.", e);
-                // Keep the potentially empty/null messagesConfig, getters will use defaults
-            }
+            setup();
         }
-    }
-
-    /**
-     * Reloads messages from the messages.yml file.
-     */
-    public void reloadMessages() {
-        // Ensure file exists, attempt setup if not
-        if (!messagesFile.exists()) {
-            logger.warning("messages.yml not found! Cannot reload. Attempting to create default.");
-            setup(); // Create default if missing
-        }
-        // Attempt to reload from disk
+        FileConfiguration loaded = new YamlConfiguration();
         try {
-            messagesConfig.load(messagesFile); // Reload from disk
-            logger.info("Reloaded messages.yml");
+            loaded.load(messagesFile);
         } catch (IOException | InvalidConfigurationException e) {
-            logger.log(Level.SEVERE, "Could not reload messages.yml!", e);
-            // Keep using previously loaded messages if reload fails
+            logger.log(Level.SEVERE, "Could not load messages.yml! Previous or default messages will be used.", e);
+            return null;
         }
+        CompiledMessages next = compileTemplates(loaded, debug);
+        logger.info("Loaded messages from messages.yml");
+        return next;
+    }
+
+    @NotNull
+    private CompiledMessages compiled() {
+        return plugin.getConfigManager().getSnapshot().getMessages();
     }
 
     /**
@@ -100,12 +109,8 @@ public class MessageManager {
      */
     @NotNull
     public String getMessage(@NotNull String key, @NotNull String defaultMessage) {
-        // Get string from config, using defaultMessage if key is missing
-        String message = messagesConfig.getString(key, defaultMessage);
-        // Ensure we don't return null if defaultMessage was somehow null (shouldn't happen with @NotNull)
-        String nonNullMessage = (message != null) ? message : (defaultMessage != null ? defaultMessage : "");
-        // Apply color codes (& and #)
-        return ChatUtil.color(nonNullMessage);
+        // Served from the compiled template cache; colors are only translated once per key
+        return getTemplate(key, defaultMessage).getText();
     }
 
     /**
@@ -132,21 +137,13 @@ public class MessageManager {
      */
     @NotNull
     public List<String> getMessageList(@NotNull String key, @NotNull List<String> defaultList) {
-        // Get list from config
-        List<String> list = messagesConfig.getStringList(key);
-        // Use default list if config returned null or empty list
-        if (list == null || list.isEmpty()) {
-            list = defaultList;
-        }
-        // Ensure the chosen list is not null before streaming (shouldn't happen with @NotNull defaultList)
-        if (list == null) {
-            list = Collections.emptyList();
+        // Served from the compiled template cache; returns a new mutable list like before
+        List<MessageTemplate> templates = getTemplateList(key, defaultList);
+        List<String> lines = new ArrayList<>(templates.size());
+        for (MessageTemplate template : templates) {
+            lines.add(template.getText());
         }
-        // Apply color codes (& and #) to each line in the list
-        return list.stream()
-                .filter(Objects::nonNull) // Ensure lines within the list aren't null
-                .map(ChatUtil::color)
-                .collect(Collectors.toList());
+        return lines;
     }
 
     /**
@@ -162,13 +159,90 @@ public class MessageManager {
         return getMessageList(key, Collections.emptyList());
     }
 
+    /**
+     * Gets a pre-colored, pre-split template for a message key.
+     * Use {@link MessageTemplate#render(String...)} to substitute placeholders without
+     * re-translating colors on every send.
+     *
+     * @param key            The configuration key (e.g., "enchant.upgrade_success").
+     * @param defaultMessage The raw default message used if the key is not found.
+     * @return The compiled template. Never null.
+     */
+    @NotNull
+    public MessageTemplate getTemplate(@NotNull String key, @NotNull String defaultMessage) {
+        MessageTemplate template = compiled().templates.get(key);
+        // Missing key: fall back to the caller's default (compiled once via the shared LRU cache)
+        return (template != null) ? template : MessageTemplate.of(defaultMessage);
+    }
+
+    /**
+     * Gets pre-colored templates for every line of a message list.
+     *
+     * @param key         The configuration key for the list.
+     * @param defaultList The raw default lines used if the key is missing or empty.
+     * @return An unmodifiable list of compiled templates. Never null.
+     */
+    @NotNull
+    public List<MessageTemplate> getTemplateList(@NotNull String key, @NotNull List<String> defaultList) {
+        List<MessageTemplate> lines = compiled().templateLists.get(key);
+        if (lines != null) return lines;
+
+        List<MessageTemplate> templates = new ArrayList<>(defaultList.size());
+        for (String line : defaultList) {
+            if (line != null) templates.add(MessageTemplate.of(line));
+        }
+        return Collections.unmodifiableList(templates);
+    }
+
+    /**
+     * Compiles every string and string list in messages.yml into templates.
+     * Malformed placeholders are reported here, once per load, instead of at send time.
+     */
+    private CompiledMessages compileTemplates(FileConfiguration messagesConfig, boolean debug) {
+        Map<String, MessageTemplate> templateCache = new HashMap<>();
+        Map<String, List<MessageTemplate>> templateListCache = new HashMap<>();
+        MessageTemplate.clearCache();
+        ColorUtils.clearCache();
+
+        int problemCount = 0;
+        for (String key : messagesConfig.getKeys(true)) {
+            if (messagesConfig.isConfigurationSection(key)) continue;
+            if (!messagesConfig.isList(key)) {
+                MessageTemplate template = MessageTemplate.compile(messagesConfig.getString(key));
+                templateCache.put(key, template);
+                problemCount += reportProblems(key, template);
+            } else {
+                List<String> lines = messagesConfig.getStringList(key);
+                if (lines.isEmpty()) continue;
+                List<MessageTemplate> templates = new ArrayList<>(lines.size());
+                for (int i = 0; i < lines.size(); i++) {
+                    MessageTemplate template = MessageTemplate.compile(lines.get(i));
+                    templates.add(template);
+                    problemCount += reportProblems(key + "[" + i + "]", template);
+                }
+                templateListCache.put(key, Collections.unmodifiableList(templates));
+            }
+        }
+        if (debug) {
+            logger.info("[Debug] Compiled " + templateCache.size() + " messages and " + templateListCache.size() + " message lists (" + problemCount + " problems).");
+        }
+        return new CompiledMessages(messagesConfig, Collections.unmodifiableMap(templateCache), Collections.unmodifiableMap(templateListCache));
+    }
+
+    private int reportProblems(@NotNull String key, @NotNull MessageTemplate template) {
+        for (String problem : template.getProblems()) {
+            logger.warning("messages.yml '" + key + "': " + problem);
+        }
+        return template.getProblems().size();
+    }
+
     /**
      * Provides direct access to the loaded messages.yml FileConfiguration.
      * Use cautiously; prefer specific getMessage/getMessageList methods.
-     * @return The FileConfiguration for messages.yml, or null if loading failed critically.
+     * @return The FileConfiguration for messages.yml from the current snapshot.
      */
-    @Nullable
+    @NotNull
     public FileConfiguration getConfig() {
-        return messagesConfig;
+        return compiled().config;
     }
 }
\ No newline at end of file
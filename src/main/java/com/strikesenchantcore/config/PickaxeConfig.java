@@ -27,61 +27,70 @@ public class PickaxeConfig {
     private final EnchantCore plugin;
     private final Logger logger; // Cache logger // ItemsAdder integration utility
     private File pickaxeFile;
-    private FileConfiguration pickaxeConfig;
-
-    // --- Cached General Pickaxe Settings ---
-    private String pickaxeNameFormat = "&bEnchantCore Pickaxe &7(Level %enchantcore_level%)";
-    private Material pickaxeMaterial = Material.DIAMOND_PICKAXE;
-    private String pickaxeItemsAdderID = null;
-    private int customModelData = 0;
-    private List<String> pickaxeLoreFormat = List.of(); // Default set in load() if missing
-    private boolean keepInventory = true;
-    private boolean preventDrop = true;
-    private boolean preventStore = true;
-    private boolean allowInventoryMove = true;
-    private String enchantLoreFormat = "&7- %enchant_name% &f%enchant_level%/%enchant_max_level%";
-    // --- End General ---
-
-    // --- Cached Leveling Settings ---
-    private String levelingFormulaType = "EXPONENTIAL";
-    private long baseBlocksRequired = 100;
-    private double levelingMultiplier = 1.5;
-    private int maxLevel = 1000;
-    // --- End Leveling ---
-
-    // --- Cached Progress Bar Settings ---
-    private String progressBarFilledSymbol = "|";
-    private String progressBarEmptySymbol = "-";
-    private String progressBarFilledColor = "&a";
-    private String progressBarEmptyColor = "&7";
-    private int progressBarLength = 20;
-    // --- End Progress Bar ---
-
-    // --- Cached First Join Pickaxe Settings ---
-    private boolean firstJoinEnabled = true;
-    private boolean firstJoinCheckExisting = true;
-    private String firstJoinName = ""; // Empty means use default pickaxe name
-    @Nullable private Material firstJoinMaterial = null; // Null means use default pickaxe material
-    @Nullable private String firstJoinItemsAdderID = null;
-    private int firstJoinLevel = 1;
-    private long firstJoinBlocksMined = 0;
-    private List<String> firstJoinEnchants = Collections.emptyList(); // Use Collections.emptyList for default
-    // --- End First Join ---
-
-    // --- Cached Level Up Rewards Settings ---
-    private boolean levelRewardsEveryEnable = false;
-    private String levelRewardsEveryMessage = "";
-    private List<String> levelRewardsEveryCommands = Collections.emptyList();
-
-    private boolean levelRewardsMilestoneEnable = false;
-    private int levelRewardsMilestoneInterval = 10;
-    private String levelRewardsMilestoneMessage = "";
-    private List<String> levelRewardsMilestoneCommands = Collections.emptyList();
-
-    private boolean levelRewardsSpecificEnable = false;
-    private String levelRewardsSpecificDefaultMessage = "";
-    // Map: Level -> RewardData (containing optional message and commands)
-    private Map<Integer, LevelRewardData> levelRewardsSpecificLevelsMap = Collections.emptyMap();
+
+    /**
+     * Settings from one load of pickaxe.yml. Filled in by loadSettings() and never modified afterwards.
+     * Part of the {@link ConfigSnapshot}.
+     */
+    static final class Settings {
+        static final Settings DEFAULTS = new Settings();
+
+        FileConfiguration config = new YamlConfiguration(); // The pickaxe.yml tree the settings came from
+
+        // --- Cached General Pickaxe Settings ---
+        String pickaxeNameFormat = "&bEnchantCore Pickaxe &7(Level %enchantcore_level%)";
+        Material pickaxeMaterial = Material.DIAMOND_PICKAXE;
+        String pickaxeItemsAdderID = null;
+        int customModelData = 0;
+        List<String> pickaxeLoreFormat = List.of(); // Default set in load() if missing
+        boolean keepInventory = true;
+        boolean preventDrop = true;
+        boolean preventStore = true;
+        boolean allowInventoryMove = true;
+        String enchantLoreFormat = "&7- %enchant_name% &f%enchant_level%/%enchant_max_level%";
+        // --- End General ---
+
+        // --- Cached Leveling Settings ---
+        String levelingFormulaType = "EXPONENTIAL";
+        long baseBlocksRequired = 100;
+        double levelingMultiplier = 1.5;
+        int maxLevel = 1000;
+        // --- End Leveling ---
+
+        // --- Cached Progress Bar Settings ---
+        String progressBarFilledSymbol = "|";
+        String progressBarEmptySymbol = "-";
+        String progressBarFilledColor = "&a";
+        String progressBarEmptyColor = "&7";
+        int progressBarLength = 20;
+        // --- End Progress Bar ---
+
+        // --- Cached First Join Pickaxe Settings ---
+        boolean firstJoinEnabled = true;
+        boolean firstJoinCheckExisting = true;
+        String firstJoinName = ""; // Empty means use default pickaxe name
+        @Nullable Material firstJoinMaterial = null; // Null means use default pickaxe material
+        @Nullable String firstJoinItemsAdderID = null;
+        int firstJoinLevel = 1;
+        long firstJoinBlocksMined = 0;
+        List<String> firstJoinEnchants = Collections.emptyList(); // Use Collections.emptyList for default
+        // --- End First Join ---
+
+        // --- Cached Level Up Rewards Settings ---
+        boolean levelRewardsEveryEnable = false;
+        String levelRewardsEveryMessage = "";
+        List<String> levelRewardsEveryCommands = Collections.emptyList();
+
+        boolean levelRewardsMilestoneEnable = false;
+        int levelRewardsMilestoneInterval = 10;
+        String levelRewardsMilestoneMessage = "";
+        List<String> levelRewardsMilestoneCommands = Collections.emptyList();
+
+        boolean levelRewardsSpecificEnable = false;
+        String levelRewardsSpecificDefaultMessage = "";
+        // Map: Level -> RewardData (containing optional message and commands)
+        Map<Integer, LevelRewardData> levelRewardsSpecificLevelsMap = Collections.emptyMap();
+    }
 
     /** Helper class for specific level rewards data storage. */
     public static class LevelRewardData {
@@ -101,10 +110,10 @@ public class PickaxeConfig {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
         setup();
-        // load() is called by ConfigManager
+        // Settings are loaded by ConfigManager as part of its snapshot
     }
 
-    /** Sets up the file and configuration object. Creates default if missing. */
+    /** Sets up the file object. Creates default if missing. */
     private void setup() {
         if (!plugin.getDataFolder().exists()) {
             plugin.getDataFolder().mkdirs();
@@ -114,55 +123,56 @@ public class PickaxeConfig {
             plugin.saveResource("pickaxe.yml", false);
             logger.info("Created default pickaxe.yml");
         }
-        pickaxeConfig = new YamlConfiguration();
-        try {
-            pickaxeConfig.load(pickaxeFile);
-        } catch (IOException | InvalidConfigurationException e) {
-            logger.log(Level.SEVERE, "Could not load pickaxe.yml during setup!", e);
-        }
     }
 
-    /** Loads all settings from the pickaxe.yml file into cached fields. */
-    public void load() {
+    /**
+     * Reads all settings from the pickaxe.yml file. Only touches this file and the logger, so
+     * ConfigManager runs it off the main thread during a reload.
+     * @return The new settings, or null if the file could not be read (the caller keeps the previous ones).
+     */
+    @Nullable
+    Settings loadSettings() {
         // Ensure file exists, reload from disk
         if (!pickaxeFile.exists()) {
             logger.warning("pickaxe.yml not found! Attempting to recreate...");
-            setup(); // Tries to recreate and load initial
-        } else {
-            try {
-                pickaxeConfig.load(pickaxeFile);
-            } catch (IOException | InvalidConfigurationException e) {
-                logger.log(Level.SEVERE, "Could not reload pickaxe.yml! Using potentially stale values.", e);
-                // Continue with current values if reload fails
-                return;
-            }
+            setup();
+        }
+        final FileConfiguration pickaxeConfig = new YamlConfiguration();
+        try {
+            pickaxeConfig.load(pickaxeFile);
+        } catch (IOException | InvalidConfigurationException e) {
+            logger.log(Level.SEVERE, "Could not reload pickaxe.yml! Using previous values.", e);
+            return null; // Continue with current values if reload fails
         }
 
+        final Settings next = new Settings(); // Starts at defaults
+        next.config = pickaxeConfig;
+
         // --- Load General Pickaxe Section ---
         ConfigurationSection pickaxeSection = pickaxeConfig.getConfigurationSection("Pickaxe");
         if (pickaxeSection != null) {
-            pickaxeNameFormat = pickaxeSection.getString("Name", "&bEnchantCore Pickaxe &7(Level %enchantcore_level%)");
+            next.pickaxeNameFormat = pickaxeSection.getString("Name", "&bEnchantCore Pickaxe &7(Level %enchantcore_level%)");
             try {
                 String matName = pickaxeSection.getString("Material", "DIAMOND_PICKAXE").toUpperCase();
-                pickaxeMaterial = Material.valueOf(matName);
-                if(pickaxeMaterial == Material.AIR) {
+                next.pickaxeMaterial = Material.valueOf(matName);
+                if(next.pickaxeMaterial == Material.AIR) {
                     logger.warning("Pickaxe Material cannot be AIR. Using DIAMOND_PICKAXE.");
-                    pickaxeMaterial = Material.DIAMOND_PICKAXE;
+                    next.pickaxeMaterial = Material.DIAMOND_PICKAXE;
                 }
             } catch (IllegalArgumentException e) {
                 logger.warning("Invalid Material specified in Pickaxe.Material: " + pickaxeSection.getString("Material") + ". Using DIAMOND_PICKAXE.");
-                pickaxeMaterial = Material.DIAMOND_PICKAXE; // Fallback
+                next.pickaxeMaterial = Material.DIAMOND_PICKAXE; // Fallback
             }
 // Load ItemsAdder ID if specified
-            pickaxeItemsAdderID = pickaxeSection.getString("ItemsAdder-ID", null);
-            if (pickaxeItemsAdderID != null && pickaxeItemsAdderID.trim().isEmpty()) {
-                pickaxeItemsAdderID = null; // Treat empty string as null
+            next.pickaxeItemsAdderID = pickaxeSection.getString("ItemsAdder-ID", null);
+            if (next.pickaxeItemsAdderID != null && next.pickaxeItemsAdderID.trim().isEmpty()) {
+                next.pickaxeItemsAdderID = null; // Treat empty string as null
             }
-            customModelData = pickaxeSection.getInt("CustomModelData", 0);
+            next.customModelData = pickaxeSection.getInt("CustomModelData", 0);
             List<String> rawLore = pickaxeSection.getStringList("Lore");
             // Set default lore if missing or empty in config
             if (rawLore == null || rawLore.isEmpty()) {
-                this.pickaxeLoreFormat = List.of( // Default lore definition
+                next.pickaxeLoreFormat = List.of( // Default lore definition
                         "&8&m------------------------",
                         "&eBlocks Mined: &f%enchantcore_blocks_mined%/%enchantcore_blocks_required%",
                         "&ePickaxe Level: &f%enchantcore_level% &7[%enchantcore_progress_bar%&7]",
@@ -174,31 +184,31 @@ public class PickaxeConfig {
                 }
             } else {
                 // Process colors immediately on load for lore format
-                this.pickaxeLoreFormat = rawLore.stream().map(ChatUtil::color).collect(Collectors.toList());
+                next.pickaxeLoreFormat = rawLore.stream().map(ChatUtil::color).collect(Collectors.toList());
             }
             // Behavior settings
-            keepInventory = pickaxeSection.getBoolean("Keep-Inventory", true);
-            preventDrop = pickaxeSection.getBoolean("Prevent-Drop", true);
-            preventStore = pickaxeSection.getBoolean("Prevent-Store", true);
-            allowInventoryMove = pickaxeSection.getBoolean("Allow-Inventory-Move", true);
+            next.keepInventory = pickaxeSection.getBoolean("Keep-Inventory", true);
+            next.preventDrop = pickaxeSection.getBoolean("Prevent-Drop", true);
+            next.preventStore = pickaxeSection.getBoolean("Prevent-Store", true);
+            next.allowInventoryMove = pickaxeSection.getBoolean("Allow-Inventory-Move", true);
         } else {
             logger.severe("Pickaxe section missing in pickaxe.yml! Using default values for ALL general pickaxe settings.");
             // Reset all general settings to defaults if section is missing
-            pickaxeNameFormat = "&bEnchantCore Pickaxe &7(Level %enchantcore_level%)";
-            pickaxeMaterial = Material.DIAMOND_PICKAXE;
-            customModelData = 0;
-            this.pickaxeLoreFormat = List.of("&8&m------------------------", "&eBlocks Mined: &f%enchantcore_blocks_mined%/%enchantcore_blocks_required%", "&ePickaxe Level: &f%enchantcore_level% &7[%enchantcore_progress_bar%&7]", "&8&m------------------------", "&7Enchantments:");
-            keepInventory = true; preventDrop = true; preventStore = true; allowInventoryMove = true;
+            next.pickaxeNameFormat = "&bEnchantCore Pickaxe &7(Level %enchantcore_level%)";
+            next.pickaxeMaterial = Material.DIAMOND_PICKAXE;
+            next.customModelData = 0;
+            next.pickaxeLoreFormat = List.of("&8&m------------------------", "&eBlocks Mined: &f%enchantcore_blocks_mined%/%enchantcore_blocks_required%", "&ePickaxe Level: &f%enchantcore_level% &7[%enchantcore_progress_bar%&7]", "&8&m------------------------", "&7Enchantments:");
+            next.keepInventory = true; next.preventDrop = true; next.preventStore = true; next.allowInventoryMove = true;
         }
 
 
         // --- Load Leveling Section (including Rewards) ---
         ConfigurationSection levelingSection = pickaxeConfig.getConfigurationSection("Pickaxe.Leveling"); // Relative to root
         if (levelingSection != null) {
-            levelingFormulaType = levelingSection.getString("Formula-Type", "EXPONENTIAL").toUpperCase();
-            baseBlocksRequired = Math.max(1L, levelingSection.getLong("Base-Blocks-Required", 100)); // Ensure positive
-            levelingMultiplier = levelingSection.getDouble("Multiplier", 1.5);
-            maxLevel = levelingSection.getInt("Max-Level", 1000); // Allow 0 or negative for unlimited
+            next.levelingFormulaType = levelingSection.getString("Formula-Type", "EXPONENTIAL").toUpperCase();
+            next.baseBlocksRequired = Math.max(1L, levelingSection.getLong("Base-Blocks-Required", 100)); // Ensure positive
+            next.levelingMultiplier = levelingSection.getDouble("Multiplier", 1.5);
+            next.maxLevel = levelingSection.getInt("Max-Level", 1000); // Allow 0 or negative for unlimited
 
             // *** Load Rewards Sub-Section ***
             ConfigurationSection rewardsSection = levelingSection.getConfigurationSection("rewards");
@@ -206,30 +216,30 @@ public class PickaxeConfig {
                 // Every Level Rewards
                 ConfigurationSection everySection = rewardsSection.getConfigurationSection("every-level");
                 if (everySection != null) {
-                    levelRewardsEveryEnable = everySection.getBoolean("enable", false);
-                    levelRewardsEveryMessage = ChatUtil.color(everySection.getString("message", "")); // Color message format
-                    levelRewardsEveryCommands = everySection.getStringList("commands");
-                } else { resetEveryLevelRewards(); /* Use defaults if section missing */ }
+                    next.levelRewardsEveryEnable = everySection.getBoolean("enable", false);
+                    next.levelRewardsEveryMessage = ChatUtil.color(everySection.getString("message", "")); // Color message format
+                    next.levelRewardsEveryCommands = everySection.getStringList("commands");
+                } else { resetEveryLevelRewards(next); /* Use defaults if section missing */ }
 
                 // Milestone Rewards
                 ConfigurationSection milestoneSection = rewardsSection.getConfigurationSection("milestone");
                 if (milestoneSection != null) {
-                    levelRewardsMilestoneEnable = milestoneSection.getBoolean("enable", false);
-                    levelRewardsMilestoneInterval = milestoneSection.getInt("interval", 10);
-                    if (levelRewardsMilestoneInterval <= 0) {
+                    next.levelRewardsMilestoneEnable = milestoneSection.getBoolean("enable", false);
+                    next.levelRewardsMilestoneInterval = milestoneSection.getInt("interval", 10);
+                    if (next.levelRewardsMilestoneInterval <= 0) {
                         logger.warning("Milestone reward interval in pickaxe.yml must be positive. Disabling milestone rewards.");
-                        levelRewardsMilestoneEnable = false;
-                        levelRewardsMilestoneInterval = 10; // Reset to default for safety
+                        next.levelRewardsMilestoneEnable = false;
+                        next.levelRewardsMilestoneInterval = 10; // Reset to default for safety
                     }
-                    levelRewardsMilestoneMessage = ChatUtil.color(milestoneSection.getString("message", "")); // Color message format
-                    levelRewardsMilestoneCommands = milestoneSection.getStringList("commands");
-                } else { resetMilestoneRewards(); /* Use defaults */ }
+                    next.levelRewardsMilestoneMessage = ChatUtil.color(milestoneSection.getString("message", "")); // Color message format
+                    next.levelRewardsMilestoneCommands = milestoneSection.getStringList("commands");
+                } else { resetMilestoneRewards(next); /* Use defaults */ }
 
                 // Specific Level Rewards
                 ConfigurationSection specificSection = rewardsSection.getConfigurationSection("specific-levels");
                 if (specificSection != null) {
-                    levelRewardsSpecificEnable = specificSection.getBoolean("enable", false);
-                    levelRewardsSpecificDefaultMessage = ChatUtil.color(specificSection.getString("default-message", "")); // Color default message
+                    next.levelRewardsSpecificEnable = specificSection.getBoolean("enable", false);
+                    next.levelRewardsSpecificDefaultMessage = ChatUtil.color(specificSection.getString("default-message", "")); // Color default message
                     ConfigurationSection levelsMapSection = specificSection.getConfigurationSection("levels");
                     Map<Integer, LevelRewardData> loadedSpecificLevels = new HashMap<>();
                     if (levelsMapSection != null) {
@@ -258,19 +268,19 @@ public class PickaxeConfig {
                         }
                     }
                     // Store the loaded map (already unmodifiable from constructor)
-                    levelRewardsSpecificLevelsMap = loadedSpecificLevels.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(loadedSpecificLevels);
-                } else { resetSpecificLevelRewards(); /* Use defaults */ }
+                    next.levelRewardsSpecificLevelsMap = loadedSpecificLevels.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(loadedSpecificLevels);
+                } else { resetSpecificLevelRewards(next); /* Use defaults */ }
             } else { // Rewards section is missing
                 logger.warning("Pickaxe.Leveling.rewards section missing in pickaxe.yml. No level rewards loaded.");
-                resetAllLevelRewards(); // Reset all reward types to default
+                resetAllLevelRewards(next); // Reset all reward types to default
             }
             // *** End Load Rewards ***
 
         } else { // Leveling section missing
             logger.warning("Pickaxe.Leveling section missing in pickaxe.yml. Using defaults for leveling and rewards.");
             // Reset leveling and rewards to defaults
-            levelingFormulaType = "EXPONENTIAL"; baseBlocksRequired = 100; levelingMultiplier = 1.5; maxLevel = 1000;
-            resetAllLevelRewards();
+            next.levelingFormulaType = "EXPONENTIAL"; next.baseBlocksRequired = 100; next.levelingMultiplier = 1.5; next.maxLevel = 1000;
+            resetAllLevelRewards(next);
         }
         // If Pickaxe section was missing initially, leveling/rewards already defaulted above.
 
@@ -278,132 +288,138 @@ public class PickaxeConfig {
         // --- Load Progress Bar Section ---
         ConfigurationSection progressBarSection = pickaxeConfig.getConfigurationSection("ProgressBar");
         if (progressBarSection != null) {
-            progressBarFilledSymbol = progressBarSection.getString("Symbol-Filled", "|");
-            progressBarEmptySymbol = progressBarSection.getString("Symbol-Empty", "-");
-            progressBarFilledColor = progressBarSection.getString("Color-Filled", "&a"); // Store raw color code
-            progressBarEmptyColor = progressBarSection.getString("Color-Empty", "&7"); // Store raw color code
-            progressBarLength = Math.max(1, progressBarSection.getInt("Length", 20)); // Ensure positive length
+            next.progressBarFilledSymbol = progressBarSection.getString("Symbol-Filled", "|");
+            next.progressBarEmptySymbol = progressBarSection.getString("Symbol-Empty", "-");
+            next.progressBarFilledColor = progressBarSection.getString("Color-Filled", "&a"); // Store raw color code
+            next.progressBarEmptyColor = progressBarSection.getString("Color-Empty", "&7"); // Store raw color code
+            next.progressBarLength = Math.max(1, progressBarSection.getInt("Length", 20)); // Ensure positive length
         } else {
             logger.warning("ProgressBar section missing in pickaxe.yml. Using defaults.");
-            progressBarFilledSymbol = "|"; progressBarEmptySymbol = "-"; progressBarFilledColor = "&a"; progressBarEmptyColor = "&7"; progressBarLength = 20;
+            next.progressBarFilledSymbol = "|"; next.progressBarEmptySymbol = "-"; next.progressBarFilledColor = "&a"; next.progressBarEmptyColor = "&7"; next.progressBarLength = 20;
         }
 
 
         // --- Load Enchant Lore Format ---
         // Color this on load as it's a single format string used repeatedly
-        enchantLoreFormat = ChatUtil.color(pickaxeConfig.getString("Enchant-Lore-Format", "&7- %enchant_name% &f%enchant_level%/%enchant_max_level%"));
+        next.enchantLoreFormat = ChatUtil.color(pickaxeConfig.getString("Enchant-Lore-Format", "&7- %enchant_name% &f%enchant_level%/%enchant_max_level%"));
 
 
         // --- Load First Join Pickaxe Section ---
         ConfigurationSection firstJoinSection = pickaxeConfig.getConfigurationSection("FirstJoinPickaxe");
         if (firstJoinSection != null) {
-            firstJoinEnabled = firstJoinSection.getBoolean("Enabled", true);
-            firstJoinCheckExisting = firstJoinSection.getBoolean("CheckExisting", true);
-            firstJoinName = firstJoinSection.getString("Name", ""); // Empty = use default name format
+            next.firstJoinEnabled = firstJoinSection.getBoolean("Enabled", true);
+            next.firstJoinCheckExisting = firstJoinSection.getBoolean("CheckExisting", true);
+            next.firstJoinName = firstJoinSection.getString("Name", ""); // Empty = use default name format
             String matString = firstJoinSection.getString("Material", ""); // Empty = use default material
             if (!matString.isEmpty()) {
                 try {
                     Material fjMat = Material.valueOf(matString.toUpperCase());
-                    firstJoinMaterial = (fjMat == Material.AIR) ? null : fjMat; // Don't allow AIR override
+                    next.firstJoinMaterial = (fjMat == Material.AIR) ? null : fjMat; // Don't allow AIR override
                     if(fjMat == Material.AIR) logger.warning("FirstJoinPickaxe Material cannot be AIR. Using default pickaxe material.");
                 }
                 catch (IllegalArgumentException e) {
                     logger.warning("Invalid Material specified in FirstJoinPickaxe.Material: " + matString + ". Using default pickaxe material.");
-                    firstJoinMaterial = null; // Use default if invalid
+                    next.firstJoinMaterial = null; // Use default if invalid
                 }
-            } else { firstJoinMaterial = null; } // Use default if empty string
+            } else { next.firstJoinMaterial = null; } // Use default if empty string
 
 // Load FirstJoin ItemsAdder ID if specified
-            firstJoinItemsAdderID = firstJoinSection.getString("ItemsAdder-ID", null);
-            if (firstJoinItemsAdderID != null && firstJoinItemsAdderID.trim().isEmpty()) {
-                firstJoinItemsAdderID = null; // Treat empty string as null
+            next.firstJoinItemsAdderID = firstJoinSection.getString("ItemsAdder-ID", null);
+            if (next.firstJoinItemsAdderID != null && next.firstJoinItemsAdderID.trim().isEmpty()) {
+                next.firstJoinItemsAdderID = null; // Treat empty string as null
             }
-            firstJoinLevel = Math.max(1, firstJoinSection.getInt("Level", 1)); // Ensure at least level 1 // Ensure at least level 1
-            firstJoinBlocksMined = Math.max(0L, firstJoinSection.getLong("BlocksMined", 0L)); // Ensure non-negative
-            firstJoinEnchants = firstJoinSection.getStringList("Enchants"); // Can be null/empty
-            if (firstJoinEnchants == null) firstJoinEnchants = Collections.emptyList(); // Ensure non-null
+            next.firstJoinLevel = Math.max(1, firstJoinSection.getInt("Level", 1)); // Ensure at least level 1 // Ensure at least level 1
+            next.firstJoinBlocksMined = Math.max(0L, firstJoinSection.getLong("BlocksMined", 0L)); // Ensure non-negative
+            next.firstJoinEnchants = firstJoinSection.getStringList("Enchants"); // Can be null/empty
+            if (next.firstJoinEnchants == null) next.firstJoinEnchants = Collections.emptyList(); // Ensure non-null
         } else {
             logger.warning("FirstJoinPickaxe section missing in pickaxe.yml. Using defaults.");
             // Reset first join settings to defaults
-            firstJoinEnabled = true; firstJoinCheckExisting = true; firstJoinName = ""; firstJoinMaterial = null;
-            firstJoinLevel = 1; firstJoinBlocksMined = 0; firstJoinEnchants = Collections.emptyList();
+            next.firstJoinEnabled = true; next.firstJoinCheckExisting = true; next.firstJoinName = ""; next.firstJoinMaterial = null;
+            next.firstJoinLevel = 1; next.firstJoinBlocksMined = 0; next.firstJoinEnchants = Collections.emptyList();
         }
 
 
         logger.info("pickaxe.yml settings loaded/reloaded.");
+        return next;
+    }
+
+    @NotNull
+    private Settings settings() {
+        return plugin.getConfigManager().getSnapshot().getPickaxeSettings();
     }
 
     // --- Helper methods to reset reward sections to defaults ---
-    private void resetEveryLevelRewards() {
-        levelRewardsEveryEnable = false; levelRewardsEveryMessage = ""; levelRewardsEveryCommands = Collections.emptyList();
+    private void resetEveryLevelRewards(Settings next) {
+        next.levelRewardsEveryEnable = false; next.levelRewardsEveryMessage = ""; next.levelRewardsEveryCommands = Collections.emptyList();
     }
-    private void resetMilestoneRewards() {
-        levelRewardsMilestoneEnable = false; levelRewardsMilestoneInterval = 10; levelRewardsMilestoneMessage = ""; levelRewardsMilestoneCommands = Collections.emptyList();
+    private void resetMilestoneRewards(Settings next) {
+        next.levelRewardsMilestoneEnable = false; next.levelRewardsMilestoneInterval = 10; next.levelRewardsMilestoneMessage = ""; next.levelRewardsMilestoneCommands = Collections.emptyList();
     }
-    private void resetSpecificLevelRewards() {
-        levelRewardsSpecificEnable = false; levelRewardsSpecificDefaultMessage = ""; levelRewardsSpecificLevelsMap = Collections.emptyMap();
+    private void resetSpecificLevelRewards(Settings next) {
+        next.levelRewardsSpecificEnable = false; next.levelRewardsSpecificDefaultMessage = ""; next.levelRewardsSpecificLevelsMap = Collections.emptyMap();
     }
-    private void resetAllLevelRewards() {
-        resetEveryLevelRewards();
-        resetMilestoneRewards();
-        resetSpecificLevelRewards();
+    private void resetAllLevelRewards(Settings next) {
+        resetEveryLevelRewards(next);
+        resetMilestoneRewards(next);
+        resetSpecificLevelRewards(next);
     }
 
 
     // --- Getters for Cached Settings ---
     // General
-    @NotNull public String getPickaxeNameFormat() { return pickaxeNameFormat; }
-    @NotNull public Material getPickaxeMaterial() { return pickaxeMaterial; } // Should have a default
-    public int getCustomModelData() { return customModelData; }
-    @NotNull public List<String> getPickaxeLoreFormat() { return pickaxeLoreFormat; } // Already colored, return directly
-    public boolean isKeepInventory() { return keepInventory; }
-    public boolean isPreventDrop() { return preventDrop; }
-    public boolean isPreventStore() { return preventStore; }
-    public boolean isAllowInventoryMove() { return allowInventoryMove; }
-    @NotNull public String getEnchantLoreFormat() { return enchantLoreFormat; } // Already colored
+    @NotNull public String getPickaxeNameFormat() { return settings().pickaxeNameFormat; }
+    @NotNull public Material getPickaxeMaterial() { return settings().pickaxeMaterial; } // Should have a default
+    public int getCustomModelData() { return settings().customModelData; }
+    @NotNull public List<String> getPickaxeLoreFormat() { return settings().pickaxeLoreFormat; } // Already colored, return directly
+    public boolean isKeepInventory() { return settings().keepInventory; }
+    public boolean isPreventDrop() { return settings().preventDrop; }
+    public boolean isPreventStore() { return settings().preventStore; }
+    public boolean isAllowInventoryMove() { return settings().allowInventoryMove; }
+    @NotNull public String getEnchantLoreFormat() { return settings().enchantLoreFormat; } // Already colored
 
     // Leveling
-    @NotNull public String getLevelingFormulaType() { return levelingFormulaType; }
-    public long getBaseBlocksRequired() { return baseBlocksRequired; }
-    public double getLevelingMultiplier() { return levelingMultiplier; }
-    public int getMaxLevel() { return maxLevel; } // 0 or negative means unlimited
+    @NotNull public String getLevelingFormulaType() { return settings().levelingFormulaType; }
+    public long getBaseBlocksRequired() { return settings().baseBlocksRequired; }
+    public double getLevelingMultiplier() { return settings().levelingMultiplier; }
+    public int getMaxLevel() { return settings().maxLevel; } // 0 or negative means unlimited
 
     // Progress Bar
-    @NotNull public String getProgressBarFilledSymbol() { return progressBarFilledSymbol; }
-    @NotNull public String getProgressBarEmptySymbol() { return progressBarEmptySymbol; }
-    @NotNull public String getProgressBarFilledColor() { return progressBarFilledColor; } // Raw color code
-    @NotNull public String getProgressBarEmptyColor() { return progressBarEmptyColor; } // Raw color code
-    public int getProgressBarLength() { return progressBarLength; }
+    @NotNull public String getProgressBarFilledSymbol() { return settings().progressBarFilledSymbol; }
+    @NotNull public String getProgressBarEmptySymbol() { return settings().progressBarEmptySymbol; }
+    @NotNull public String getProgressBarFilledColor() { return settings().progressBarFilledColor; } // Raw color code
+    @NotNull public String getProgressBarEmptyColor() { return settings().progressBarEmptyColor; } // Raw color code
+    public int getProgressBarLength() { return settings().progressBarLength; }
 
     // First Join
-    public boolean isFirstJoinEnabled() { return firstJoinEnabled; }
-    public boolean isFirstJoinCheckExisting() { return firstJoinCheckExisting; }
-    @NotNull public String getFirstJoinName() { return firstJoinName; } // Empty means use default name format
-    @Nullable public Material getFirstJoinMaterial() { return firstJoinMaterial; } // Null means use default material
-    public int getFirstJoinLevel() { return firstJoinLevel; }
-    public long getFirstJoinBlocksMined() { return firstJoinBlocksMined; }
-    @NotNull public List<String> getFirstJoinEnchants() { return Collections.unmodifiableList(firstJoinEnchants); } // Return unmodifiable
+    public boolean isFirstJoinEnabled() { return settings().firstJoinEnabled; }
+    public boolean isFirstJoinCheckExisting() { return settings().firstJoinCheckExisting; }
+    @NotNull public String getFirstJoinName() { return settings().firstJoinName; } // Empty means use default name format
+    @Nullable public Material getFirstJoinMaterial() { return settings().firstJoinMaterial; } // Null means use default material
+    public int getFirstJoinLevel() { return settings().firstJoinLevel; }
+    public long getFirstJoinBlocksMined() { return settings().firstJoinBlocksMined; }
+    @NotNull public List<String> getFirstJoinEnchants() { return Collections.unmodifiableList(settings().firstJoinEnchants); } // Return unmodifiable
 
     // Level Rewards
     // Every Level
-    public boolean isLevelRewardsEveryEnable() { return levelRewardsEveryEnable; }
-    @NotNull public String getLevelRewardsEveryMessage() { return levelRewardsEveryMessage; } // Already colored
-    @NotNull public List<String> getLevelRewardsEveryCommands() { return Collections.unmodifiableList(levelRewardsEveryCommands); } // Return unmodifiable
+    public boolean isLevelRewardsEveryEnable() { return settings().levelRewardsEveryEnable; }
+    @NotNull public String getLevelRewardsEveryMessage() { return settings().levelRewardsEveryMessage; } // Already colored
+    @NotNull public List<String> getLevelRewardsEveryCommands() { return Collections.unmodifiableList(settings().levelRewardsEveryCommands); } // Return unmodifiable
     // Milestone
-    public boolean isLevelRewardsMilestoneEnable() { return levelRewardsMilestoneEnable; }
-    public int getLevelRewardsMilestoneInterval() { return levelRewardsMilestoneInterval; }
-    @NotNull public String getLevelRewardsMilestoneMessage() { return levelRewardsMilestoneMessage; } // Already colored
-    @NotNull public List<String> getLevelRewardsMilestoneCommands() { return Collections.unmodifiableList(levelRewardsMilestoneCommands); } // Return unmodifiable
+    public boolean isLevelRewardsMilestoneEnable() { return settings().levelRewardsMilestoneEnable; }
+    public int getLevelRewardsMilestoneInterval() { return settings().levelRewardsMilestoneInterval; }
+    @NotNull public String getLevelRewardsMilestoneMessage() { return settings().levelRewardsMilestoneMessage; } // Already colored
+    @NotNull public List<String> getLevelRewardsMilestoneCommands() { return Collections.unmodifiableList(settings().levelRewardsMilestoneCommands); } // Return unmodifiable
     // Specific Level
-    public boolean isLevelRewardsSpecificEnable() { return levelRewardsSpecificEnable; }
-    @NotNull public String getLevelRewardsSpecificDefaultMessage() { return levelRewardsSpecificDefaultMessage; } // Already colored
-    @NotNull public Map<Integer, LevelRewardData> getLevelRewardsSpecificLevelsMap() { return levelRewardsSpecificLevelsMap; } // Already unmodifiable
+    public boolean isLevelRewardsSpecificEnable() { return settings().levelRewardsSpecificEnable; }
+    @NotNull public String getLevelRewardsSpecificDefaultMessage() { return settings().levelRewardsSpecificDefaultMessage; } // Already colored
+    @NotNull public Map<Integer, LevelRewardData> getLevelRewardsSpecificLevelsMap() { return settings().levelRewardsSpecificLevelsMap; } // Already unmodifiable
 
-    /** Direct access to the config object - use with caution */
-    @Nullable public FileConfiguration getConfig() { return pickaxeConfig; }
+    /** Direct access to the config object from the current snapshot - use with caution */
+    @NotNull public FileConfiguration getConfig() { return settings().config; }
 
     // ItemsAdder Support
-    @Nullable public String getPickaxeItemsAdderID() { return pickaxeItemsAdderID; }
-    @Nullable public String getFirstJoinItemsAdderID() { return firstJoinItemsAdderID; }
+    @Nullable public String getPickaxeItemsAdderID() { return settings().pickaxeItemsAdderID; }
+    @Nullable public String getFirstJoinItemsAdderID() { return settings().firstJoinItemsAdderID; }
 
 } // End of PickaxeConfig class
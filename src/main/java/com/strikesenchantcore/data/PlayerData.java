@@ -1,12 +1,12 @@
 package com.strikesenchantcore.data;
 
+import com.strikesenchantcore.managers.AttachmentManager;
+import com.strikesenchantcore.managers.CrystalManager;
 import com.strikesenchantcore.managers.MortarManager; // Import MortarManager
+import com.strikesenchantcore.util.NumberFormatUtil;
 import org.jetbrains.annotations.NotNull;
-import java.text.NumberFormat;
-import java.util.HashMap;
-import java.util.Locale;
-import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class PlayerData {
 
@@ -21,16 +21,14 @@ public class PlayerData {
     // This will now hold all mortar-related information for the player.
     private MortarManager.MortarData mortarData;
 
-    private Map<String, Integer> crystalStorage = new HashMap<>(); // "TYPE_TIER" -> amount
-    private Map<Integer, String> equippedCrystals = new HashMap<>(); // slot -> "TYPE_TIER"
+    private final CrystalManager.CrystalStorage crystals = new CrystalManager.CrystalStorage();
 
     // Booster fields
     private long blockBoosterEndTime = 0L;
     private double blockBoosterMultiplier = 1.0;
 
-    // Attachment storage fields
-    private final Map<Integer, Integer> attachmentStorage = new HashMap<>(); // tier -> count
-    private final Map<Integer, Integer> equippedAttachments = new HashMap<>(); // slot -> tier
+    // Attachments (stored and equipped), saved and evicted together with the rest of the data
+    private final AttachmentManager.AttachmentStorage attachments = new AttachmentManager.AttachmentStorage();
 
     // Toggleable settings
     private boolean showEnchantMessages = true;
@@ -41,7 +39,9 @@ public class PlayerData {
     private int overchargeCharge = 0;
     private long overchargeFireCooldownEnd = 0L;
 
-    private static final NumberFormat TOKEN_FORMATTER = NumberFormat.getNumberInstance(Locale.US);
+    // Incremented on every mutation so derived caches (e.g. placeholders) can detect stale values.
+    // Atomic so increments from different threads are never lost.
+    private final AtomicLong revision = new AtomicLong();
 
     public PlayerData() {
         this.playerUUID = UUID.randomUUID();
@@ -76,6 +76,10 @@ public class PlayerData {
         this.mortarData = mortarData;
     }
 
+    // --- Revision Tracking ---
+    public long getRevision() { return revision.get(); }
+    private void markChanged() { revision.incrementAndGet(); }
+
     // --- Core Getters ---
     @NotNull public UUID getPlayerUUID() { return playerUUID; }
     public int getPickaxeLevel() { return pickaxeLevel; }
@@ -87,19 +91,19 @@ public class PlayerData {
     public boolean isShowEnchantAnimations() { return showEnchantAnimations; }
 
     // --- Core Setters ---
-    public void setPickaxeLevel(int level) { this.pickaxeLevel = Math.max(1, level); }
-    public void setBlocksMined(long count) { this.blocksMined = Math.max(0L, count); }
-    public void addBlocksMined(long amount) { if (amount > 0) this.blocksMined += amount; }
+    public void setPickaxeLevel(int level) { this.pickaxeLevel = Math.max(1, level); markChanged(); }
+    public void setBlocksMined(long count) { this.blocksMined = Math.max(0L, count); markChanged(); }
+    public void addBlocksMined(long amount) { if (amount > 0) { this.blocksMined += amount; markChanged(); } }
 
     // --- Setting Toggles Setters ---
-    public void setShowEnchantMessages(boolean show) { this.showEnchantMessages = show; }
-    public void setShowEnchantSounds(boolean show) { this.showEnchantSounds = show; }
-    public void setShowEnchantAnimations(boolean show) { this.showEnchantAnimations = show; }
+    public void setShowEnchantMessages(boolean show) { this.showEnchantMessages = show; markChanged(); }
+    public void setShowEnchantSounds(boolean show) { this.showEnchantSounds = show; markChanged(); }
+    public void setShowEnchantAnimations(boolean show) { this.showEnchantAnimations = show; markChanged(); }
 
     // --- Token Methods ---
     public long getTokens() { return tokens; }
-    @NotNull public String getFormattedTokens() { return TOKEN_FORMATTER.format(this.tokens); }
-    public void setTokens(long amount) { this.tokens = Math.max(0L, amount); }
+    @NotNull public String getFormattedTokens() { return NumberFormatUtil.formatGrouped(this.tokens); }
+    public void setTokens(long amount) { this.tokens = Math.max(0L, amount); markChanged(); }
     public boolean hasEnoughTokens(double amount) { return this.tokens >= Math.ceil(amount); }
 
     public boolean removeTokens(double amount) {
@@ -107,18 +111,22 @@ public class PlayerData {
         if (amountToRemove <= 0) return true;
         if (this.tokens >= amountToRemove) {
             this.tokens -= amountToRemove;
+            markChanged();
             return true;
         }
         return false;
     }
 
     public void addTokens(long amount) {
-        if (amount > 0) this.tokens = Math.addExact(this.tokens, amount);
+        if (amount > 0) {
+            this.tokens = Math.addExact(this.tokens, amount);
+            markChanged();
+        }
     }
 
     // --- Gem Methods ---
     public long getGems() { return gems; }
-    public void setGems(long amount) { this.gems = Math.max(0L, amount); }
+    public void setGems(long amount) { this.gems = Math.max(0L, amount); markChanged(); }
     public boolean hasEnoughGems(double amount) { return this.gems >= Math.ceil(amount); }
 
     public boolean removeGems(double amount) {
@@ -126,18 +134,22 @@ public class PlayerData {
         if (amountToRemove <= 0) return true;
         if (this.gems >= amountToRemove) {
             this.gems -= amountToRemove;
+            markChanged();
             return true;
         }
         return false;
     }
 
     public void addGems(long amount) {
-        if (amount > 0) this.gems = Math.addExact(this.gems, amount);
+        if (amount > 0) {
+            this.gems = Math.addExact(this.gems, amount);
+            markChanged();
+        }
     }
 
     // --- ADDED: Point Methods ---
     public long getPoints() { return points; }
-    public void setPoints(long amount) { this.points = Math.max(0L, amount); }
+    public void setPoints(long amount) { this.points = Math.max(0L, amount); markChanged(); }
     public boolean hasEnoughPoints(double amount) { return this.points >= Math.ceil(amount); }
 
     public boolean removePoints(double amount) {
@@ -145,13 +157,17 @@ public class PlayerData {
         if (amountToRemove <= 0) return true;
         if (this.points >= amountToRemove) {
             this.points -= amountToRemove;
+            markChanged();
             return true;
         }
         return false;
     }
 
     public void addPoints(long amount) {
-        if (amount > 0) this.points = Math.addExact(this.points, amount);
+        if (amount > 0) {
+            this.points = Math.addExact(this.points, amount);
+            markChanged();
+        }
     }
     // --- END ADDED ---
 
@@ -177,24 +193,26 @@ public class PlayerData {
         }
         this.blockBoosterEndTime = System.currentTimeMillis() + (durationSeconds * 1000L);
         this.blockBoosterMultiplier = multiplier;
+        markChanged();
     }
 
     public void deactivateBlockBooster() {
         this.blockBoosterEndTime = 0L;
         this.blockBoosterMultiplier = 1.0;
+        markChanged();
     }
 
     public long getBlockBoosterEndTime() { return this.blockBoosterEndTime; }
-    public void setBlockBoosterEndTime(long endTime) { this.blockBoosterEndTime = endTime; }
+    public void setBlockBoosterEndTime(long endTime) { this.blockBoosterEndTime = endTime; markChanged(); }
     public double getRawBlockBoosterMultiplier() { return this.blockBoosterMultiplier; }
-    public void setBlockBoosterMultiplier(double multiplier) { this.blockBoosterMultiplier = multiplier; }
+    public void setBlockBoosterMultiplier(double multiplier) { this.blockBoosterMultiplier = multiplier; markChanged(); }
 
     // --- Overcharge Methods ---
     public int getOverchargeCharge() { return this.overchargeCharge; }
-    public void setOverchargeCharge(int charge) { this.overchargeCharge = charge; }
-    public void addOverchargeCharge(int amount) { this.overchargeCharge += amount; }
+    public void setOverchargeCharge(int charge) { this.overchargeCharge = charge; markChanged(); }
+    public void addOverchargeCharge(int amount) { this.overchargeCharge += amount; markChanged(); }
     public long getOverchargeFireCooldownEnd() { return this.overchargeFireCooldownEnd; }
-    public void setOverchargeFireCooldownEnd(long timestamp) { this.overchargeFireCooldownEnd = timestamp; }
+    public void setOverchargeFireCooldownEnd(long timestamp) { this.overchargeFireCooldownEnd = timestamp; markChanged(); }
 
     @Override
     public String toString() {
@@ -215,76 +233,16 @@ public class PlayerData {
     }
 
     // Crystal system methods
-    public Map<String, Integer> getCrystalStorage() {
-        if (crystalStorage == null) crystalStorage = new HashMap<>();
-        return crystalStorage;
-    }
-
-    public void setCrystalStorage(Map<String, Integer> crystalStorage) {
-        this.crystalStorage = crystalStorage;
-    }
-
-    public Map<Integer, String> getEquippedCrystals() {
-        if (equippedCrystals == null) equippedCrystals = new HashMap<>();
-        return equippedCrystals;
-    }
-
-    public void setEquippedCrystals(Map<Integer, String> equippedCrystals) {
-        this.equippedCrystals = equippedCrystals;
+    /** @return The player's crystals (stored and equipped). */
+    @NotNull
+    public CrystalManager.CrystalStorage getCrystals() {
+        return crystals;
     }
 
     // --- Attachment Methods ---
-    public Map<Integer, Integer> getAttachmentStorage() {
-        return new HashMap<>(attachmentStorage);
-    }
-
-    public void setAttachmentCount(int tier, int count) {
-        if (count <= 0) {
-            attachmentStorage.remove(tier);
-        } else {
-            attachmentStorage.put(tier, count);
-        }
-    }
-
-    public int getAttachmentCount(int tier) {
-        return attachmentStorage.getOrDefault(tier, 0);
-    }
-
-    public void addAttachmentCount(int tier, int amount) {
-        int current = getAttachmentCount(tier);
-        setAttachmentCount(tier, current + amount);
-    }
-
-    public boolean removeAttachmentCount(int tier, int amount) {
-        int current = getAttachmentCount(tier);
-        if (current >= amount) {
-            setAttachmentCount(tier, current - amount);
-            return true;
-        }
-        return false;
-    }
-
-    public Map<Integer, Integer> getEquippedAttachments() {
-        return new HashMap<>(equippedAttachments);
-    }
-
-    public void setEquippedAttachment(int slot, Integer tier) {
-        if (tier == null) {
-            equippedAttachments.remove(slot);
-        } else {
-            equippedAttachments.put(slot, tier);
-        }
-    }
-
-    public Integer getEquippedAttachment(int slot) {
-        return equippedAttachments.get(slot);
-    }
-
-    public void clearAttachmentStorage() {
-        attachmentStorage.clear();
-    }
-
-    public void clearEquippedAttachments() {
-        equippedAttachments.clear();
+    /** @return The player's attachment storage, the same instance {@link AttachmentManager} works on. */
+    @NotNull
+    public AttachmentManager.AttachmentStorage getAttachments() {
+        return attachments;
     }
-}
\ No newline at end of file
+}
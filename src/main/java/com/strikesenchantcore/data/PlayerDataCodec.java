@@ -0,0 +1,144 @@
+package com.strikesenchantcore.data;
+
+import com.strikesenchantcore.managers.AttachmentManager;
+import com.strikesenchantcore.managers.CrystalManager;
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Converts the array-backed crystal and attachment storages to and from the player file layout,
+ * which is unchanged so existing files load as before:
+ * <pre>
+ * crystals.storage.TYPE_TIER: amount     crystals.equipped.SLOT: TYPE_TIER
+ * attachments.stored.tier_TIER: amount   attachments.equipped.slot_SLOT: TIER
+ * </pre>
+ * Entries that don't map to a known type, tier or slot are logged and dropped.
+ */
+public final class PlayerDataCodec {
+
+    private PlayerDataCodec() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    // --- Crystals ---
+
+    public static void readCrystals(@NotNull ConfigurationSection playerConfig, @NotNull CrystalManager.CrystalStorage storage,
+                                    @NotNull UUID playerUUID, @NotNull Logger logger) {
+        ConfigurationSection storageSection = playerConfig.getConfigurationSection("crystals.storage");
+        if (storageSection != null) {
+            for (String key : storageSection.getKeys(false)) {
+                CrystalManager.CrystalType type = parseCrystalType(key);
+                int tier = parseCrystalTier(key);
+                int amount = storageSection.getInt(key);
+                if (amount <= 0) continue;
+                if (type == null || !storage.add(type, tier, amount)) {
+                    logger.warning("[PlayerData] Unknown crystal '" + key + "' in data of " + playerUUID + ", dropped.");
+                }
+            }
+        }
+
+        ConfigurationSection equippedSection = playerConfig.getConfigurationSection("crystals.equipped");
+        if (equippedSection != null) {
+            for (String key : equippedSection.getKeys(false)) {
+                String crystalKey = equippedSection.getString(key);
+                if (crystalKey == null || crystalKey.isEmpty()) continue;
+                CrystalManager.CrystalType type = parseCrystalType(crystalKey);
+                int slot = parseInt(key, -1);
+                if (type == null || !storage.setEquipped(slot, type, parseCrystalTier(crystalKey))) {
+                    logger.warning("[PlayerData] Invalid equipped crystal '" + key + ": " + crystalKey + "' in data of " + playerUUID + ", dropped.");
+                }
+            }
+        }
+    }
+
+    public static void writeCrystals(@NotNull ConfigurationSection playerConfig, @NotNull CrystalManager.CrystalStorage storage) {
+        playerConfig.set("crystals", null); // Clear existing crystal data to prevent orphaned entries
+        for (int index : storage.getStoredIndexes()) {
+            CrystalManager.CrystalType type = CrystalManager.CrystalStorage.typeAt(index);
+            int tier = CrystalManager.CrystalStorage.tierAt(index);
+            playerConfig.set("crystals.storage." + crystalKey(type, tier), storage.getCount(type, tier));
+        }
+        for (int slot = 0; slot < CrystalManager.MAX_EQUIPPED_SLOTS; slot++) {
+            CrystalManager.CrystalType type = storage.getEquippedType(slot);
+            if (type != null) {
+                playerConfig.set("crystals.equipped." + slot, crystalKey(type, storage.getEquippedTier(slot))); // String keys in YAML
+            }
+        }
+    }
+
+    /** @return The stored key of a crystal, e.g. "PICKAXE_XP_3". */
+    @NotNull
+    public static String crystalKey(@NotNull CrystalManager.CrystalType type, int tier) {
+        return type.name() + "_" + tier;
+    }
+
+    @Nullable
+    private static CrystalManager.CrystalType parseCrystalType(@NotNull String key) {
+        int split = key.lastIndexOf('_'); // Type names contain underscores (PICKAXE_XP), tiers don't
+        return (split > 0) ? CrystalManager.CrystalType.fromName(key.substring(0, split)) : null;
+    }
+
+    private static int parseCrystalTier(@NotNull String key) {
+        return parseInt(key.substring(key.lastIndexOf('_') + 1), -1);
+    }
+
+    // --- Attachments ---
+
+    public static void readAttachments(@NotNull ConfigurationSection playerConfig, @NotNull AttachmentManager.AttachmentStorage storage,
+                                       @NotNull UUID playerUUID, @NotNull Logger logger) {
+        ConfigurationSection storedSection = playerConfig.getConfigurationSection("attachments.stored");
+        if (storedSection != null) {
+            for (String key : storedSection.getKeys(false)) {
+                int tier = key.startsWith("tier_") ? parseInt(key.substring(5), -1) : -1;
+                int amount = storedSection.getInt(key, 0);
+                if (amount <= 0) continue;
+                if (tier < 1 || tier > AttachmentManager.MAX_TIER) {
+                    logger.warning("[PlayerData] Invalid attachment tier '" + key + "' in data of " + playerUUID + ", dropped.");
+                    continue;
+                }
+                storage.addAttachment(tier, amount);
+            }
+        }
+
+        ConfigurationSection equippedSection = playerConfig.getConfigurationSection("attachments.equipped");
+        if (equippedSection != null) {
+            for (String key : equippedSection.getKeys(false)) {
+                int slot = key.startsWith("slot_") ? parseInt(key.substring(5), -1) : -1;
+                int tier = equippedSection.getInt(key, 0);
+                if (slot < 0 || slot >= AttachmentManager.MAX_EQUIPPED_ATTACHMENTS || tier < 1 || tier > AttachmentManager.MAX_TIER) {
+                    logger.warning("[PlayerData] Invalid equipped attachment '" + key + ": " + tier + "' in data of " + playerUUID + ", dropped.");
+                    continue;
+                }
+                storage.setEquippedAttachment(slot, tier);
+            }
+        }
+    }
+
+    public static void writeAttachments(@NotNull ConfigurationSection playerConfig, @NotNull AttachmentManager.AttachmentStorage storage) {
+        playerConfig.set("attachments", null); // Clear existing attachment data
+        for (int tier = 1; tier <= AttachmentManager.MAX_TIER; tier++) {
+            int count = storage.getAttachmentCount(tier);
+            if (count > 0) {
+                playerConfig.set("attachments.stored.tier_" + tier, count);
+            }
+        }
+        for (int slot = 0; slot < AttachmentManager.MAX_EQUIPPED_ATTACHMENTS; slot++) {
+            int tier = storage.getEquippedTier(slot);
+            if (tier > 0) {
+                playerConfig.set("attachments.equipped.slot_" + slot, tier);
+            }
+        }
+    }
+
+    private static int parseInt(@NotNull String value, int def) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+}
@@ -2,13 +2,13 @@ package com.strikesenchantcore.data;
 
 import com.strikesenchantcore.EnchantCore;
 import com.strikesenchantcore.config.PickaxeConfig;
-import com.strikesenchantcore.managers.AttachmentManager;
 import com.strikesenchantcore.managers.MortarDataManager;
+import com.strikesenchantcore.util.NumberFormatUtil;
+import com.strikesenchantcore.util.PerfStats;
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.InvalidConfigurationException;
-import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
@@ -20,21 +20,70 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+/**
+ * Loads, caches and saves {@link PlayerData}. The cache has two tiers:
+ * <ul>
+ *   <li>Online: data of online players, held until they quit.</li>
+ *   <li>Offline: data loaded for players who aren't online (e.g. charity recipients, admin commands),
+ *       kept in an LRU bounded by Player-Data-Cache.Offline-Max-Entries and dropped after
+ *       Offline-Expire-Seconds without access. Evicted entries are saved first.</li>
+ * </ul>
+ * Entries move between the tiers on join and in a periodic sweep. An entry that is being saved after
+ * eviction or quit stays reachable until the write finishes, so a quick reload never reads a stale file.
+ */
 public class PlayerDataManager {
 
     private final EnchantCore plugin;
     private final Logger logger;
     private final File dataFolder;
-    private final ConcurrentHashMap<UUID, PlayerData> playerDataCache = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, PlayerData> onlineCache = new ConcurrentHashMap<>();
+    private final LinkedHashMap<UUID, OfflineEntry> offlineCache = new LinkedHashMap<>(64, 0.75f, true); // Access order; guarded by itself
+    private final ConcurrentHashMap<UUID, PlayerData> savingOnEvict = new ConcurrentHashMap<>(); // Evicted/unloaded, save not yet written
+    private final ConcurrentHashMap<UUID, Integer> releaseWrites = new ConcurrentHashMap<>(); // Per player: saveAndRelease writes not yet finished
+    private final AtomicInteger pendingSaves = new AtomicInteger(); // Async saves scheduled but not yet written
     private BukkitTask autoSaveTask;
+    private BukkitTask sweepTask;
     private static final long AUTO_SAVE_INTERVAL_TICKS = 5 * 60 * 20; // 5 minutes
+    private static final long SWEEP_INTERVAL_TICKS = 30 * 20; // 30 seconds
+
+    // Settings (Player-Data-Cache in config.yml)
+    private volatile int offlineMaxEntries = 200;
+    private volatile long offlineExpireMillis = 600_000L;
+
+    // Stats
+    private final AtomicLong onlineHits = new AtomicLong();
+    private final AtomicLong offlineHits = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong(); // Misses: read from disk or created
+    private final AtomicLong evictions = new AtomicLong();
+    private volatile long estimatedBytes = 0L; // Refreshed by the sweep
+
+    // Rough retained size of one cached player (PlayerData, mortar data, crystal and attachment arrays, cache entry)
+    private static final long ENTRY_BYTES = 1024L;
+
+    /**
+     * Offline tier entry.
+     */
+    private static final class OfflineEntry {
+        private final PlayerData data;
+        private long lastAccessMillis;
+
+        private OfflineEntry(PlayerData data, long lastAccessMillis) {
+            this.data = data;
+            this.lastAccessMillis = lastAccessMillis;
+        }
+    }
 
     public PlayerDataManager(EnchantCore plugin) {
         this.plugin = plugin;
@@ -48,13 +97,36 @@ public class PlayerDataManager {
             }
         }
         startAutoSaveTask();
+        startSweepTask();
     }
 
+    /**
+     * Loads the cache settings (Player-Data-Cache in config.yml) and trims the offline tier to the new size.
+     * @param section The config section, may be null to use defaults.
+     */
+    public void load(@Nullable ConfigurationSection section) {
+        offlineMaxEntries = (section != null) ? Math.max(1, section.getInt("Offline-Max-Entries", 200)) : 200;
+        long expireSeconds = (section != null) ? section.getLong("Offline-Expire-Seconds", 600L) : 600L;
+        if (expireSeconds < 30L) {
+            logger.warning("[PlayerData] Player-Data-Cache.Offline-Expire-Seconds " + expireSeconds + " is below 30, using 30.");
+            expireSeconds = 30L;
+        }
+        offlineExpireMillis = expireSeconds * 1000L;
+        evictAll(trimOffline(System.currentTimeMillis(), false));
+    }
+
+    /**
+     * Loads a player's data, from the cache if present. Call on join: a cached offline entry of an
+     * online player is moved to the online tier.
+     */
     @Nullable
     public PlayerData loadPlayerData(@NotNull UUID playerUUID) {
-        if (playerDataCache.containsKey(playerUUID)) {
-            return playerDataCache.get(playerUUID);
+        PlayerData cached = lookup(playerUUID);
+        if (cached != null) {
+            if (Bukkit.getPlayer(playerUUID) != null) promote(playerUUID, cached);
+            return cached;
         }
+        loads.incrementAndGet();
 
         final boolean debug = plugin.getConfigManager().isDebugMode();
         File playerFile = getPlayerFile(playerUUID);
@@ -87,42 +159,14 @@ public class PlayerDataManager {
                 data.setBlockBoosterEndTime(boosterEndTime);
                 data.setBlockBoosterMultiplier(boosterMultiplier);
 
-                // Load crystal data
-                ConfigurationSection crystalsSection = playerConfig.getConfigurationSection("crystals");
-                if (crystalsSection != null) {
-                    ConfigurationSection storageSection = crystalsSection.getConfigurationSection("storage");
-                    if (storageSection != null) {
-                        Map<String, Integer> crystalStorage = new HashMap<>();
-                        for (String key : storageSection.getKeys(false)) {
-                            crystalStorage.put(key, storageSection.getInt(key));
-                        }
-                        data.setCrystalStorage(crystalStorage);
-                    }
-
-                    ConfigurationSection equippedSection = crystalsSection.getConfigurationSection("equipped");
-                    if (equippedSection != null) {
-                        Map<Integer, String> equippedCrystals = new HashMap<>();
-                        for (String key : equippedSection.getKeys(false)) {
-                            try {
-                                int slot = Integer.parseInt(key);
-                                String crystalType = equippedSection.getString(key);
-                                if (crystalType != null && !crystalType.isEmpty()) {
-                                    equippedCrystals.put(slot, crystalType);
-                                }
-                            } catch (NumberFormatException e) {
-                                // Skip invalid keys
-                            }
-                        }
-                        data.setEquippedCrystals(equippedCrystals);
-                    }
-                }
+                PlayerDataCodec.readCrystals(playerConfig, data.getCrystals(), playerUUID, logger);
 
                 // --- MODIFIED: Load Mortar Data using the helper ---
                 if (playerConfig.isConfigurationSection("mortar")) {
                     data.setMortarData(MortarDataManager.loadFromPlayerData(playerConfig));
                 }
 
-                loadAttachmentData(playerConfig, playerUUID);
+                PlayerDataCodec.readAttachments(playerConfig, data.getAttachments(), playerUUID, logger);
 
                 if (debug) logger.fine("[PlayerData] Loaded data for " + playerUUID + " from file.");
 
@@ -146,7 +190,11 @@ public class PlayerDataManager {
         }
 
         if (data != null) {
-            playerDataCache.put(playerUUID, data);
+            if (Bukkit.getPlayer(playerUUID) != null) {
+                onlineCache.put(playerUUID, data);
+            } else {
+                putOffline(playerUUID, data);
+            }
         }
         return data;
     }
@@ -166,101 +214,101 @@ public class PlayerDataManager {
     }
 
     public void savePlayerData(@Nullable PlayerData data, boolean async) {
+        savePlayerData(data, async, null);
+    }
+
+    /** @param afterWrite Runs once the file is written (or the write failed), on the saving thread. */
+    private void savePlayerData(@Nullable PlayerData data, boolean async, @Nullable Runnable afterWrite) {
         if (data == null) return;
 
         final UUID playerUUID = data.getPlayerUUID();
         final boolean debug = plugin.getConfigManager().isDebugMode();
 
         Runnable saveTask = () -> {
-            File playerFile = getPlayerFile(playerUUID);
-            YamlConfiguration playerConfig = new YamlConfiguration();
-
-            OfflinePlayer offlinePlayer = Bukkit.getOfflinePlayer(playerUUID);
-            playerConfig.set("player_name", offlinePlayer.getName() != null ? offlinePlayer.getName() : playerUUID.toString());
-            playerConfig.set("pickaxe.level", data.getPickaxeLevel());
-            playerConfig.set("pickaxe.blocks_mined", data.getBlocksMined());
-            playerConfig.set("settings.showEnchantMessages", data.isShowEnchantMessages());
-            playerConfig.set("settings.showEnchantSounds", data.isShowEnchantSounds());
-            playerConfig.set("currency.tokens", data.getTokens());
-            playerConfig.set("currency.gems", data.getGems());
-            playerConfig.set("boosters.block.endTime", data.getBlockBoosterEndTime());
-            playerConfig.set("boosters.block.multiplier", data.getRawBlockBoosterMultiplier());
-
-            saveCrystalData(playerConfig, data);
-
-            // --- MODIFIED: Save Mortar Data using the helper ---
-            MortarDataManager.saveToPlayerData(playerConfig, data.getMortarData());
-
-            saveAttachmentData(playerConfig, data.getPlayerUUID());
-
+            long start = System.nanoTime();
             try {
-                if (!dataFolder.exists()) {
-                    if (!dataFolder.mkdirs()) {
-                        logger.severe("Could not create playerdata directory during save! Path: " + dataFolder.getAbsolutePath());
-                        return;
-                    }
-                }
-                playerConfig.set("test.timestamp", System.currentTimeMillis());
-                playerConfig.save(playerFile);
-                if (debug && async) logger.finest("[PlayerData] Async save complete for " + playerUUID);
-            } catch (IOException e) {
-                logger.log(Level.SEVERE, "Could not save player data for UUID: " + playerUUID + " (Name: " + (offlinePlayer.getName() != null ? offlinePlayer.getName() : "N/A") + ") to file: " + playerFile.getName(), e);
+                writePlayerFile(data, playerUUID, async, debug);
+            } finally {
+                PerfStats.PLAYER_SAVE.recordSince(start);
+                if (async) pendingSaves.decrementAndGet();
+                if (afterWrite != null) afterWrite.run();
             }
         };
 
         if (async) {
             if (plugin.isEnabled()) {
+                pendingSaves.incrementAndGet();
                 Bukkit.getScheduler().runTaskAsynchronously(plugin, saveTask);
             } else {
                 if (debug) logger.warning("[PlayerData] Plugin disabled, cannot schedule async save for " + playerUUID);
+                if (afterWrite != null) afterWrite.run();
             }
         } else {
             saveTask.run();
         }
     }
 
+    /** Builds and writes the player's YAML file. Runs on whichever thread savePlayerData chose. */
+    private void writePlayerFile(PlayerData data, UUID playerUUID, boolean async, boolean debug) {
+        File playerFile = getPlayerFile(playerUUID);
+        YamlConfiguration playerConfig = new YamlConfiguration();
+
+        OfflinePlayer offlinePlayer = Bukkit.getOfflinePlayer(playerUUID);
+        playerConfig.set("player_name", offlinePlayer.getName() != null ? offlinePlayer.getName() : playerUUID.toString());
+        playerConfig.set("pickaxe.level", data.getPickaxeLevel());
+        playerConfig.set("pickaxe.blocks_mined", data.getBlocksMined());
+        playerConfig.set("settings.showEnchantMessages", data.isShowEnchantMessages());
+        playerConfig.set("settings.showEnchantSounds", data.isShowEnchantSounds());
+        playerConfig.set("currency.tokens", data.getTokens());
+        playerConfig.set("currency.gems", data.getGems());
+        playerConfig.set("boosters.block.endTime", data.getBlockBoosterEndTime());
+        playerConfig.set("boosters.block.multiplier", data.getRawBlockBoosterMultiplier());
+
+        PlayerDataCodec.writeCrystals(playerConfig, data.getCrystals());
+
+        // --- MODIFIED: Save Mortar Data using the helper ---
+        MortarDataManager.saveToPlayerData(playerConfig, data.getMortarData());
+
+        PlayerDataCodec.writeAttachments(playerConfig, data.getAttachments());
+
+        try {
+            if (!dataFolder.exists()) {
+                if (!dataFolder.mkdirs()) {
+                    logger.severe("Could not create playerdata directory during save! Path: " + dataFolder.getAbsolutePath());
+                    return;
+                }
+            }
+            playerConfig.set("test.timestamp", System.currentTimeMillis());
+            playerConfig.save(playerFile);
+            if (debug && async) logger.finest("[PlayerData] Async save complete for " + playerUUID);
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Could not save player data for UUID: " + playerUUID + " (Name: " + (offlinePlayer.getName() != null ? offlinePlayer.getName() : "N/A") + ") to file: " + playerFile.getName(), e);
+        }
+    }
+
+    /** Saves every cached player, online and offline tier. */
     public void saveAllPlayerData(boolean syncOnDisable) {
-        if (playerDataCache.isEmpty()) return;
+        List<PlayerData> toSave = new ArrayList<>(onlineCache.values());
+        synchronized (offlineCache) {
+            for (OfflineEntry entry : offlineCache.values()) toSave.add(entry.data);
+        }
+        if (syncOnDisable) toSave.addAll(savingOnEvict.values()); // Their async writes may never run
+        if (toSave.isEmpty()) return;
 
-        int cacheSize = playerDataCache.size();
+        int cacheSize = toSave.size();
         logger.info("Saving data for " + cacheSize + " cached players...");
         long startTime = System.currentTimeMillis();
 
         boolean performAsync = !syncOnDisable;
 
-        for (Map.Entry<UUID, PlayerData> entry : playerDataCache.entrySet()) {
-            if (entry.getValue() != null) {
-                savePlayerData(entry.getValue(), performAsync);
-            }
+        for (PlayerData data : toSave) {
+            savePlayerData(data, performAsync);
         }
 
         long duration = System.currentTimeMillis() - startTime;
         logger.info("Player data saving triggered (" + (performAsync ? "asynchronously" : "synchronously") + "). Count: " + cacheSize + ". Approx time if sync: " + duration + "ms.");
     }
 
-    private void saveCrystalData(FileConfiguration config, PlayerData playerData) {
-        Map<String, Integer> crystals = playerData.getCrystalStorage();
-        Map<Integer, String> equipped = playerData.getEquippedCrystals();
-
-        // Clear existing crystal data to prevent orphaned entries
-        config.set("crystals", null);
-
-        if (crystals != null && !crystals.isEmpty()) {
-            config.set("crystals.storage", crystals);
-        }
-
-        if (equipped != null && !equipped.isEmpty()) {
-            // To ensure keys are saved as strings in YAML
-            Map<String, String> equippedStringKeys = new HashMap<>();
-            equipped.forEach((slot, type) -> equippedStringKeys.put(String.valueOf(slot), type));
-            config.set("crystals.equipped", equippedStringKeys);
-        }
-
-        if (plugin.getConfigManager().isDebugMode()) {
-            logger.info("DEBUG: Saved crystal data - Storage: " + crystals + ", Equipped: " + equipped);
-        }
-    }
-
     public void debugSaveTest(UUID playerId) {
         PlayerData data = getPlayerData(playerId);
         if (data == null) {
@@ -276,106 +324,201 @@ public class PlayerDataManager {
         logger.info("DEBUG: Save completed");
     }
 
-    private void saveAttachmentData(ConfigurationSection section, UUID playerId) {
-        plugin.getLogger().info("DEBUG: saveAttachmentData called for player " + playerId);
-        AttachmentManager attachmentManager = plugin.getAttachmentManager();
-        if (attachmentManager == null) return;
+    @Nullable
+    public PlayerData getPlayerData(@NotNull UUID playerUUID) {
+        PlayerData cached = lookup(playerUUID);
+        return (cached != null) ? cached : loadPlayerData(playerUUID);
+    }
 
-        AttachmentManager.AttachmentStorage storage = attachmentManager.getPlayerStorage(playerId);
+    public void unloadPlayerData(@NotNull UUID playerUUID, boolean saveBeforeUnload) {
+        PlayerData data = onlineCache.remove(playerUUID);
+        synchronized (offlineCache) {
+            OfflineEntry entry = offlineCache.remove(playerUUID);
+            if (data == null && entry != null) data = entry.data;
+        }
+        if (data != null && saveBeforeUnload) {
+            saveAndRelease(playerUUID, data);
+        }
+        if (plugin.getConfigManager().isDebugMode()) {
+            logger.fine("[PlayerData] Unloaded data for " + playerUUID + " (Save before unload: " + saveBeforeUnload + ")");
+        }
+    }
+
+    public void loadOnlinePlayers() {
+        int count = 0;
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (!onlineCache.containsKey(player.getUniqueId())) {
+                loadPlayerData(player.getUniqueId());
+                count++;
+            }
+        }
+        if (count > 0) {
+            logger.info("Loaded data for " + count + " newly joined/online players.");
+        }
+    }
 
-        // Clear existing attachment data
-        section.set("attachments", null);
+    // --- Cache Tiers ---
 
-        // Save stored attachments
-        Map<Integer, Integer> attachments = storage.getAllAttachments();
-        for (Map.Entry<Integer, Integer> entry : attachments.entrySet()) {
-            if (entry.getValue() > 0) {
-                section.set("attachments.stored.tier_" + entry.getKey(), entry.getValue());
+    /** @return The cached data in any tier (counting a hit), or null on a miss. */
+    @Nullable
+    private PlayerData lookup(@NotNull UUID playerUUID) {
+        PlayerData data = onlineCache.get(playerUUID);
+        if (data != null) {
+            onlineHits.incrementAndGet();
+            return data;
+        }
+        synchronized (offlineCache) {
+            OfflineEntry entry = offlineCache.get(playerUUID); // Moves it to the most recently used end
+            if (entry != null) {
+                entry.lastAccessMillis = System.currentTimeMillis();
+                offlineHits.incrementAndGet();
+                return entry.data;
+            }
+            // Still being written after eviction or quit: take the instance back instead of reading a stale file
+            data = savingOnEvict.remove(playerUUID);
+            if (data != null) {
+                offlineCache.put(playerUUID, new OfflineEntry(data, System.currentTimeMillis()));
+                offlineHits.incrementAndGet();
             }
         }
+        if (data != null) evictAll(trimOffline(System.currentTimeMillis(), false));
+        return data;
+    }
 
-        // Save equipped attachments
-        Map<Integer, Integer> equipped = storage.getEquippedMap();
-        for (Map.Entry<Integer, Integer> entry : equipped.entrySet()) {
-            section.set("attachments.equipped.slot_" + entry.getKey(), entry.getValue());
+    private void putOffline(@NotNull UUID playerUUID, @NotNull PlayerData data) {
+        synchronized (offlineCache) {
+            offlineCache.put(playerUUID, new OfflineEntry(data, System.currentTimeMillis()));
         }
+        evictAll(trimOffline(System.currentTimeMillis(), false));
     }
 
-    private void loadAttachmentData(ConfigurationSection section, UUID playerId) {
-        AttachmentManager attachmentManager = plugin.getAttachmentManager();
-        if (attachmentManager == null || !section.contains("attachments")) return;
-
-        AttachmentManager.AttachmentStorage storage = attachmentManager.getPlayerStorage(playerId);
-
-        // Load stored attachments
-        if (section.contains("attachments.stored")) {
-            ConfigurationSection storedSection = section.getConfigurationSection("attachments.stored");
-            for (String key : storedSection.getKeys(false)) {
-                if (key.startsWith("tier_")) {
-                    try {
-                        int tier = Integer.parseInt(key.substring(5));
-                        int amount = storedSection.getInt(key, 0);
-                        if (amount > 0) {
-                            storage.addAttachment(tier, amount);
-                        }
-                    } catch (NumberFormatException e) {
-                        plugin.getLogger().warning("Invalid attachment tier in save data: " + key);
-                    }
-                }
-            }
+    /** Moves an entry of a player who is now online into the online tier. */
+    private void promote(@NotNull UUID playerUUID, @NotNull PlayerData data) {
+        synchronized (offlineCache) {
+            OfflineEntry entry = offlineCache.get(playerUUID);
+            if (entry != null && entry.data == data) offlineCache.remove(playerUUID);
         }
+        onlineCache.putIfAbsent(playerUUID, data);
+    }
 
-        // Load equipped attachments
-        if (section.contains("attachments.equipped")) {
-            ConfigurationSection equippedSection = section.getConfigurationSection("attachments.equipped");
-            for (String key : equippedSection.getKeys(false)) {
-                if (key.startsWith("slot_")) {
-                    try {
-                        int slot = Integer.parseInt(key.substring(5));
-                        int tier = equippedSection.getInt(key, 0);
-                        if (tier > 0 && slot >= 0 && slot < AttachmentManager.MAX_EQUIPPED_ATTACHMENTS) {
-                            storage.setEquippedAttachment(slot, tier);
-                        }
-                    } catch (NumberFormatException e) {
-                        plugin.getLogger().warning("Invalid attachment slot in save data: " + key);
-                    }
+    /**
+     * Removes offline entries over the size limit (least recently used first) and, if requested,
+     * entries idle for longer than the expiry.
+     * @return The removed entries, to be saved outside the lock.
+     */
+    @NotNull
+    private List<PlayerData> trimOffline(long now, boolean expire) {
+        List<PlayerData> evicted = new ArrayList<>();
+        synchronized (offlineCache) {
+            Iterator<OfflineEntry> iterator = offlineCache.values().iterator();
+            int size = offlineCache.size();
+            while (iterator.hasNext()) {
+                OfflineEntry entry = iterator.next(); // Least recently used first
+                boolean overLimit = size > offlineMaxEntries;
+                if (!overLimit && !(expire && now - entry.lastAccessMillis >= offlineExpireMillis)) {
+                    if (!expire) break; // Only the size limit: everything after is newer
+                    continue;
                 }
+                iterator.remove();
+                size--;
+                evicted.add(entry.data);
             }
         }
+        return evicted;
     }
 
-    @Nullable
-    public PlayerData getPlayerData(@NotNull UUID playerUUID) {
-        if (playerDataCache.containsKey(playerUUID)) {
-            return playerDataCache.get(playerUUID);
+    private void evictAll(@NotNull List<PlayerData> evicted) {
+        for (PlayerData data : evicted) {
+            evictions.incrementAndGet();
+            saveAndRelease(data.getPlayerUUID(), data);
         }
-        return loadPlayerData(playerUUID);
     }
 
-    public void unloadPlayerData(@NotNull UUID playerUUID, boolean saveBeforeUnload) {
-        PlayerData data = playerDataCache.get(playerUUID);
-        if (data != null && saveBeforeUnload) {
-            savePlayerData(data, true);
+    /**
+     * Saves data leaving the cache, keeping it reachable through {@link #lookup} until the write is done.
+     * The same entry can be taken back and released again while its first write is still running, so the
+     * writes are counted per player and the entry is only dropped once the last one has finished.
+     */
+    private void saveAndRelease(@NotNull UUID playerUUID, @NotNull PlayerData data) {
+        releaseWrites.compute(playerUUID, (uuid, writes) -> {
+            savingOnEvict.put(uuid, data);
+            return (writes == null) ? 1 : writes + 1;
+        });
+        savePlayerData(data, plugin.isEnabled(), () -> releaseWrites.computeIfPresent(playerUUID, (uuid, writes) -> {
+            if (writes > 1) return writes - 1;
+            savingOnEvict.remove(uuid); // Every write is on disk, the file is current
+            return null;
+        }));
+    }
+
+    /**
+     * Main-thread sweep: moves entries between tiers to match who is online (covering players loaded
+     * while offline who then joined, and online entries left behind without a quit event), expires idle
+     * offline entries and refreshes the memory estimate.
+     */
+    private void sweep() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<UUID, PlayerData> entry : onlineCache.entrySet()) {
+            if (Bukkit.getPlayer(entry.getKey()) == null && onlineCache.remove(entry.getKey(), entry.getValue())) {
+                synchronized (offlineCache) {
+                    offlineCache.putIfAbsent(entry.getKey(), new OfflineEntry(entry.getValue(), now));
+                }
+            }
         }
-        playerDataCache.remove(playerUUID);
-        if (plugin.getConfigManager().isDebugMode()) {
-            logger.fine("[PlayerData] Unloaded data for " + playerUUID + " (Save before unload: " + saveBeforeUnload + ")");
+        List<PlayerData> toPromote = new ArrayList<>();
+        synchronized (offlineCache) {
+            for (Map.Entry<UUID, OfflineEntry> entry : offlineCache.entrySet()) {
+                if (Bukkit.getPlayer(entry.getKey()) != null) toPromote.add(entry.getValue().data);
+            }
         }
+        for (PlayerData data : toPromote) promote(data.getPlayerUUID(), data);
+        evictAll(trimOffline(now, true));
+        estimatedBytes = estimateBytes();
     }
 
-    public void loadOnlinePlayers() {
-        int count = 0;
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (!playerDataCache.containsKey(player.getUniqueId())) {
-                loadPlayerData(player.getUniqueId());
-                count++;
+    private long estimateBytes() {
+        return ENTRY_BYTES * (getOnlineCacheSize() + getOfflineCacheSize() + savingOnEvict.size());
+    }
+
+    private void startSweepTask() {
+        sweepTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                sweep();
             }
-        }
-        if (count > 0) {
-            logger.info("Loaded data for " + count + " newly joined/online players.");
+        }.runTaskTimer(plugin, SWEEP_INTERVAL_TICKS, SWEEP_INTERVAL_TICKS);
+    }
+
+    // --- Cache Stats ---
+
+    public int getOnlineCacheSize() { return onlineCache.size(); }
+
+    public int getOfflineCacheSize() {
+        synchronized (offlineCache) {
+            return offlineCache.size();
         }
     }
 
+    public int getOfflineMaxEntries() { return offlineMaxEntries; }
+    public long getOnlineHits() { return onlineHits.get(); }
+    public long getOfflineHits() { return offlineHits.get(); }
+    /** @return Lookups that had to read the player's file (or create default data). */
+    public long getLoads() { return loads.get(); }
+    public long getEvictions() { return evictions.get(); }
+    /** @return Rough memory held by cached player data, refreshed every sweep (30s). */
+    public long getEstimatedBytes() { return estimatedBytes; }
+
+    /** One-line status for /enchantcore perf. */
+    @NotNull
+    public String getStatusLine() {
+        long hits = onlineHits.get() + offlineHits.get();
+        long total = hits + loads.get();
+        String hitRatio = (total > 0) ? NumberFormatUtil.formatFixed(hits * 100.0 / total, 1) + "%" : "-";
+        return "&7Player cache: &f" + getOnlineCacheSize() + " online, " + getOfflineCacheSize() + "/" + offlineMaxEntries
+                + " offline &8(hits " + hitRatio + ", " + loads.get() + " loads, " + evictions.get() + " evictions, ~"
+                + NumberFormatUtil.formatFixed(estimatedBytes / 1024.0, 0) + " KB)";
+    }
+
     @NotNull
     private File getPlayerFile(@NotNull UUID playerUUID) {
         return new File(dataFolder, playerUUID.toString() + ".yml");
@@ -392,9 +535,10 @@ public class PlayerDataManager {
         autoSaveTask = new BukkitRunnable() {
             @Override
             public void run() {
-                if (!playerDataCache.isEmpty()) {
+                int cached = getOnlineCacheSize() + getOfflineCacheSize();
+                if (cached > 0) {
                     if (plugin.getConfigManager().isDebugMode()) {
-                        logger.fine("[Debug] Auto-saving player data (" + playerDataCache.size() + " players)...");
+                        logger.fine("[Debug] Auto-saving player data (" + cached + " players)...");
                     }
                     saveAllPlayerData(false);
                 }
@@ -403,7 +547,19 @@ public class PlayerDataManager {
         logger.info("Player data auto-save task started (Interval: " + (AUTO_SAVE_INTERVAL_TICKS / 20.0) + " seconds).");
     }
 
+    /** @return Async saves that have been scheduled but not written yet. */
+    public int getPendingSaves() {
+        return pendingSaves.get();
+    }
+
+    /** Stops the auto-save task and the cache sweep. */
     public void stopAutoSaveTask() {
+        if (sweepTask != null) {
+            try {
+                sweepTask.cancel();
+            } catch (IllegalStateException ignore) {}
+            sweepTask = null;
+        }
         if (autoSaveTask != null && !autoSaveTask.isCancelled()) {
             try {
                 autoSaveTask.cancel();
@@ -0,0 +1,172 @@
+package com.strikesenchantcore.enchants;
+
+/**
+ * The upgrade cost curve of one enchant (CostFormula, Cost, IncreaseCostBy and MaxLevel from enchants.yml).
+ * Immutable and free of any server state, so it is built once per load and can be unit tested directly.
+ * <ul>
+ *     <li>LINEAR: cost(L) = max(0, base + increase * (L - 1))</li>
+ *     <li>EXPONENTIAL: cost(L) = base * max(1.00001, increase)^(L - 1)</li>
+ * </ul>
+ */
+public final class EnchantCost {
+
+    private static final double MIN_MULTIPLIER = 1.00001; // Exponential costs must grow
+
+    private final boolean exponential;
+    private final double base;
+    private final double increase;
+    private final int maxLevel; // 0 or less = unlimited
+
+    /**
+     * @param formula  "LINEAR" or "EXPONENTIAL" (anything else is treated as LINEAR).
+     * @param base     Cost of level 1.
+     * @param increase Per-level increment (LINEAR) or multiplier (EXPONENTIAL).
+     * @param maxLevel Highest level, 0 or less for unlimited.
+     */
+    public EnchantCost(String formula, double base, double increase, int maxLevel) {
+        this.exponential = "EXPONENTIAL".equalsIgnoreCase(formula);
+        this.base = base;
+        this.increase = increase;
+        this.maxLevel = maxLevel;
+    }
+
+    /**
+     * Calculates the cost to upgrade TO a specific target level.
+     *
+     * @param targetLevel The level being upgraded TO (e.g., 1 for cost of level 1, 2 for cost of level 2).
+     * @return The calculated cost, or -1.0 if targetLevel is invalid or exceeds max level. Returns Double.MAX_VALUE on overflow.
+     */
+    public double forLevel(int targetLevel) {
+        // --- Validation ---
+        if (targetLevel <= 0) return -1.0; // Cannot upgrade to level 0 or less
+        if (maxLevel > 0 && targetLevel > maxLevel) return -1.0; // Cannot upgrade beyond max level
+        // --- End Validation ---
+
+        double calculatedCost;
+        int levelFactor = Math.max(0, targetLevel - 1); // Number of upgrade steps taken (0 for level 1, 1 for level 2, etc.)
+
+        if (exponential) {
+            // Cost formula: base * (multiplier ^ (targetLevel - 1))
+            calculatedCost = base; // Cost for level 1
+            if (targetLevel > 1) {
+                double effectiveMultiplier = Math.max(MIN_MULTIPLIER, increase);
+                // Check for potential overflow BEFORE calculation
+                if (base > 0 && (levelFactor * Math.log(effectiveMultiplier) + Math.log(base) > Math.log(Double.MAX_VALUE))) {
+                    return Double.MAX_VALUE;
+                }
+                calculatedCost *= Math.pow(effectiveMultiplier, levelFactor);
+            }
+        } else { // LINEAR (or default)
+            // Cost formula: base + (increment * (targetLevel - 1))
+            // Check for potential overflow BEFORE calculation
+            if (increase > 0 && levelFactor > 0 && increase > (Double.MAX_VALUE - base) / levelFactor) {
+                return Double.MAX_VALUE;
+            }
+            if (increase < 0 && levelFactor > 0 && base < increase * -levelFactor) {
+                calculatedCost = 0; // Cost becomes 0 if increment makes it negative
+            } else {
+                calculatedCost = base + (increase * levelFactor);
+            }
+        }
+
+        if (Double.isInfinite(calculatedCost) || Double.isNaN(calculatedCost)) {
+            return Double.MAX_VALUE; // Overflow occurred
+        }
+        return Math.max(0.0, calculatedCost);
+    }
+
+    /**
+     * Calculates the total cost of upgrading from {@code currentLevel} to {@code targetLevel}
+     * (the sum of {@link #forLevel} for every level in between) in constant time,
+     * using the arithmetic series for LINEAR and the geometric series for EXPONENTIAL costs.
+     *
+     * @param currentLevel The level the enchant is at now (0 if not applied).
+     * @param targetLevel  The level being upgraded TO.
+     * @return The total cost, 0.0 if targetLevel <= currentLevel, -1.0 if the range is invalid
+     *         or exceeds max level. Returns Double.MAX_VALUE on overflow.
+     */
+    public double forLevels(int currentLevel, int targetLevel) {
+        if (currentLevel < 0) return -1.0;
+        if (targetLevel <= currentLevel) return 0.0;
+        if (maxLevel > 0 && targetLevel > maxLevel) return -1.0;
+
+        double total;
+        if (exponential) {
+            // cost(L) = base * m^(L-1)  =>  sum over L in (current, target] = base * m^current * (m^n - 1) / (m - 1)
+            if (base <= 0) return 0.0;
+            double multiplier = Math.max(MIN_MULTIPLIER, increase); // Same floor as forLevel
+            int n = targetLevel - currentLevel;
+            double logMultiplier = Math.log(multiplier);
+            // Overflow check in log space: the largest single level costs base * m^(target-1)
+            if (Math.log(base) + (targetLevel - 1) * logMultiplier > Math.log(Double.MAX_VALUE)) {
+                return Double.MAX_VALUE;
+            }
+            total = base * Math.pow(multiplier, currentLevel) * (Math.expm1(n * logMultiplier) / (multiplier - 1.0));
+        } else { // LINEAR (or default)
+            // cost(L) = max(0, base + inc * (L-1)); with a negative increment costs reach 0 and stay there
+            long upper = targetLevel;
+            if (increase < 0) {
+                if (base <= 0) return 0.0;
+                long lastPaidLevel = (long) Math.floor(base / -increase) + 1L; // Last level with cost >= 0
+                upper = Math.min(upper, lastPaidLevel);
+                if (upper <= currentLevel) return 0.0;
+            } else if (base < 0) {
+                return forLevelsIterative(currentLevel, targetLevel); // Mixed signs: clamping at 0 breaks the series
+            }
+            long n = upper - currentLevel;
+            // Sum of (L - 1) for L in (current, upper] = current + ... + (upper - 1)
+            double stepSum = (double) n * (currentLevel + upper - 1) / 2.0;
+            total = n * base + increase * stepSum;
+        }
+
+        if (Double.isInfinite(total) || Double.isNaN(total)) {
+            return Double.MAX_VALUE;
+        }
+        return Math.max(0.0, total);
+    }
+
+    /**
+     * Reference implementation of {@link #forLevels} that sums per-level costs.
+     * Only used for configurations the closed forms don't cover (and by the tests).
+     */
+    double forLevelsIterative(int currentLevel, int targetLevel) {
+        double total = 0.0;
+        for (int level = currentLevel + 1; level <= targetLevel; level++) {
+            double levelCost = forLevel(level);
+            if (levelCost < 0) return -1.0;
+            if (levelCost > 0 && total > Double.MAX_VALUE - levelCost) return Double.MAX_VALUE;
+            total += levelCost;
+        }
+        return total;
+    }
+
+    /**
+     * Finds the highest level reachable from {@code currentLevel} whose total upgrade cost fits in the budget.
+     * Uses a binary search over the closed-form {@link #forLevels}, so it takes O(log levels) time
+     * regardless of how many levels can be bought.
+     *
+     * @param currentLevel The level the enchant is at now.
+     * @param budget       The amount of currency available.
+     * @param levelCap     Highest level to consider (e.g. to limit unlimited enchants); capped by max level.
+     * @return The highest affordable target level, or {@code currentLevel} if not even one level is affordable.
+     */
+    public int maxAffordableLevel(int currentLevel, double budget, int levelCap) {
+        int high = (maxLevel > 0) ? Math.min(maxLevel, levelCap) : levelCap;
+        if (high <= currentLevel || budget < 0) return currentLevel;
+
+        double fullCost = forLevels(currentLevel, high);
+        if (fullCost >= 0 && fullCost <= budget) return high;
+
+        int low = currentLevel; // Always affordable (cost 0)
+        while (low < high) {
+            int mid = low + (high - low + 1) / 2;
+            double midCost = forLevels(currentLevel, mid);
+            if (midCost >= 0 && midCost <= budget) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+}
@@ -1,7 +1,7 @@
 package com.strikesenchantcore.enchants;
 
 import com.strikesenchantcore.EnchantCore;
-import com.strikesenchantcore.config.EnchantManager; // Import EnchantManager
+import com.strikesenchantcore.config.ConfigManager;
 import org.bukkit.configuration.ConfigurationSection;
 import org.jetbrains.annotations.NotNull; // Import NotNull
 import org.jetbrains.annotations.Nullable;
@@ -14,42 +14,33 @@ import java.util.logging.Level;
 import java.util.logging.Logger; // Import Logger
 
 /**
- * Loads, stores, and provides access to all defined EnchantmentWrapper objects
- * based on the configuration retrieved from EnchantManager.
+ * Loads and provides access to all defined EnchantmentWrapper objects.
+ * The loaded enchantments are part of the current {@link com.strikesenchantcore.config.ConfigSnapshot}.
  */
 public class EnchantRegistry {
 
     private final EnchantCore plugin;
-    private final Logger logger; // Cache logger
-    // Use LinkedHashMap to preserve the order from enchants.yml if needed for GUI ordering etc.
-    private final Map<String, EnchantmentWrapper> registeredEnchants = new LinkedHashMap<>();
 
     public EnchantRegistry(@NotNull EnchantCore plugin) {
         this.plugin = plugin;
-        this.logger = plugin.getLogger();
     }
 
     /**
-     * Clears existing enchantments and loads/reloads all enabled enchantments
-     * from the configuration provided by EnchantManager.
-     * Should be called on plugin enable and reload (triggered by ConfigManager).
+     * Builds all enabled enchantments from the 'enchants' section of enchants.yml, compiling each
+     * one's Settings. ConfigManager calls this while it builds a snapshot (off the main thread
+     * during a reload); the registry serves the result once that snapshot is published.
+     *
+     * @param enchantsSection The 'enchants' section of the enchants.yml being loaded.
+     * @param defaultCurrency Settings.CurrencyType of the config.yml being loaded alongside.
+     * @param debug           Settings.Debug of the config.yml being loaded alongside.
+     * @return An unmodifiable map of the enabled enchantments keyed by lowercase RawName, in enchants.yml order.
      */
-    public void loadEnchantsFromConfig() {
-        registeredEnchants.clear(); // Clear previous entries before reload
-        final boolean debug = plugin.getConfigManager() != null && plugin.getConfigManager().isDebugMode(); // Check debug status
-
-        // Get the 'enchants' section from the loaded enchants.yml via EnchantManager
-        EnchantManager enchantManager = plugin.getEnchantManager();
-        if (enchantManager == null) {
-            logger.severe("Cannot load enchants: EnchantManager instance is null!");
-            return;
-        }
-        ConfigurationSection enchantsSection = enchantManager.getEnchantsSection();
-
-        if (enchantsSection == null) {
-            logger.severe("The 'enchants' section is missing in enchants.yml! No enchantments loaded.");
-            return; // Cannot proceed without the main section
-        }
+    @NotNull
+    public static Map<String, EnchantmentWrapper> compile(@NotNull EnchantCore plugin, @NotNull ConfigurationSection enchantsSection,
+                                                          @NotNull ConfigManager.CurrencyType defaultCurrency, boolean debug) {
+        final Logger logger = plugin.getLogger();
+        // Use LinkedHashMap to preserve the order from enchants.yml if needed for GUI ordering etc.
+        Map<String, EnchantmentWrapper> loaded = new LinkedHashMap<>();
 
         logger.info("Loading enchantments from configuration...");
         int loadedCount = 0;
@@ -65,19 +56,19 @@ public class EnchantRegistry {
 
             try {
                 // Create a wrapper object for this enchantment's configuration
-                EnchantmentWrapper wrapper = new EnchantmentWrapper(plugin, configKey, enchantConfig);
+                EnchantmentWrapper wrapper = new EnchantmentWrapper(plugin, configKey, enchantConfig, defaultCurrency, debug);
 
                 // Only register if the enchant is marked as enabled in its config
                 if (wrapper.isEnabled()) {
                     // Use the unique RawName (e.g., "efficiency") as the map key for reliable lookup
                     String rawNameKey = wrapper.getRawName().toLowerCase(); // Use lowercase for case-insensitive lookup
 
-                    if (registeredEnchants.containsKey(rawNameKey)) {
+                    if (loaded.containsKey(rawNameKey)) {
                         // Warn if an enchant with the same RawName is already registered
                         logger.warning("Duplicate RawName '" + rawNameKey + "' detected! Config key '" + configKey
                                 + "' is overwriting previous entry. Check enchants.yml for potential conflicts.");
                     }
-                    registeredEnchants.put(rawNameKey, wrapper);
+                    loaded.put(rawNameKey, wrapper);
                     loadedCount++;
                 } else {
                     // Keep track of disabled enchants for logging purposes
@@ -94,6 +85,13 @@ public class EnchantRegistry {
         }
 
         logger.info("Loaded " + loadedCount + " enabled enchantments (" + disabledCount + " disabled).");
+        return Collections.unmodifiableMap(loaded);
+    }
+
+    /** Replaced as a whole with the config snapshot, so lookups never see a half-loaded registry. */
+    @NotNull
+    private Map<String, EnchantmentWrapper> registeredEnchants() {
+        return plugin.getConfigManager().getSnapshot().getEnchants();
     }
 
     /**
@@ -109,7 +107,7 @@ public class EnchantRegistry {
             return null;
         }
         // Lookup is case-insensitive using the lowercase rawName key stored in the map
-        return registeredEnchants.get(rawName.toLowerCase());
+        return registeredEnchants().get(rawName.toLowerCase());
     }
 
     /**
@@ -122,7 +120,7 @@ public class EnchantRegistry {
     @NotNull
     public Collection<EnchantmentWrapper> getAllEnchants() {
         // Return an unmodifiable view to prevent accidental changes from outside this class
-        return Collections.unmodifiableCollection(registeredEnchants.values());
+        return Collections.unmodifiableCollection(registeredEnchants().values());
     }
 
     /**
@@ -133,7 +131,7 @@ public class EnchantRegistry {
      */
     @NotNull
     public Map<String, EnchantmentWrapper> getEnchantsMap() {
-        // Return an unmodifiable view
-        return Collections.unmodifiableMap(registeredEnchants);
+        // Already unmodifiable; replaced as a whole on reload
+        return registeredEnchants();
     }
-}
\ No newline at end of file
+}
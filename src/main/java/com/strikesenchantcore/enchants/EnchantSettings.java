@@ -0,0 +1,221 @@
+package com.strikesenchantcore.enchants;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Immutable, typed copy of an enchant's Settings section, compiled once when the enchant is loaded.
+ * Handlers read values from a flat map (no path walking) and string lists come back as shared
+ * unmodifiable lists instead of a fresh copy per proc. The level-scaled values handlers use on every
+ * proc (chance, radius, reward range, Overcharge charge) are resolved into {@link LevelScale}s and
+ * fields, so evaluating them for a level is one multiply-add. Getter semantics match Bukkit's
+ * {@code ConfigurationSection} (e.g. {@code getInt} truncates a decimal, non-numbers give the default).
+ * <p>
+ * A reload builds new instances, so a handler holding one keeps a consistent view.
+ */
+public final class EnchantSettings {
+
+    private final String enchantName;
+    private final Map<String, Object> values; // Full path -> leaf value (Number, Boolean, String, unmodifiable List<String>)
+    @NotNull private final ConfigurationSection raw; // For nested structures read rarely (e.g. piñata rewards)
+
+    // --- Precompiled level scales ---
+    private final LevelScale chance;
+    private final boolean chanceConfigured; // ChanceBase key present, numeric or not
+    private final LevelScale radius;
+    private final LevelScale rewardMin;
+    private final LevelScale rewardMax;
+    private final int chargeBase;     // Overcharge BlocksToChargeBase
+    private final int chargeDecrease; // Overcharge BlocksToChargeDecreasePerLevel
+
+    /**
+     * A value that grows linearly with the enchant level: base + increase * (level - 1).
+     * Parts missing from the config fall back to the defaults the caller passes in, so each
+     * handler keeps its own defaults without a config lookup.
+     */
+    public static final class LevelScale {
+        private final boolean hasBase;
+        private final boolean hasIncrease;
+        private final double base;
+        private final double increase;
+        private final long longBase;
+        private final long longIncrease;
+
+        private LevelScale(@Nullable Number base, @Nullable Number increase) {
+            this.hasBase = base != null;
+            this.hasIncrease = increase != null;
+            this.base = (base != null) ? base.doubleValue() : 0.0;
+            this.increase = (increase != null) ? increase.doubleValue() : 0.0;
+            this.longBase = (base != null) ? base.longValue() : 0L;
+            this.longIncrease = (increase != null) ? increase.longValue() : 0L;
+        }
+
+        public boolean hasBase() { return hasBase; }
+
+        public double at(int level, double defaultBase, double defaultIncrease) {
+            return (hasBase ? base : defaultBase) + (hasIncrease ? increase : defaultIncrease) * Math.max(0, level - 1);
+        }
+
+        /** Integer variant; each part is truncated first, like {@code getLong}. */
+        public long atLong(int level, long defaultBase, long defaultIncrease) {
+            return (hasBase ? longBase : defaultBase) + (hasIncrease ? longIncrease : defaultIncrease) * Math.max(0, level - 1);
+        }
+
+        public int atInt(int level, int defaultBase, int defaultIncrease) {
+            return (int) atLong(level, defaultBase, defaultIncrease);
+        }
+    }
+
+    private EnchantSettings(String enchantName, ConfigurationSection raw, Map<String, Object> values) {
+        this.enchantName = enchantName;
+        this.raw = raw;
+        this.values = values;
+        this.chance = scale("ChanceBase", "ChanceIncreasePerLevel");
+        this.chanceConfigured = values.containsKey("ChanceBase");
+        this.radius = scale("RadiusBase", "RadiusIncreasePerLevel");
+        this.rewardMin = scale("RewardMinBase", "RewardMinIncreasePerLevel");
+        this.rewardMax = scale("RewardMaxBase", "RewardMaxIncreasePerLevel");
+        this.chargeBase = getInt("BlocksToChargeBase", 500);
+        this.chargeDecrease = getInt("BlocksToChargeDecreasePerLevel", 10);
+    }
+
+    /**
+     * Compiles a Settings section and reports suspicious values once, at load.
+     * @return The compiled settings, or null if the section is null.
+     */
+    @Nullable
+    public static EnchantSettings compile(@NotNull String enchantName, @Nullable ConfigurationSection section, @NotNull Logger logger) {
+        if (section == null) return null;
+
+        Map<String, Object> values = new HashMap<>();
+        for (Map.Entry<String, Object> entry : section.getValues(true).entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof ConfigurationSection) continue;
+            values.put(entry.getKey(), (value instanceof List) ? toStringList((List<?>) value) : value);
+        }
+
+        EnchantSettings settings = new EnchantSettings(enchantName, section, Collections.unmodifiableMap(values));
+        settings.validate(logger);
+        return settings;
+    }
+
+    /** Same conversion as {@code ConfigurationSection.getStringList}, done once. */
+    private static List<String> toStringList(List<?> list) {
+        List<String> result = new ArrayList<>(list.size());
+        for (Object element : list) {
+            if (element instanceof String || element instanceof Number || element instanceof Boolean || element instanceof Character) {
+                result.add(String.valueOf(element));
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private LevelScale scale(String baseKey, String increaseKey) {
+        Object base = values.get(baseKey);
+        Object increase = values.get(increaseKey);
+        return new LevelScale((base instanceof Number) ? (Number) base : null, (increase instanceof Number) ? (Number) increase : null);
+    }
+
+    private void validate(Logger logger) {
+        for (String key : new String[]{"ChanceBase", "ChanceIncreasePerLevel", "RadiusBase", "RadiusIncreasePerLevel",
+                "RewardMinBase", "RewardMinIncreasePerLevel", "RewardMaxBase", "RewardMaxIncreasePerLevel",
+                "BlocksToChargeBase", "BlocksToChargeDecreasePerLevel"}) {
+            Object value = values.get(key);
+            if (value != null && !(value instanceof Number)) {
+                logger.warning("Enchant '" + enchantName + "' Settings." + key + " is not a number ('" + value + "'); the default is used.");
+            }
+        }
+        if (chance.hasBase() && (chance.base < 0.0 || chance.base > 1.0)) {
+            logger.warning("Enchant '" + enchantName + "' Settings.ChanceBase " + chance.base + " is outside 0-1 (it is a fraction, 0.01 = 1%).");
+        }
+        if (rewardMin.hasBase() && rewardMax.hasBase() && rewardMax.longBase < rewardMin.longBase) {
+            logger.warning("Enchant '" + enchantName + "' Settings.RewardMaxBase is below RewardMinBase; the minimum is always given.");
+        }
+        Object commands = values.get("Commands");
+        if (commands != null && !(commands instanceof List)) {
+            logger.warning("Enchant '" + enchantName + "' Settings.Commands must be a list; it is ignored.");
+        }
+    }
+
+    // --- Precompiled Values ---
+
+    /**
+     * Proc chance (0-1) at a level; 1 when the enchant has no ChanceBase (always procs).
+     * A ChanceBase that isn't a number counts as 0, like {@code getDouble}.
+     */
+    public double getChance(int level) {
+        return chanceConfigured ? chance.at(level, 0.0, 0.0) : 1.0;
+    }
+
+    /** RadiusBase + RadiusIncreasePerLevel. */
+    @NotNull public LevelScale getRadius() { return radius; }
+    /** RewardMinBase + RewardMinIncreasePerLevel. */
+    @NotNull public LevelScale getRewardMin() { return rewardMin; }
+    /** RewardMaxBase + RewardMaxIncreasePerLevel. */
+    @NotNull public LevelScale getRewardMax() { return rewardMax; }
+
+    /** Blocks needed to charge Overcharge at a level (BlocksToChargeBase minus BlocksToChargeDecreasePerLevel per level, at least 1). */
+    public int getBlocksToCharge(int level) {
+        return Math.max(1, chargeBase - (chargeDecrease * (level - 1)));
+    }
+
+    // --- Typed Getters (ConfigurationSection semantics) ---
+
+    public boolean contains(@NotNull String path) {
+        return values.containsKey(path) || raw.contains(path);
+    }
+
+    public int getInt(@NotNull String path, int def) {
+        Object value = values.get(path);
+        return (value instanceof Number) ? ((Number) value).intValue() : def;
+    }
+
+    public long getLong(@NotNull String path, long def) {
+        Object value = values.get(path);
+        return (value instanceof Number) ? ((Number) value).longValue() : def;
+    }
+
+    public double getDouble(@NotNull String path, double def) {
+        Object value = values.get(path);
+        return (value instanceof Number) ? ((Number) value).doubleValue() : def;
+    }
+
+    public boolean getBoolean(@NotNull String path, boolean def) {
+        Object value = values.get(path);
+        return (value instanceof Boolean) ? (Boolean) value : def;
+    }
+
+    @Nullable
+    public String getString(@NotNull String path, @Nullable String def) {
+        Object value = values.get(path);
+        return (value != null) ? value.toString() : def;
+    }
+
+    /** @return The list (shared and unmodifiable), or an empty list. */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public List<String> getStringList(@NotNull String path) {
+        Object value = values.get(path);
+        return (value instanceof List) ? (List<String>) value : Collections.emptyList();
+    }
+
+    /** Nested sections (e.g. piñata rewards) are read from the source config. */
+    @Nullable
+    public ConfigurationSection getConfigurationSection(@NotNull String path) {
+        return raw.getConfigurationSection(path);
+    }
+
+    @NotNull
+    public Set<String> getKeys() {
+        return raw.getKeys(false);
+    }
+}
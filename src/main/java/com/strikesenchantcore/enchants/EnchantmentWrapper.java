@@ -5,6 +5,8 @@ import com.strikesenchantcore.config.ConfigManager;
 import com.strikesenchantcore.config.MessageManager;
 import com.strikesenchantcore.util.ColorUtils; // Needed for final translation
 import com.strikesenchantcore.util.ChatUtil; // Can be used for utility, but ColorUtils handles translation
+import com.strikesenchantcore.util.MessageTemplate;
+import com.strikesenchantcore.util.NumberFormatUtil;
 import com.strikesenchantcore.util.VaultHook;
 import com.strikesenchantcore.util.PDCUtil; // Needed for PDC key generation
 
@@ -21,8 +23,6 @@ import org.jetbrains.annotations.NotNull;
 
 // --- ADDED/KEPT IMPORTS ---
 import org.bukkit.ChatColor; // <<<--- ADDED THIS IMPORT
-import java.text.DecimalFormat;
-import java.text.NumberFormat; // Import NumberFormat
 import java.util.Locale;
 import java.util.*;
 import java.util.logging.Level;
@@ -54,6 +54,7 @@ public class EnchantmentWrapper {
     private double cost = 0;            // Base cost for level 1->2 (or first level)
     private double increaseCostBy = 0;  // Amount cost increases per level (depends on formula)
     private String costFormula = "LINEAR"; // How cost scales ("LINEAR" or "EXPONENTIAL")
+    private EnchantCost costs = new EnchantCost(costFormula, cost, increaseCostBy, maxLevel); // Built from the four fields above
     private List<String> descriptionList = Collections.emptyList(); // Raw description lines from config
     private List<String> configuredLore = Collections.emptyList(); // Raw GUI lore format lines from config
     private int pickaxeLevelRequired = 0; // Min pickaxe level needed to upgrade
@@ -61,17 +62,18 @@ public class EnchantmentWrapper {
     private String minecraftEnchantKey = null; // Key like "minecraft:efficiency" if vanilla
     @Nullable private Enchantment bukkitEnchantment = null; // Cached Bukkit Enchantment instance if vanilla
     @Nullable private ConfigurationSection customSettings; // Section for enchant-specific settings (chance, radius, etc.)
+    @Nullable private EnchantSettings settings; // Compiled copy of customSettings for the activation handlers
+    // Settings keys read through getMessageTemplate by the enchant handlers; compiled and validated at load
+    private static final Set<String> MESSAGE_KEYS = Set.of(
+            "Message", "ActivationMessage", "CompletionMessage", "SpawnMessage",
+            "MessageGave", "MessageReceived", "BossBarTitle",
+            "ActionBarCooldown", "ActionBarReady", "ActionBarCharging");
+    private final Map<String, MessageTemplate> messageTemplates = new HashMap<>(); // Settings message key -> compiled template
     @NotNull private NamespacedKey pdcLevelKey; // PDC key for storing this enchant's level on a pickaxe
     private EnchantType type = EnchantType.ACTIVE; // Default, determined during load
     private ConfigManager.CurrencyType currencyType;
 
-    // --- Formatting Helpers (Static Final for efficiency) ---
-    // These are thread-safe and can be reused
-    private static final DecimalFormat FORMAT_ONE_DECIMAL = new DecimalFormat("#,##0.0");
-    private static final DecimalFormat FORMAT_PERCENTAGE = new DecimalFormat("#,##0.00##");
-    // Use NumberFormat for integer formatting (handles commas based on Locale)
-    private static final NumberFormat FORMAT_INTEGER = NumberFormat.getIntegerInstance(Locale.US); // Use US Locale for consistency
-    // --- End Formatting Helpers ---
+    // Number rendering goes through NumberFormatUtil (thread-safe, no shared DecimalFormat state)
 
     // Enchant Type Enum
     public enum EnchantType { ACTIVE, PASSIVE }
@@ -81,8 +83,11 @@ public class EnchantmentWrapper {
      * @param plugin The main EnchantCore plugin instance.
      * @param configKey The key used for this enchant in enchants.yml.
      * @param section The ConfigurationSection for this enchantment.
+     * @param defaultCurrency Currency used when the enchant sets none (config.yml Settings.CurrencyType).
+     * @param debug Debug mode of the config.yml this enchant is loaded with.
      */
-    public EnchantmentWrapper(@NotNull EnchantCore plugin, @NotNull String configKey, @Nullable ConfigurationSection section) {
+    public EnchantmentWrapper(@NotNull EnchantCore plugin, @NotNull String configKey, @Nullable ConfigurationSection section,
+                              @NotNull ConfigManager.CurrencyType defaultCurrency, boolean debug) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
         this.configKey = configKey;
@@ -100,7 +105,7 @@ public class EnchantmentWrapper {
             return; // Stop loading process
         }
 
-        loadFromConfig(section); // Load data from the provided section
+        loadFromConfig(section, defaultCurrency, debug); // Load data from the provided section
     }
 
     /**
@@ -108,8 +113,7 @@ public class EnchantmentWrapper {
      * Does NOT translate color codes here; stores raw formats.
      * @param section The ConfigurationSection to load from.
      */
-    private void loadFromConfig(@NotNull ConfigurationSection section) {
-        final boolean debug = plugin.getConfigManager().isDebugMode();
+    private void loadFromConfig(@NotNull ConfigurationSection section, @NotNull ConfigManager.CurrencyType defaultCurrency, boolean debug) {
 
         // --- Basic Properties ---
         // Use config 'RawName' if provided, otherwise default to the section key
@@ -159,11 +163,11 @@ public class EnchantmentWrapper {
                 this.currencyType = ConfigManager.CurrencyType.valueOf(currencyString.toUpperCase());
             } catch (IllegalArgumentException e) {
                 logger.warning("Invalid Currency '" + currencyString + "' for enchant '" + rawName + "'. Defaulting to global setting.");
-                this.currencyType = plugin.getConfigManager().getCurrencyType(); // Fallback to global
+                this.currencyType = defaultCurrency; // Fallback to global
             }
         } else {
             // If 'Currency' is not set in the enchant's config, use the global default from config.yml
-            this.currencyType = plugin.getConfigManager().getCurrencyType();
+            this.currencyType = defaultCurrency;
         }
 // --- END ADDED ---
 
@@ -195,6 +199,7 @@ public class EnchantmentWrapper {
         if ("LINEAR".equals(this.costFormula) && this.increaseCostBy < 0 && this.maxLevel != 1) {
             logger.warning("Linear enchant '" + rawName + "' has a negative IncreaseCostBy (" + this.increaseCostBy + "). Cost will decrease per level.");
         }
+        this.costs = new EnchantCost(this.costFormula, this.cost, this.increaseCostBy, this.maxLevel);
         // --- End Leveling ---
 
 
@@ -248,9 +253,29 @@ public class EnchantmentWrapper {
         // --- Custom Settings Section ---
         // Store the whole section for specific handlers to access
         this.customSettings = section.getConfigurationSection("Settings");
+        this.settings = EnchantSettings.compile(rawName, customSettings, logger);
+        compileMessageTemplates();
         // --- End Custom Settings ---
     }
 
+    /**
+     * Compiles the enchant's chat/action-bar messages from its Settings section.
+     * Called once per load so handlers never re-parse or re-color these strings,
+     * and malformed placeholders are reported here rather than on every activation.
+     */
+    private void compileMessageTemplates() {
+        messageTemplates.clear();
+        if (customSettings == null) return;
+        for (String key : MESSAGE_KEYS) {
+            if (!customSettings.isString(key)) continue;
+            MessageTemplate template = MessageTemplate.compile(customSettings.getString(key));
+            messageTemplates.put(key, template);
+            for (String problem : template.getProblems()) {
+                logger.warning("Enchant '" + rawName + "' Settings." + key + ": " + problem);
+            }
+        }
+    }
+
     /**
      * Calculates the cost to upgrade TO a specific target level.
      * Uses the configured cost formula (LINEAR or EXPONENTIAL).
@@ -259,54 +284,23 @@ public class EnchantmentWrapper {
      * @return The calculated cost, or -1.0 if targetLevel is invalid or exceeds max level. Returns Double.MAX_VALUE on overflow.
      */
     public double getCostForLevel(int targetLevel) {
-        // --- Validation ---
-        if (targetLevel <= 0) return -1.0; // Cannot upgrade to level 0 or less
-        // Check against max level if defined
-        if (this.maxLevel > 0 && targetLevel > this.maxLevel) return -1.0; // Cannot upgrade beyond max level
-        // --- End Validation ---
-
-        double calculatedCost;
-        int levelFactor = Math.max(0, targetLevel - 1); // Number of upgrade steps taken (0 for level 1, 1 for level 2, etc.)
-
-        try {
-            if ("EXPONENTIAL".equalsIgnoreCase(this.costFormula)) {
-                // Cost formula: base * (multiplier ^ (targetLevel - 1))
-                calculatedCost = this.cost; // Cost for level 1
-                if (targetLevel > 1) {
-                    // Use Math.pow for exponentiation
-                    double effectiveMultiplier = Math.max(1.00001, this.increaseCostBy); // Ensure multiplier > 1 for growth
-                    // Check for potential overflow BEFORE calculation
-                    if (levelFactor > 0 && effectiveMultiplier > 1.0 && this.cost > 0 &&
-                            (levelFactor * Math.log(effectiveMultiplier) + Math.log(this.cost) > Math.log(Double.MAX_VALUE))) {
-                        return Double.MAX_VALUE;
-                    }
-                    calculatedCost *= Math.pow(effectiveMultiplier, levelFactor);
-                }
-            } else { // LINEAR (or default)
-                // Cost formula: base + (increment * (targetLevel - 1))
-                double increment = this.increaseCostBy;
-                // Check for potential overflow BEFORE calculation
-                if (increment > 0 && levelFactor > 0 && increment > (Double.MAX_VALUE - this.cost) / levelFactor) {
-                    return Double.MAX_VALUE;
-                }
-                if (increment < 0 && levelFactor > 0 && this.cost < increment * -levelFactor) { // Avoid negative cost resulting from large negative increment
-                    calculatedCost = 0; // Cost becomes 0 if increment makes it negative
-                } else {
-                    calculatedCost = this.cost + (increment * levelFactor);
-                }
-            }
-        } catch (ArithmeticException e) {
-            logger.warning("ArithmeticException calculating cost for enchant " + rawName + " level " + targetLevel);
-            return Double.MAX_VALUE; // Indicate overflow/error
-        }
+        return costs.forLevel(targetLevel);
+    }
 
-        // Final checks and formatting
-        if (Double.isInfinite(calculatedCost) || Double.isNaN(calculatedCost)) {
-            return Double.MAX_VALUE; // Overflow occurred
-        }
+    /**
+     * Calculates the total cost of upgrading from {@code currentLevel} to {@code targetLevel} in constant time.
+     * See {@link EnchantCost#forLevels}.
+     */
+    public double getCostForLevels(int currentLevel, int targetLevel) {
+        return costs.forLevels(currentLevel, targetLevel);
+    }
 
-        // Return the calculated cost, ensuring it's not negative
-        return Math.max(0.0, calculatedCost);
+    /**
+     * Finds the highest level reachable from {@code currentLevel} whose total upgrade cost fits in the budget.
+     * See {@link EnchantCost#maxAffordableLevel}.
+     */
+    public int getMaxAffordableLevel(int currentLevel, double budget, int levelCap) {
+        return costs.maxAffordableLevel(currentLevel, budget, levelCap);
     }
 
     /**
@@ -322,21 +316,44 @@ public class EnchantmentWrapper {
      */
     @NotNull
     public ItemStack createGuiItem(int currentEnchantLevel, int currentPickaxeLevel, ConfigManager.CurrencyType currencyType, @Nullable VaultHook vaultHook) {
-        ItemStack item = new ItemStack(this.material);
-        ItemMeta meta = item.getItemMeta();
+        return buildGuiItem(prepareGuiItemData(currentEnchantLevel, currentPickaxeLevel, currencyType, vaultHook));
+    }
 
-        // *** CHECK IF META IS NULL FIRST ***
-        if (meta == null) {
-            logger.warning("Failed to get ItemMeta for GUI item: " + this.material + " (Enchant: " + rawName + ")");
-            ItemStack errorItem = new ItemStack(Material.BARRIER);
-            ItemMeta errorMeta = errorItem.getItemMeta();
-            if (errorMeta != null) {
-                errorMeta.setDisplayName(ChatColor.RED + "Error: " + rawName);
-                errorItem.setItemMeta(errorMeta);
-            }
-            return errorItem; // Return error item
+    /**
+     * Text-only contents of an enchant GUI item (colors already translated).
+     * Produced by {@link #prepareGuiItemData}, which touches no Bukkit state and may run off the main thread;
+     * turned into an ItemStack on the main thread by {@link #buildGuiItem}.
+     */
+    public static final class GuiItemData {
+        private final String rawName;
+        private final Material material;
+        private final int customModelData;
+        private final String displayName;
+        private final List<String> lore;
+        private final boolean leveled; // Enchant applied (level > 0): hide enchants, glow unless vanilla
+        private final boolean glow;
+
+        private GuiItemData(String rawName, Material material, int customModelData, String displayName, List<String> lore,
+                            boolean leveled, boolean glow) {
+            this.rawName = rawName;
+            this.material = material;
+            this.customModelData = customModelData;
+            this.displayName = displayName;
+            this.lore = Collections.unmodifiableList(lore);
+            this.leveled = leveled;
+            this.glow = glow;
         }
 
+        @NotNull public String getDisplayName() { return displayName; }
+        @NotNull public List<String> getLore() { return lore; }
+    }
+
+    /**
+     * Computes the display name and lore of this enchant's GUI item.
+     * Only reads this wrapper's settings and messages, so it is safe to call from a worker thread.
+     */
+    @NotNull
+    public GuiItemData prepareGuiItemData(int currentEnchantLevel, int currentPickaxeLevel, ConfigManager.CurrencyType currencyType, @Nullable VaultHook vaultHook) {
         // --- Cache Managers ---
         MessageManager messageManager = plugin.getMessageManager();
         // --- End Cache ---
@@ -348,15 +365,11 @@ public class EnchantmentWrapper {
         String naText = messageManager.getMessage("gui.text_not_applicable", "&7N/A");
         // --- End State ---
 
-        // --- Set Display Name ---
+        // --- Display Name ---
         String rawGuiNameString = this.guiNameFormat + (currentEnchantLevel > 0 ? " " + currentEnchantLevel : "");
-        meta.setDisplayName(ColorUtils.translateColors(rawGuiNameString));
+        String displayName = ColorUtils.translateColors(rawGuiNameString);
         // --- End Display Name ---
 
-        // --- Set Model Data ---
-        if (this.customModelData > 0) meta.setCustomModelData(this.customModelData);
-        // --- End Model Data ---
-
         // --- Generate Lore ---
         List<String> loreLinesRaw = new ArrayList<>();
         // ... (rest of lore generation logic remains the same) ...
@@ -393,36 +406,60 @@ public class EnchantmentWrapper {
                         .replace("%level%", String.valueOf(this.pickaxeLevelRequired)));
             } else {
                 loreLinesRaw.addAll(messageManager.getMessageList("gui.click_prompts",
-                        Arrays.asList("&aLeft-Click: &f+1", "&aRight-Click: &f+10", "&aShift+R-Click: &f+50")));
+                        Arrays.asList("&aLeft-Click: &f+1", "&aRight-Click: &f+10", "&aShift+R-Click: &f+50", "&aShift+L-Click: &fMax")));
             }
         } else {
             loreLinesRaw.add(messageManager.getMessage("gui.text_spacer", " "));
             loreLinesRaw.add(messageManager.getMessage("gui.max_level_generic", "&aMax Level Reached"));
         }
         // Final lore processing...
-        meta.setLore(loreLinesRaw.stream()
+        List<String> lore = loreLinesRaw.stream()
                 .filter(Objects::nonNull)
                 .map(ColorUtils::translateColors)
-                .collect(Collectors.toList()));
+                .collect(Collectors.toList());
         // --- End Lore Generation ---
 
+        return new GuiItemData(this.rawName, this.material, this.customModelData, displayName, lore,
+                currentEnchantLevel > 0, currentEnchantLevel > 0 && !this.isVanilla);
+    }
+
+    /**
+     * Builds the GUI ItemStack from prepared data. Main thread.
+     */
+    @NotNull
+    public ItemStack buildGuiItem(@NotNull GuiItemData data) {
+        ItemStack item = new ItemStack(data.material);
+        ItemMeta meta = item.getItemMeta();
+
+        // *** CHECK IF META IS NULL FIRST ***
+        if (meta == null) {
+            logger.warning("Failed to get ItemMeta for GUI item: " + data.material + " (Enchant: " + data.rawName + ")");
+            ItemStack errorItem = new ItemStack(Material.BARRIER);
+            ItemMeta errorMeta = errorItem.getItemMeta();
+            if (errorMeta != null) {
+                errorMeta.setDisplayName(ChatColor.RED + "Error: " + data.rawName);
+                errorItem.setItemMeta(errorMeta);
+            }
+            return errorItem; // Return error item
+        }
+
+        meta.setDisplayName(data.displayName);
+        if (data.customModelData > 0) meta.setCustomModelData(data.customModelData);
+        meta.setLore(data.lore);
 
         // --- Set Flags and Glow ---
-        // *** ADD FLAGS *AFTER* THE NULL CHECK AND OTHER META OPERATIONS ***
         meta.addItemFlags(ItemFlag.HIDE_ATTRIBUTES, ItemFlag.HIDE_POTION_EFFECTS, ItemFlag.HIDE_UNBREAKABLE);
-
-        if (currentEnchantLevel > 0) {
-            if (!this.isVanilla) {
+        if (data.leveled) {
+            if (data.glow) {
                 meta.addEnchant(Enchantment.LUCK, 1, true);
             }
             meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
         }
         // --- End Flags and Glow ---
 
-
         // Apply the completed meta
         if (!item.setItemMeta(meta)) {
-            logger.warning("Failed to set ItemMeta for GUI item: " + this.material + " (Enchant: " + rawName + ")");
+            logger.warning("Failed to set ItemMeta for GUI item: " + data.material + " (Enchant: " + data.rawName + ")");
         }
         return item;
     }
@@ -526,18 +563,18 @@ public class EnchantmentWrapper {
 
                 switch (enchantCurrency) {
                     case GEMS:
-                        formattedCost = FORMAT_INTEGER.format((long) Math.ceil(costForNextPotentialLevel));
+                        formattedCost = NumberFormatUtil.formatGrouped((long) Math.ceil(costForNextPotentialLevel));
                         currencyName = " " + messageManager.getMessage("currency.gems_name_plural", "Gems");
                         break;
                     case TOKENS:
-                        formattedCost = FORMAT_INTEGER.format((long) Math.ceil(costForNextPotentialLevel));
+                        formattedCost = NumberFormatUtil.formatGrouped((long) Math.ceil(costForNextPotentialLevel));
                         currencyName = " " + messageManager.getMessage("currency.tokens_name_plural", "Tokens");
                         break;
                     case VAULT:
                     default:
                         formattedCost = (vaultHook != null && vaultHook.isEnabled())
                                 ? vaultHook.format(costForNextPotentialLevel)
-                                : String.format(Locale.US, "%,.2f", costForNextPotentialLevel);
+                                : NumberFormatUtil.formatGroupedFixed(costForNextPotentialLevel, 2);
                         currencyName = ""; // Vault format usually includes the symbol
                         break;
                 }
@@ -590,7 +627,7 @@ public class EnchantmentWrapper {
                 if (chanceVal >= 0) {
                     chanceVal += (customSettings.getDouble("ChanceIncreasePerLevel", 0.0) * levelFactor);
                     chanceVal = Math.min(100.0, Math.max(0.0, chanceVal * 100.0)); // Calculate %, clamp [0, 100]
-                    result = result.replace("%chance%", FORMAT_PERCENTAGE.format(chanceVal)); // Format
+                    result = result.replace("%chance%", NumberFormatUtil.formatDecimal(chanceVal, 2, 4, true)); // Format
                 } else {
                     result = result.replace("%chance%", naText); // Setting not found
                 }
@@ -634,7 +671,7 @@ public class EnchantmentWrapper {
                     result = result.replace("%radius%", String.valueOf(customSettings.getInt("Radius")));
                 } else if (customSettings.contains("RadiusBase")) { // Scaled radius
                     double radiusVal = customSettings.getDouble("RadiusBase", 0.0) + (customSettings.getDouble("RadiusIncreasePerLevel", 0.0) * levelFactor);
-                    result = result.replace("%radius%", FORMAT_ONE_DECIMAL.format(radiusVal));
+                    result = result.replace("%radius%", NumberFormatUtil.formatGroupedFixed(radiusVal, 1));
                 } else {
                     result = result.replace("%radius%", naText);
                 }
@@ -651,8 +688,8 @@ public class EnchantmentWrapper {
                     double currentMin = Math.max(0.0, minBase + (minInc * levelFactor));
                     double currentMax = Math.max(currentMin, maxBase + (maxInc * levelFactor)); // Ensure max >= min
                     // Format as integers using static formatter
-                    result = result.replace("%min_amount%", FORMAT_INTEGER.format((long) Math.floor(currentMin)));
-                    result = result.replace("%max_amount%", FORMAT_INTEGER.format((long) Math.floor(currentMax)));
+                    result = result.replace("%min_amount%", NumberFormatUtil.formatGrouped((long) Math.floor(currentMin)));
+                    result = result.replace("%max_amount%", NumberFormatUtil.formatGrouped((long) Math.floor(currentMax)));
                 } else {
                     result = result.replace("%min_amount%", naText).replace("%max_amount%", naText);
                 }
@@ -672,7 +709,7 @@ public class EnchantmentWrapper {
             if (result.contains("%multiplier%")) {
                 if (customSettings.contains("MultiplierBase")) {
                     double multVal = customSettings.getDouble("MultiplierBase", 1.0) + (customSettings.getDouble("MultiplierIncreasePerLevel", 0) * levelFactor);
-                    result = result.replace("%multiplier%", FORMAT_ONE_DECIMAL.format(Math.max(0.0, multVal))); // Ensure non-negative
+                    result = result.replace("%multiplier%", NumberFormatUtil.formatGroupedFixed(Math.max(0.0, multVal), 1)); // Ensure non-negative
                 } else {
                     result = result.replace("%multiplier%", naText);
                 }
@@ -768,6 +805,24 @@ public class EnchantmentWrapper {
     @Nullable public String getMinecraftEnchantKey() { return minecraftEnchantKey; }
     @Nullable public Enchantment getBukkitEnchantment() { return bukkitEnchantment; }
     @Nullable public ConfigurationSection getCustomSettings() { return customSettings; }
+    /** Compiled, typed Settings for activation handlers; null if the enchant has no Settings section. */
+    @Nullable public EnchantSettings getSettings() { return settings; }
+
+    /**
+     * Gets the compiled template for a message in this enchant's Settings section
+     * (e.g. "Message", "ActivationMessage", "MessageGave").
+     * @param key            The settings key.
+     * @param defaultMessage The raw default used if the key is not configured.
+     * @return The compiled template. Never null.
+     */
+    @NotNull
+    public MessageTemplate getMessageTemplate(@NotNull String key, @NotNull String defaultMessage) {
+        MessageTemplate template = messageTemplates.get(key);
+        if (template != null) return template;
+        // Keys outside MESSAGE_KEYS aren't precompiled; fall back to the shared template cache
+        String configured = (customSettings != null) ? customSettings.getString(key) : null;
+        return MessageTemplate.of(configured != null ? configured : defaultMessage);
+    }
     @NotNull public NamespacedKey getPdcLevelKey() { return pdcLevelKey; } // Already ensured not null in constructor/load
     public EnchantType getType() { return type; }
     public ConfigManager.CurrencyType getCurrencyType() { return currencyType; }
@@ -1,5 +1,6 @@
 package com.strikesenchantcore.gui;
 
+import com.strikesenchantcore.util.NumberFormatUtil;
 import com.strikesenchantcore.EnchantCore;
 import com.strikesenchantcore.managers.AttachmentManager;
 import com.strikesenchantcore.util.ChatUtil;
@@ -22,7 +23,7 @@ import org.jetbrains.annotations.NotNull;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Supplier;
 
 public class AttachmentsGUI implements InventoryHolder {
 
@@ -79,7 +80,7 @@ public class AttachmentsGUI implements InventoryHolder {
                 ItemMeta meta = equipped.getItemMeta();
                 if (meta != null) {
                     List<String> newLore = new ArrayList<>();
-                    newLore.add(ColorUtils.translateColors("&7Proc Bonus: &e+" + String.format("%.1f", attachmentManager.getProcBonusForTier(equippedTier) * 100) + "%"));
+                    newLore.add(ColorUtils.translateColors("&7Proc Bonus: &e+" + NumberFormatUtil.formatFixed(attachmentManager.getProcBonusForTier(equippedTier) * 100, 1) + "%"));
                     newLore.add(ColorUtils.translateColors("&7Enhances enchant activation rates"));
                     newLore.add("");
                     newLore.add(ColorUtils.translateColors("&c&lEQUIPPED"));
@@ -90,9 +91,10 @@ public class AttachmentsGUI implements InventoryHolder {
                 inventory.setItem(slot, equipped);
             } else {
                 // Show empty equipped slot
-                ItemStack empty = createItem(Material.LIGHT_GRAY_STAINED_GLASS_PANE,
-                        "&7&lEquipped Slot " + (i + 1),
-                        Arrays.asList("&7Drag an attachment here", "&7to equip it!"), false);
+                final int slotNumber = i + 1;
+                ItemStack empty = cachedItem("attachmentsgui:empty_slot:" + slotNumber, () -> createItem(Material.LIGHT_GRAY_STAINED_GLASS_PANE,
+                        "&7&lEquipped Slot " + slotNumber,
+                        Arrays.asList("&7Drag an attachment here", "&7to equip it!"), false));
                 inventory.setItem(slot, empty);
             }
         }
@@ -100,18 +102,17 @@ public class AttachmentsGUI implements InventoryHolder {
 
     private void populateStorageArea() {
         AttachmentManager.AttachmentStorage storage = attachmentManager.getPlayerStorage(player.getUniqueId());
-        Map<Integer, Integer> attachments = storage.getAllAttachments();
 
         int currentSlot = STORAGE_START;
 
         for (int tier = 1; tier <= AttachmentManager.MAX_TIER && currentSlot <= STORAGE_END; tier++) {
-            int count = attachments.getOrDefault(tier, 0);
+            int count = storage.getAttachmentCount(tier);
             if (count > 0) {
                 ItemStack attachmentStack = attachmentManager.createAttachmentItem(tier, count);
                 ItemMeta meta = attachmentStack.getItemMeta();
                 if (meta != null) {
                     List<String> newLore = new ArrayList<>();
-                    newLore.add(ColorUtils.translateColors("&7Proc Bonus: &e+" + String.format("%.1f", attachmentManager.getProcBonusForTier(tier) * 100) + "%"));
+                    newLore.add(ColorUtils.translateColors("&7Proc Bonus: &e+" + NumberFormatUtil.formatFixed(attachmentManager.getProcBonusForTier(tier) * 100, 1) + "%"));
                     newLore.add(ColorUtils.translateColors("&7Enhances enchant activation rates"));
                     newLore.add("");
                     newLore.add(ColorUtils.translateColors("&7Amount: &e" + count));
@@ -152,14 +153,17 @@ public class AttachmentsGUI implements InventoryHolder {
     }
 
     private void addBackButton() {
-        ItemStack backButton = new ItemStack(Material.BARRIER);
-        ItemMeta backMeta = backButton.getItemMeta();
-        if (backMeta != null) {
-            backMeta.setDisplayName(ColorUtils.translateColors("&c&lBACK"));
-            backMeta.setLore(List.of(ColorUtils.translateColors("&7Click to return to main menu.")));
-            backMeta.addItemFlags(ItemFlag.HIDE_ATTRIBUTES, ItemFlag.HIDE_ENCHANTS, ItemFlag.HIDE_POTION_EFFECTS);
-            backButton.setItemMeta(backMeta);
-        }
+        ItemStack backButton = cachedItem("attachmentsgui:back_button", () -> {
+            ItemStack item = new ItemStack(Material.BARRIER);
+            ItemMeta backMeta = item.getItemMeta();
+            if (backMeta != null) {
+                backMeta.setDisplayName(ColorUtils.translateColors("&c&lBACK"));
+                backMeta.setLore(List.of(ColorUtils.translateColors("&7Click to return to main menu.")));
+                backMeta.addItemFlags(ItemFlag.HIDE_ATTRIBUTES, ItemFlag.HIDE_ENCHANTS, ItemFlag.HIDE_POTION_EFFECTS);
+                item.setItemMeta(backMeta);
+            }
+            return item;
+        });
         inventory.setItem(BACK_BUTTON_SLOT, backButton);
     }
 
@@ -202,7 +206,7 @@ public class AttachmentsGUI implements InventoryHolder {
         lore.add(ColorUtils.translateColors("&7from all equipped attachments"));
         lore.add("");
         lore.add(ColorUtils.translateColors("&eEquipped: &6" + equippedCount + "&7/&6" + AttachmentManager.MAX_EQUIPPED_ATTACHMENTS));
-        lore.add(ColorUtils.translateColors("&eTotal Bonus: &6+" + String.format("%.2f", totalBonus * 100) + "%"));
+        lore.add(ColorUtils.translateColors("&eTotal Bonus: &6+" + NumberFormatUtil.formatFixed(totalBonus * 100, 2) + "%"));
 
         if (equippedCount > 0) {
             lore.add("");
@@ -211,7 +215,7 @@ public class AttachmentsGUI implements InventoryHolder {
                 Integer tier = storage.getEquippedAttachment(slot);
                 if (tier != null) {
                     double bonus = attachmentManager.getProcBonusForTier(tier);
-                    lore.add(ColorUtils.translateColors("&7• Tier " + tier + ": &e+" + String.format("%.1f", bonus * 100) + "%"));
+                    lore.add(ColorUtils.translateColors("&7• Tier " + tier + ": &e+" + NumberFormatUtil.formatFixed(bonus * 100, 1) + "%"));
                 }
             }
         } else {
@@ -325,7 +329,7 @@ public class AttachmentsGUI implements InventoryHolder {
     private void showAttachmentOptions(int tier, int count) {
         ChatUtil.sendMessage(player, "&6&l=== Tier " + tier + " Attachment Options ===");
         ChatUtil.sendMessage(player, "&eAmount: &6" + count);
-        ChatUtil.sendMessage(player, "&eProc Bonus: &6+" + String.format("%.1f", attachmentManager.getProcBonusForTier(tier) * 100) + "%");
+        ChatUtil.sendMessage(player, "&eProc Bonus: &6+" + NumberFormatUtil.formatFixed(attachmentManager.getProcBonusForTier(tier) * 100, 1) + "%");
 
         if (count >= AttachmentManager.MERGE_COST && tier < AttachmentManager.MAX_TIER) {
             int canMerge = count / AttachmentManager.MERGE_COST;
@@ -352,6 +356,11 @@ public class AttachmentsGUI implements InventoryHolder {
     }
 
 
+    private ItemStack cachedItem(String key, Supplier<ItemStack> renderer) {
+        GuiItemCache cache = plugin.getGuiItemCache();
+        return (cache != null) ? cache.getItem(key, renderer) : renderer.get();
+    }
+
     private ItemStack createItem(Material material, String name, List<String> lore, boolean enchanted) {
         ItemStack item = new ItemStack(material);
         ItemMeta meta = item.getItemMeta();
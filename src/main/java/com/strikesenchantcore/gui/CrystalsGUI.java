@@ -1,5 +1,6 @@
 package com.strikesenchantcore.gui;
 
+import com.strikesenchantcore.util.NumberFormatUtil;
 import com.strikesenchantcore.EnchantCore;
 import com.strikesenchantcore.managers.CrystalManager;
 import com.strikesenchantcore.util.ColorUtils;
@@ -13,7 +14,7 @@ import org.bukkit.inventory.meta.ItemMeta;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Supplier;
 
 public class CrystalsGUI {
     private final EnchantCore plugin;
@@ -45,90 +46,87 @@ public class CrystalsGUI {
     }
 
     private void addEquippedCrystalsSection() {
-        ItemStack equippedTitle = new ItemStack(Material.BARRIER);
-        ItemMeta equippedMeta = equippedTitle.getItemMeta();
-        equippedMeta.setDisplayName(ColorUtils.translateColors("&a&lEQUIPPED CRYSTALS"));
-        equippedMeta.setLore(Arrays.asList(
-                ColorUtils.translateColors("&7Crystals equipped in this section"),
-                ColorUtils.translateColors("&7provide passive bonuses."),
-                "",
-                ColorUtils.translateColors("&eClick a crystal below to unequip it.")
-        ));
-        equippedTitle.setItemMeta(equippedMeta);
+        ItemStack equippedTitle = cachedItem("crystalsgui:equipped_title", () -> {
+            ItemStack item = new ItemStack(Material.BARRIER);
+            ItemMeta equippedMeta = item.getItemMeta();
+            equippedMeta.setDisplayName(ColorUtils.translateColors("&a&lEQUIPPED CRYSTALS"));
+            equippedMeta.setLore(Arrays.asList(
+                    ColorUtils.translateColors("&7Crystals equipped in this section"),
+                    ColorUtils.translateColors("&7provide passive bonuses."),
+                    "",
+                    ColorUtils.translateColors("&eClick a crystal below to unequip it.")
+            ));
+            item.setItemMeta(equippedMeta);
+            return item;
+        });
         inventory.setItem(24, equippedTitle);
-        inventory.setItem(25, equippedTitle.clone());
+        inventory.setItem(25, equippedTitle);
 
         int[] equippedSlots = {28, 29, 30, 31, 32, 33, 34};
-        Map<Integer, String> equippedCrystals = crystalManager.getEquippedCrystals(player);
+        CrystalManager.CrystalStorage crystals = crystalManager.getCrystalStorage(player);
 
         for (int i = 0; i < equippedSlots.length; i++) {
             int slot = equippedSlots[i];
-            String crystalKey = equippedCrystals.get(i);
-
-            if (crystalKey != null) {
-                String[] parts = crystalKey.split("_");
-                if (parts.length == 2) {
-                    String type = parts[0];
-                    int tier = Integer.parseInt(parts[1]);
-                    ItemStack crystalItem = createCrystalItem(type, tier, 1, true);
-                    inventory.setItem(slot, crystalItem);
-                }
+            CrystalManager.CrystalType type = crystals.getEquippedType(i);
+
+            if (type != null) {
+                ItemStack crystalItem = getCrystalItem(type.name(), crystals.getEquippedTier(i), 1, true);
+                inventory.setItem(slot, crystalItem);
             } else {
-                ItemStack emptySlot = new ItemStack(Material.GRAY_STAINED_GLASS_PANE);
-                ItemMeta emptyMeta = emptySlot.getItemMeta();
-                emptyMeta.setDisplayName(ColorUtils.translateColors("&7Empty Equipment Slot"));
-                emptyMeta.setLore(Arrays.asList(
-                        ColorUtils.translateColors("&7Click a crystal from your storage"),
-                        ColorUtils.translateColors("&7to equip it here.")
-                ));
-                emptySlot.setItemMeta(emptyMeta);
+                ItemStack emptySlot = cachedItem("crystalsgui:empty_slot", () -> {
+                    ItemStack item = new ItemStack(Material.GRAY_STAINED_GLASS_PANE);
+                    ItemMeta emptyMeta = item.getItemMeta();
+                    emptyMeta.setDisplayName(ColorUtils.translateColors("&7Empty Equipment Slot"));
+                    emptyMeta.setLore(Arrays.asList(
+                            ColorUtils.translateColors("&7Click a crystal from your storage"),
+                            ColorUtils.translateColors("&7to equip it here.")
+                    ));
+                    item.setItemMeta(emptyMeta);
+                    return item;
+                });
                 inventory.setItem(slot, emptySlot);
             }
         }
     }
 
     private void addStorageCrystalsSection() {
-        ItemStack storageTitle = new ItemStack(Material.BARRIER);
-        ItemMeta storageMeta = storageTitle.getItemMeta();
-        storageMeta.setDisplayName(ColorUtils.translateColors("&b&lCRYSTAL STORAGE"));
-        storageMeta.setLore(Arrays.asList(
-                ColorUtils.translateColors("&7Your unequipped crystals."),
-                "",
-                ColorUtils.translateColors("&eLeft-click to equip."),
-                ColorUtils.translateColors("&eRight-click to merge (needs 3).")
-        ));
-        storageTitle.setItemMeta(storageMeta);
+        ItemStack storageTitle = cachedItem("crystalsgui:storage_title", () -> {
+            ItemStack item = new ItemStack(Material.BARRIER);
+            ItemMeta storageMeta = item.getItemMeta();
+            storageMeta.setDisplayName(ColorUtils.translateColors("&b&lCRYSTAL STORAGE"));
+            storageMeta.setLore(Arrays.asList(
+                    ColorUtils.translateColors("&7Your unequipped crystals."),
+                    "",
+                    ColorUtils.translateColors("&eLeft-click to equip."),
+                    ColorUtils.translateColors("&eRight-click to merge (needs 3).")
+            ));
+            item.setItemMeta(storageMeta);
+            return item;
+        });
         inventory.setItem(6, storageTitle);
-        inventory.setItem(7, storageTitle.clone());
+        inventory.setItem(7, storageTitle);
 
         int[] storageSlots = {10, 11, 12, 13, 14, 15, 17};
-        Map<String, Integer> storageCrystals = crystalManager.getStorageCrystals(player);
-        List<Map.Entry<String, Integer>> crystalList = new ArrayList<>(storageCrystals.entrySet());
+        CrystalManager.CrystalStorage crystals = crystalManager.getCrystalStorage(player);
+        int[] stored = crystals.getStoredIndexes();
 
         int startIndex = currentPage * ITEMS_PER_PAGE;
-        int endIndex = Math.min(startIndex + ITEMS_PER_PAGE, crystalList.size());
+        int endIndex = Math.min(startIndex + ITEMS_PER_PAGE, stored.length);
 
         for (int i = 0; i < storageSlots.length; i++) {
             int crystalIndex = startIndex + i;
             if (crystalIndex < endIndex) {
-                Map.Entry<String, Integer> entry = crystalList.get(crystalIndex);
-                String crystalKey = entry.getKey();
-                int amount = entry.getValue();
-
-                String[] parts = crystalKey.split("_");
-                if (parts.length == 2) {
-                    String type = parts[0];
-                    int tier = Integer.parseInt(parts[1]);
-                    ItemStack crystalItem = createCrystalItem(type, tier, amount, false);
-                    inventory.setItem(storageSlots[i], crystalItem);
-                }
+                CrystalManager.CrystalType type = CrystalManager.CrystalStorage.typeAt(stored[crystalIndex]);
+                int tier = CrystalManager.CrystalStorage.tierAt(stored[crystalIndex]);
+                ItemStack crystalItem = getCrystalItem(type.name(), tier, crystals.getCount(type, tier), false);
+                inventory.setItem(storageSlots[i], crystalItem);
             }
         }
     }
 
     private void addNavigationItems() {
-        Map<String, Integer> storageCrystals = crystalManager.getStorageCrystals(player);
-        int totalPages = (int) Math.ceil((double) storageCrystals.size() / ITEMS_PER_PAGE);
+        int storedKinds = crystalManager.getCrystalStorage(player).getStoredIndexes().length;
+        int totalPages = (int) Math.ceil((double) storedKinds / ITEMS_PER_PAGE);
 
         if (currentPage > 0) {
             ItemStack prevPage = new ItemStack(Material.ARROW);
@@ -148,11 +146,14 @@ public class CrystalsGUI {
             inventory.setItem(52, nextPage);
         }
 
-        ItemStack backButton = new ItemStack(Material.BARRIER);
-        ItemMeta backMeta = backButton.getItemMeta();
-        backMeta.setDisplayName(ColorUtils.translateColors("&c&lBACK"));
-        backMeta.setLore(List.of(ColorUtils.translateColors("&7Click to return to main menu.")));
-        backButton.setItemMeta(backMeta);
+        ItemStack backButton = cachedItem("crystalsgui:back_button", () -> {
+            ItemStack item = new ItemStack(Material.BARRIER);
+            ItemMeta backMeta = item.getItemMeta();
+            backMeta.setDisplayName(ColorUtils.translateColors("&c&lBACK"));
+            backMeta.setLore(List.of(ColorUtils.translateColors("&7Click to return to main menu.")));
+            item.setItemMeta(backMeta);
+            return item;
+        });
         inventory.setItem(45, backButton);
     }
 
@@ -172,13 +173,13 @@ public class CrystalsGUI {
         double petBoost = crystalManager.getPetMultiplier(player) * 100;
         double salvageBoost = crystalManager.getSalvageMultiplier(player) * 100;
 
-        statsLore.add(ColorUtils.translateColors("&eToken: &a+" + String.format("%.1f", tokenBoost) + "%"));
-        statsLore.add(ColorUtils.translateColors("&bGem: &a+" + String.format("%.1f", gemBoost) + "%"));
-        statsLore.add(ColorUtils.translateColors("&dProc: &a+" + String.format("%.1f", procBoost) + "%"));
-        statsLore.add(ColorUtils.translateColors("&aRank: &a+" + String.format("%.1f", rankBoost) + "%"));
-        statsLore.add(ColorUtils.translateColors("&6Pickaxe XP: &a+" + String.format("%.1f", pickaxeXpBoost) + "%"));
-        statsLore.add(ColorUtils.translateColors("&9Pet: &a+" + String.format("%.1f", petBoost) + "%"));
-        statsLore.add(ColorUtils.translateColors("&cSalvage: &a+" + String.format("%.1f", salvageBoost) + "%"));
+        statsLore.add(ColorUtils.translateColors("&eToken: &a+" + NumberFormatUtil.formatFixed(tokenBoost, 1) + "%"));
+        statsLore.add(ColorUtils.translateColors("&bGem: &a+" + NumberFormatUtil.formatFixed(gemBoost, 1) + "%"));
+        statsLore.add(ColorUtils.translateColors("&dProc: &a+" + NumberFormatUtil.formatFixed(procBoost, 1) + "%"));
+        statsLore.add(ColorUtils.translateColors("&aRank: &a+" + NumberFormatUtil.formatFixed(rankBoost, 1) + "%"));
+        statsLore.add(ColorUtils.translateColors("&6Pickaxe XP: &a+" + NumberFormatUtil.formatFixed(pickaxeXpBoost, 1) + "%"));
+        statsLore.add(ColorUtils.translateColors("&9Pet: &a+" + NumberFormatUtil.formatFixed(petBoost, 1) + "%"));
+        statsLore.add(ColorUtils.translateColors("&cSalvage: &a+" + NumberFormatUtil.formatFixed(salvageBoost, 1) + "%"));
         statsMeta.setLore(statsLore);
         stats.setItemMeta(statsMeta);
         inventory.setItem(53, stats);
@@ -221,6 +222,19 @@ public class CrystalsGUI {
         }
     }
 
+    /**
+     * Returns a crystal item from the shared GuiItemCache; its look depends only on these four values.
+     */
+    private ItemStack getCrystalItem(String type, int tier, int amount, boolean equipped) {
+        return cachedItem("crystal:" + type + ":" + tier + ":" + amount + ":" + equipped,
+                () -> createCrystalItem(type, tier, amount, equipped));
+    }
+
+    private ItemStack cachedItem(String key, Supplier<ItemStack> renderer) {
+        GuiItemCache cache = plugin.getGuiItemCache();
+        return (cache != null) ? cache.getItem(key, renderer) : renderer.get();
+    }
+
     private ItemStack createCrystalItem(String type, int tier, int amount, boolean equipped) {
         Material material = getCrystalMaterial(type);
         ItemStack item = new ItemStack(material);
@@ -236,7 +250,7 @@ public class CrystalsGUI {
         List<String> lore = new ArrayList<>();
         double baseMultiplier = getBaseMultiplier(type);
         double totalBonus = baseMultiplier * tier * 100;
-        lore.add(ColorUtils.translateColors("&7Boost: &a+" + String.format("%.1f", totalBonus) + "%"));
+        lore.add(ColorUtils.translateColors("&7Boost: &a+" + NumberFormatUtil.formatFixed(totalBonus, 1) + "%"));
         lore.add("");
         lore.add(ColorUtils.translateColors("&7Type: " + color + crystalManager.getDisplayName(type)));
         lore.add(ColorUtils.translateColors("&7Tier: " + tierColor + tier + "&8/&710"));
@@ -136,28 +136,18 @@ public class CrystalsGUIListener implements Listener {
     }
 
     private void handleStorageClick(Player player, CrystalsGUI gui, int storageIndex, ClickType clickType) {
-        Map<String, Integer> storageCrystals = crystalManager.getStorageCrystals(player);
+        CrystalManager.CrystalStorage crystals = crystalManager.getCrystalStorage(player);
+        int[] stored = crystals.getStoredIndexes();
 
-        if (storageIndex >= storageCrystals.size()) {
+        if (storageIndex >= stored.length) {
             ChatUtil.sendMessage(player, "&7No crystal in this slot!");
             return;
         }
 
-        String[] crystalKeys = storageCrystals.keySet().toArray(new String[0]);
-        String crystalKey = crystalKeys[storageIndex];
-        String[] parts = crystalKey.split("_");
-
-        if (parts.length != 2) return;
-
-        String type = parts[0];
-        int tier;
-        try {
-            tier = Integer.parseInt(parts[1]);
-        } catch (NumberFormatException e) {
-            return;
-        }
-
-        int amount = storageCrystals.get(crystalKey);
+        CrystalManager.CrystalType crystalType = CrystalManager.CrystalStorage.typeAt(stored[storageIndex]);
+        String type = crystalType.name();
+        int tier = CrystalManager.CrystalStorage.tierAt(stored[storageIndex]);
+        int amount = crystals.getCount(crystalType, tier);
 
         if (clickType.isRightClick()) {
             if (tier >= 10) {
@@ -194,9 +184,9 @@ public class CrystalsGUIListener implements Listener {
     }
 
     private int findEmptyEquippedSlot(Player player) {
-        Map<Integer, String> equippedCrystals = crystalManager.getEquippedCrystals(player);
-        for (int i = 0; i < 7; i++) {
-            if (!equippedCrystals.containsKey(i)) {
+        CrystalManager.CrystalStorage crystals = crystalManager.getCrystalStorage(player);
+        for (int i = 0; i < CrystalManager.MAX_EQUIPPED_SLOTS; i++) {
+            if (!crystals.isEquipped(i)) {
                 return i;
             }
         }
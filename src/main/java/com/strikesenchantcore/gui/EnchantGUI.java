@@ -1,5 +1,6 @@
 package com.strikesenchantcore.gui;
 
+import com.strikesenchantcore.util.NumberFormatUtil;
 import com.strikesenchantcore.EnchantCore;
 import com.strikesenchantcore.config.ConfigManager;
 import com.strikesenchantcore.config.EnchantManager; // Import EnchantManager
@@ -37,9 +38,9 @@ import java.util.Map;
 import java.util.Objects; // Import Objects for null check stream
 import java.util.logging.Level;
 import java.util.logging.Logger; // Import Logger
-import java.text.NumberFormat;
 import java.util.Locale;
 import java.util.stream.Collectors;
+import java.util.function.Supplier;
 // --- END IMPORTS ---
 
 public class EnchantGUI implements InventoryHolder {
@@ -59,6 +60,7 @@ public class EnchantGUI implements InventoryHolder {
     private final ConfigManager configManager;
     private final MessageManager messageManager;
     private final EnchantManager enchantManager; // Cache EnchantManager
+    @Nullable private GuiPreparation.Handle preparation; // Enchant items still being prepared off-thread
     // --- End Cached Managers ---
 
     // Menu button slots
@@ -66,6 +68,7 @@ public class EnchantGUI implements InventoryHolder {
     private static final int[] GEMS_MENU_SLOTS = {3, 4, 5}; // Gems enchants (future)
     private static final int[] REBIRTH_MENU_SLOTS = {6, 7, 8}; // Rebirth enchants (future)
     private static final int[] ADDITIONAL_MENU_SLOTS = {45, 47, 51, 53}; // Additional menus (future)
+    private static final int UNLIMITED_UPGRADE_MAX_LEVELS = 1_000_000; // Upgrade-max cap per click for enchants without a max level
 
     // Changed: Now using the close button slot for the info item
     private int getInfoItemSlot() {
@@ -122,8 +125,10 @@ public class EnchantGUI implements InventoryHolder {
         fillBackground(); // This can be removed/commented out if you don't want a background
         addMenuButtons();
 
+        // Snapshot the pickaxe state here; enchant item text is prepared off the main thread
         Map<String, Integer> currentEnchantsOnPickaxe = pickaxeManager.getAllEnchantLevels(this.pickaxe);
         int currentPickaxeLevel = PDCUtil.getPickaxeLevel(this.pickaxe);
+        List<GuiPreparation.EnchantSlot> enchantSlots = new ArrayList<>();
 
         for (EnchantmentWrapper enchant : enchantRegistry.getAllEnchants()) {
             // This is the key change: It skips Gem enchants
@@ -133,14 +138,15 @@ public class EnchantGUI implements InventoryHolder {
 
             int slot = enchant.getInGuiSlot();
             if (slot >= 0 && slot < inventory.getSize() && !isMenuButtonSlot(slot)) {
-                try {
-                    int currentLevelOfThisEnchant = currentEnchantsOnPickaxe.getOrDefault(enchant.getRawName().toLowerCase(), 0);
-                    inventory.setItem(slot, enchant.createGuiItem(currentLevelOfThisEnchant, currentPickaxeLevel, enchant.getCurrencyType(), vaultHook));
-                } catch (Exception e) {
-                    logger.log(Level.SEVERE, "Error creating GUI item for enchant " + enchant.getRawName() + " for player " + player.getName(), e);
-                }
+                int currentLevelOfThisEnchant = currentEnchantsOnPickaxe.getOrDefault(enchant.getRawName().toLowerCase(), 0);
+                enchantSlots.add(new GuiPreparation.EnchantSlot(enchant, slot, currentLevelOfThisEnchant, enchant.getCurrencyType()));
             }
         }
+        try {
+            this.preparation = GuiPreparation.fillEnchantSlots(plugin, player, inventory, enchantSlots, currentPickaxeLevel, vaultHook);
+        } catch (Exception e) {
+            logger.log(Level.SEVERE, "Error creating GUI items for player " + player.getName(), e);
+        }
 
         addInfoItem();
     }
@@ -151,44 +157,44 @@ public class EnchantGUI implements InventoryHolder {
     private void addMenuButtons() {
         // Main enchants menu buttons (slots 0, 1, 2)
         for (int slot : TOKEN_MENU_SLOTS) { // Renamed from MAIN_MENU_SLOTS for clarity
-            ItemStack mainButton = createGuiItemHelper(Material.BARRIER, "&c&lToken Enchants",
-                    List.of("&7Click to view main enchants", "&c&lUNDER DEVELOPMENT"), 0, false);
+            ItemStack mainButton = cachedItem("enchantgui:token_button", () -> createGuiItemHelper(Material.BARRIER, "&c&lToken Enchants",
+                    List.of("&7Click to view main enchants", "&c&lUNDER DEVELOPMENT"), 0, false));
             inventory.setItem(slot, mainButton);
         }
 
         // Gems/Gems enchants menu buttons (slots 3, 4, 5)
         for (int slot : GEMS_MENU_SLOTS) { // Renamed from GEMS_MENU_SLOTS for clarity
-            ItemStack gemsButton = createGuiItemHelper(Material.BARRIER, "&c&lGems Enchants",
-                    List.of("&7Click to view gems enchants", "&c&lUNDER DEVELOPMENT"), 0, false);
+            ItemStack gemsButton = cachedItem("enchantgui:gems_button", () -> createGuiItemHelper(Material.BARRIER, "&c&lGems Enchants",
+                    List.of("&7Click to view gems enchants", "&c&lUNDER DEVELOPMENT"), 0, false));
             inventory.setItem(slot, gemsButton);
         }
 
         // Rebirth enchants menu buttons (slots 6, 7, 8)
         for (int slot : REBIRTH_MENU_SLOTS) {
-            ItemStack rebirthButton = createGuiItemHelper(Material.BARRIER, "&d&lRebirth Enchants",
-                    List.of("&7Click to view rebirth enchants", "&c&lUNDER DEVELOPMENT"), 0, false);
+            ItemStack rebirthButton = cachedItem("enchantgui:rebirth_button", () -> createGuiItemHelper(Material.BARRIER, "&d&lRebirth Enchants",
+                    List.of("&7Click to view rebirth enchants", "&c&lUNDER DEVELOPMENT"), 0, false));
             inventory.setItem(slot, rebirthButton);
         }
 
         // --- RESTORED: Additional menu buttons at the bottom ---
         if (45 < inventory.getSize()) {
-            ItemStack pickaxeSkinsButton = createGuiItemHelper(Material.BARRIER, "&6&lPickaxe Skins",
-                    List.of("&7Click to view pickaxe skins"), 0, false);
+            ItemStack pickaxeSkinsButton = cachedItem("enchantgui:skins_button", () -> createGuiItemHelper(Material.BARRIER, "&6&lPickaxe Skins",
+                    List.of("&7Click to view pickaxe skins"), 0, false));
             inventory.setItem(45, pickaxeSkinsButton);
         }
         if (47 < inventory.getSize()) {
-            ItemStack mortarButton = createGuiItemHelper(Material.BARRIER, "&6&lMortar",
-                    List.of("&7Click to access mortar upgrades", "&7and view activation status"), 0, false);
+            ItemStack mortarButton = cachedItem("enchantgui:mortar_button", () -> createGuiItemHelper(Material.BARRIER, "&6&lMortar",
+                    List.of("&7Click to access mortar upgrades", "&7and view activation status"), 0, false));
             inventory.setItem(47, mortarButton);
         }
         if (51 < inventory.getSize()) {
-            ItemStack crystalsButton = createGuiItemHelper(Material.BARRIER, "&6&lCrystals",
-                    List.of("&7Click to view crystals", "&c&lUNDER DEVELOPMENT"), 0, false);
+            ItemStack crystalsButton = cachedItem("enchantgui:crystals_button", () -> createGuiItemHelper(Material.BARRIER, "&6&lCrystals",
+                    List.of("&7Click to view crystals", "&c&lUNDER DEVELOPMENT"), 0, false));
             inventory.setItem(51, crystalsButton);
         }
         if (53 < inventory.getSize()) {
-            ItemStack attachmentsButton = createGuiItemHelper(Material.BARRIER, "&6&lAttachments",
-                    List.of("&7Click to manage your attachments", "&7and boost enchant proc rates"), 0, true);
+            ItemStack attachmentsButton = cachedItem("enchantgui:attachments_button", () -> createGuiItemHelper(Material.BARRIER, "&6&lAttachments",
+                    List.of("&7Click to manage your attachments", "&7and boost enchant proc rates"), 0, true));
             inventory.setItem(53, attachmentsButton);
         }
     }
@@ -214,7 +220,8 @@ public class EnchantGUI implements InventoryHolder {
         if (!fillEmpty || fillerMat == null || fillerMat == Material.AIR) return;
 
         // Create the filler item once using the format string
-        ItemStack filler = createGuiItemHelper(fillerMat, fillerNameFormat, null, fillerModelData, false);
+        ItemStack filler = cachedItem("enchantgui:filler:" + fillerMat + ":" + fillerModelData + ":" + fillerNameFormat,
+                () -> createGuiItemHelper(fillerMat, fillerNameFormat, null, fillerModelData, false));
 
         for (int i = 0; i < inventory.getSize(); i++) {
             if (inventory.getItem(i) == null) {
@@ -256,7 +263,7 @@ public class EnchantGUI implements InventoryHolder {
                     .replace("%balance%", vaultHook.format(vaultHook.getBalance(player)));
         } else if (currency == ConfigManager.CurrencyType.TOKENS && playerData != null) {
             balanceLine = messageManager.getMessage("gui.balance_tokens_format", "&eBalance: &f%balance% Tokens")
-                    .replace("%balance%", NumberFormat.getNumberInstance(Locale.US).format(playerData.getTokens()));
+                    .replace("%balance%", NumberFormatUtil.formatGrouped(playerData.getTokens()));
         } else {
             if (currency == ConfigManager.CurrencyType.VAULT && (vaultHook == null || !vaultHook.isEnabled())) {
                 logger.fine("Vault balance unavailable for info item (Vault disabled/null). Player: " + player.getName());
@@ -321,12 +328,17 @@ public class EnchantGUI implements InventoryHolder {
         if (clickedEnchant == null || !clickedEnchant.isEnabled()) {
             return;
         }
+        if (preparation != null && preparation.isPending()) {
+            return; // Items not shown yet; a commit would overwrite the result of this click
+        }
         final String enchantKey = clickedEnchant.getRawName();
         int levelsToAdd;
+        boolean upgradeMax = false;
         switch (clickType) {
             case LEFT: levelsToAdd = 1; break;
             case RIGHT: levelsToAdd = 10; break;
             case SHIFT_RIGHT: levelsToAdd = 50; break;
+            case SHIFT_LEFT: levelsToAdd = 1; upgradeMax = true; break; // As many levels as the balance allows
             default: return;
         }
         int currentLevel = pickaxeManager.getEnchantLevel(pickaxeContext, enchantKey);
@@ -351,29 +363,22 @@ public class EnchantGUI implements InventoryHolder {
             playSoundEffect(player, Sound.ENTITY_VILLAGER_NO, 1.0f, 1.0f);
             return;
         }
-        double totalCost = 0.0;
-        final int MAX_LEVEL_CALC_ITERATIONS = 2000;
-        int iterations = 0;
-        for (int i = 1; i <= actualLevelsBeingAdded; i++) {
-            if (iterations++ > MAX_LEVEL_CALC_ITERATIONS) {
-                logger.severe("Cost calculation loop exceeded max iterations (" + MAX_LEVEL_CALC_ITERATIONS + ") for " + enchantKey + ". Aborting upgrade for player " + player.getName());
-                ChatUtil.sendMessage(player, "&cError calculating cost for high level jump. Please try smaller increments or contact admin.");
-                return;
-            }
-            int levelToCalc = currentLevel + i;
-            double costForThisLevel = clickedEnchant.getCostForLevel(levelToCalc);
-            if (costForThisLevel < 0) {
-                ChatUtil.sendMessage(player, messageManager.getMessage("gui.cost_calc_error", "&cCannot calculate upgrade cost for level " + levelToCalc + "."));
-                playSoundEffect(player, Sound.ENTITY_VILLAGER_NO, 1.0f, 1.0f);
-                return;
-            }
-            if (costForThisLevel > 0 && totalCost > Double.MAX_VALUE - costForThisLevel) {
-                totalCost = Double.MAX_VALUE;
-                break;
-            }
-            totalCost += costForThisLevel;
-        }
         ConfigManager.CurrencyType currency = configManager.getCurrencyType();
+        if (upgradeMax) {
+            // Highest level the current balance covers; if not even one level is affordable,
+            // fall through with +1 so the usual "not enough" message shows the next level's cost.
+            int levelCap = (int) Math.min(Integer.MAX_VALUE, (long) currentLevel + UNLIMITED_UPGRADE_MAX_LEVELS);
+            int affordableLevel = clickedEnchant.getMaxAffordableLevel(currentLevel, getBalance(player, currency), levelCap);
+            actualTargetLevel = Math.max(affordableLevel, currentLevel + 1);
+            actualLevelsBeingAdded = actualTargetLevel - currentLevel;
+        }
+        // Closed-form series sum, constant time for any number of levels
+        double totalCost = clickedEnchant.getCostForLevels(currentLevel, actualTargetLevel);
+        if (totalCost < 0) {
+            ChatUtil.sendMessage(player, messageManager.getMessage("gui.cost_calc_error", "&cCannot calculate upgrade cost for level " + actualTargetLevel + "."));
+            playSoundEffect(player, Sound.ENTITY_VILLAGER_NO, 1.0f, 1.0f);
+            return;
+        }
         boolean canAfford = false;
         boolean transactionSuccess = false;
         String formattedCostString = "";
@@ -382,7 +387,7 @@ public class EnchantGUI implements InventoryHolder {
             transactionSuccess = true;
             formattedCostString = (currency == ConfigManager.CurrencyType.VAULT && vaultHook != null && vaultHook.isEnabled()) ? vaultHook.format(0) : "0";
         } else if (currency == ConfigManager.CurrencyType.TOKENS) {
-            formattedCostString = NumberFormat.getNumberInstance(Locale.US).format((long)Math.ceil(totalCost));
+            formattedCostString = NumberFormatUtil.formatGrouped((long)Math.ceil(totalCost));
             if (playerData != null && playerData.hasEnoughTokens(totalCost)) {
                 canAfford = true;
                 if (playerData.removeTokens(totalCost)) {
@@ -422,7 +427,7 @@ public class EnchantGUI implements InventoryHolder {
             }
             pickaxeManager.updatePickaxe(pickaxeContext, player);
             int updatedPickLevel = PDCUtil.getPickaxeLevel(pickaxeContext);
-            ItemStack updatedGuiItem = clickedEnchant.createGuiItem(actualTargetLevel, updatedPickLevel, currency, vaultHook);
+            ItemStack updatedGuiItem = renderEnchantItem(clickedEnchant, actualTargetLevel, updatedPickLevel, currency);
             inventory.setItem(slot, updatedGuiItem);
             addInfoItem();
             String msgFormatKey = (actualLevelsBeingAdded == 1) ? (currency == ConfigManager.CurrencyType.TOKENS ? "gui.upgrade_success_tokens" : "gui.upgrade_success_vault") : (currency == ConfigManager.CurrencyType.TOKENS ? "gui.upgrade_multiple_success_tokens" : "gui.upgrade_multiple_success_vault");
@@ -432,6 +437,16 @@ public class EnchantGUI implements InventoryHolder {
         }
     }
 
+    /**
+     * @return The player's balance in the active currency, or 0 if it can't be read.
+     */
+    private double getBalance(Player player, ConfigManager.CurrencyType currency) {
+        if (currency == ConfigManager.CurrencyType.TOKENS) {
+            return (playerData != null) ? playerData.getTokens() : 0.0;
+        }
+        return (vaultHook != null && vaultHook.isEnabled()) ? vaultHook.getBalance(player) : 0.0;
+    }
+
     // --- CORRECTED SECTION START ---
     /**
      * Handles menu button clicks and returns true if a menu button was clicked.
@@ -520,6 +535,23 @@ public class EnchantGUI implements InventoryHolder {
         return inventory;
     }
 
+    /**
+     * Renders an enchant's GUI item through the shared GuiItemCache (falls back to direct rendering).
+     */
+    private ItemStack renderEnchantItem(EnchantmentWrapper enchant, int enchantLevel, int pickaxeLevel, ConfigManager.CurrencyType currency) {
+        GuiItemCache cache = plugin.getGuiItemCache();
+        if (cache == null) return enchant.createGuiItem(enchantLevel, pickaxeLevel, currency, vaultHook);
+        return cache.getEnchantItem(enchant, enchantLevel, pickaxeLevel, currency, vaultHook);
+    }
+
+    /**
+     * Returns a fixed item from the shared GuiItemCache, rendering it on a miss.
+     */
+    private ItemStack cachedItem(String key, Supplier<ItemStack> renderer) {
+        GuiItemCache cache = plugin.getGuiItemCache();
+        return (cache != null) ? cache.getItem(key, renderer) : renderer.get();
+    }
+
     /**
      * Helper method to create simple GUI items like fillers and close buttons.
      *
@@ -10,6 +10,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import java.util.UUID;
@@ -28,6 +29,14 @@ public class EnchantGUIListener implements Listener {
         this.logger = plugin.getLogger();
     }
 
+    /**
+     * Stops menu contents still being prepared for an inventory the player has closed.
+     */
+    @EventHandler
+    public void onInventoryClose(InventoryCloseEvent event) {
+        GuiPreparation.cancel(event.getPlayer().getUniqueId(), event.getInventory());
+    }
+
     @EventHandler(ignoreCancelled = true)
     public void onInventoryClick(InventoryClickEvent event) {
         InventoryHolder holder = event.getView().getTopInventory().getHolder();
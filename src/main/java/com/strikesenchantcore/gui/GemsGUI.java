@@ -1,5 +1,6 @@
 package com.strikesenchantcore.gui;
 
+import com.strikesenchantcore.util.NumberFormatUtil;
 import com.strikesenchantcore.EnchantCore;
 import com.strikesenchantcore.config.ConfigManager;
 import com.strikesenchantcore.config.MessageManager;
@@ -25,7 +26,6 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.text.NumberFormat;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -38,6 +38,7 @@ public class GemsGUI implements InventoryHolder {
     private final PlayerData playerData;
     private final ItemStack pickaxe;
     private final Inventory inventory;
+    @Nullable private GuiPreparation.Handle preparation; // Enchant items still being prepared off-thread
     private final Logger logger;
     private final EnchantRegistry enchantRegistry;
     private final PickaxeManager pickaxeManager;
@@ -65,12 +66,14 @@ public class GemsGUI implements InventoryHolder {
         Map<String, Integer> currentEnchants = pickaxeManager.getAllEnchantLevels(this.pickaxe);
         int pickaxeLevel = PDCUtil.getPickaxeLevel(this.pickaxe);
         int currentSlot = 10;
+        List<GuiPreparation.EnchantSlot> enchantSlots = new ArrayList<>();
         for (EnchantmentWrapper enchant : enchantRegistry.getAllEnchants()) {
             if (!enchant.isEnabled() || enchant.getCurrencyType() != ConfigManager.CurrencyType.GEMS) continue;
             if (currentSlot >= 45) break;
             int currentLevel = currentEnchants.getOrDefault(enchant.getRawName().toLowerCase(), 0);
-            inventory.setItem(currentSlot++, enchant.createGuiItem(currentLevel, pickaxeLevel, ConfigManager.CurrencyType.GEMS, null));
+            enchantSlots.add(new GuiPreparation.EnchantSlot(enchant, currentSlot++, currentLevel, ConfigManager.CurrencyType.GEMS));
         }
+        this.preparation = GuiPreparation.fillEnchantSlots(plugin, player, inventory, enchantSlots, pickaxeLevel, null);
         addInfoItem();
     }
 
@@ -98,7 +101,7 @@ public class GemsGUI implements InventoryHolder {
         if (meta == null) return;
         List<String> lore = meta.hasLore() ? new ArrayList<>(meta.getLore()) : new ArrayList<>();
         lore.add("");
-        String balanceLine = messageManager.getMessage("currency.gems_balance_format", "&dBalance: &f%balance% Gems").replace("%balance%", NumberFormat.getNumberInstance(Locale.US).format(playerData.getGems()));
+        String balanceLine = messageManager.getMessage("currency.gems_balance_format", "&dBalance: &f%balance% Gems").replace("%balance%", NumberFormatUtil.formatGrouped(playerData.getGems()));
         lore.add(ChatUtil.color(balanceLine));
         meta.setLore(lore);
         infoPickaxeClone.setItemMeta(meta);
@@ -121,6 +124,7 @@ public class GemsGUI implements InventoryHolder {
         if (handleMenuButtonClick(player, slot)) return;
         EnchantmentWrapper clickedEnchant = findEnchantForSlot(slot);
         if (clickedEnchant == null) return;
+        if (preparation != null && preparation.isPending()) return; // Items not shown yet
         int levelsToAdd = switch (clickType) {
             case LEFT -> 1;
             case RIGHT -> 10;
@@ -143,14 +147,14 @@ public class GemsGUI implements InventoryHolder {
             totalCost += clickedEnchant.getCostForLevel(currentLevel + i);
         }
         if (!playerData.hasEnoughGems(totalCost)) {
-            ChatUtil.sendMessage(player, "&cNot enough Gems! Cost: &d" + NumberFormat.getNumberInstance(Locale.US).format(totalCost));
+            ChatUtil.sendMessage(player, "&cNot enough Gems! Cost: &d" + NumberFormatUtil.formatDecimal(totalCost, 0, 3, true));
             playSoundEffect(player, Sound.ENTITY_VILLAGER_NO, 1.0f, 1.0f);
             return;
         }
         playerData.removeGems(totalCost);
         pickaxeManager.setEnchantLevel(pickaxe, clickedEnchant.getRawName(), targetLevel);
         pickaxeManager.updatePickaxe(pickaxe, player);
-        inventory.setItem(slot, clickedEnchant.createGuiItem(targetLevel, PDCUtil.getPickaxeLevel(pickaxe), ConfigManager.CurrencyType.GEMS, null));
+        inventory.setItem(slot, renderEnchantItem(clickedEnchant, targetLevel, PDCUtil.getPickaxeLevel(pickaxe), ConfigManager.CurrencyType.GEMS));
         addInfoItem();
         ChatUtil.sendMessage(player, "&aUpgraded " + clickedEnchant.getDisplayName() + " to level " + targetLevel + "!");
         playSoundEffect(player, Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.2f);
@@ -218,4 +222,13 @@ public class GemsGUI implements InventoryHolder {
         return item;
     }
     private void playSoundEffect(Player player, Sound sound, float volume, float pitch) { player.playSound(player.getLocation(), sound, SoundCategory.PLAYERS, volume, pitch); }
-}
\ No newline at end of file
+
+    /**
+     * Renders an enchant's GUI item through the shared GuiItemCache (falls back to direct rendering).
+     */
+    private ItemStack renderEnchantItem(EnchantmentWrapper enchant, int enchantLevel, int pickaxeLevel, ConfigManager.CurrencyType currency) {
+        GuiItemCache cache = plugin.getGuiItemCache();
+        if (cache == null) return enchant.createGuiItem(enchantLevel, pickaxeLevel, currency, null);
+        return cache.getEnchantItem(enchant, enchantLevel, pickaxeLevel, currency, null);
+    }
+}
@@ -0,0 +1,146 @@
+package com.strikesenchantcore.gui;
+
+import com.strikesenchantcore.config.ConfigManager;
+import com.strikesenchantcore.enchants.EnchantmentWrapper;
+import com.strikesenchantcore.util.VaultHook;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Cache of rendered GUI items shared by every player's menus.
+ * Enchant items are keyed by everything that affects their rendering: the enchant, its level,
+ * whether the pickaxe meets the level requirement (the only way the pickaxe level shows up in the
+ * item), the currency and whether Vault formatting is used. Fixed items (buttons, titles, fillers,
+ * crystal items) are cached by a caller-chosen string key. Rendering only happens on a miss, so
+ * opening a menu is mostly map lookups. Cleared on reload.
+ * <p>
+ * Returned items are shared: callers must not modify them. Passing them to
+ * {@code Inventory.setItem} is safe because the server copies the stack.
+ */
+public class GuiItemCache {
+
+    private static final int MAX_ENTRIES = 4096;
+
+    private final Map<Object, ItemStack> items = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, ItemStack> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    private long hits = 0L;
+    private long misses = 0L;
+
+    /**
+     * Key for a rendered enchant item.
+     */
+    private static final class EnchantKey {
+        private final String enchant;
+        private final int level;
+        private final boolean requirementMet;
+        private final ConfigManager.CurrencyType currency;
+        private final boolean vaultFormatting;
+        private final int hash;
+
+        private EnchantKey(String enchant, int level, boolean requirementMet, ConfigManager.CurrencyType currency, boolean vaultFormatting) {
+            this.enchant = enchant;
+            this.level = level;
+            this.requirementMet = requirementMet;
+            this.currency = currency;
+            this.vaultFormatting = vaultFormatting;
+            this.hash = Objects.hash(enchant, level, requirementMet, currency, vaultFormatting);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof EnchantKey)) return false;
+            EnchantKey other = (EnchantKey) o;
+            return level == other.level && requirementMet == other.requirementMet
+                    && vaultFormatting == other.vaultFormatting && currency == other.currency
+                    && enchant.equals(other.enchant);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Returns the GUI item for an enchant, rendering it with
+     * {@link EnchantmentWrapper#createGuiItem} only if no matching item is cached.
+     */
+    @NotNull
+    public ItemStack getEnchantItem(@NotNull EnchantmentWrapper enchant, int enchantLevel, int pickaxeLevel,
+                                    ConfigManager.CurrencyType currency, @Nullable VaultHook vaultHook) {
+        return get(enchantKey(enchant, enchantLevel, pickaxeLevel, currency, vaultHook),
+                () -> enchant.createGuiItem(enchantLevel, pickaxeLevel, currency, vaultHook));
+    }
+
+    /**
+     * Returns the cached enchant item, or null without rendering on a miss
+     * (used by {@link GuiPreparation} to decide what to prepare off the main thread).
+     */
+    @Nullable
+    public synchronized ItemStack peekEnchantItem(@NotNull EnchantmentWrapper enchant, int enchantLevel, int pickaxeLevel,
+                                                  ConfigManager.CurrencyType currency, @Nullable VaultHook vaultHook) {
+        ItemStack cached = items.get(enchantKey(enchant, enchantLevel, pickaxeLevel, currency, vaultHook));
+        if (cached != null) hits++;
+        else misses++;
+        return cached;
+    }
+
+    /**
+     * Stores an enchant item rendered elsewhere.
+     */
+    public synchronized void putEnchantItem(@NotNull EnchantmentWrapper enchant, int enchantLevel, int pickaxeLevel,
+                                            ConfigManager.CurrencyType currency, @Nullable VaultHook vaultHook, @NotNull ItemStack item) {
+        items.put(enchantKey(enchant, enchantLevel, pickaxeLevel, currency, vaultHook), item);
+    }
+
+    private static EnchantKey enchantKey(EnchantmentWrapper enchant, int enchantLevel, int pickaxeLevel,
+                                         ConfigManager.CurrencyType currency, @Nullable VaultHook vaultHook) {
+        int required = enchant.getPickaxeLevelRequired();
+        boolean requirementMet = required <= 0 || pickaxeLevel >= required;
+        return new EnchantKey(enchant.getRawName(), enchantLevel, requirementMet, currency,
+                vaultHook != null && vaultHook.isEnabled());
+    }
+
+    /**
+     * Returns a fixed item (one whose look depends only on the key), rendering it on a miss.
+     * @param key Unique id that includes every value the rendered item depends on.
+     */
+    @NotNull
+    public ItemStack getItem(@NotNull String key, @NotNull Supplier<ItemStack> renderer) {
+        return get(key, renderer);
+    }
+
+    private synchronized ItemStack get(Object key, Supplier<ItemStack> renderer) {
+        ItemStack cached = items.get(key);
+        if (cached != null) {
+            hits++;
+            return cached;
+        }
+        misses++;
+        ItemStack rendered = renderer.get();
+        items.put(key, rendered);
+        return rendered;
+    }
+
+    /**
+     * Drops every cached item. Called on reload, since configs and messages feed the rendering.
+     */
+    public synchronized void invalidateAll() {
+        items.clear();
+    }
+
+    public synchronized int size() { return items.size(); }
+    public synchronized long getHits() { return hits; }
+    public synchronized long getMisses() { return misses; }
+}
@@ -0,0 +1,186 @@
+package com.strikesenchantcore.gui;
+
+import com.strikesenchantcore.EnchantCore;
+import com.strikesenchantcore.config.ConfigManager;
+import com.strikesenchantcore.enchants.EnchantmentWrapper;
+import com.strikesenchantcore.util.VaultHook;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+/**
+ * Two-phase preparation of GUI contents.
+ * Phase 1 runs on an async worker and turns an immutable snapshot (taken on the main thread)
+ * into pure data: strings, lore lists, costs. Phase 2 runs back on the main thread and only
+ * creates ItemStacks and places them in the inventory. Each player has at most one pending
+ * preparation; starting a new one, closing the target inventory or quitting cancels it, and a
+ * cancelled preparation never commits.
+ */
+public final class GuiPreparation {
+
+    private static final Map<UUID, Handle> pending = new ConcurrentHashMap<>();
+
+    private GuiPreparation() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * A pending preparation.
+     */
+    public static final class Handle {
+        private final UUID playerId;
+        private final Inventory target;
+        private volatile boolean cancelled = false;
+        private volatile boolean done = false;
+
+        private Handle(UUID playerId, Inventory target) {
+            this.playerId = playerId;
+            this.target = target;
+        }
+
+        public void cancel() {
+            cancelled = true;
+            pending.remove(playerId, this);
+        }
+
+        public boolean isCancelled() { return cancelled; }
+
+        /** @return True while the contents have not been committed (and the preparation wasn't cancelled). */
+        public boolean isPending() { return !done && !cancelled; }
+    }
+
+    /**
+     * Starts a preparation.
+     * @param target   The inventory the commit writes to; closing it cancels the preparation.
+     * @param snapshot Immutable input captured on the main thread.
+     * @param worker   Pure computation, run off the main thread. Must not touch Bukkit state.
+     * @param commit   Main-thread step that builds items and places them.
+     */
+    @NotNull
+    public static <S, D> Handle prepare(@NotNull EnchantCore plugin, @NotNull Player player, @NotNull Inventory target,
+                                        @NotNull S snapshot, @NotNull Function<? super S, ? extends D> worker,
+                                        @NotNull Consumer<? super D> commit) {
+        Handle handle = new Handle(player.getUniqueId(), target);
+        Handle previous = pending.put(handle.playerId, handle);
+        if (previous != null) previous.cancelled = true; // Player moved on to another menu
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            if (handle.cancelled) return;
+            D data;
+            try {
+                data = worker.apply(snapshot);
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "[GUI] Failed to prepare menu contents for " + player.getName(), e);
+                handle.cancel();
+                return;
+            }
+            if (handle.cancelled || !plugin.isEnabled()) return;
+
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                pending.remove(handle.playerId, handle);
+                if (handle.cancelled || !player.isOnline()) return;
+                try {
+                    commit.accept(data);
+                } catch (Exception e) {
+                    plugin.getLogger().log(Level.WARNING, "[GUI] Failed to apply menu contents for " + player.getName(), e);
+                } finally {
+                    handle.done = true;
+                }
+            });
+        });
+        return handle;
+    }
+
+    /**
+     * Cancels the player's pending preparation if it targets the given inventory. Call when the inventory closes.
+     */
+    public static void cancel(@NotNull UUID playerId, @NotNull Inventory inventory) {
+        Handle handle = pending.get(playerId);
+        if (handle != null && handle.target == inventory) {
+            handle.cancel();
+        }
+    }
+
+    /**
+     * Cancels whatever the player has pending (e.g. on quit).
+     */
+    public static void cancelAll(@NotNull UUID playerId) {
+        Handle handle = pending.remove(playerId);
+        if (handle != null) handle.cancelled = true;
+    }
+
+    // --- Enchant Items ---
+
+    /**
+     * One enchant item to show: which enchant, where, at what level and priced in which currency.
+     */
+    public static final class EnchantSlot {
+        private final EnchantmentWrapper enchant;
+        private final int slot;
+        private final int level;
+        private final ConfigManager.CurrencyType currency;
+
+        public EnchantSlot(@NotNull EnchantmentWrapper enchant, int slot, int level, ConfigManager.CurrencyType currency) {
+            this.enchant = enchant;
+            this.slot = slot;
+            this.level = level;
+            this.currency = currency;
+        }
+    }
+
+    /**
+     * Places enchant items in the inventory. Items found in the GuiItemCache are placed immediately;
+     * the rest have their text prepared off the main thread and are built and placed on commit.
+     * @param pickaxeLevel The pickaxe level read on the main thread.
+     * @return The pending preparation, or null if everything was placed immediately.
+     */
+    @Nullable
+    public static Handle fillEnchantSlots(@NotNull EnchantCore plugin, @NotNull Player player, @NotNull Inventory inventory,
+                                          @NotNull List<EnchantSlot> slots, int pickaxeLevel, @Nullable VaultHook vaultHook) {
+        GuiItemCache cache = plugin.getGuiItemCache();
+        List<EnchantSlot> misses = new ArrayList<>();
+        for (EnchantSlot entry : slots) {
+            ItemStack cached = (cache != null) ? cache.peekEnchantItem(entry.enchant, entry.level, pickaxeLevel, entry.currency, vaultHook) : null;
+            if (cached != null) {
+                inventory.setItem(entry.slot, cached);
+            } else {
+                misses.add(entry);
+            }
+        }
+        if (misses.isEmpty()) return null;
+
+        List<EnchantSlot> snapshot = Collections.unmodifiableList(misses);
+        return GuiPreparation.<List<EnchantSlot>, List<EnchantmentWrapper.GuiItemData>>prepare(plugin, player, inventory, snapshot,
+                toPrepare -> {
+                    List<EnchantmentWrapper.GuiItemData> prepared = new ArrayList<>(toPrepare.size());
+                    for (EnchantSlot entry : toPrepare) {
+                        prepared.add(entry.enchant.prepareGuiItemData(entry.level, pickaxeLevel, entry.currency, vaultHook));
+                    }
+                    return prepared;
+                },
+                prepared -> {
+                    GuiItemCache currentCache = plugin.getGuiItemCache();
+                    for (int i = 0; i < snapshot.size(); i++) {
+                        EnchantSlot entry = snapshot.get(i);
+                        ItemStack item = entry.enchant.buildGuiItem(prepared.get(i));
+                        if (currentCache != null) {
+                            currentCache.putEnchantItem(entry.enchant, entry.level, pickaxeLevel, entry.currency, vaultHook, item);
+                        }
+                        inventory.setItem(entry.slot, item);
+                    }
+                });
+    }
+}
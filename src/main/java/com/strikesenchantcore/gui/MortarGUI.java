@@ -1,5 +1,6 @@
 package com.strikesenchantcore.gui;
 
+import com.strikesenchantcore.util.NumberFormatUtil;
 import com.strikesenchantcore.EnchantCore;
 import com.strikesenchantcore.data.PlayerData;
 import com.strikesenchantcore.managers.MortarManager;
@@ -18,11 +19,11 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.jetbrains.annotations.NotNull;
 
-import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 public class MortarGUI implements InventoryHolder {
 
@@ -66,7 +67,8 @@ public class MortarGUI implements InventoryHolder {
     }
 
     private void addBackButton() {
-        ItemStack backButton = createItem(Material.BARRIER, "&c&lBACK", List.of("&7Click to return to main menu."), false);
+        ItemStack backButton = cachedItem("mortargui:back_button",
+                () -> createItem(Material.BARRIER, "&c&lBACK", List.of("&7Click to return to main menu."), false));
         inventory.setItem(BACK_BUTTON_SLOT, backButton);
     }
 
@@ -130,7 +132,7 @@ public class MortarGUI implements InventoryHolder {
             if (mortarManager.hasActiveBoost(playerId)) {
                 double multiplier = mortarManager.getActiveBoostMultiplier(playerId);
                 long boostRemaining = mortarData.getBoostEndTime() - System.currentTimeMillis();
-                lore.add("&eActive Boost: &6" + String.format("%.1f", multiplier) + "x");
+                lore.add("&eActive Boost: &6" + NumberFormatUtil.formatFixed(multiplier, 1) + "x");
                 lore.add("&eTime Remaining: &6" + formatTime(boostRemaining));
             } else {
                 lore.add("&eActive Boost: &7None");
@@ -186,15 +188,15 @@ public class MortarGUI implements InventoryHolder {
         long currentBlocks = pickaxe != null ? PDCUtil.getPickaxeBlocksMined(pickaxe) : 0;
         boolean blocksMet = currentBlocks >= req.getRequiredBlocksMined();
         lore.add((blocksMet ? "&a✓ " : "&c✗ ") + "Blocks Mined: &f" +
-                NumberFormat.getNumberInstance(Locale.US).format(currentBlocks) + "&7/&f" +
-                NumberFormat.getNumberInstance(Locale.US).format(req.getRequiredBlocksMined()));
+                NumberFormatUtil.formatGrouped(currentBlocks) + "&7/&f" +
+                NumberFormatUtil.formatGrouped(req.getRequiredBlocksMined()));
 
         // Check tokens
         long currentTokens = playerData != null ? playerData.getTokens() : 0;
         boolean tokensMet = currentTokens >= req.getRequiredTokens();
         lore.add((tokensMet ? "&a✓ " : "&c✗ ") + "Tokens: &f" +
-                NumberFormat.getNumberInstance(Locale.US).format(currentTokens) + "&7/&f" +
-                NumberFormat.getNumberInstance(Locale.US).format(req.getRequiredTokens()));
+                NumberFormatUtil.formatGrouped(currentTokens) + "&7/&f" +
+                NumberFormatUtil.formatGrouped(req.getRequiredTokens()));
 
         lore.add("");
         boolean canUpgrade = pickaxeLevelMet && blocksMet && tokensMet;
@@ -227,7 +229,7 @@ public class MortarGUI implements InventoryHolder {
             if (mortarData.hasUpgrade(MortarManager.MortarUpgrade.MULTIPLIER)) {
                 baseMultiplier += 0.2 * mortarData.getUpgradeLevel(MortarManager.MortarUpgrade.MULTIPLIER);
             }
-            lore.add("&eBoost Multiplier: &6" + String.format("%.1f", baseMultiplier) + "x");
+            lore.add("&eBoost Multiplier: &6" + NumberFormatUtil.formatFixed(baseMultiplier, 1) + "x");
 
             // Calculate cooldown
             long baseCooldown = 120000 - (5000 * mortarData.getLevel());
@@ -261,8 +263,8 @@ public class MortarGUI implements InventoryHolder {
 
         if (mortarData.getLevel() == 0) {
             // Mortar not unlocked
-            ItemStack item = createItem(Material.BARRIER, "&c&lLocked",
-                    List.of("&7Unlock the mortar first!"), false);
+            ItemStack item = cachedItem("mortargui:locked_upgrade", () -> createItem(Material.BARRIER, "&c&lLocked",
+                    List.of("&7Unlock the mortar first!"), false));
             inventory.setItem(slot, item);
             return;
         }
@@ -309,8 +311,8 @@ public class MortarGUI implements InventoryHolder {
             long currentTokens = playerData != null ? playerData.getTokens() : 0;
             boolean canAfford = currentTokens >= cost;
 
-            lore.add("&eCost: &6" + NumberFormat.getNumberInstance(Locale.US).format(cost) + " Tokens");
-            lore.add("&eYour Tokens: &6" + NumberFormat.getNumberInstance(Locale.US).format(currentTokens));
+            lore.add("&eCost: &6" + NumberFormatUtil.formatGrouped(cost) + " Tokens");
+            lore.add("&eYour Tokens: &6" + NumberFormatUtil.formatGrouped(currentTokens));
             lore.add("");
 
             if (canAfford) {
@@ -403,7 +405,7 @@ public class MortarGUI implements InventoryHolder {
         if (mortarData.hasUpgrade(MortarManager.MortarUpgrade.MULTIPLIER)) {
             baseMultiplier += 0.2 * mortarData.getUpgradeLevel(MortarManager.MortarUpgrade.MULTIPLIER);
         }
-        ChatUtil.sendMessage(player, "&eBoost Multiplier: &6" + String.format("%.1f", baseMultiplier) + "x");
+        ChatUtil.sendMessage(player, "&eBoost Multiplier: &6" + NumberFormatUtil.formatFixed(baseMultiplier, 1) + "x");
 
         long baseCooldown = 120000 - (5000 * mortarData.getLevel());
         baseCooldown = Math.max(30000, baseCooldown);
@@ -425,7 +427,7 @@ public class MortarGUI implements InventoryHolder {
         if (mortarManager.hasActiveBoost(playerId)) {
             double multiplier = mortarManager.getActiveBoostMultiplier(playerId);
             long boostRemaining = mortarData.getBoostEndTime() - System.currentTimeMillis();
-            ChatUtil.sendMessage(player, "&eActive Boost: &6" + String.format("%.1f", multiplier) + "x &efor &6" + formatTime(boostRemaining));
+            ChatUtil.sendMessage(player, "&eActive Boost: &6" + NumberFormatUtil.formatFixed(multiplier, 1) + "x &efor &6" + formatTime(boostRemaining));
         }
 
         if (mortarData.getLastActivation() > 0) {
@@ -460,6 +462,11 @@ public class MortarGUI implements InventoryHolder {
         };
     }
 
+    private ItemStack cachedItem(String key, Supplier<ItemStack> renderer) {
+        GuiItemCache cache = plugin.getGuiItemCache();
+        return (cache != null) ? cache.getItem(key, renderer) : renderer.get();
+    }
+
     private ItemStack createItem(Material material, String name, List<String> lore, boolean enchanted) {
         ItemStack item = new ItemStack(material);
         ItemMeta meta = item.getItemMeta();
@@ -6,6 +6,7 @@ import com.strikesenchantcore.config.MessageManager;
 import com.strikesenchantcore.config.SkinConfig;
 import com.strikesenchantcore.data.PlayerData;
 import com.strikesenchantcore.pickaxe.PickaxeManager;
+import com.strikesenchantcore.pickaxe.PickaxeRecord;
 import com.strikesenchantcore.util.ChatUtil;
 import com.strikesenchantcore.util.ColorUtils;
 import com.strikesenchantcore.util.PDCUtil;
@@ -46,8 +47,6 @@ public class PickaxeSkinsGUI implements InventoryHolder {
     private final MessageManager messageManager;
     private final SkinConfig skinConfig;
 
-    private final NamespacedKey SKIN_KEY;
-
     public PickaxeSkinsGUI(@NotNull EnchantCore plugin, @NotNull Player player, @NotNull PlayerData playerData, @NotNull ItemStack pickaxe) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
@@ -59,7 +58,6 @@ public class PickaxeSkinsGUI implements InventoryHolder {
         this.configManager = plugin.getConfigManager();
         this.messageManager = plugin.getMessageManager();
         this.skinConfig = plugin.getSkinConfig();
-        this.SKIN_KEY = new NamespacedKey(plugin, "pickaxe_skin");
 
         String title = skinConfig.getGuiTitle();
         this.inventory = Bukkit.createInventory(this, skinConfig.getGuiSize(), title);
@@ -157,16 +155,13 @@ public class PickaxeSkinsGUI implements InventoryHolder {
     }
 
     private String getCurrentSkin() {
-        if (!PDCUtil.isEnchantCorePickaxe(pickaxe)) return "none";
-        String skinValue = PDCUtil.getString(pickaxe, SKIN_KEY);
+        String skinValue = PDCUtil.getPickaxeSkin(pickaxe);
         return skinValue != null ? skinValue : "none";
     }
 
     private boolean applySkin(String skinId, SkinConfig.SkinData skinData) {
-        if (!PDCUtil.isEnchantCorePickaxe(pickaxe)) return false;
-        int currentLevel = PDCUtil.getPickaxeLevel(pickaxe);
-        long currentBlocks = PDCUtil.getPickaxeBlocksMined(pickaxe);
-        java.util.Map<String, Integer> currentEnchants = pickaxeManager.getAllEnchantLevels(pickaxe);
+        PickaxeRecord record = PDCUtil.readPickaxe(pickaxe);
+        if (record == null) return false;
 
         ItemStack newSkinItem = skinData.hasItemsAdderID() ? plugin.getItemsAdderUtil().createItemStack(skinData.getMaterial().name(), skinData.getItemsAdderID()) : new ItemStack(skinData.getMaterial());
         if (newSkinItem == null) return false;
@@ -181,35 +176,23 @@ public class PickaxeSkinsGUI implements InventoryHolder {
 
         pickaxe.setType(newSkinItem.getType());
         pickaxe.setItemMeta(newSkinItem.getItemMeta());
-        PDCUtil.tagAsEnchantCorePickaxe(pickaxe);
-        PDCUtil.setPickaxeLevel(pickaxe, currentLevel);
-        PDCUtil.setPickaxeBlocksMined(pickaxe, currentBlocks);
-        currentEnchants.forEach((enchantKey, enchantLevel) -> pickaxeManager.setEnchantLevel(pickaxe, enchantKey, enchantLevel));
-        PDCUtil.setString(pickaxe, SKIN_KEY, skinId);
+        record.setSkin(skinId);
+        PDCUtil.writePickaxe(pickaxe, record); // Carries level, blocks and enchants over to the new meta
         pickaxeManager.updatePickaxe(pickaxe, player);
         return true;
     }
 
     private boolean removeSkin() {
-        if (!PDCUtil.isEnchantCorePickaxe(pickaxe)) return false;
-        int currentLevel = PDCUtil.getPickaxeLevel(pickaxe);
-        long currentBlocks = PDCUtil.getPickaxeBlocksMined(pickaxe);
-        java.util.Map<String, Integer> currentEnchants = pickaxeManager.getAllEnchantLevels(pickaxe);
+        PickaxeRecord record = PDCUtil.readPickaxe(pickaxe);
+        if (record == null) return false;
         String defaultMaterial = plugin.getPickaxeConfig().getPickaxeMaterial().name();
         String defaultItemsAdderID = plugin.getPickaxeConfig().getPickaxeItemsAdderID();
         ItemStack defaultPickaxe = plugin.getItemsAdderUtil().createItemStack(defaultMaterial, defaultItemsAdderID);
         if (defaultPickaxe == null) return false;
         pickaxe.setType(defaultPickaxe.getType());
         pickaxe.setItemMeta(defaultPickaxe.getItemMeta());
-        PDCUtil.tagAsEnchantCorePickaxe(pickaxe);
-        PDCUtil.setPickaxeLevel(pickaxe, currentLevel);
-        PDCUtil.setPickaxeBlocksMined(pickaxe, currentBlocks);
-        currentEnchants.forEach((enchantKey, enchantLevel) -> pickaxeManager.setEnchantLevel(pickaxe, enchantKey, enchantLevel));
-        ItemMeta finalMeta = pickaxe.getItemMeta();
-        if (finalMeta != null) {
-            finalMeta.getPersistentDataContainer().remove(SKIN_KEY);
-            pickaxe.setItemMeta(finalMeta);
-        }
+        record.setSkin(null);
+        PDCUtil.writePickaxe(pickaxe, record); // Carries level, blocks and enchants over to the new meta
         pickaxeManager.updatePickaxe(pickaxe, player);
         return true;
     }
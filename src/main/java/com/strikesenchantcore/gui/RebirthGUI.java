@@ -1,5 +1,6 @@
 package com.strikesenchantcore.gui;
 
+import com.strikesenchantcore.util.NumberFormatUtil;
 import com.strikesenchantcore.EnchantCore;
 import com.strikesenchantcore.config.ConfigManager;
 import com.strikesenchantcore.config.MessageManager;
@@ -25,7 +26,6 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.text.NumberFormat;
 import java.util.*;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -37,6 +37,7 @@ public class RebirthGUI implements InventoryHolder {
     private final PlayerData playerData;
     private final ItemStack pickaxe;
     private final Inventory inventory;
+    @Nullable private GuiPreparation.Handle preparation; // Enchant items still being prepared off-thread
     private final Logger logger;
 
     private final EnchantRegistry enchantRegistry;
@@ -68,18 +69,20 @@ public class RebirthGUI implements InventoryHolder {
         Map<String, Integer> currentEnchants = pickaxeManager.getAllEnchantLevels(this.pickaxe);
         int pickaxeLevel = PDCUtil.getPickaxeLevel(this.pickaxe);
         int currentSlot = 10;
+        List<GuiPreparation.EnchantSlot> enchantSlots = new ArrayList<>();
 
         for (EnchantmentWrapper enchant : enchantRegistry.getAllEnchants()) {
             if (!enchant.isEnabled() || enchant.getCurrencyType() != ConfigManager.CurrencyType.POINTS) continue;
             if (currentSlot >= 45) break;
 
             int currentLevel = currentEnchants.getOrDefault(enchant.getRawName().toLowerCase(), 0);
-            inventory.setItem(currentSlot, enchant.createGuiItem(currentLevel, pickaxeLevel, ConfigManager.CurrencyType.POINTS, null));
+            enchantSlots.add(new GuiPreparation.EnchantSlot(enchant, currentSlot, currentLevel, ConfigManager.CurrencyType.POINTS));
 
             slotToEnchantMap.put(currentSlot, enchant);
 
             currentSlot++;
         }
+        this.preparation = GuiPreparation.fillEnchantSlots(plugin, player, inventory, enchantSlots, pickaxeLevel, null);
         addInfoItem();
     }
 
@@ -89,6 +92,7 @@ public class RebirthGUI implements InventoryHolder {
         EnchantmentWrapper clickedEnchant = slotToEnchantMap.get(slot);
 
         if (clickedEnchant == null) return;
+        if (preparation != null && preparation.isPending()) return; // Items not shown yet
 
         int levelsToAdd = switch (clickType) {
             case LEFT -> 1;
@@ -115,7 +119,7 @@ public class RebirthGUI implements InventoryHolder {
         }
 
         if (!playerData.hasEnoughPoints(totalCost)) {
-            ChatUtil.sendMessage(player, "&cNot enough Points! Cost: &e" + NumberFormat.getNumberInstance(Locale.US).format(totalCost));
+            ChatUtil.sendMessage(player, "&cNot enough Points! Cost: &e" + NumberFormatUtil.formatDecimal(totalCost, 0, 3, true));
             playSoundEffect(player, Sound.ENTITY_VILLAGER_NO, 1.0f, 1.0f);
             return;
         }
@@ -124,7 +128,7 @@ public class RebirthGUI implements InventoryHolder {
         pickaxeManager.setEnchantLevel(pickaxe, clickedEnchant.getRawName(), targetLevel);
         pickaxeManager.updatePickaxe(pickaxe, player);
 
-        inventory.setItem(slot, clickedEnchant.createGuiItem(targetLevel, PDCUtil.getPickaxeLevel(pickaxe), ConfigManager.CurrencyType.POINTS, null));
+        inventory.setItem(slot, renderEnchantItem(clickedEnchant, targetLevel, PDCUtil.getPickaxeLevel(pickaxe), ConfigManager.CurrencyType.POINTS));
         addInfoItem();
 
         ChatUtil.sendMessage(player, "&aUpgraded " + clickedEnchant.getDisplayName() + " to level " + targetLevel + "!");
@@ -154,7 +158,7 @@ public class RebirthGUI implements InventoryHolder {
         if (meta == null) return;
         List<String> lore = meta.hasLore() ? new ArrayList<>(meta.getLore()) : new ArrayList<>();
         lore.add("");
-        String balanceLine = messageManager.getMessage("currency.points_balance_format", "&eBalance: &f%balance% Points").replace("%balance%", NumberFormat.getNumberInstance(Locale.US).format(playerData.getPoints()));
+        String balanceLine = messageManager.getMessage("currency.points_balance_format", "&eBalance: &f%balance% Points").replace("%balance%", NumberFormatUtil.formatGrouped(playerData.getPoints()));
         lore.add(ChatUtil.color(balanceLine));
         meta.setLore(lore);
         infoPickaxeClone.setItemMeta(meta);
@@ -224,4 +228,13 @@ public class RebirthGUI implements InventoryHolder {
         return item;
     }
     private void playSoundEffect(Player player, Sound sound, float volume, float pitch) { player.playSound(player.getLocation(), sound, SoundCategory.PLAYERS, volume, pitch); }
-}
\ No newline at end of file
+
+    /**
+     * Renders an enchant's GUI item through the shared GuiItemCache (falls back to direct rendering).
+     */
+    private ItemStack renderEnchantItem(EnchantmentWrapper enchant, int enchantLevel, int pickaxeLevel, ConfigManager.CurrencyType currency) {
+        GuiItemCache cache = plugin.getGuiItemCache();
+        if (cache == null) return enchant.createGuiItem(enchantLevel, pickaxeLevel, currency, null);
+        return cache.getEnchantItem(enchant, enchantLevel, pickaxeLevel, currency, null);
+    }
+}
@@ -3,20 +3,26 @@ package com.strikesenchantcore.listeners;
 import com.strikesenchantcore.EnchantCore;
 import com.strikesenchantcore.config.AutoSellConfig;
 import com.strikesenchantcore.config.ConfigManager;
+import com.strikesenchantcore.config.ConfigSnapshot;
 import com.strikesenchantcore.config.MessageManager;
 import com.strikesenchantcore.data.PlayerData;
 import com.strikesenchantcore.data.PlayerDataManager;
+import com.strikesenchantcore.enchants.EnchantSettings;
 import com.strikesenchantcore.enchants.EnchantmentWrapper;
 import com.strikesenchantcore.enchants.EnchantRegistry;
 import com.strikesenchantcore.pickaxe.PickaxeManager;
+import com.strikesenchantcore.tasks.PassiveEffectTask;
 import com.strikesenchantcore.util.ColorUtils;
 import com.strikesenchantcore.util.ChatUtil;
+import com.strikesenchantcore.util.MessageTemplate;
+import com.strikesenchantcore.util.NumberFormatUtil;
 import com.strikesenchantcore.util.PDCUtil;
+import com.strikesenchantcore.util.PerfStats;
 import com.strikesenchantcore.util.VaultHook;
+import com.strikesenchantcore.util.VortexMotion;
 import com.strikesenchantcore.util.WorldGuardHook;
 import com.sk89q.worldguard.protection.flags.StateFlag;
 import com.sk89q.worldguard.protection.regions.ProtectedRegion;
-import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.*;
 import org.bukkit.block.Block;
 import org.bukkit.block.data.BlockData;
@@ -32,21 +38,24 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.entity.ExplosionPrimeEvent;
 import com.strikesenchantcore.managers.BlackholeManager;
+import com.strikesenchantcore.managers.BreakPipeline;
+import com.strikesenchantcore.managers.DegradationController;
+import com.strikesenchantcore.managers.VortexDisplayManager;
+import com.strikesenchantcore.managers.VisualEffectService;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.metadata.FixedMetadataValue;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
-import org.bukkit.util.EulerAngle;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.Nullable;
 import com.strikesenchantcore.managers.CrystalManager;
 
-import java.text.NumberFormat;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -73,7 +82,6 @@ public class BlockBreakListener implements Listener {
     public static final String METADATA_PINATA_BLOCK = "EnchantCore_PinataBlock";
     private static final int MAX_BLOCKS_PER_TICK = Integer.MAX_VALUE;
     private static final long MAX_NANOS_PER_TICK = Long.MAX_VALUE;
-    private static final NamespacedKey BLACKHOLE_ARMOR_STAND_KEY = new NamespacedKey(EnchantCore.getInstance(), "blackhole_armor_stand");
     private CrystalManager crystalManager;
 
     private final Map<UUID, AutoSellSummary> playerSummaries = new ConcurrentHashMap<>();
@@ -82,6 +90,7 @@ public class BlockBreakListener implements Listener {
     private static final Map<UUID, Map<Block, BlockData>> activeVortexBlocks = new ConcurrentHashMap<>();
     public final Map<UUID, BossBar> activeNukeBossBars = new ConcurrentHashMap<>();
     private static final Set<UUID> activeBlackholePlayers = ConcurrentHashMap.newKeySet();
+    private final Set<AreaBlockBreakTask> activeAreaTasks = new HashSet<>(); // Main thread only
     private static final Set<Location> activeBlackholeSpheres = ConcurrentHashMap.newKeySet();
     private static final Map<Location, Map<Location, BlockData>> sphereBlockData = new ConcurrentHashMap<>();
 
@@ -102,7 +111,7 @@ public class BlockBreakListener implements Listener {
         this.crystalManager = plugin.getCrystalManager();
     }
 
-    private void handleBlackhole(Player player, Location epicenter, ItemStack pickaxe, int level, ConfigurationSection settings, PlayerData playerData) {
+    private void handleBlackhole(Player player, Location epicenter, ItemStack pickaxe, int level, EnchantSettings settings, PlayerData playerData) {
         UUID playerUUID = player.getUniqueId();
 
         if (activeBlackholePlayers.contains(playerUUID) || settings == null) {
@@ -110,14 +119,14 @@ public class BlockBreakListener implements Listener {
         }
 
         // Configuration
-        double baseRadius = settings.getDouble("RadiusBase", 5.0);
-        double radiusIncrease = settings.getDouble("RadiusIncreasePerLevel", 1.0);
         int tokensPerBlockBase = settings.getInt("TokensPerBlockBase", 3);
         int tokensPerBlockIncrease = settings.getInt("TokensPerBlockIncrease", 1);
         int vortexHeight = settings.getInt("VortexHeight", 10);
         double speed = settings.getDouble("Speed", 0.02);
 
-        double finalRadius = baseRadius + (radiusIncrease * Math.max(0, level - 1));
+        double finalRadius = settings.getRadius().at(level, 5.0, 1.0);
+        DegradationController degradation = plugin.getDegradationController();
+        if (degradation != null) finalRadius = degradation.scaleRadius(finalRadius);
         int tokensPerBlock = tokensPerBlockBase + (tokensPerBlockIncrease * Math.max(0, level - 1));
 
         // --- NEW LOGIC USING THE CONFIGURABLE Y-LEVEL ---
@@ -172,31 +181,31 @@ public class BlockBreakListener implements Listener {
         activeBlackholePlayers.add(playerUUID);
 
         BlackholeManager blackholeManager = plugin.getBlackholeManager();
-        if (blackholeManager != null) {
-            blackholeManager.registerBlackhole(playerUUID, vortexCenter, 4);
-        }
+        UUID vortexId = (blackholeManager != null) ? blackholeManager.registerBlackhole(playerUUID, vortexCenter, 4) : null;
 
         if (playerData.isShowEnchantMessages()) {
-            String msg = settings.getString("ActivationMessage", "&5&lBLACKHOLE! &dVortex created above - %blocks_count% blocks will be consumed!");
-            ChatUtil.sendMessage(player, msg.replace("%blocks_count%", String.valueOf(allBlocks.size())));
+            ChatUtil.sendColoredMessage(player, enchantMessage("blackhole", "ActivationMessage", "&5&lBLACKHOLE! &dVortex created above - %blocks_count% blocks will be consumed!")
+                    .render("blocks_count", String.valueOf(allBlocks.size())));
         }
 
         player.playSound(player.getLocation(), Sound.ENTITY_WITHER_SPAWN, 1.5f, 0.6f);
 
-        new UltraSmoothBlackholeTask(player, playerData, vortexCenter, allBlocks, tokensPerBlock, speed, settings).runTaskTimer(plugin, 0L, 2L);
+        new UltraSmoothBlackholeTask(player, playerData, vortexId, vortexCenter, allBlocks, tokensPerBlock, speed, settings).runTaskTimer(plugin, 0L, 2L);
     }
 
     private class UltraSmoothBlackholeTask extends BukkitRunnable {
         private final Player player;
         private final PlayerData playerData;
         private final Location vortexCenter;
-        private final List<SmoothArmorStandBlock> activeBlocks;
+        private final VortexMotion activeBlocks; // Struct-of-arrays state for every block in flight
         private final Queue<Block> pendingBlocks;
         private final int tokensPerBlock;
         private final double speed;
         private final UUID playerUUID;
-        private final ConfigurationSection settings;
+        @Nullable private final UUID vortexId; // Journal id in BlackholeManager, null if the manager is unavailable
+        private final EnchantSettings settings;
         private final Map<Location, BlockData> originalSphereBlocks = new HashMap<>();
+        private final VortexDisplayManager.DisplayGroup displayGroup; // Null if the display manager is unavailable
         private boolean isSphereVisible = false;
 
         private int ticksElapsed = 0;
@@ -207,21 +216,27 @@ public class BlockBreakListener implements Listener {
         private final int blockSpawnRate;
         private final int blockSpawnDelayTicks;
 
-        public UltraSmoothBlackholeTask(Player player, PlayerData playerData, Location vortexCenter,
-                                        List<Block> blocks, int tokensPerBlock, double speed, ConfigurationSection settings) {
+        public UltraSmoothBlackholeTask(Player player, PlayerData playerData, @Nullable UUID vortexId, Location vortexCenter,
+                                        List<Block> blocks, int tokensPerBlock, double speed, EnchantSettings settings) {
             this.player = player;
+            this.vortexId = vortexId;
             this.playerData = playerData;
             this.playerUUID = player.getUniqueId();
             this.vortexCenter = vortexCenter;
             this.tokensPerBlock = tokensPerBlock;
             this.speed = speed;
-            this.activeBlocks = new ArrayList<>();
+            this.activeBlocks = new VortexMotion(settings.getInt("MaxAnimatedBlocks", 75));
             this.pendingBlocks = new LinkedList<>(blocks);
             this.settings = settings;
 
             this.maxAnimatedBlocks = settings.getInt("MaxAnimatedBlocks", 75);
             this.blockSpawnRate = settings.getInt("BlockSpawnRate", 2);
             this.blockSpawnDelayTicks = settings.getInt("BlockSpawnDelayTicks", 3);
+
+            VortexDisplayManager displayManager = plugin.getVortexDisplayManager();
+            this.displayGroup = (displayManager != null)
+                    ? displayManager.createGroup(vortexCenter, settings.getDouble("DisplayViewDistance", 64.0), 2)
+                    : null;
         }
 
         @Override
@@ -236,7 +251,9 @@ public class BlockBreakListener implements Listener {
             updateVisuals();
 
             if (ticksElapsed % blockSpawnDelayTicks == 0 && !pendingBlocks.isEmpty()) {
-                int canSpawn = maxAnimatedBlocks - activeBlocks.size();
+                DegradationController degradation = plugin.getDegradationController();
+                int maxActive = (degradation != null) ? degradation.scaleMaxAnimatedBlocks(maxAnimatedBlocks) : maxAnimatedBlocks;
+                int canSpawn = maxActive - activeBlocks.size();
                 if (canSpawn > 0) {
                     int spawnCount = Math.min(pendingBlocks.size(), Math.min(canSpawn, blockSpawnRate));
                     for (int i = 0; i < spawnCount; i++) {
@@ -255,7 +272,7 @@ public class BlockBreakListener implements Listener {
         }
 
         private void updateVisuals() {
-            boolean shouldAnimate = playerData.isShowEnchantAnimations();
+            boolean shouldAnimate = animationsAllowed(playerData);
 
             if (shouldAnimate && !isSphereVisible) {
                 createBlackholeSphere();
@@ -291,7 +308,9 @@ public class BlockBreakListener implements Listener {
                             Location loc = vortexCenter.clone().add(x, y, z);
                             Block block = loc.getBlock();
                             if (block.getType().isAir() || block.isLiquid()) {
-                                sphereData.put(loc.clone(), block.getBlockData());
+                                BlockData original = block.getBlockData();
+                                sphereData.put(loc.clone(), original);
+                                recordBlockChange(block, original, Material.COAL_BLOCK);
                                 block.setType(Material.COAL_BLOCK, false);
                             }
                         }
@@ -323,16 +342,47 @@ public class BlockBreakListener implements Listener {
                 double x = vortexCenter.getX() + particleRadius * Math.cos(angle);
                 double z = vortexCenter.getZ() + particleRadius * Math.sin(angle);
                 Location pos = new Location(world, x, vortexCenter.getY(), z);
-                world.spawnParticle(Particle.SMOKE_LARGE, pos, 1, 0.1, 0.1, 0.1, 0.01);
+                spawnVortexParticle(Particle.SMOKE_LARGE, pos, 1, 0.1, 0.01);
+            }
+            spawnVortexParticle(Particle.REVERSE_PORTAL, vortexCenter, 15, 2.5, 0.03);
+        }
+
+        private void spawnVortexParticle(Particle particle, Location location, int count, double spread, double speed) {
+            VisualEffectService visualEffects = plugin.getVisualEffects();
+            if (visualEffects != null) {
+                visualEffects.spawn(player, particle, location, count, spread, speed, null);
+            } else {
+                location.getWorld().spawnParticle(particle, location, count, spread, spread, spread, speed);
+            }
+        }
+
+        /**
+         * Journals the original block state before the vortex places a sphere block (crash recovery).
+         */
+        private void recordBlockChange(Block block, BlockData original, Material placed) {
+            if (vortexId == null) return;
+            BlackholeManager blackholeManager = plugin.getBlackholeManager();
+            if (blackholeManager != null) {
+                blackholeManager.recordBlockChange(vortexId, block, original, placed);
             }
-            world.spawnParticle(Particle.REVERSE_PORTAL, vortexCenter, 15, 2.5, 2.5, 2.5, 0.03);
         }
 
         private void startNewFloatingBlock() {
             Block block = pendingBlocks.poll();
             if (block == null || !isBreakable(block, false) || block.hasMetadata(METADATA_ENCHANT_BREAK)) return;
 
-            activeBlocks.add(new SmoothArmorStandBlock(block.getLocation().add(0.5, 0.5, 0.5), block.getType(), this.speed));
+            BlockData original = block.getBlockData();
+            double offsetX = (random.nextDouble() - 0.5) * 6.0;
+            double offsetY = (random.nextDouble() - 0.5) * 6.0;
+            double offsetZ = (random.nextDouble() - 0.5) * 6.0;
+            activeBlocks.add(block.getX() + 0.5, block.getY() + 0.5, block.getZ() + 0.5,
+                    vortexCenter.getX() + offsetX, vortexCenter.getY() + offsetY, vortexCenter.getZ() + offsetZ,
+                    random.nextDouble() * 8.0,
+                    (float) ((random.nextDouble() - 0.5) * 0.4),
+                    (float) ((random.nextDouble() - 0.5) * 0.4),
+                    (float) ((random.nextDouble() - 0.5) * 0.4),
+                    original);
+            // Not journaled: the break below pays rewards, so a crash must not put the block back
 
             try {
                 processSingleBlockBreak(player, block, block.getType(), null, null, playerData);
@@ -343,23 +393,43 @@ public class BlockBreakListener implements Listener {
         }
 
         private void updateAllFloatingBlocks() {
-            activeBlocks.removeIf(block -> {
-                block.update();
-                if (block.hasReachedVortex()) {
-                    onBlockConsumed(block);
-                    return true;
+            activeBlocks.advance(speed);
+            boolean shouldAnimate = displayGroup != null && animationsAllowed(playerData);
+            World world = vortexCenter.getWorld();
+
+            // Iterate backwards so swap-removal of consumed blocks doesn't skip any
+            for (int i = activeBlocks.size() - 1; i >= 0; i--) {
+                int handle = activeBlocks.getHandle(i);
+                if (shouldAnimate) {
+                    if (handle < 0 && world != null) {
+                        Location start = new Location(world, activeBlocks.getStartX(i), activeBlocks.getStartY(i), activeBlocks.getStartZ(i));
+                        handle = displayGroup.spawn(start, activeBlocks.getBlockData(i));
+                        activeBlocks.setHandle(i, handle);
+                    }
+                    if (handle >= 0) {
+                        displayGroup.move(handle, activeBlocks.getX(i), activeBlocks.getY(i), activeBlocks.getZ(i),
+                                activeBlocks.getPitch(i), activeBlocks.getYaw(i), activeBlocks.getRoll(i));
+                    }
+                } else if (handle >= 0) {
+                    if (displayGroup != null) displayGroup.remove(handle);
+                    activeBlocks.setHandle(i, -1);
                 }
-                return false;
-            });
+
+                if (activeBlocks.isComplete(i)) {
+                    onBlockConsumed(activeBlocks.getHandle(i));
+                    activeBlocks.removeAt(i);
+                }
+            }
+            if (displayGroup != null) displayGroup.flush(); // Send every moved block in one batch
         }
 
-        private void onBlockConsumed(SmoothArmorStandBlock block) {
+        private void onBlockConsumed(int displayHandle) {
             totalTokens += tokensPerBlock;
             blocksConsumed++;
-            if (playerData.isShowEnchantAnimations() && playerData.isShowEnchantSounds()) {
+            if (animationsAllowed(playerData) && playerData.isShowEnchantSounds()) {
                 player.playSound(vortexCenter, Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.7f, 1.7f);
             }
-            block.remove();
+            if (displayHandle >= 0 && displayGroup != null) displayGroup.remove(displayHandle);
         }
 
         private void complete() {
@@ -369,10 +439,10 @@ public class BlockBreakListener implements Listener {
                 playerData.addTokens(finalTokens);
                 plugin.getPlayerDataManager().savePlayerData(playerData, true);
             }
-            String msg = settings.getString("CompletionMessage", "&5&lVORTEX COMPLETE! &d+%tokens_gained% tokens from %blocks_consumed% blocks!");
-            if (playerData.isShowEnchantMessages() && msg != null) {
-                ChatUtil.sendMessage(player, msg.replace("%tokens_gained%", String.valueOf(totalTokens))
-                        .replace("%blocks_consumed%", String.valueOf(blocksConsumed)));
+            if (playerData.isShowEnchantMessages()) {
+                ChatUtil.sendColoredMessage(player, enchantMessage("blackhole", "CompletionMessage", "&5&lVORTEX COMPLETE! &d+%tokens_gained% tokens from %blocks_consumed% blocks!")
+                        .render("tokens_gained", String.valueOf(totalTokens),
+                                "blocks_consumed", String.valueOf(blocksConsumed)));
             }
             if (playerData.isShowEnchantSounds()) {
                 player.playSound(vortexCenter, Sound.ENTITY_PLAYER_LEVELUP, 1.3f, 1.0f);
@@ -385,94 +455,16 @@ public class BlockBreakListener implements Listener {
                 activeVortexBlocks.remove(playerUUID);
                 BlackholeManager blackholeManager = plugin.getBlackholeManager();
                 if (blackholeManager != null) {
-                    blackholeManager.removeBlackholeByLocation(vortexCenter);
+                    blackholeManager.removeBlackhole(vortexId);
                 }
-                activeBlocks.forEach(SmoothArmorStandBlock::remove);
                 activeBlocks.clear();
+                if (displayGroup != null) displayGroup.removeAll();
                 removeBlackholeSphere();
                 try {
                     this.cancel();
                 } catch (IllegalStateException ignore) {}
             }
         }
-
-        private class SmoothArmorStandBlock {
-            private ArmorStand armorStand;
-            private final Location startPos;
-            private final Material material;
-            private final Location finalDestination;
-            private final double speed;
-            private double progress = 0.0;
-            private final Vector rotationSpeeds;
-            private final double arcHeight;
-
-            public SmoothArmorStandBlock(Location start, Material material, double speed) {
-                this.startPos = start;
-                this.material = material;
-                this.speed = speed;
-                double offsetX = (random.nextDouble() - 0.5) * 6.0;
-                double offsetY = (random.nextDouble() - 0.5) * 6.0;
-                double offsetZ = (random.nextDouble() - 0.5) * 6.0;
-                this.finalDestination = vortexCenter.clone().add(offsetX, offsetY, offsetZ);
-                this.arcHeight = random.nextDouble() * 8.0;
-                double pitchSpeed = (random.nextDouble() - 0.5) * 0.4;
-                double yawSpeed = (random.nextDouble() - 0.5) * 0.4;
-                double rollSpeed = (random.nextDouble() - 0.5) * 0.4;
-                this.rotationSpeeds = new Vector(pitchSpeed, yawSpeed, rollSpeed);
-            }
-
-            public void update() {
-                progress = Math.min(1.0, progress + speed);
-                boolean shouldAnimate = playerData.isShowEnchantAnimations();
-                if (shouldAnimate) {
-                    if (this.armorStand == null || !this.armorStand.isValid()) {
-                        spawnArmorStand();
-                    }
-                    if (this.armorStand != null) {
-                        animate();
-                    }
-                } else {
-                    if (this.armorStand != null && this.armorStand.isValid()) {
-                        this.armorStand.remove();
-                        this.armorStand = null;
-                    }
-                }
-            }
-
-            private void spawnArmorStand() {
-                this.armorStand = startPos.getWorld().spawn(startPos, ArmorStand.class, as -> {
-                    as.setGravity(false);
-                    as.setVisible(false);
-                    as.getEquipment().setHelmet(new ItemStack(material));
-                    // --- ADD THIS LINE TO TAG THE ENTITY ---
-                    as.getPersistentDataContainer().set(BLACKHOLE_ARMOR_STAND_KEY, PersistentDataType.BYTE, (byte) 1);
-                    try {
-                        as.setMarker(true);
-                    } catch (NoSuchMethodError e) {
-                        as.setSmall(true);
-                        as.setBasePlate(false);
-                        as.setArms(false);
-                    }
-                });
-            }
-
-            private void animate() {
-                double smoothProgress = progress * progress * (3 - 2 * progress);
-                Vector path = finalDestination.toVector().subtract(startPos.toVector());
-                Vector interpolatedPosition = startPos.toVector().add(path.multiply(smoothProgress));
-                double arc = 4 * this.arcHeight * smoothProgress * (1 - smoothProgress);
-                Location currentPos = new Location(startPos.getWorld(), interpolatedPosition.getX(), interpolatedPosition.getY() + arc, interpolatedPosition.getZ());
-                EulerAngle oldPose = armorStand.getHeadPose();
-                double newPitch = oldPose.getX() + rotationSpeeds.getX();
-                double newYaw = oldPose.getY() + rotationSpeeds.getY();
-                double newRoll = oldPose.getZ() + rotationSpeeds.getZ();
-                armorStand.setHeadPose(new EulerAngle(newPitch, newYaw, newRoll));
-                armorStand.teleport(currentPos);
-            }
-
-            public boolean hasReachedVortex() { return progress >= 1.0; }
-            public void remove() { if (armorStand != null && armorStand.isValid()) armorStand.remove(); }
-        }
     }
 
 
@@ -491,7 +483,7 @@ public class BlockBreakListener implements Listener {
      * Handles the Lootpinata enchantment activation.
      * Spawns a MythicMobs piñata instead of a block.
      */
-    private void handleLootpinata(Player player, Location impactLocation, ItemStack pickaxe, int level, ConfigurationSection settings, PlayerData playerData) {
+    private void handleLootpinata(Player player, Location impactLocation, ItemStack pickaxe, int level, EnchantSettings settings, PlayerData playerData) {
         final boolean debug = isDebugMode();
 
         if (settings == null) {
@@ -550,10 +542,9 @@ public class BlockBreakListener implements Listener {
         if (spawned) {
             // Success feedback
             if (playerData.isShowEnchantMessages()) {
-                String spawnMessage = settings.getString("SpawnMessage", "&a&lLoot Piñata! &eHit it %health% times to break it!")
-                        .replace("%health%", String.valueOf(finalHealth))
-                        .replace("%timeout%", String.valueOf(timeoutSeconds));
-                ChatUtil.sendMessage(player, spawnMessage);
+                ChatUtil.sendColoredMessage(player, enchantMessage("lootpinata", "SpawnMessage", "&a&lLoot Piñata! &eHit it %health% times to break it!")
+                        .render("health", String.valueOf(finalHealth),
+                                "timeout", String.valueOf(timeoutSeconds)));
             }
 
             if (debug) {
@@ -726,20 +717,13 @@ public class BlockBreakListener implements Listener {
 
 
     public void cleanupBlackholeStands() {
-        int removedArmorStands = 0;
+        int removedDisplays = 0;
         int removedSpheres = 0;
 
-        // Direct reference to the key for robust cleanup
-        NamespacedKey blackholeKey = new NamespacedKey(plugin, "blackhole_armor_stand");
-
-        // Clean up armor stands
-        for (World world : Bukkit.getWorlds()) {
-            for (Entity entity : world.getEntities()) {
-                if (entity instanceof ArmorStand && entity.getPersistentDataContainer().has(blackholeKey, PersistentDataType.BYTE)) {
-                    entity.remove();
-                    removedArmorStands++;
-                }
-            }
+        // Floating blocks are non-persistent displays tracked by the manager, no world scan needed
+        VortexDisplayManager displayManager = plugin.getVortexDisplayManager();
+        if (displayManager != null) {
+            removedDisplays = displayManager.removeAll();
         }
 
         // Clean up coal block spheres
@@ -765,8 +749,8 @@ public class BlockBreakListener implements Listener {
         sphereBlockData.clear();
         activeBlackholePlayers.clear();
 
-        if (removedArmorStands > 0 || removedSpheres > 0) {
-            logger.info("[Blackhole Cleanup] Removed " + removedArmorStands + " armor stands and restored " + removedSpheres + " sphere blocks on shutdown.");
+        if (removedDisplays > 0 || removedSpheres > 0) {
+            logger.info("[Blackhole Cleanup] Removed " + removedDisplays + " block displays and restored " + removedSpheres + " sphere blocks on shutdown.");
         }
     }
 
@@ -775,6 +759,15 @@ public class BlockBreakListener implements Listener {
 
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onBlockBreak(BlockBreakEvent event) {
+        long start = System.nanoTime();
+        try {
+            handleBlockBreak(event);
+        } finally {
+            PerfStats.BLOCK_BREAK.recordSince(start);
+        }
+    }
+
+    private void handleBlockBreak(BlockBreakEvent event) {
         final Player player = event.getPlayer();
 
         if (nukeActivePlayers.contains(player.getUniqueId())) {
@@ -850,13 +843,13 @@ public class BlockBreakListener implements Listener {
             int level = enchantLevels.get("overcharge");
             EnchantmentWrapper overchargeEnchant = enchantRegistry.getEnchant("overcharge");
             if (overchargeEnchant != null && overchargeEnchant.isEnabled()) {
-                ConfigurationSection settings = overchargeEnchant.getCustomSettings();
-                int base = settings.getInt("BlocksToChargeBase", 500);
-                int decrease = settings.getInt("BlocksToChargeDecreasePerLevel", 10);
-                int required = Math.max(1, base - (decrease * (level - 1)));
+                EnchantSettings settings = overchargeEnchant.getSettings();
+                int required = (settings != null) ? settings.getBlocksToCharge(level) : Math.max(1, 500 - (10 * (level - 1)));
 
                 if (System.currentTimeMillis() > finalPlayerData.getOverchargeFireCooldownEnd() && finalPlayerData.getOverchargeCharge() < required) {
                     finalPlayerData.addOverchargeCharge(1);
+                    PassiveEffectTask passiveEffects = plugin.getPassiveEffects();
+                    if (passiveEffects != null) passiveEffects.markDirty(player.getUniqueId());
                     if (finalPlayerData.getOverchargeCharge() >= required) {
                         finalPlayerData.setOverchargeCharge(required);
                         if (finalPlayerData.isShowEnchantSounds()) {
@@ -890,7 +883,17 @@ public class BlockBreakListener implements Listener {
     }
 
     private ProcessResult processSingleBlockBreak(Player player, Block block, Material originalMaterial, ItemStack pickaxe, @Nullable BlockBreakEvent event, PlayerData playerData) {
-        final boolean debug = isDebugMode();
+        long start = System.nanoTime();
+        try {
+            return doProcessSingleBlockBreak(player, block, originalMaterial, pickaxe, event, playerData);
+        } finally {
+            PerfStats.SINGLE_BLOCK.recordSince(start);
+        }
+    }
+
+    private ProcessResult doProcessSingleBlockBreak(Player player, Block block, Material originalMaterial, ItemStack pickaxe, @Nullable BlockBreakEvent event, PlayerData playerData) {
+        final ConfigSnapshot config = configManager.getSnapshot(); // One snapshot for the whole block
+        final boolean debug = config.isDebugMode();
         if (playerData == null) {
             if(debug) logger.warning("[Debug][ProcessSingle] PlayerData is null for " + player.getName());
             return ProcessResult.FAILED;
@@ -901,8 +904,7 @@ public class BlockBreakListener implements Listener {
 
         if(debug) logger.fine("[DEBUG][ProcessSingle] Processing: " + originalMaterial + " for " + player.getName() + (event == null ? " (Tasked)" : " (Event)"));
 
-        boolean autoSellEnabled = configManager.getConfig().getBoolean("AutoSell.Enabled", false);
-        if (autoSellEnabled && player.hasPermission("enchantcore.autosell") && vaultHook.isEnabled()) {
+        if (config.isAutoSellEnabled() && player.hasPermission("enchantcore.autosell") && vaultHook.isEnabled()) {
             double price = autoSellConfig.getSellPrice(originalMaterial);
             if (price > 0) {
                 Collection<ItemStack> drops = getDropsForBlock(block, originalMaterial, pickaxe, player, event);
@@ -935,18 +937,17 @@ public class BlockBreakListener implements Listener {
         blockCounted = true;
 
         if (!blockSold) {
-            boolean autoPickupEnabled = configManager.getConfig().getBoolean("AutoPickup.Enabled", false);
-            if (autoPickupEnabled && player.hasPermission("enchantcore.autopickup")) {
+            if (config.isAutoPickupEnabled() && player.hasPermission("enchantcore.autopickup")) {
                 Collection<ItemStack> drops = getDropsForBlock(block, originalMaterial, pickaxe, player, event);
                 if (!drops.isEmpty()) {
                     PlayerInventory inv = player.getInventory();
                     Map<Integer, ItemStack> leftovers = inv.addItem(drops.toArray(new ItemStack[0]));
                     if (!leftovers.isEmpty()) {
                         Location dropLocation = block.getLocation().add(0.5, 0.5, 0.5);
-                        String fullMsgFormat = messageManager.getMessage("listeners.autopickup.inventory_full", "&cInv Full! Dropped %item%!");
                         ItemStack firstLeftover = leftovers.values().iterator().next();
                         String itemName = PDCUtil.getItemName(firstLeftover);
-                        ChatUtil.sendMessage(player, fullMsgFormat.replace("%item%", itemName));
+                        ChatUtil.sendColoredMessage(player, messageManager.getTemplate("listeners.autopickup.inventory_full", "&cInv Full! Dropped %item%!")
+                                .render("item", itemName));
                         for (ItemStack leftoverItem : leftovers.values()) {
                             player.getWorld().dropItemNaturally(dropLocation, leftoverItem);
                         }
@@ -978,7 +979,7 @@ public class BlockBreakListener implements Listener {
         double bonus = attachmentManager.getTotalProcBonus(player.getUniqueId());
 
         if (bonus > 0 && ThreadLocalRandom.current().nextDouble() < 0.1) { // 10% chance to show message
-            String bonusPercent = String.format("%.1f", bonus * 100);
+            String bonusPercent = NumberFormatUtil.formatFixed(bonus * 100, 1);
             ChatUtil.sendMessage(player, "&6⚡ &eAttachment Boost: &6+" + bonusPercent + "%");
         }
     }
@@ -1052,31 +1053,40 @@ public class BlockBreakListener implements Listener {
                     logger.fine("[Debug][AutoSell Summary] Task ran for " + playerUUID + " but summary data was already removed.");
                 }
             }
-        }.runTaskLater(plugin, delaySeconds * 20L);
+        }.runTaskLater(plugin, summaryDelayTicks(delaySeconds));
 
         pendingSummaryTasks.put(playerUUID, newTask);
         if (debug) logger.finest("[Debug][AutoSell] Scheduled new summary task for " + player.getName() + " in " + delaySeconds + "s");
     }
 
+    /** Summary delay, stretched while the degradation controller defers summaries. */
+    private long summaryDelayTicks(int delaySeconds) {
+        DegradationController degradation = plugin.getDegradationController();
+        double multiplier = (degradation != null) ? degradation.getSummaryDelayMultiplier() : 1.0;
+        return Math.round(delaySeconds * 20L * multiplier);
+    }
+
     private void sendSummaryMessage(Player player, AutoSellSummary summary, double currentMultiplier) {
         final int interval = configManager.getAutoSellSummaryIntervalSeconds();
         String header = messageManager.getMessage("autosell.summary.header", "&m----------------------------");
-        List<String> bodyFormat = messageManager.getMessageList("autosell.summary.body", List.of("&cAutoSell Summary format missing!"));
+        List<MessageTemplate> bodyFormat = messageManager.getTemplateList("autosell.summary.body", List.of("&cAutoSell Summary format missing!"));
         String footer = messageManager.getMessage("autosell.summary.footer", "&m----------------------------");
 
-        if (header != null && !header.isEmpty()) { ChatUtil.sendMessage(player, header); }
+        if (!header.isEmpty()) { ChatUtil.sendColoredMessage(player, header); }
 
-        for (String line : bodyFormat) {
-            String formattedLine = line
-                    .replace("%autosell_interval%", String.valueOf(interval))
-                    .replace("%autosell_total_items%", String.format("%,d", summary.totalItems))
-                    .replace("%autosell_raw_items%", String.format("%,d", summary.rawBlocksSold))
-                    .replace("%autosell_earnings%", vaultHook.format(summary.totalValue))
-                    .replace("%autosell_multiplier%", String.format("%.1fx", currentMultiplier));
-            player.sendMessage(formattedLine);
+        // Values are formatted once and shared by every body line
+        String[] values = {
+                "autosell_interval", String.valueOf(interval),
+                "autosell_total_items", NumberFormatUtil.formatGrouped(summary.totalItems),
+                "autosell_raw_items", NumberFormatUtil.formatGrouped(summary.rawBlocksSold),
+                "autosell_earnings", vaultHook.format(summary.totalValue),
+                "autosell_multiplier", NumberFormatUtil.formatFixed(currentMultiplier, 1) + "x"
+        };
+        for (MessageTemplate line : bodyFormat) {
+            player.sendMessage(line.render(values));
         }
 
-        if (footer != null && !footer.isEmpty()) { ChatUtil.sendMessage(player, footer); }
+        if (!footer.isEmpty()) { ChatUtil.sendColoredMessage(player, footer); }
     }
 
 
@@ -1084,7 +1094,7 @@ public class BlockBreakListener implements Listener {
 
 
 
-    private void handleDragonBurst(Player player, Location epicenter, ItemStack pickaxe, int level, ConfigurationSection settings, PlayerData playerData) {
+    private void handleDragonBurst(Player player, Location epicenter, ItemStack pickaxe, int level, EnchantSettings settings, PlayerData playerData) {
         if (settings == null) {
             logger.warning("[DragonBurst] Cannot activate for " + player.getName() + ": ConfigurationSection is null!");
             return;
@@ -1097,7 +1107,7 @@ public class BlockBreakListener implements Listener {
         private final ItemStack pickaxe;
         private final Location startLocation;
         private final int level;
-        private final ConfigurationSection settings;
+        private final EnchantSettings settings;
         private final PlayerData playerData;
         private final Vector direction;
 
@@ -1108,7 +1118,7 @@ public class BlockBreakListener implements Listener {
         private int burstsFired = 0;
 
 
-        public DragonBurstTask(Player p, ItemStack pick, Location start, int l, ConfigurationSection s, PlayerData pd) {
+        public DragonBurstTask(Player p, ItemStack pick, Location start, int l, EnchantSettings s, PlayerData pd) {
             this.player = p;
             this.pickaxe = pick;
             this.startLocation = start;
@@ -1132,18 +1142,21 @@ public class BlockBreakListener implements Listener {
 
             // Calculate the center of the next explosion
             double distance = burstSpacing * (burstsFired + 1);
-            Location explosionCenter = startLocation.clone().add(direction.clone().multiply(distance));
+            Location explosionCenter = new Location(startLocation.getWorld(),
+                    startLocation.getX() + direction.getX() * distance,
+                    startLocation.getY() + direction.getY() * distance,
+                    startLocation.getZ() + direction.getZ() * distance);
 
             // Play sounds and visuals
             if (playerData.isShowEnchantSounds()) {
                 playSoundAt(player, explosionCenter, Sound.ENTITY_ENDER_DRAGON_HURT, 1.2f, 1.5f);
             }
-            if (playerData.isShowEnchantAnimations()) {
-                spawnParticleEffect(player.getWorld(), Particle.DRAGON_BREATH, explosionCenter, 50, burstRadius * 0.7, null);
-            }
+            spawnParticleEffect(player, Particle.DRAGON_BREATH, explosionCenter, 50, burstRadius * 0.7, null);
 
             // Find blocks and task them for breaking
-            List<Block> blocksToBreak = findBlocksInRadius(explosionCenter, burstRadius, false, "DragonBurst");
+            DegradationController degradation = plugin.getDegradationController();
+            int radius = (degradation != null) ? degradation.scaleRadius(burstRadius) : burstRadius;
+            List<Block> blocksToBreak = findBlocksInRadius(explosionCenter, radius, false, "DragonBurst");
             if (!blocksToBreak.isEmpty()) {
                 new AreaBlockBreakTask(player, pickaxe, blocksToBreak, false, explosionCenter, "DragonBurst", playerData, true)
                         .runTaskTimer(plugin, 0L, 1L);
@@ -1158,7 +1171,7 @@ public class BlockBreakListener implements Listener {
 
 
 
-    private void handleFrostbiteFury(Player player, ItemStack pickaxe, int level, ConfigurationSection settings, PlayerData playerData) {
+    private void handleFrostbiteFury(Player player, ItemStack pickaxe, int level, EnchantSettings settings, PlayerData playerData) {
         if (settings == null) {
             logger.warning("[FrostbiteFury] Cannot activate for " + player.getName() + ": ConfigurationSection is null!");
             return;
@@ -1171,10 +1184,10 @@ public class BlockBreakListener implements Listener {
         private final Player player;
         private final ItemStack pickaxe;
         private final int level;
-        private final ConfigurationSection settings;
+        private final EnchantSettings settings;
         private final PlayerData playerData;
 
-        public FrostbiteFuryTask(Player p, ItemStack pick, int l, ConfigurationSection s, PlayerData pd) {
+        public FrostbiteFuryTask(Player p, ItemStack pick, int l, EnchantSettings s, PlayerData pd) {
             this.player = p;
             this.pickaxe = pick;
             this.level = l;
@@ -1188,7 +1201,9 @@ public class BlockBreakListener implements Listener {
             if (player == null || !player.isOnline()) return;
 
             int levelFactor = Math.max(0, level - 1);
-            double radius = settings.getDouble("RadiusBase", 3) + (settings.getDouble("RadiusIncreasePerLevel", 0.5) * levelFactor);
+            double radius = settings.getRadius().at(level, 3.0, 0.5);
+            DegradationController degradation = plugin.getDegradationController();
+            if (degradation != null) radius = degradation.scaleRadius(radius);
             int verticalRadius = settings.getInt("VerticalRadius", 1); // Get the new setting
 
             Material freezeMaterial = Material.matchMaterial(settings.getString("FreezeMaterial", "PACKED_ICE"));
@@ -1209,9 +1224,7 @@ public class BlockBreakListener implements Listener {
             if (playerData.isShowEnchantSounds()) {
                 playSoundAt(player, player.getLocation(), Sound.BLOCK_GLASS_BREAK, 1.0f, 0.7f);
             }
-            if (playerData.isShowEnchantAnimations()) {
-                spawnParticleEffect(player.getWorld(), Particle.SNOWFLAKE, player.getLocation().add(0, 1, 0), 100, radius * 0.8, null);
-            }
+            spawnParticleEffect(player, Particle.SNOWFLAKE, player.getLocation().add(0, 1, 0), 100, radius * 0.8, null);
 
             long shatterDelay = settings.getLong("ShatterDelaySeconds", 2L) * 20L;
 
@@ -1252,10 +1265,9 @@ public class BlockBreakListener implements Listener {
                             playSoundAt(player, player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.5f);
                         }
                         if (playerData.isShowEnchantMessages()) {
-                            String message = settings.getString("Message", "&b&lFROSTBITE! &fShattered %blocks_shattered% blocks for &d%gems_gained% Gems!")
-                                    .replace("%blocks_shattered%", String.valueOf(blocksShattered))
-                                    .replace("%gems_gained%", String.valueOf(finalGems));
-                            ChatUtil.sendMessage(player, message);
+                            ChatUtil.sendColoredMessage(player, enchantMessage("frostbitefury", "Message", "&b&lFROSTBITE! &fShattered %blocks_shattered% blocks for &d%gems_gained% Gems!")
+                                    .render("blocks_shattered", String.valueOf(blocksShattered),
+                                            "gems_gained", String.valueOf(finalGems)));
                         }
                     }
                 }
@@ -1319,15 +1331,12 @@ public class BlockBreakListener implements Listener {
                 continue;
             }
 
-            ConfigurationSection settings = enchant.getCustomSettings();
+            EnchantSettings settings = enchant.getSettings();
             if (!enchant.isVanilla() && settings == null && requiresSettings(enchantKey)) {
                 continue;
             }
 
-            double chance = 1.0;
-            if (settings != null && settings.contains("ChanceBase")) {
-                chance = settings.getDouble("ChanceBase", 0.0) + (settings.getDouble("ChanceIncreasePerLevel", 0.0) * Math.max(0, level - 1));
-            }
+            double chance = (settings != null) ? settings.getChance(level) : 1.0;
 
             // --- ATTACHMENT BONUS INTEGRATION ---
             AttachmentManager attachmentManager = plugin.getAttachmentManager();
@@ -1344,6 +1353,7 @@ public class BlockBreakListener implements Listener {
             // At this point, the enchant has successfully triggered.
             showProcBonusEffect(player); // Call the visual feedback method
 
+            long handlerStart = System.nanoTime();
             try {
                 switch (enchantKey) {
                     case "explosive":       handleExplosive(player, originalBlock.getLocation(), pickaxe, level, settings, event, playerData); break;
@@ -1366,6 +1376,8 @@ public class BlockBreakListener implements Listener {
                 }
             } catch (Exception e) {
                 logger.log(Level.SEVERE, "[DEBUG] Exception during handler execution for enchant " + enchantKey + " for player " + player.getName(), e);
+            } finally {
+                PerfStats.enchant(enchantKey).recordSince(handlerStart);
             }
         }
     }
@@ -1381,7 +1393,7 @@ public class BlockBreakListener implements Listener {
                 key.equals("voucherfinder") || key.equals("blackhole") || key.equals("lootpinata");
     }
 
-    private void handleNukeTNT(Player player, Location impactLocation, ItemStack pickaxe, int level, ConfigurationSection settings, PlayerData playerData) {
+    private void handleNukeTNT(Player player, Location impactLocation, ItemStack pickaxe, int level, EnchantSettings settings, PlayerData playerData) {
         final boolean debug = isDebugMode();
         UUID playerUUID = player.getUniqueId();
 
@@ -1395,12 +1407,13 @@ public class BlockBreakListener implements Listener {
             return;
         }
 
-        final int explosionRadius = settings.getInt("Radius", 15);
+        DegradationController degradation = plugin.getDegradationController();
+        final int explosionRadius = (degradation != null) ? degradation.scaleRadius(settings.getInt("Radius", 15)) : settings.getInt("Radius", 15);
         final boolean breakBedrock = settings.getBoolean("BreakBedrock", false);
         final int countdownSeconds = settings.getInt("CountdownSeconds", 3);
         final int totalTicksForCountdown = Math.max(20, countdownSeconds * 20);
         final boolean bossBarEnabled = settings.getBoolean("CountdownBossBarEnabled", true);
-        final String bossBarTitleFormat = settings.getString("BossBarTitle", "&c&lNuke: &e%countdown%s");
+        final MessageTemplate bossBarTitleFormat = enchantMessage("nuke", "BossBarTitle", "&c&lNuke: &e%countdown%s");
         final String bossBarColorStr = settings.getString("BossBarColor", "RED");
         final boolean particleEffectEnabled = settings.getBoolean("ParticleEffectEnabled", true);
 
@@ -1470,15 +1483,14 @@ public class BlockBreakListener implements Listener {
 
                 Location currentTntLocation = nukeTnt.getLocation();
                 if (particleEffectEnabled && ticksElapsed % 4 == 0) {
-                    spawnParticleEffect(currentTntLocation.getWorld(), Particle.REDSTONE, currentTntLocation.clone().add(0, 0.5, 0), 10, 0.5, new Particle.DustOptions(Color.RED, 1.0F));
+                    spawnParticleEffect(currentPlayer, Particle.REDSTONE, currentTntLocation.clone().add(0, 0.5, 0), 10, 0.5, new Particle.DustOptions(Color.RED, 1.0F));
                 }
 
                 if (ticksElapsed < totalTicksForCountdown) {
                     if (ticksElapsed % 20 == 0) {
                         int remainingSeconds = countdownSeconds - (ticksElapsed / 20);
                         if (nukeBossBar != null) {
-                            String bossBarText = bossBarTitleFormat.replace("%countdown%", String.valueOf(remainingSeconds));
-                            nukeBossBar.setTitle(ChatUtil.color(bossBarText));
+                            nukeBossBar.setTitle(bossBarTitleFormat.render("countdown", String.valueOf(remainingSeconds)));
                             nukeBossBar.setProgress(Math.max(0.0, Math.min(1.0, (double) remainingSeconds / countdownSeconds)));
                         }
                         if (remainingSeconds > 0 && playerData.isShowEnchantSounds()) {
@@ -1495,20 +1507,13 @@ public class BlockBreakListener implements Listener {
                     if(playerData.isShowEnchantSounds()) {
                         playSoundAt(currentPlayer, explosionCenter, Sound.ENTITY_GENERIC_EXPLODE, 3.0f, 0.5f);
                     }
-                    spawnParticleEffect(explosionCenter.getWorld(), Particle.EXPLOSION_HUGE, explosionCenter.clone().add(0.5,0.5,0.5), 20, explosionRadius * 0.3, null);
+                    spawnParticleEffect(currentPlayer, Particle.EXPLOSION_HUGE, explosionCenter.clone().add(0.5,0.5,0.5), 20, explosionRadius * 0.3, null);
 
                     List<Block> blocksToBreak = findBlocksInRadius(explosionCenter, explosionRadius, breakBedrock, "NukeTNT");
 
                     if (!blocksToBreak.isEmpty()) {
-                        if (debug) logger.info("[Dbg][NukeTNT] Instantly breaking " + blocksToBreak.size() + " blocks for " + player.getName());
-
-                        // This loop breaks all blocks in the same tick
-                        for (Block block : blocksToBreak) {
-                            if (isBreakable(block, breakBedrock)) {
-                                processSingleBlockBreak(player, block, block.getType(), pickaxe, null, playerData);
-                                block.setType(Material.AIR, false);
-                            }
-                        }
+                        if (debug) logger.info("[Dbg][NukeTNT] Breaking " + blocksToBreak.size() + " blocks for " + player.getName());
+                        breakBlocksNowOrBudgeted(player, blocksToBreak, pickaxe, playerData, breakBedrock, "NukeTNT");
                         // Manually call the completion logic now that the task is gone
                         notifyNukeComplete(player.getUniqueId(), false);
 
@@ -1536,7 +1541,7 @@ public class BlockBreakListener implements Listener {
         }.runTaskTimer(plugin, 0L, 1L);
     }
 
-    private void handleDisc(Player player, Block brokenBlock, ItemStack pickaxe, int level, ConfigurationSection settings, BlockBreakEvent event, PlayerData playerData) {
+    private void handleDisc(Player player, Block brokenBlock, ItemStack pickaxe, int level, EnchantSettings settings, BlockBreakEvent event, PlayerData playerData) {
         final boolean debug = isDebugMode();
         if (settings == null) {
             logger.warning("[Disc] Cannot activate Disc for " + player.getName() + ": ConfigurationSection is null!");
@@ -1548,8 +1553,8 @@ public class BlockBreakListener implements Listener {
         Set<Block> blocksToBreak = new HashSet<>();
 
         if (playerData.isShowEnchantMessages()) {
-            String msgFormat = settings.getString("Message", "&b&lWoosh! &3Disc cleared layer %layer%!");
-            ChatUtil.sendMessage(player, msgFormat.replace("%layer%", String.valueOf(yLevel)));
+            ChatUtil.sendColoredMessage(player, enchantMessage("disc", "Message", "&b&lWoosh! &3Disc cleared layer %layer%!")
+                    .render("layer", String.valueOf(yLevel)));
         }
         if (playerData.isShowEnchantSounds()) {
             playSoundAt(player, player.getLocation(), Sound.BLOCK_CONDUIT_ACTIVATE, 1.0f, 1.5f);
@@ -1600,20 +1605,15 @@ public class BlockBreakListener implements Listener {
         }
 
         if (!blocksToBreak.isEmpty()) {
-            if(debug) logger.info("[Dbg][Disc] Instantly breaking "+blocksToBreak.size()+" blocks for "+player.getName()+".");
-
-            // This loop breaks all blocks in the same tick
-            for (Block block : blocksToBreak) {
-                processSingleBlockBreak(player, block, block.getType(), pickaxe, null, playerData);
-                block.setType(Material.AIR, false);
-            }
+            if(debug) logger.info("[Dbg][Disc] Breaking "+blocksToBreak.size()+" blocks for "+player.getName()+".");
+            breakBlocksNowOrBudgeted(player, blocksToBreak, pickaxe, playerData, breakBedrock, "Disc");
 
         } else if(debug) {
             logger.info("[Dbg][Disc] 0 valid blocks found for "+player.getName()+" after region checks.");
         }
     }
 
-    private void handleExplosive(Player p, Location c, ItemStack pick, int level, ConfigurationSection settings, BlockBreakEvent e, PlayerData pd) {
+    private void handleExplosive(Player p, Location c, ItemStack pick, int level, EnchantSettings settings, BlockBreakEvent e, PlayerData pd) {
         final boolean debug = isDebugMode();
         if (settings == null) {
             logger.warning("[Explosive] Cannot activate for " + p.getName() + ": ConfigurationSection is null!");
@@ -1634,13 +1634,16 @@ public class BlockBreakListener implements Listener {
                 actualRadius = 3; break;
         }
 
+        DegradationController degradation = plugin.getDegradationController();
+        if (degradation != null) actualRadius = degradation.scaleRadius(actualRadius);
+
         if (actualRadius <= 0) {
             if(debug) logger.info("[Debug][Explosive] Radius " + actualRadius + " is invalid for " + p.getName() + ". No explosion.");
             return;
         }
 
         if (pd.isShowEnchantMessages()) {
-            ChatUtil.sendMessage(p, settings.getString("Message", "&6&lBoom! &eExplosive triggered!"));
+            ChatUtil.sendColoredMessage(p, enchantMessage("explosive", "Message", "&6&lBoom! &eExplosive triggered!").getText());
         }
         if (pd.isShowEnchantSounds()) {
             playSoundAt(p, p.getLocation(), Sound.ENTITY_GENERIC_EXPLODE, 0.8f, 1.0f);
@@ -1658,7 +1661,7 @@ public class BlockBreakListener implements Listener {
         }
     }
 
-    private void handleBlockBoosterActivation(Player player, PlayerData playerData, int level, ConfigurationSection settings) {
+    private void handleBlockBoosterActivation(Player player, PlayerData playerData, int level, EnchantSettings settings) {
         final boolean debug = isDebugMode();
         if (settings == null) {
             logger.warning("[BlockBooster] Cannot activate for " + player.getName() + ": ConfigurationSection is null!");
@@ -1677,33 +1680,29 @@ public class BlockBreakListener implements Listener {
         int duration = Math.max(1, durBase + (durInc * Math.max(0, level - 1)));
         double multiplier = Math.max(1.01, multBase + (multInc * Math.max(0, level - 1)));
 
-        if (debug) logger.info("[Debug][BlockBooster] Activating for " + player.getName() + "! Duration=" + duration + "s, Multiplier=x" + String.format("%.2f", multiplier));
+        if (debug) logger.info("[Debug][BlockBooster] Activating for " + player.getName() + "! Duration=" + duration + "s, Multiplier=x" + NumberFormatUtil.formatFixed(multiplier, 2));
 
         playerData.activateBlockBooster(duration, multiplier);
 
         if (playerData.isShowEnchantMessages()) {
-            String msgFmt = settings.getString("Message", "&d&lBooster! &fx%multiplier% Blocks Mined for %duration%s");
-            String msg = ColorUtils.translateColors(msgFmt.replace("%multiplier%", String.format("%.1f", multiplier)).replace("%duration%", String.valueOf(duration)));
-            ChatUtil.sendMessage(player, msg);
+            ChatUtil.sendColoredMessage(player, enchantMessage("blockbooster", "Message", "&d&lBooster! &fx%multiplier% Blocks Mined for %duration%s")
+                    .render("multiplier", NumberFormatUtil.formatFixed(multiplier, 1),
+                            "duration", String.valueOf(duration)));
         }
         if (playerData.isShowEnchantSounds()) {
             playSoundAt(player, player.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 1.0f, 1.2f);
         }
     }
 
-    private void handleCharity(Player activator, int level, ConfigurationSection settings, PlayerData activatorData) {
+    private void handleCharity(Player activator, int level, EnchantSettings settings, PlayerData activatorData) {
         final boolean debug = isDebugMode();
         if (settings == null || !vaultHook.isEnabled()) {
             if(debug) logger.info("[Debug][Charity] Skipped: Settings="+(settings==null)+" VaultEnabled="+vaultHook.isEnabled());
             return;
         }
 
-        long minRewardBase = settings.getLong("RewardMinBase", 25L);
-        long minRewardIncrease = settings.getLong("RewardMinIncreasePerLevel", 5L);
-        long maxRewardBase = settings.getLong("RewardMaxBase", 75L);
-        long maxRewardIncrease = settings.getLong("RewardMaxIncreasePerLevel", 15L);
-        long minAmount = minRewardBase + (Math.max(0, level - 1) * minRewardIncrease);
-        long maxAmount = maxRewardBase + (Math.max(0, level - 1) * maxRewardIncrease);
+        long minAmount = settings.getRewardMin().atLong(level, 25L, 5L);
+        long maxAmount = settings.getRewardMax().atLong(level, 75L, 15L);
 
         final long amountToGive;
         if (maxAmount > minAmount) {
@@ -1722,8 +1721,8 @@ public class BlockBreakListener implements Listener {
 
         final Player finalActivator = activator;
         final PlayerData finalActivatorData = activatorData;
-        final String gaveFormat = settings.getString("MessageGave", "&dCharity! &fShared %amount% with %count% players!");
-        final String receivedFormat = settings.getString("MessageReceived", "&dCharity! &fReceived %amount% from %player%!");
+        final MessageTemplate gaveFormat = enchantMessage("charity", "MessageGave", "&dCharity! &fShared %amount% with %count% players!");
+        final MessageTemplate receivedFormat = enchantMessage("charity", "MessageReceived", "&dCharity! &fReceived %amount% from %player%!");
 
         runTaskSync(() -> {
             int givenCount = 0;
@@ -1738,7 +1737,7 @@ public class BlockBreakListener implements Listener {
                             PlayerData recipientData = dataManager.getPlayerData(recipient.getUniqueId());
                             if (recipientData == null) { recipientData = dataManager.loadPlayerData(recipient.getUniqueId()); }
                             if (recipientData != null && recipientData.isShowEnchantMessages()) {
-                                ChatUtil.sendMessage(recipient, receivedFormat.replace("%amount%", vaultHook.format(amountToGive)).replace("%player%", finalActivator.getName()));
+                                ChatUtil.sendColoredMessage(recipient, receivedFormat.render("amount", vaultHook.format(amountToGive), "player", finalActivator.getName()));
                             }
                         }
                     } else if(debug) {
@@ -1751,7 +1750,7 @@ public class BlockBreakListener implements Listener {
 
             if (givenCount > 0) {
                 if (finalActivatorData.isShowEnchantMessages()) {
-                    ChatUtil.sendMessage(finalActivator, gaveFormat.replace("%amount%", vaultHook.format(amountToGive)).replace("%count%", String.valueOf(givenCount)));
+                    ChatUtil.sendColoredMessage(finalActivator, gaveFormat.render("amount", vaultHook.format(amountToGive), "count", String.valueOf(givenCount)));
                 }
                 if (finalActivatorData.isShowEnchantSounds()) {
                     playSoundAt(finalActivator, finalActivator.getLocation(), Sound.ENTITY_VILLAGER_YES, 1.0f, 1.0f);
@@ -1760,19 +1759,15 @@ public class BlockBreakListener implements Listener {
         });
     }
 
-    private void handleBlessing(Player activator, int level, ConfigurationSection settings, PlayerData activatorData) {
+    private void handleBlessing(Player activator, int level, EnchantSettings settings, PlayerData activatorData) {
         final boolean debug = isDebugMode();
         if (settings == null) {
             logger.warning("[Blessing] Cannot activate for " + activator.getName() + ": ConfigurationSection is null!");
             return;
         }
 
-        long minRewardBase = settings.getLong("RewardMinBase", 5L);
-        long minRewardIncrease = settings.getLong("RewardMinIncreasePerLevel", 1L);
-        long maxRewardBase = settings.getLong("RewardMaxBase", 20L);
-        long maxRewardIncrease = settings.getLong("RewardMaxIncreasePerLevel", 5L);
-        long minAmount = minRewardBase + (Math.max(0, level - 1) * minRewardIncrease);
-        long maxAmount = maxRewardBase + (Math.max(0, level - 1) * maxRewardIncrease);
+        long minAmount = settings.getRewardMin().atLong(level, 5L, 1L);
+        long maxAmount = settings.getRewardMax().atLong(level, 20L, 5L);
 
         final long amountToGive;
         if (maxAmount > minAmount) {
@@ -1790,10 +1785,9 @@ public class BlockBreakListener implements Listener {
 
         final Player finalActivator = activator;
         final PlayerData finalActivatorData = activatorData;
-        final String msgGaveFormat = settings.getString("MessageGave", "&b&lBLESSED! &fYou shared %amount% Tokens with %count% players!");
-        final String msgReceivedFormat = settings.getString("MessageReceived", "&b&lBLESSED! &fYou received %amount% Tokens from %player%!");
+        final MessageTemplate msgGaveFormat = enchantMessage("blessing", "MessageGave", "&b&lBLESSED! &fYou shared %amount% Tokens with %count% players!");
+        final MessageTemplate msgReceivedFormat = enchantMessage("blessing", "MessageReceived", "&b&lBLESSED! &fYou received %amount% Tokens from %player%!");
         final List<String> commands = settings.getStringList("Commands");
-        final NumberFormat tokenFormat = NumberFormat.getNumberInstance(Locale.US);
 
         runTaskSync(() -> {
             Collection<? extends Player> onlinePlayers = Bukkit.getOnlinePlayers();
@@ -1813,7 +1807,7 @@ public class BlockBreakListener implements Listener {
                         givenCount++;
 
                         if (!recipient.getUniqueId().equals(finalActivator.getUniqueId()) && recipientData.isShowEnchantMessages()) {
-                            ChatUtil.sendMessage(recipient, msgReceivedFormat.replace("%amount%", tokenFormat.format(amountToGive)).replace("%player%", finalActivator.getName()));
+                            ChatUtil.sendColoredMessage(recipient, msgReceivedFormat.render("amount", NumberFormatUtil.formatGrouped(amountToGive), "player", finalActivator.getName()));
                         }
                     } else if(debug) {
                         logger.warning("[Debug][Blessing Task] Could not load PlayerData for recipient: " + recipient.getName());
@@ -1825,7 +1819,7 @@ public class BlockBreakListener implements Listener {
 
             if (givenCount > 0) {
                 if (finalActivatorData.isShowEnchantMessages()) {
-                    ChatUtil.sendMessage(finalActivator, msgGaveFormat.replace("%amount%", tokenFormat.format(amountToGive)).replace("%count%", String.valueOf(givenCount)));
+                    ChatUtil.sendColoredMessage(finalActivator, msgGaveFormat.render("amount", NumberFormatUtil.formatGrouped(amountToGive), "count", String.valueOf(givenCount)));
                 }
                 if (finalActivatorData.isShowEnchantSounds()) {
                     playSoundAt(finalActivator, finalActivator.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.2f);
@@ -1844,38 +1838,34 @@ public class BlockBreakListener implements Listener {
         });
     }
 
-    private void handleTokenator(Player p, int l, ConfigurationSection s, PlayerData pd) {
+    private void handleTokenator(Player p, int l, EnchantSettings s, PlayerData pd) {
         handleGenericTokenEnchant(p, l, s, "Tokenator", pd);
     }
-    private void handleKeyFinder(Player p, int l, ConfigurationSection s, PlayerData pd) {
+    private void handleKeyFinder(Player p, int l, EnchantSettings s, PlayerData pd) {
         handleGenericCommandEnchant(p, l, s, "KeyFinder", pd);
     }
 
-    private void handleJackpot(Player p, int l, ConfigurationSection s, PlayerData pd) {
+    private void handleJackpot(Player p, int l, EnchantSettings s, PlayerData pd) {
         handleGenericCommandEnchant(p, l, s, "Jackpot", pd);
     }
 
 
-    private void handleVoucherFinder(Player p, int l, ConfigurationSection s, PlayerData pd) {
+    private void handleVoucherFinder(Player p, int l, EnchantSettings s, PlayerData pd) {
         handleGenericCommandEnchant(p, l, s, "VoucherFinder", pd);
     }
-    private void handleSalary(Player player, int level, ConfigurationSection settings, PlayerData playerData) {
+    private void handleSalary(Player player, int level, EnchantSettings settings, PlayerData playerData) {
         handleGenericVaultEnchant(player, level, settings, "Salary", playerData);
     }
 
-    private void handleGenericVaultEnchant(Player player, int level, ConfigurationSection settings, String enchantName, PlayerData playerData) {
+    private void handleGenericVaultEnchant(Player player, int level, EnchantSettings settings, String enchantName, PlayerData playerData) {
         final boolean debug = isDebugMode();
         if (settings == null || !vaultHook.isEnabled()) {
             if(debug) logger.info("[Debug][GenericVault: "+enchantName+"] Skipped: Settings="+(settings==null)+" VaultEnabled="+vaultHook.isEnabled());
             return;
         }
 
-        long minRewardBase = settings.getLong("RewardMinBase", 10L);
-        long minRewardIncrease = settings.getLong("RewardMinIncreasePerLevel", 2L);
-        long maxRewardBase = settings.getLong("RewardMaxBase", 50L);
-        long maxRewardIncrease = settings.getLong("RewardMaxIncreasePerLevel", 5L);
-        long minAmount = minRewardBase + (Math.max(0, level - 1) * minRewardIncrease);
-        long maxAmount = maxRewardBase + (Math.max(0, level - 1) * maxRewardIncrease);
+        long minAmount = settings.getRewardMin().atLong(level, 10L, 2L);
+        long maxAmount = settings.getRewardMax().atLong(level, 50L, 5L);
 
         final long amountToGive;
         if (maxAmount > minAmount) {
@@ -1893,13 +1883,13 @@ public class BlockBreakListener implements Listener {
 
         final Player finalPlayer = player;
         final PlayerData finalPlayerData = playerData;
-        final String messageFormat = settings.getString("Message", "&aYour " + enchantName + " gave you +%amount%!");
+        final MessageTemplate messageFormat = enchantMessage(enchantName, "Message", "&aYour " + enchantName + " gave you +%amount%!");
         final String finalEnchantName = enchantName;
 
         runTaskSync(() -> {
             if (vaultHook.deposit(finalPlayer, amountToGive)) {
                 if (finalPlayerData.isShowEnchantMessages()) {
-                    ChatUtil.sendMessage(finalPlayer, messageFormat.replace("%amount%", vaultHook.format(amountToGive)));
+                    ChatUtil.sendColoredMessage(finalPlayer, messageFormat.render("amount", vaultHook.format(amountToGive)));
                 }
                 if (finalPlayerData.isShowEnchantSounds()) {
                     playSoundAt(finalPlayer, finalPlayer.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.8f, 1.5f);
@@ -1920,19 +1910,15 @@ public class BlockBreakListener implements Listener {
         });
     }
 
-    private void handleGenericTokenEnchant(Player player, int level, ConfigurationSection settings, String enchantName, PlayerData playerData) {
+    private void handleGenericTokenEnchant(Player player, int level, EnchantSettings settings, String enchantName, PlayerData playerData) {
         final boolean debug = isDebugMode();
         if (settings == null) {
             if(debug) logger.info("[Debug][GenericToken: "+enchantName+"] Settings null for " + player.getName());
             return;
         }
 
-        long minRewardBase = settings.getLong("RewardMinBase", 5L);
-        long minRewardIncrease = settings.getLong("RewardMinIncreasePerLevel", 2L);
-        long maxRewardBase = settings.getLong("RewardMaxBase", 15L);
-        long maxRewardIncrease = settings.getLong("RewardMaxIncreasePerLevel", 6L);
-        long minAmount = minRewardBase + (Math.max(0, level - 1) * minRewardIncrease);
-        long maxAmount = maxRewardBase + (Math.max(0, level - 1) * maxRewardIncrease);
+        long minAmount = settings.getRewardMin().atLong(level, 5L, 2L);
+        long maxAmount = settings.getRewardMax().atLong(level, 15L, 6L);
 
         final long amountToGive;
         if (maxAmount > minAmount) {
@@ -1950,9 +1936,8 @@ public class BlockBreakListener implements Listener {
 
         final Player finalPlayer = player;
         final PlayerData finalPlayerData = playerData;
-        final String messageFormat = settings.getString("Message", "&aYour " + enchantName + " gave you %amount% Tokens!");
+        final MessageTemplate messageFormat = enchantMessage(enchantName, "Message", "&aYour " + enchantName + " gave you %amount% Tokens!");
         final String finalEnchantName = enchantName;
-        final NumberFormat tokenFormat = NumberFormat.getNumberInstance(Locale.US);
 
         runTaskSync(() -> {
             long boostedAmount = applyMortarBoostToReward(finalPlayer, amountToGive);
@@ -1961,7 +1946,7 @@ public class BlockBreakListener implements Listener {
             dataManager.savePlayerData(finalPlayerData, true);
 
             if (finalPlayerData.isShowEnchantMessages()) {
-                ChatUtil.sendMessage(finalPlayer, messageFormat.replace("%amount%", tokenFormat.format(amountToGive)));
+                ChatUtil.sendColoredMessage(finalPlayer, messageFormat.render("amount", NumberFormatUtil.formatGrouped(amountToGive)));
             }
             if (finalPlayerData.isShowEnchantSounds()) {
                 playSoundAt(finalPlayer, finalPlayer.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 1.0f, 1.2f);
@@ -1980,7 +1965,7 @@ public class BlockBreakListener implements Listener {
         });
     }
 
-    private void handleGenericCommandEnchant(Player player, int level, ConfigurationSection settings, String enchantName, PlayerData playerData) {
+    private void handleGenericCommandEnchant(Player player, int level, EnchantSettings settings, String enchantName, PlayerData playerData) {
         final boolean debug = isDebugMode();
         if (settings == null) {
             if(debug) logger.info("[Debug][GenericCommand: "+enchantName+"] Settings null for " + player.getName());
@@ -1994,7 +1979,7 @@ public class BlockBreakListener implements Listener {
 
         final Player finalPlayer = player;
         final PlayerData finalPlayerData = playerData;
-        final String finalMessage = settings.getString("Message", "&aYour " + enchantName + " activated!");
+        final MessageTemplate finalMessage = enchantMessage(enchantName, "Message", "&aYour " + enchantName + " activated!");
         final String finalEnchantName = enchantName;
 
         final List<String> processedCommands = new ArrayList<>();
@@ -2020,7 +2005,7 @@ public class BlockBreakListener implements Listener {
             }
 
             if (finalPlayerData.isShowEnchantMessages()) {
-                ChatUtil.sendMessage(finalPlayer, ColorUtils.translateColors(finalMessage));
+                ChatUtil.sendColoredMessage(finalPlayer, finalMessage.getText());
             }
             if (finalPlayerData.isShowEnchantSounds()) {
                 Sound s = Sound.ENTITY_ITEM_PICKUP;
@@ -2165,6 +2150,15 @@ public class BlockBreakListener implements Listener {
         }
     }
 
+    /**
+     * Gets the load-time compiled template for an enchant's Settings message.
+     * Falls back to the given default if the enchant or key isn't configured.
+     */
+    private MessageTemplate enchantMessage(String enchantKey, String messageKey, String defaultMessage) {
+        EnchantmentWrapper enchant = enchantRegistry.getEnchant(enchantKey);
+        return (enchant != null) ? enchant.getMessageTemplate(messageKey, defaultMessage) : MessageTemplate.of(defaultMessage);
+    }
+
     private void sendTitleToPlayer(Player player, String title, String subtitle, int fadeIn, int stay, int fadeOut) {
         if (player != null && player.isOnline()) {
             try {
@@ -2175,10 +2169,19 @@ public class BlockBreakListener implements Listener {
         }
     }
 
-    private void spawnParticleEffect(World world, Particle particle, Location location, int count, double spread, @Nullable Particle.DustOptions options) {
-        if (world != null && particle != null && location != null && count > 0) {
+    /**
+     * Spawns an enchant particle effect through the VisualEffectService (opted-in viewers only,
+     * budgeted and distance-scaled). Falls back to a world broadcast if the service is unavailable.
+     */
+    private void spawnParticleEffect(@Nullable Player owner, Particle particle, Location location, int count, double spread, @Nullable Particle.DustOptions options) {
+        World world = (location != null) ? location.getWorld() : null;
+        if (world != null && particle != null && count > 0) {
             try {
-                if (options != null && particle == Particle.REDSTONE) {
+                boolean dust = options != null && particle == Particle.REDSTONE;
+                VisualEffectService visualEffects = plugin.getVisualEffects();
+                if (visualEffects != null) {
+                    visualEffects.spawn(owner, particle, location, count, spread, dust ? 0 : 0.1, dust ? options : null);
+                } else if (dust) {
                     world.spawnParticle(particle, location, count, spread, spread, spread, 0, options);
                 } else {
                     world.spawnParticle(particle, location, count, spread, spread, spread, 0.1);
@@ -2217,14 +2220,25 @@ public class BlockBreakListener implements Listener {
             this.directSetToAir = directSetToAir;
 
             // --- READ LIMITS FROM CONFIG ---
-            this.maxBlocksPerTick = configManager.getConfig().getInt("Performance.MaxBlocksPerTick", 300);
-            this.maxNanosPerTick = configManager.getConfig().getLong("Performance.MaxNanosPerTick", 3000000L);
+            ConfigSnapshot config = configManager.getSnapshot();
+            this.maxBlocksPerTick = config.getMaxBlocksPerTick();
+            this.maxNanosPerTick = config.getMaxNanosPerTick();
 
+            activeAreaTasks.add(this);
             if(debug) BlockBreakListener.this.logger.info("[AreaTask:"+name+"] Created for " + p.getName() + " with " + remainingBlocks.size() + " blocks. Limits: " + maxBlocksPerTick + " blocks/tick, " + (maxNanosPerTick / 1000000.0) + "ms/tick");
         }
 
         @Override
         public void run(){
+            long start = System.nanoTime();
+            try {
+                tick();
+            } finally {
+                PerfStats.AREA_TASK_TICK.recordSince(start);
+            }
+        }
+
+        private void tick(){
             if (player == null || !player.isOnline()) {
                 handleCompletion(true);
                 if (debug) logger.info("[Dbg][" + enchantName + " Task] Cancelled for " + playerUUID + ": Player offline.");
@@ -2302,7 +2316,7 @@ public class BlockBreakListener implements Listener {
 
             if (debug) {
                 double timeMs = (System.nanoTime() - startTickTime) / 1_000_000.0;
-                BlockBreakListener.this.logger.fine("[Dbg][" + enchantName + " Task Tick] P: " + player.getName() + " | Proc: " + processedThisTick + " | Rem: " + remainingBlocks.size() + " | Time: " + String.format("%.3f", timeMs) + " ms");
+                BlockBreakListener.this.logger.fine("[Dbg][" + enchantName + " Task Tick] P: " + player.getName() + " | Proc: " + processedThisTick + " | Rem: " + remainingBlocks.size() + " | Time: " + NumberFormatUtil.formatFixed(timeMs, 3) + " ms");
             }
 
             if (remainingBlocks.isEmpty()) {
@@ -2312,6 +2326,7 @@ public class BlockBreakListener implements Listener {
         }
 
         private void handleCompletion(boolean aborted) {
+            activeAreaTasks.remove(this);
             try {
                 this.cancel();
             } catch (IllegalStateException ignore) {}
@@ -2322,6 +2337,52 @@ public class BlockBreakListener implements Listener {
         }
     }
 
+    // --- Load Degradation ---
+
+    /** Enchant animations are shown if the player wants them and the degradation controller isn't skipping them. */
+    private boolean animationsAllowed(PlayerData playerData) {
+        if (!playerData.isShowEnchantAnimations()) return false;
+        DegradationController degradation = plugin.getDegradationController();
+        return degradation == null || !degradation.isSkipAnimations();
+    }
+
+    /**
+     * Breaks the blocks in this tick, or queues them in the shared {@link BreakPipeline} while the
+     * degradation controller asks for budgeted breaks. Queued blocks are re-checked when their turn comes.
+     */
+    private void breakBlocksNowOrBudgeted(Player player, Collection<Block> blocks, ItemStack pickaxe, PlayerData playerData,
+                                          boolean breakBedrock, String source) {
+        Consumer<Block> breaker = block -> {
+            if (isBreakable(block, breakBedrock)) {
+                processSingleBlockBreak(player, block, block.getType(), pickaxe, null, playerData);
+                block.setType(Material.AIR, false);
+            }
+        };
+
+        DegradationController degradation = plugin.getDegradationController();
+        BreakPipeline pipeline = plugin.getBreakPipeline();
+        if (degradation != null && degradation.isBudgetedBreaks() && pipeline != null) {
+            BreakPipeline.Job job = pipeline.submit(player.getUniqueId(), source, breaker);
+            for (Block block : blocks) job.offer(block);
+            job.finish();
+            return;
+        }
+        for (Block block : blocks) breaker.accept(block);
+    }
+
+    // --- Metrics ---
+
+    /** @return Blocks still queued in running area break tasks (Explosive, Nuke, DragonBurst, ...). Main thread only. */
+    public int getPendingAreaBlocks() {
+        int pending = 0;
+        for (AreaBlockBreakTask task : activeAreaTasks) pending += task.remainingBlocks.size();
+        return pending;
+    }
+
+    public int getActiveAreaTaskCount() { return activeAreaTasks.size(); }
+    public int getActiveNukeCount() { return nukeActivePlayers.size(); }
+    public int getActiveBlackholeCount() { return activeBlackholePlayers.size(); }
+
     /**
      * NEW METHOD: This is the failsafe to restore all blocks from any unfinished Blackhole animations.
      * This will be called from EnchantCore's onDisable() method.
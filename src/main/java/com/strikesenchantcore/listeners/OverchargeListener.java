@@ -2,12 +2,13 @@ package com.strikesenchantcore.listeners;
 
 import com.strikesenchantcore.EnchantCore;
 import com.strikesenchantcore.data.PlayerData;
+import com.strikesenchantcore.enchants.EnchantSettings;
 import com.strikesenchantcore.enchants.EnchantmentWrapper;
 import com.strikesenchantcore.tasks.OverchargeLaserTask;
+import com.strikesenchantcore.tasks.PassiveEffectTask;
 import com.strikesenchantcore.util.ChatUtil;
 import com.strikesenchantcore.util.PDCUtil;
 import org.bukkit.Sound;
-import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -61,26 +62,30 @@ public class OverchargeListener implements Listener {
             return;
         }
 
-        ConfigurationSection settings = enchant.getCustomSettings();
-        int base = settings.getInt("BlocksToChargeBase", 500);
-        int decrease = settings.getInt("BlocksToChargeDecreasePerLevel", 10);
-        int required = Math.max(1, base - (decrease * (level - 1)));
+        EnchantSettings settings = enchant.getSettings();
+        if (settings == null) {
+            return;
+        }
+        int required = settings.getBlocksToCharge(level);
 
         if (playerData.getOverchargeCharge() < required) {
             return;
         }
 
-        int beamLength = settings.getInt("BeamLength", 100);
+        int beamLength = Math.max(1, Math.min(512, settings.getInt("BeamLength", 100)));
+        int beamRadius = Math.max(0, Math.min(4, settings.getInt("BeamRadius", 1)));
+        double blocksPerTick = Math.max(0.5, settings.getDouble("BeamBlocksPerTick", 2.0));
 
-        // This is the corrected constructor call that matches the new Laser Task
-        new OverchargeLaserTask(player, playerData, item, beamLength, plugin).runTaskTimer(plugin, 0L, 1L);
+        new OverchargeLaserTask(player, playerData, item, beamLength, beamRadius, blocksPerTick, plugin).runTaskTimer(plugin, 0L, 1L);
 
         playerData.setOverchargeCharge(0);
         long cooldownMillis = TimeUnit.SECONDS.toMillis(settings.getInt("CooldownSeconds", 60));
         playerData.setOverchargeFireCooldownEnd(System.currentTimeMillis() + cooldownMillis);
+        PassiveEffectTask passiveEffects = plugin.getPassiveEffects();
+        if (passiveEffects != null) passiveEffects.markDirty(player.getUniqueId());
 
         if (playerData.isShowEnchantMessages()) {
-            ChatUtil.sendMessage(player, settings.getString("ActivationMessage", "&c&lOVERCHARGE! &7Fired a laser beam!"));
+            ChatUtil.sendColoredMessage(player, enchant.getMessageTemplate("ActivationMessage", "&c&lOVERCHARGE! &7Fired a laser beam!").getText());
         }
         if (playerData.isShowEnchantSounds()) {
             player.playSound(player.getLocation(), Sound.ENTITY_WITHER_SHOOT, 1.0f, 0.8f);
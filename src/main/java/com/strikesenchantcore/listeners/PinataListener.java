@@ -3,6 +3,8 @@ package com.strikesenchantcore.listeners;
 import com.strikesenchantcore.EnchantCore;
 import com.strikesenchantcore.data.PlayerData;
 import com.strikesenchantcore.data.PlayerDataManager;
+import com.strikesenchantcore.managers.EntityRegistry;
+import com.strikesenchantcore.managers.VisualEffectService;
 import com.strikesenchantcore.util.ChatUtil;
 import org.bukkit.*;
 import org.bukkit.configuration.ConfigurationSection;
@@ -17,10 +19,10 @@ import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDeathEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.persistence.PersistentDataType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.block.Block;
 import org.bukkit.Material;
 import org.bukkit.World;
+import org.jetbrains.annotations.Nullable;
 
 // ModelEngine imports
 import com.ticxo.modelengine.api.ModelEngineAPI;
@@ -38,7 +40,7 @@ public class PinataListener implements Listener {
     private final EnchantCore plugin;
     private final PlayerDataManager dataManager;
     private final Random random = ThreadLocalRandom.current();
-    private static final NamespacedKey PINATA_KEY = new NamespacedKey(EnchantCore.getInstance(), "enchantcore_pinata");
+    public static final NamespacedKey PINATA_KEY = new NamespacedKey(EnchantCore.getInstance(), "enchantcore_pinata");
 
     // Map to store active piñatas: Entity UUID -> PinataData
     public static final Map<UUID, PinataData> activePinatas = new ConcurrentHashMap<>();
@@ -46,7 +48,6 @@ public class PinataListener implements Listener {
     public PinataListener(EnchantCore plugin) {
         this.plugin = plugin;
         this.dataManager = plugin.getPlayerDataManager();
-        startTimeoutTask();
     }
 
     /**
@@ -98,6 +99,12 @@ public class PinataListener implements Listener {
             PinataData pinataData = new PinataData(owner, health, rewardsSection, timeoutSeconds);
             activePinatas.put(pinataEntity.getUniqueId(), pinataData);
 
+            // Timeout is driven by the entity registry (no polling, no world scans)
+            EntityRegistry entityRegistry = plugin.getEntityRegistry();
+            if (entityRegistry != null) {
+                entityRegistry.register(pinataEntity, pinataData.getTimeoutTimestamp(), this::handleTimeout, this::removePinataEntity);
+            }
+
             // Clear blocks immediately in 4x6x4 area
             World world = location.getWorld();
             int x = location.getBlockX();
@@ -150,8 +157,8 @@ public class PinataListener implements Listener {
                 }
 
                 // Particles
-                world.spawnParticle(Particle.EXPLOSION_LARGE, location.clone().add(0, 1, 0), 3);
-                world.spawnParticle(Particle.FIREWORKS_SPARK, location.clone().add(0, 1, 0), 20, 2.0, 2.0, 2.0);
+                spawnEffect(ownerPlayer, Particle.EXPLOSION_LARGE, location.clone().add(0, 1, 0), 3, 0.0);
+                spawnEffect(ownerPlayer, Particle.FIREWORKS_SPARK, location.clone().add(0, 1, 0), 20, 2.0);
             }
 
             plugin.getLogger().info("Spawned ModelEngine piñata for player " + Bukkit.getPlayer(owner) +
@@ -249,7 +256,7 @@ public class PinataListener implements Listener {
 
         // Spawn hit particles
         Location particleLocation = damagedEntity.getLocation().add(0, damagedEntity.getHeight() / 2, 0);
-        damagedEntity.getWorld().spawnParticle(Particle.CRIT, particleLocation, 15, 0.4, 0.4, 0.4);
+        spawnEffect(player, Particle.CRIT, particleLocation, 15, 0.4);
 
         // Reduce piñata health
         pinataData.reduceHealth();
@@ -274,6 +281,7 @@ public class PinataListener implements Listener {
 
             // Clean up if it somehow died naturally
             PinataData pinataData = activePinatas.remove(entity.getUniqueId());
+            unregisterEntity(entity);
             if (pinataData != null) {
                 Player owner = Bukkit.getPlayer(pinataData.getOwner());
                 if (owner != null && owner.isOnline()) {
@@ -325,20 +333,29 @@ public class PinataListener implements Listener {
         }
     }
 
+    /**
+     * Spawns a piñata particle effect for opted-in viewers via the VisualEffectService.
+     */
+    private void spawnEffect(Player owner, Particle particle, Location location, int count, double spread) {
+        VisualEffectService visualEffects = plugin.getVisualEffects();
+        if (visualEffects != null) {
+            visualEffects.spawn(owner, particle, location, count, spread, 1.0, null); // Same speed as the Bukkit default
+        } else if (location.getWorld() != null) {
+            location.getWorld().spawnParticle(particle, location, count, spread, spread, spread);
+        }
+    }
+
     private void breakPinata(Entity pinataEntity, Player player, PlayerData playerData) {
         PinataData pinataData = activePinatas.remove(pinataEntity.getUniqueId());
         if (pinataData == null) return;
+        unregisterEntity(pinataEntity);
 
         Location location = pinataEntity.getLocation();
 
-        // Remove the ModelEngine model using proper API
-        removeModelEngineModel(pinataEntity);
-
-        // Then remove the entity
-        pinataEntity.remove();
+        removePinataEntity(pinataEntity);
 
         // Spawn explosion effects
-        location.getWorld().spawnParticle(Particle.EXPLOSION_LARGE, location.clone().add(0, 1, 0), 1);
+        spawnEffect(player, Particle.EXPLOSION_LARGE, location.clone().add(0, 1, 0), 1, 0.0);
 
         if (playerData.isShowEnchantSounds()) {
             player.playSound(location, Sound.ENTITY_GENERIC_EXPLODE, 1.0f, 1.0f);
@@ -352,6 +369,15 @@ public class PinataListener implements Listener {
         }
     }
 
+    /**
+     * Removes a piñata from the world: tears down its ModelEngine model, then the entity itself.
+     * Used for broken, timed-out and orphaned piñatas and on disable.
+     */
+    public void removePinataEntity(Entity entity) {
+        removeModelEngineModel(entity);
+        entity.remove();
+    }
+
     private void removeModelEngineModel(Entity entity) {
         try {
             ModeledEntity modeledEntity = ModelEngineAPI.getModeledEntity(entity);
@@ -364,49 +390,34 @@ public class PinataListener implements Listener {
         }
     }
 
-    private void startTimeoutTask() {
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (activePinatas.isEmpty()) return;
-
-                long currentTime = System.currentTimeMillis();
-                activePinatas.entrySet().removeIf(entry -> {
-                    PinataData data = entry.getValue();
-                    if (currentTime > data.getTimeoutTimestamp()) {
-                        handleTimeout(entry.getKey(), data);
-                        return true;
-                    }
-                    return false;
-                });
-            }
-        }.runTaskTimer(plugin, 100L, 100L); // Check every 5 seconds
+    private void unregisterEntity(Entity entity) {
+        EntityRegistry entityRegistry = plugin.getEntityRegistry();
+        if (entityRegistry != null) {
+            entityRegistry.unregister(entity.getUniqueId());
+        }
     }
 
-    private void handleTimeout(UUID entityUUID, PinataData data) {
-        // Find the entity and trigger timeout
-        for (World world : Bukkit.getWorlds()) {
-            for (Entity entity : world.getEntities()) {
-                if (entity.getUniqueId().equals(entityUUID)) {
-
-                    // Remove ModelEngine model using proper API
-                    removeModelEngineModel(entity);
-
-                    // Remove entity
-                    entity.remove();
-
-                    // Notify owner
-                    Player owner = Bukkit.getPlayer(data.getOwner());
-                    if (owner != null && owner.isOnline()) {
-                        PlayerData ownerData = dataManager.getPlayerData(owner.getUniqueId());
-                        if (ownerData != null && ownerData.isShowEnchantMessages()) {
-                            String timeoutMessage = plugin.getEnchantRegistry().getEnchant("lootpinata")
-                                    .getCustomSettings().getString("TimeoutMessage", "&eThe loot piñata got away...");
-                            ChatUtil.sendMessage(owner, timeoutMessage);
-                        }
-                    }
-                    break;
-                }
+    /**
+     * Called by the EntityRegistry when a piñata's timeout passes.
+     * The entity is null if its chunk isn't loaded; it is then removed as an orphan when the chunk loads.
+     */
+    private void handleTimeout(UUID entityId, @Nullable Entity entity) {
+        PinataData data = activePinatas.remove(entityId);
+
+        if (entity != null) {
+            removePinataEntity(entity);
+        }
+
+        if (data == null) return;
+
+        // Notify owner
+        Player owner = Bukkit.getPlayer(data.getOwner());
+        if (owner != null && owner.isOnline()) {
+            PlayerData ownerData = dataManager.getPlayerData(owner.getUniqueId());
+            if (ownerData != null && ownerData.isShowEnchantMessages()) {
+                String timeoutMessage = plugin.getEnchantRegistry().getEnchant("lootpinata")
+                        .getCustomSettings().getString("TimeoutMessage", "&eThe loot piñata got away...");
+                ChatUtil.sendMessage(owner, timeoutMessage);
             }
         }
     }
@@ -67,6 +67,11 @@ public class PlayerJoinListener implements Listener {
         }
         // --- End Load Player Data ---
 
+        // Schedule the next Mortar activation from the loaded mortar level
+        if (plugin.getMortarManager() != null) {
+            plugin.getMortarManager().reschedule(player.getUniqueId());
+        }
+
 
         // --- First Join Pickaxe Logic ---
         if (!pickaxeConfig.isFirstJoinEnabled()) {
@@ -2,6 +2,8 @@ package com.strikesenchantcore.listeners;
 
 import com.strikesenchantcore.EnchantCore;
 import com.strikesenchantcore.data.PlayerDataManager; // Import PlayerDataManager
+import com.strikesenchantcore.gui.GuiPreparation;
+import com.strikesenchantcore.util.PapiHook;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerQuitEvent;
@@ -30,6 +32,14 @@ public class PlayerQuitListener implements Listener {
 
     @EventHandler
     public void onPlayerQuit(PlayerQuitEvent event) {
+        // Drop any menu contents still being prepared for this player
+        GuiPreparation.cancelAll(event.getPlayer().getUniqueId());
+
+        // Drop the player's pending Mortar activation; it is rescheduled on join
+        if (plugin.getMortarManager() != null) {
+            plugin.getMortarManager().cancelSchedule(event.getPlayer().getUniqueId());
+        }
+
         // Ensure PlayerDataManager is available
         if (playerDataManager == null) {
             logger.severe("Cannot unload data for " + event.getPlayer().getName() + " on quit: PlayerDataManager is null!");
@@ -40,6 +50,10 @@ public class PlayerQuitListener implements Listener {
         try {
             playerDataManager.unloadPlayerData(event.getPlayer().getUniqueId(), true);
             // Debug logging for unload is handled within PlayerDataManager.unloadPlayerData
+            PapiHook papiHook = plugin.getPapiHook();
+            if (papiHook != null) {
+                papiHook.getCache().invalidate(event.getPlayer().getUniqueId());
+            }
         } catch (Exception e) {
             // Log any unexpected errors during the unload process
             logger.severe("Error unloading PlayerData for " + event.getPlayer().getName() + " on quit: " + e.getMessage());
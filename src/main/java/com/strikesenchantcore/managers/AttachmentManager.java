@@ -1,6 +1,9 @@
 package com.strikesenchantcore.managers;
 
+import com.strikesenchantcore.util.NumberFormatUtil;
 import com.strikesenchantcore.EnchantCore;
+import com.strikesenchantcore.data.PlayerData;
+import com.strikesenchantcore.data.PlayerDataManager;
 import com.strikesenchantcore.util.ChatUtil;
 import com.strikesenchantcore.util.ColorUtils;
 import org.bukkit.Material;
@@ -16,7 +19,6 @@ import java.util.concurrent.ThreadLocalRandom;
 public class AttachmentManager {
 
     private final EnchantCore plugin;
-    private final Map<UUID, AttachmentStorage> playerStorages;
 
     // Constants
     public static final int MAX_EQUIPPED_ATTACHMENTS = 7;
@@ -25,11 +27,21 @@ public class AttachmentManager {
 
     public AttachmentManager(EnchantCore plugin) {
         this.plugin = plugin;
-        this.playerStorages = new HashMap<>();
     }
 
+    /**
+     * Gets a player's attachments. They live in the player's {@link PlayerData}, so they are loaded,
+     * saved and evicted together with it.
+     * @return The storage; a detached empty one (changes are not kept) if the player's data can't be loaded.
+     */
     public AttachmentStorage getPlayerStorage(UUID playerId) {
-        return playerStorages.computeIfAbsent(playerId, k -> new AttachmentStorage());
+        PlayerDataManager playerDataManager = plugin.getPlayerDataManager();
+        PlayerData data = (playerDataManager != null) ? playerDataManager.getPlayerData(playerId) : null;
+        if (data == null) {
+            plugin.getLogger().warning("[Attachments] No player data for " + playerId + ", attachment changes will not be saved.");
+            return new AttachmentStorage();
+        }
+        return data.getAttachments();
     }
 
     public void giveAttachmentBox(Player player, int amount) {
@@ -194,8 +206,8 @@ public class AttachmentManager {
         AttachmentStorage storage = getPlayerStorage(playerId);
         double totalBonus = 0.0;
 
-        for (Integer tier : storage.getEquippedAttachments()) {
-            totalBonus += getProcBonusForTier(tier);
+        for (int slot = 0; slot < MAX_EQUIPPED_ATTACHMENTS; slot++) {
+            totalBonus += getProcBonusForTier(storage.getEquippedTier(slot)); // 0 for an empty slot
         }
 
         return totalBonus;
@@ -226,7 +238,7 @@ public class AttachmentManager {
         if (meta != null) {
             meta.setDisplayName(ColorUtils.translateColors(getTierColor(tier) + "&lTier " + tier + " Attachment"));
             List<String> lore = Arrays.asList(
-                    ColorUtils.translateColors("&7Proc Bonus: &e+" + String.format("%.1f", getProcBonusForTier(tier) * 100) + "%"),
+                    ColorUtils.translateColors("&7Proc Bonus: &e+" + NumberFormatUtil.formatFixed(getProcBonusForTier(tier) * 100, 1) + "%"),
                     ColorUtils.translateColors("&7Enhances enchant activation rates"),
                     "",
                     ColorUtils.translateColors("&eLeft-click to equip"),
@@ -279,75 +291,78 @@ public class AttachmentManager {
         };
     }
 
-    // Inner class for attachment storage
+    /**
+     * A player's attachments: stored counts as one int per tier and the equipped slots as one byte
+     * each (the tier, 0 = empty). Not thread-safe; mutate on the main thread.
+     */
     public static class AttachmentStorage {
-        private final Map<Integer, Integer> attachments; // tier -> count
-        private final Map<Integer, Integer> equipped;    // slot -> tier
+        private final int[] counts = new int[MAX_TIER + 1];                  // tier -> count (index 0 unused)
+        private final byte[] equipped = new byte[MAX_EQUIPPED_ATTACHMENTS]; // slot -> tier, 0 = empty
 
-        public AttachmentStorage() {
-            this.attachments = new HashMap<>();
-            this.equipped = new HashMap<>();
+        private static boolean isValidTier(int tier) {
+            return tier >= 1 && tier <= MAX_TIER;
         }
 
+        /** Tiers outside 1..MAX_TIER are ignored. */
         public void addAttachment(int tier, int amount) {
-            attachments.merge(tier, amount, Integer::sum);
+            if (!isValidTier(tier) || amount <= 0) return;
+            counts[tier] = (int) Math.min(Integer.MAX_VALUE, (long) counts[tier] + amount);
         }
 
         public boolean removeAttachment(int tier, int amount) {
-            int current = attachments.getOrDefault(tier, 0);
-            if (current < amount) return false;
-
-            if (current == amount) {
-                attachments.remove(tier);
-            } else {
-                attachments.put(tier, current - amount);
-            }
+            if (!isValidTier(tier) || counts[tier] < amount) return false;
+            counts[tier] -= amount;
             return true;
         }
 
         public int getAttachmentCount(int tier) {
-            return attachments.getOrDefault(tier, 0);
-        }
-
-        public Map<Integer, Integer> getAllAttachments() {
-            return new HashMap<>(attachments);
+            return isValidTier(tier) ? counts[tier] : 0;
         }
 
         public void equipAttachment(int tier) {
+            if (!isValidTier(tier)) return;
             for (int slot = 0; slot < MAX_EQUIPPED_ATTACHMENTS; slot++) {
-                if (!equipped.containsKey(slot)) {
-                    equipped.put(slot, tier);
+                if (equipped[slot] == 0) {
+                    equipped[slot] = (byte) tier;
                     break;
                 }
             }
         }
 
         public void unequipAttachment(int slot) {
-            equipped.remove(slot);
+            if (slot >= 0 && slot < MAX_EQUIPPED_ATTACHMENTS) equipped[slot] = 0;
+        }
+
+        /** @return The tier in a slot, 0 if the slot is empty or out of range. */
+        public int getEquippedTier(int slot) {
+            return (slot >= 0 && slot < MAX_EQUIPPED_ATTACHMENTS) ? equipped[slot] : 0;
         }
 
+        /** @return The tier in a slot, or null if the slot is empty. */
         public Integer getEquippedAttachment(int slot) {
-            return equipped.get(slot);
+            int tier = getEquippedTier(slot);
+            return (tier > 0) ? tier : null;
         }
 
-        public Collection<Integer> getEquippedAttachments() {
-            return equipped.values();
+        public int getEquippedCount() {
+            int count = 0;
+            for (byte tier : equipped) {
+                if (tier != 0) count++;
+            }
+            return count;
         }
 
-        public Map<Integer, Integer> getEquippedMap() {
-            return new HashMap<>(equipped);
+        public void setEquippedAttachment(int slot, Integer tier) {
+            if (slot < 0 || slot >= MAX_EQUIPPED_ATTACHMENTS) return;
+            equipped[slot] = (tier != null && isValidTier(tier)) ? (byte) (int) tier : 0;
         }
 
-        public int getEquippedCount() {
-            return equipped.size();
+        public void clearAttachments() {
+            Arrays.fill(counts, 0);
         }
 
-        public void setEquippedAttachment(int slot, Integer tier) {
-            if (tier == null) {
-                equipped.remove(slot);
-            } else {
-                equipped.put(slot, tier);
-            }
+        public void clearEquipped() {
+            Arrays.fill(equipped, (byte) 0);
         }
     }
-}
\ No newline at end of file
+}
@@ -1,39 +1,77 @@
-// --- ENTIRE CLASS - COPY AND PASTE ---
 package com.strikesenchantcore.managers;
 
 import com.strikesenchantcore.EnchantCore;
 import org.bukkit.*;
 import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
-import org.bukkit.entity.Entity;
-import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
+/**
+ * Tracks active Blackhole vortexes and keeps a crash-recovery journal of the blocks they place.
+ * Every vortex start, placed block (with the block's original BlockData) and vortex end is
+ * appended to blackholes.journal on a dedicated writer thread, so the main thread never does file
+ * I/O. The writer compacts the journal (drops finished vortexes) periodically. On startup the
+ * journal is replayed and every block placed by an unfinished vortex is put back exactly as it was.
+ * Blocks the vortex mines are not journaled: their rewards are already paid, so undoing them would dupe.
+ */
 public class BlackholeManager {
 
+    // --- Journal Format (one tab separated record per line) ---
+    // S <vortexId> <playerUUID> <world> <x> <y> <z> <createdMillis>   vortex started
+    // B <vortexId> <world> <x> <y> <z> <placedMaterial> <originalBlockData>   block placed by the vortex
+    // E <vortexId>   vortex finished, its records can be discarded
+    private static final String JOURNAL_FILE = "blackholes.journal";
+    private static final String LEGACY_FILE = "blackholes.yml";
+    private static final char SEPARATOR = '\t';
+    // Compact after this many finished vortexes (each one leaves dead records behind)
+    private static final int COMPACT_AFTER_ENDS = 16;
+
     private final EnchantCore plugin;
     private final Map<UUID, BlackholeData> activeBlackholes;
-    private final File blackholeDataFile;
-    private FileConfiguration blackholeConfig;
+    private final File journalFile;
+    private final ExecutorService journalWriter;
+
+    // --- Writer thread state (only touched from journalWriter) ---
+    private BufferedWriter journalOut;
+    private final Map<String, List<String>> liveRecords = new LinkedHashMap<>(); // vortexId -> records still needed
+    private int endsSinceCompaction = 0;
 
     public BlackholeManager(EnchantCore plugin) {
         this.plugin = plugin;
         this.activeBlackholes = new ConcurrentHashMap<>();
-        this.blackholeDataFile = new File(plugin.getDataFolder(), "blackholes.yml");
-
-        loadBlackholeData();
+        this.journalFile = new File(plugin.getDataFolder(), JOURNAL_FILE);
+        this.journalWriter = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "EnchantCore-BlackholeJournal");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        migrateLegacyFile();
+        replayJournal();
     }
 
     public static class BlackholeData {
         private final UUID id;
         private final Location center;
-        private final Set<Location> affectedBlocks;
         private final long creationTime;
         private final int radius;
         private final UUID playerUUID;
@@ -42,203 +80,305 @@ public class BlackholeManager {
             this.id = id;
             this.center = center;
             this.radius = radius;
-            this.affectedBlocks = new HashSet<>();
             this.creationTime = System.currentTimeMillis();
             this.playerUUID = playerUUID;
         }
 
         public UUID getId() { return id; }
         public Location getCenter() { return center; }
-        public Set<Location> getAffectedBlocks() { return affectedBlocks; }
         public long getCreationTime() { return creationTime; }
         public int getRadius() { return radius; }
         public UUID getPlayerUUID() { return playerUUID; }
     }
 
-    public void registerBlackhole(UUID playerUUID, Location center, int radius) {
+    /**
+     * Registers a new vortex and journals its start.
+     * @return The vortex id to pass to {@link #recordBlockChange} and {@link #removeBlackhole}.
+     */
+    @NotNull
+    public UUID registerBlackhole(UUID playerUUID, Location center, int radius) {
         UUID blackholeId = UUID.randomUUID();
         BlackholeData data = new BlackholeData(blackholeId, center, radius, playerUUID);
-
-        generateSphere(center, radius, data.getAffectedBlocks());
         activeBlackholes.put(blackholeId, data);
-        saveBlackholeData();
+
+        World world = center.getWorld();
+        String record = "S" + SEPARATOR + blackholeId + SEPARATOR + playerUUID + SEPARATOR
+                + (world != null ? world.getName() : "") + SEPARATOR
+                + center.getX() + SEPARATOR + center.getY() + SEPARATOR + center.getZ() + SEPARATOR
+                + data.getCreationTime();
+        append(blackholeId.toString(), record, false);
 
         plugin.getLogger().info("Registered blackhole for player " + playerUUID + " at " + locationToString(center));
+        return blackholeId;
+    }
+
+    /**
+     * Journals a block the vortex is about to place so it can be restored after a crash.
+     * Only for blocks the vortex places itself (its sphere); never for blocks it mines.
+     * Must be called on the main thread before the block is modified.
+     * @param original The block's data before the change.
+     * @param placed The material the vortex sets; the block is only restored if it still has this type.
+     */
+    public void recordBlockChange(@NotNull UUID blackholeId, @NotNull Block block, @NotNull BlockData original, @NotNull Material placed) {
+        if (!activeBlackholes.containsKey(blackholeId)) return;
+        String record = "B" + SEPARATOR + blackholeId + SEPARATOR + block.getWorld().getName() + SEPARATOR
+                + block.getX() + SEPARATOR + block.getY() + SEPARATOR + block.getZ() + SEPARATOR
+                + placed.name() + SEPARATOR + original.getAsString();
+        append(blackholeId.toString(), record, false);
+    }
+
+    /**
+     * Marks a vortex as finished; its journal records are no longer needed.
+     */
+    public boolean removeBlackhole(@Nullable UUID blackholeId) {
+        if (blackholeId == null || activeBlackholes.remove(blackholeId) == null) return false;
+        append(blackholeId.toString(), "E" + SEPARATOR + blackholeId, true);
+        return true;
     }
 
     public boolean removeBlackholeByLocation(Location location) {
         UUID toRemove = null;
         for (Map.Entry<UUID, BlackholeData> entry : activeBlackholes.entrySet()) {
-            if (entry.getValue().getCenter().getWorld().equals(location.getWorld()) &&
-                    entry.getValue().getCenter().distance(location) < 5.0) {
+            Location center = entry.getValue().getCenter();
+            if (Objects.equals(center.getWorld(), location.getWorld()) && center.distanceSquared(location) < 25.0) {
                 toRemove = entry.getKey();
                 break;
             }
         }
-
-        if (toRemove != null) {
-            activeBlackholes.remove(toRemove);
-            saveBlackholeData();
-            return true;
-        }
-        return false;
+        return removeBlackhole(toRemove);
     }
 
     public void removeBlackholeByPlayer(UUID playerUUID) {
-        activeBlackholes.values().removeIf(data -> data.getPlayerUUID().equals(playerUUID));
-        saveBlackholeData();
-    }
-
-
-    public void cleanupAllBlackholes() {
-        plugin.getLogger().info("Cleaning up " + activeBlackholes.size() + " active blackholes (coal spheres)...");
-
+        List<UUID> toRemove = new ArrayList<>();
         for (BlackholeData data : activeBlackholes.values()) {
-            restoreBlocks(data);
+            if (data.getPlayerUUID().equals(playerUUID)) toRemove.add(data.getId());
         }
-
-        activeBlackholes.clear();
-        saveBlackholeData();
-        plugin.getLogger().info("All blackhole spheres cleaned up successfully.");
+        toRemove.forEach(this::removeBlackhole);
     }
 
     /**
-     * NEW METHOD: This is the failsafe cleanup for orphaned armor stands.
-     * It scans all worlds for armor stands with the specific plugin tag and removes them.
+     * Called on disable, after the vortex tasks have restored their blocks. Vortexes that are still
+     * registered keep their journal records, so if anything was left behind (e.g. the listener was
+     * never initialised) it is restored on the next start; replay skips blocks that were already
+     * put back. The journal is compacted and the writer stopped.
      */
-    public void cleanupOrphanedArmorStands() {
-        int removedCount = 0;
-        // This key MUST match the one used in BlockBreakListener.java
-        NamespacedKey blackholeKey = new NamespacedKey(plugin, "blackhole_armor_stand");
-
-        plugin.getLogger().info("Starting sweep for orphaned Blackhole armor stands...");
-
-        for (World world : Bukkit.getWorlds()) {
-            for (Entity entity : world.getEntities()) {
-                // Check if it's an armor stand and if it has our specific tag
-                if (entity instanceof org.bukkit.entity.ArmorStand && entity.getPersistentDataContainer().has(blackholeKey, PersistentDataType.BYTE)) {
-                    entity.remove();
-                    removedCount++;
-                }
-            }
+    public void cleanupAllBlackholes() {
+        if (!activeBlackholes.isEmpty()) {
+            plugin.getLogger().info("Leaving " + activeBlackholes.size() + " unfinished blackholes in the journal for recovery.");
         }
+        activeBlackholes.clear();
 
-        if (removedCount > 0) {
-            plugin.getLogger().info("Removed " + removedCount + " orphaned Blackhole armor stands.");
-        } else {
-            plugin.getLogger().info("No orphaned Blackhole armor stands found.");
+        journalWriter.execute(() -> {
+            compact();
+            closeJournal();
+        });
+        journalWriter.shutdown();
+        try {
+            if (!journalWriter.awaitTermination(5, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Blackhole journal writer did not finish in time; the journal will be replayed on next start.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
     }
 
-    private void generateSphere(Location center, int radius, Set<Location> blocks) {
-        World world = center.getWorld();
-        if (world == null) return;
-
-        int centerX = center.getBlockX();
-        int centerY = center.getBlockY();
-        int centerZ = center.getBlockZ();
-
-        for (int x = centerX - radius; x <= centerX + radius; x++) {
-            for (int y = centerY - radius; y <= centerY + radius; y++) {
-                for (int z = centerZ - radius; z <= centerZ + radius; z++) {
-                    double distance = Math.sqrt(
-                            Math.pow(x - centerX, 2) +
-                                    Math.pow(y - centerY, 2) +
-                                    Math.pow(z - centerZ, 2)
-                    );
-
-                    if (distance <= radius) {
-                        Location loc = new Location(world, x, y, z);
-                        blocks.add(loc);
-                    }
-                }
-            }
+    public int getActiveCount() {
+        return activeBlackholes.size();
+    }
+
+    // --- Journal Writing (writer thread) ---
+
+    private void append(String vortexId, String record, boolean end) {
+        try {
+            journalWriter.execute(() -> writeRecord(vortexId, record, end));
+        } catch (java.util.concurrent.RejectedExecutionException e) {
+            plugin.getLogger().warning("Blackhole journal is closed; dropped record for vortex " + vortexId);
         }
     }
 
-    private void restoreBlocks(BlackholeData data) {
-        for (Location loc : data.getAffectedBlocks()) {
-            if (loc.getWorld() == null) continue;
+    private void writeRecord(String vortexId, String record, boolean end) {
+        try {
+            if (journalOut == null) {
+                journalOut = Files.newBufferedWriter(journalFile.toPath(), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            journalOut.write(record);
+            journalOut.newLine();
+            journalOut.flush();
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Could not write to blackhole journal", e);
+            closeJournal();
+        }
 
-            Block block = loc.getBlock();
-            if (block.getType() == Material.COAL_BLOCK) {
-                block.setType(Material.AIR);
+        if (end) {
+            liveRecords.remove(vortexId);
+            if (++endsSinceCompaction >= COMPACT_AFTER_ENDS) {
+                compact();
             }
+        } else {
+            liveRecords.computeIfAbsent(vortexId, k -> new ArrayList<>()).add(record);
         }
     }
 
-    private void loadBlackholeData() {
-        if (!blackholeDataFile.exists()) {
+    /**
+     * Rewrites the journal with only the records of unfinished vortexes.
+     */
+    private void compact() {
+        endsSinceCompaction = 0;
+        closeJournal();
+        File temp = new File(journalFile.getParentFile(), JOURNAL_FILE + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(temp.toPath(), StandardCharsets.UTF_8)) {
+            for (List<String> records : liveRecords.values()) {
+                for (String record : records) {
+                    out.write(record);
+                    out.newLine();
+                }
+            }
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Could not compact blackhole journal", e);
+            return;
+        }
+        try {
+            Files.move(temp.toPath(), journalFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
             try {
-                blackholeDataFile.getParentFile().mkdirs();
-                blackholeDataFile.createNewFile();
-            } catch (IOException e) {
-                plugin.getLogger().log(Level.SEVERE, "Could not create blackhole data file", e);
-                return;
+                Files.move(temp.toPath(), journalFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e2) {
+                plugin.getLogger().log(Level.SEVERE, "Could not replace blackhole journal after compaction", e2);
             }
         }
+    }
 
-        blackholeConfig = YamlConfiguration.loadConfiguration(blackholeDataFile);
-
-        if (blackholeConfig.contains("blackholes")) {
-            Set<String> keys = blackholeConfig.getConfigurationSection("blackholes").getKeys(false);
-
-            for (String key : keys) {
-                try {
-                    UUID id = UUID.fromString(key);
-                    String worldName = blackholeConfig.getString("blackholes." + key + ".world");
-                    double x = blackholeConfig.getDouble("blackholes." + key + ".x");
-                    double y = blackholeConfig.getDouble("blackholes." + key + ".y");
-                    double z = blackholeConfig.getDouble("blackholes." + key + ".z");
-                    int radius = blackholeConfig.getInt("blackholes." + key + ".radius");
-                    UUID playerUUID = UUID.fromString(blackholeConfig.getString("blackholes." + key + ".player_uuid"));
+    private void closeJournal() {
+        if (journalOut == null) return;
+        try {
+            journalOut.close();
+        } catch (IOException ignore) {
+        }
+        journalOut = null;
+    }
 
-                    World world = Bukkit.getWorld(worldName);
-                    if (world != null) {
-                        Location center = new Location(world, x, y, z);
-                        BlackholeData data = new BlackholeData(id, center, radius, playerUUID);
+    // --- Startup Recovery (main thread, before any vortex can start) ---
 
-                        generateSphere(center, radius, data.getAffectedBlocks());
-                        restoreBlocks(data);
+    /**
+     * Restores every block placed by vortexes that never journaled an end record, then truncates the journal.
+     * Records in worlds that aren't loaded yet are written back so a later start can restore them.
+     */
+    private void replayJournal() {
+        if (!journalFile.exists()) return;
+
+        Map<String, List<String[]>> openChanges = new LinkedHashMap<>();
+        int lineNumber = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalFile.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isEmpty()) continue;
+                String[] parts = line.split(String.valueOf(SEPARATOR), -1);
+                if (parts.length < 2) continue; // Torn write at the end of the file
+                switch (parts[0]) {
+                    case "S" -> openChanges.putIfAbsent(parts[1], new ArrayList<>());
+                    case "B" -> {
+                        if (parts.length >= 8) openChanges.computeIfAbsent(parts[1], k -> new ArrayList<>()).add(parts);
                     }
-                } catch (Exception e) {
-                    plugin.getLogger().log(Level.WARNING, "Failed to load blackhole data for key: " + key, e);
+                    case "E" -> openChanges.remove(parts[1]);
+                    default -> plugin.getLogger().warning("Unknown blackhole journal record on line " + lineNumber);
                 }
             }
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Could not read blackhole journal", e);
+            return;
+        }
 
-            activeBlackholes.clear();
-            saveBlackholeData();
+        int restored = 0;
+        int deferred = 0;
+        for (Map.Entry<String, List<String[]>> entry : openChanges.entrySet()) {
+            List<String[]> changes = entry.getValue();
+            List<String> pending = new ArrayList<>();
+            // Undo in reverse order so a block changed twice ends at its first recorded state
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                String[] parts = changes.get(i);
+                switch (restoreRecord(parts)) {
+                    case RESTORED -> restored++;
+                    case WORLD_NOT_LOADED -> pending.add(0, String.join(String.valueOf(SEPARATOR), parts)); // Keep journal order
+                    case SKIPPED -> { }
+                }
+            }
+            if (!pending.isEmpty()) {
+                liveRecords.put(entry.getKey(), pending);
+                deferred += pending.size();
+            }
+        }
+        if (!openChanges.isEmpty()) {
+            plugin.getLogger().info("Recovered " + openChanges.size() + " unfinished blackholes from the journal, restored " + restored + " blocks.");
+        }
 
-            plugin.getLogger().info("Cleaned up " + keys.size() + " blackholes from previous session");
+        if (!liveRecords.isEmpty()) {
+            // The writer thread hasn't started yet, so it's safe to compact from here
+            plugin.getLogger().warning("Kept " + deferred + " blackhole journal records for worlds that are not loaded; they are retried on next start.");
+            compact();
+            return;
+        }
+        try {
+            Files.deleteIfExists(journalFile.toPath());
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Could not truncate blackhole journal after replay", e);
         }
     }
 
-    private void saveBlackholeData() {
+    private enum RestoreResult { RESTORED, SKIPPED, WORLD_NOT_LOADED }
+
+    private RestoreResult restoreRecord(String[] parts) {
         try {
-            blackholeConfig.set("blackholes", null);
-
-            for (Map.Entry<UUID, BlackholeData> entry : activeBlackholes.entrySet()) {
-                UUID id = entry.getKey();
-                BlackholeData data = entry.getValue();
-                Location center = data.getCenter();
-
-                String path = "blackholes." + id.toString();
-                blackholeConfig.set(path + ".world", center.getWorld().getName());
-                blackholeConfig.set(path + ".x", center.getX());
-                blackholeConfig.set(path + ".y", center.getY());
-                blackholeConfig.set(path + ".radius", data.getRadius());
-                blackholeConfig.set(path + ".created", data.getCreationTime());
-                blackholeConfig.set(path + ".player_uuid", data.getPlayerUUID().toString());
-            }
+            World world = Bukkit.getWorld(parts[2]);
+            if (world == null) return RestoreResult.WORLD_NOT_LOADED;
+            Block block = world.getBlockAt(Integer.parseInt(parts[3]), Integer.parseInt(parts[4]), Integer.parseInt(parts[5]));
+            Material placed = Material.matchMaterial(parts[6]);
+            // Only undo our own change; leave the block alone if something else replaced it since
+            if (placed != null && block.getType() != placed) return RestoreResult.SKIPPED;
+            block.setBlockData(Bukkit.createBlockData(parts[7]), false);
+            return RestoreResult.RESTORED;
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().log(Level.WARNING, "Skipping invalid blackhole journal record: " + String.join(" ", parts), e);
+            return RestoreResult.SKIPPED;
+        }
+    }
 
-            blackholeConfig.save(blackholeDataFile);
-        } catch (IOException e) {
-            plugin.getLogger().log(Level.SEVERE, "Could not save blackhole data", e);
+    /**
+     * One-time cleanup of the old blackholes.yml format, which only stored sphere centers.
+     * Uses the old behaviour (coal blocks in the sphere become air) and then removes the file.
+     */
+    private void migrateLegacyFile() {
+        File legacyFile = new File(plugin.getDataFolder(), LEGACY_FILE);
+        if (!legacyFile.exists()) return;
+
+        FileConfiguration legacyConfig = YamlConfiguration.loadConfiguration(legacyFile);
+        ConfigurationSection section = legacyConfig.getConfigurationSection("blackholes");
+        if (section != null) {
+            for (String key : section.getKeys(false)) {
+                World world = Bukkit.getWorld(section.getString(key + ".world", ""));
+                if (world == null) continue;
+                Location center = new Location(world, section.getDouble(key + ".x"), section.getDouble(key + ".y"), section.getDouble(key + ".z"));
+                int radius = section.getInt(key + ".radius");
+                int cx = center.getBlockX(), cy = center.getBlockY(), cz = center.getBlockZ();
+                for (int x = -radius; x <= radius; x++) {
+                    for (int y = -radius; y <= radius; y++) {
+                        for (int z = -radius; z <= radius; z++) {
+                            if (x * x + y * y + z * z > radius * radius) continue;
+                            Block block = world.getBlockAt(cx + x, cy + y, cz + z);
+                            if (block.getType() == Material.COAL_BLOCK) block.setType(Material.AIR);
+                        }
+                    }
+                }
+            }
+            plugin.getLogger().info("Cleaned up " + section.getKeys(false).size() + " blackholes from the legacy blackholes.yml");
+        }
+        if (!legacyFile.delete()) {
+            plugin.getLogger().warning("Could not delete legacy " + LEGACY_FILE + "; it will be processed again on next start.");
         }
     }
 
     private String locationToString(Location loc) {
-        return String.format("%s:%.1f,%.1f,%.1f",
-                loc.getWorld().getName(), loc.getX(), loc.getY(), loc.getZ());
+        return (loc.getWorld() != null ? loc.getWorld().getName() : "?") + ":" + loc.getBlockX() + "," + loc.getBlockY() + "," + loc.getBlockZ();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,203 @@
+package com.strikesenchantcore.managers;
+
+import com.strikesenchantcore.EnchantCore;
+import com.strikesenchantcore.util.PerfStats;
+import org.bukkit.Bukkit;
+import org.bukkit.block.Block;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Shared, budgeted queue for enchant block breaks.
+ * Producers (e.g. the Overcharge laser) submit a {@link Job} and feed it blocks as they find them;
+ * one task drains all jobs round-robin each tick, within a single server-wide budget of blocks and
+ * nanoseconds (Performance.MaxBlocksPerTick / MaxNanosPerTick in config.yml). Several effects firing
+ * at once therefore share the budget instead of each spending its own.
+ * Main thread only.
+ */
+public class BreakPipeline {
+
+    private static final int DEFAULT_MAX_BLOCKS_PER_TICK = 300;
+    private static final long DEFAULT_MAX_NANOS_PER_TICK = 3_000_000L;
+
+    private final EnchantCore plugin;
+    private final List<Job> jobs = new ArrayList<>();
+    private BukkitTask drainTask;
+    private int nextJob = 0; // Round-robin start position, so no job always goes first
+
+    private int maxBlocksPerTick = DEFAULT_MAX_BLOCKS_PER_TICK;
+    private long maxNanosPerTick = DEFAULT_MAX_NANOS_PER_TICK;
+
+    private long totalBroken = 0L;
+    private long budgetExhaustedTicks = 0L;
+
+    /**
+     * A producer's queue of blocks. Blocks are broken in the order they were offered.
+     */
+    public static final class Job {
+        private final UUID owner;
+        private final String source;
+        private final Consumer<Block> breaker;
+        private final ArrayDeque<Block> queue = new ArrayDeque<>();
+        private boolean finished = false;
+        private boolean cancelled = false;
+
+        private Job(UUID owner, String source, Consumer<Block> breaker) {
+            this.owner = owner;
+            this.source = source;
+            this.breaker = breaker;
+        }
+
+        /** Queues a block. Ignored once the job is finished or cancelled. */
+        public void offer(@NotNull Block block) {
+            if (!finished && !cancelled) queue.add(block);
+        }
+
+        /** No more blocks will be offered; the job is dropped once its queue drains. */
+        public void finish() { finished = true; }
+
+        /** Drops the remaining blocks. */
+        public void cancel() {
+            cancelled = true;
+            queue.clear();
+        }
+
+        public int getQueued() { return queue.size(); }
+        public boolean isCancelled() { return cancelled; }
+        @NotNull public String getSource() { return source; }
+    }
+
+    public BreakPipeline(EnchantCore plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Loads the per-tick budget (the Performance section of config.yml).
+     * @param section The config section, may be null to use defaults.
+     */
+    public void load(@Nullable ConfigurationSection section) {
+        if (section == null) {
+            maxBlocksPerTick = DEFAULT_MAX_BLOCKS_PER_TICK;
+            maxNanosPerTick = DEFAULT_MAX_NANOS_PER_TICK;
+        } else {
+            maxBlocksPerTick = Math.max(1, section.getInt("MaxBlocksPerTick", DEFAULT_MAX_BLOCKS_PER_TICK));
+            maxNanosPerTick = Math.max(100_000L, section.getLong("MaxNanosPerTick", DEFAULT_MAX_NANOS_PER_TICK));
+        }
+    }
+
+    public void start() {
+        stop();
+        drainTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                if (jobs.isEmpty()) return; // Idle ticks aren't timed
+                long start = System.nanoTime();
+                try {
+                    drain();
+                } finally {
+                    PerfStats.BREAK_PIPELINE_TICK.recordSince(start);
+                }
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
+    }
+
+    public void stop() {
+        if (drainTask != null) {
+            try {
+                drainTask.cancel();
+            } catch (IllegalStateException ignore) {}
+            drainTask = null;
+        }
+    }
+
+    /**
+     * Creates a job.
+     * @param owner   The player the breaks are for; the job is dropped when they go offline.
+     * @param source  Short name for stats and logs (e.g. "Overcharge").
+     * @param breaker Breaks one block. Called on the main thread; should re-check that the block is still breakable.
+     */
+    @NotNull
+    public Job submit(@NotNull UUID owner, @NotNull String source, @NotNull Consumer<Block> breaker) {
+        Job job = new Job(owner, source, breaker);
+        jobs.add(job);
+        return job;
+    }
+
+    /** Cancels every job (on disable). */
+    public void cancelAll() {
+        for (Job job : jobs) job.cancel();
+        jobs.clear();
+    }
+
+    // --- Draining ---
+
+    private void drain() {
+        if (jobs.isEmpty()) return;
+
+        // Drop jobs that are done, cancelled or whose owner left
+        Iterator<Job> it = jobs.iterator();
+        while (it.hasNext()) {
+            Job job = it.next();
+            if (job.cancelled || (job.finished && job.queue.isEmpty()) || Bukkit.getPlayer(job.owner) == null) {
+                job.cancel();
+                it.remove();
+            }
+        }
+        if (jobs.isEmpty()) return;
+
+        long start = System.nanoTime();
+        int broken = 0;
+        int jobCount = jobs.size();
+        int index = nextJob % jobCount;
+        int idleInARow = 0; // Consecutive jobs with nothing queued; a full lap of them ends the tick
+
+        while (broken < maxBlocksPerTick && idleInARow < jobCount) {
+            Job job = jobs.get(index);
+            index = (index + 1) % jobCount;
+
+            Block block = job.cancelled ? null : job.queue.poll();
+            if (block == null) {
+                idleInARow++;
+                continue;
+            }
+            idleInARow = 0;
+
+            try {
+                job.breaker.accept(block);
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "[BreakPipeline] Error breaking block for " + job.source, e);
+            }
+            broken++;
+
+            if ((broken & 7) == 0 && System.nanoTime() - start > maxNanosPerTick) break; // Clock read every 8 blocks
+        }
+
+        nextJob = index;
+        totalBroken += broken;
+        if (broken >= maxBlocksPerTick || System.nanoTime() - start > maxNanosPerTick) budgetExhaustedTicks++;
+    }
+
+    // --- Stats ---
+
+    public int getActiveJobs() { return jobs.size(); }
+
+    public int getQueuedBlocks() {
+        int queued = 0;
+        for (Job job : jobs) queued += job.queue.size();
+        return queued;
+    }
+
+    public long getTotalBroken() { return totalBroken; }
+    public long getBudgetExhaustedTicks() { return budgetExhaustedTicks; }
+}
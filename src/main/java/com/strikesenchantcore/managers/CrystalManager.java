@@ -5,38 +5,70 @@ import com.strikesenchantcore.data.PlayerData;
 import com.strikesenchantcore.data.PlayerDataManager;
 import com.strikesenchantcore.util.ChatUtil;
 import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.*;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 public class CrystalManager {
     private final EnchantCore plugin;
     private final PlayerDataManager playerDataManager;
-    private final Map<String, Double> crystalMultipliers;
+    private final Set<String> validCrystalTypes;
+
+    // Constants
+    public static final int MAX_TIER = 10;
     // --- UPDATED: Changed max slots from 6 to 7 ---
-    private final int maxEquippedSlots = 7;
+    public static final int MAX_EQUIPPED_SLOTS = 7;
+    public static final int MERGE_COST = 3; // 3 crystals merge into 1 of the next tier
+
+    /**
+     * Crystal types and their bonus per tier of an equipped crystal.
+     */
+    public enum CrystalType {
+        TOKEN(0.05),
+        GEM(0.04),
+        PROC(0.03),
+        RANK(0.06),
+        PICKAXE_XP(0.08),
+        PET(0.05),
+        SALVAGE(0.07);
+
+        private static final CrystalType[] VALUES = values();
+        private final double baseMultiplier;
+
+        CrystalType(double baseMultiplier) {
+            this.baseMultiplier = baseMultiplier;
+        }
+
+        public double getBaseMultiplier() { return baseMultiplier; }
+
+        /** @return The type with this name (case-insensitive), or null if unknown. */
+        @Nullable
+        public static CrystalType fromName(@Nullable String name) {
+            if (name == null) return null;
+            for (CrystalType type : VALUES) {
+                if (type.name().equalsIgnoreCase(name)) return type;
+            }
+            return null;
+        }
+    }
 
     public CrystalManager(EnchantCore plugin) {
         this.plugin = plugin;
         this.playerDataManager = plugin.getPlayerDataManager();
-        this.crystalMultipliers = new HashMap<>();
-
-        crystalMultipliers.put("TOKEN", 0.05);
-        crystalMultipliers.put("GEM", 0.04);
-        crystalMultipliers.put("PROC", 0.03);
-        crystalMultipliers.put("RANK", 0.06);
-        crystalMultipliers.put("PICKAXE_XP", 0.08);
-        crystalMultipliers.put("PET", 0.05);
-        crystalMultipliers.put("SALVAGE", 0.07);
+        Set<String> types = new LinkedHashSet<>();
+        for (CrystalType type : CrystalType.VALUES) types.add(type.name());
+        this.validCrystalTypes = Collections.unmodifiableSet(types);
     }
 
     public void giveCrystal(Player player, String type, int tier, int amount) {
         PlayerData playerData = playerDataManager.getPlayerData(player.getUniqueId());
-        if (playerData == null) return;
+        CrystalType crystalType = CrystalType.fromName(type);
+        if (playerData == null || crystalType == null) return;
 
-        String key = type.toUpperCase() + "_" + tier;
-        Map<String, Integer> storage = playerData.getCrystalStorage();
-
-        storage.put(key, storage.getOrDefault(key, 0) + amount);
+        if (!playerData.getCrystals().add(crystalType, tier, amount)) return;
         playerDataManager.savePlayerData(playerData, true);
 
         ChatUtil.sendMessage(player, "&aYou received &e" + amount + "&ax &b" +
@@ -44,28 +76,21 @@ public class CrystalManager {
     }
 
     public boolean equipCrystal(Player player, String type, int tier, int slot) {
-        if (slot < 0 || slot >= maxEquippedSlots) return false;
+        if (slot < 0 || slot >= MAX_EQUIPPED_SLOTS) return false;
 
         PlayerData playerData = playerDataManager.getPlayerData(player.getUniqueId());
-        if (playerData == null) return false;
-
-        String key = type.toUpperCase() + "_" + tier;
-        Map<String, Integer> storage = playerData.getCrystalStorage();
-        Map<Integer, String> equipped = playerData.getEquippedCrystals();
-
-        if (storage.getOrDefault(key, 0) <= 0) return false;
+        CrystalType crystalType = CrystalType.fromName(type);
+        if (playerData == null || crystalType == null) return false;
 
-        storage.put(key, storage.get(key) - 1);
-        if (storage.get(key) <= 0) {
-            storage.remove(key);
-        }
+        CrystalStorage storage = playerData.getCrystals();
+        if (!storage.remove(crystalType, tier, 1)) return false;
 
-        if (equipped.containsKey(slot)) {
-            String oldKey = equipped.get(slot);
-            storage.put(oldKey, storage.getOrDefault(oldKey, 0) + 1);
+        CrystalType oldType = storage.getEquippedType(slot);
+        if (oldType != null) {
+            storage.add(oldType, storage.getEquippedTier(slot), 1);
         }
 
-        equipped.put(slot, key);
+        storage.setEquipped(slot, crystalType, tier);
         playerDataManager.savePlayerData(playerData, true);
         return true;
     }
@@ -74,36 +99,27 @@ public class CrystalManager {
         PlayerData playerData = playerDataManager.getPlayerData(player.getUniqueId());
         if (playerData == null) return false;
 
-        Map<String, Integer> storage = playerData.getCrystalStorage();
-        Map<Integer, String> equipped = playerData.getEquippedCrystals();
-
-        if (!equipped.containsKey(slot)) return false;
+        CrystalStorage storage = playerData.getCrystals();
+        CrystalType type = storage.getEquippedType(slot);
+        if (type == null) return false;
 
-        String key = equipped.remove(slot);
-        storage.put(key, storage.getOrDefault(key, 0) + 1);
+        storage.add(type, storage.getEquippedTier(slot), 1);
+        storage.clearEquipped(slot);
 
         playerDataManager.savePlayerData(playerData, true);
         return true;
     }
 
     public boolean mergeCrystals(Player player, String type, int tier) {
-        if (tier >= 10) return false;
+        if (tier >= MAX_TIER) return false;
 
         PlayerData playerData = playerDataManager.getPlayerData(player.getUniqueId());
-        if (playerData == null) return false;
-
-        String currentKey = type.toUpperCase() + "_" + tier;
-        String nextKey = type.toUpperCase() + "_" + (tier + 1);
-        Map<String, Integer> storage = playerData.getCrystalStorage();
+        CrystalType crystalType = CrystalType.fromName(type);
+        if (playerData == null || crystalType == null) return false;
 
-        if (storage.getOrDefault(currentKey, 0) < 3) return false;
-
-        storage.put(currentKey, storage.get(currentKey) - 3);
-        if (storage.get(currentKey) <= 0) {
-            storage.remove(currentKey);
-        }
-
-        storage.put(nextKey, storage.getOrDefault(nextKey, 0) + 1);
+        CrystalStorage storage = playerData.getCrystals();
+        if (!storage.remove(crystalType, tier, MERGE_COST)) return false;
+        storage.add(crystalType, tier + 1, 1);
 
         playerDataManager.savePlayerData(playerData, true);
         ChatUtil.sendMessage(player, "&aSuccessfully merged 3x &b" + getDisplayName(type) +
@@ -111,35 +127,22 @@ public class CrystalManager {
         return true;
     }
 
-    public double getMultiplier(Player player, String type) {
+    public double getMultiplier(Player player, CrystalType type) {
         PlayerData playerData = playerDataManager.getPlayerData(player.getUniqueId());
         if (playerData == null) return 0.0;
-
-        Map<Integer, String> equipped = playerData.getEquippedCrystals();
-        double totalBonus = 0.0;
-        double baseMultiplier = crystalMultipliers.getOrDefault(type.toUpperCase(), 0.0);
-
-        for (String crystalKey : equipped.values()) {
-            if (crystalKey.startsWith(type.toUpperCase() + "_")) {
-                try {
-                    int tier = Integer.parseInt(crystalKey.split("_")[1]);
-                    totalBonus += baseMultiplier * tier;
-                } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
-                    // Ignored
-                }
-            }
-        }
-        return totalBonus;
+        return type.getBaseMultiplier() * playerData.getCrystals().getEquippedTierSum(type);
     }
 
-    public Map<String, Integer> getStorageCrystals(Player player) {
-        PlayerData playerData = playerDataManager.getPlayerData(player.getUniqueId());
-        return playerData != null ? playerData.getCrystalStorage() : new HashMap<>();
+    public double getMultiplier(Player player, String type) {
+        CrystalType crystalType = CrystalType.fromName(type);
+        return (crystalType != null) ? getMultiplier(player, crystalType) : 0.0;
     }
 
-    public Map<Integer, String> getEquippedCrystals(Player player) {
+    /** @return The player's crystals; a detached empty storage if their data can't be loaded. */
+    @NotNull
+    public CrystalStorage getCrystalStorage(Player player) {
         PlayerData playerData = playerDataManager.getPlayerData(player.getUniqueId());
-        return playerData != null ? playerData.getEquippedCrystals() : new HashMap<>();
+        return playerData != null ? playerData.getCrystals() : new CrystalStorage();
     }
 
     public String getDisplayName(String type) {
@@ -176,39 +179,39 @@ public class CrystalManager {
     }
 
     public boolean isValidCrystalType(String type) {
-        return crystalMultipliers.containsKey(type.toUpperCase());
+        return CrystalType.fromName(type) != null;
     }
 
     public Set<String> getValidCrystalTypes() {
-        return crystalMultipliers.keySet();
+        return validCrystalTypes;
     }
 
     public double getTokenMultiplier(Player player) {
-        return getMultiplier(player, "TOKEN");
+        return getMultiplier(player, CrystalType.TOKEN);
     }
 
     public double getGemMultiplier(Player player) {
-        return getMultiplier(player, "GEM");
+        return getMultiplier(player, CrystalType.GEM);
     }
 
     public double getProcMultiplier(Player player) {
-        return getMultiplier(player, "PROC");
+        return getMultiplier(player, CrystalType.PROC);
     }
 
     public double getRankMultiplier(Player player) {
-        return getMultiplier(player, "RANK");
+        return getMultiplier(player, CrystalType.RANK);
     }
 
     public double getPickaxeXpMultiplier(Player player) {
-        return getMultiplier(player, "PICKAXE_XP");
+        return getMultiplier(player, CrystalType.PICKAXE_XP);
     }
 
     public double getPetMultiplier(Player player) {
-        return getMultiplier(player, "PET");
+        return getMultiplier(player, CrystalType.PET);
     }
 
     public double getSalvageMultiplier(Player player) {
-        return getMultiplier(player, "SALVAGE");
+        return getMultiplier(player, CrystalType.SALVAGE);
     }
 
     public PlayerDataManager getPlayerDataManager() {
@@ -216,6 +219,114 @@ public class CrystalManager {
     }
 
     public double getBaseMultiplier(String type) {
-        return crystalMultipliers.getOrDefault(type.toUpperCase(), 0.0);
+        CrystalType crystalType = CrystalType.fromName(type);
+        return (crystalType != null) ? crystalType.getBaseMultiplier() : 0.0;
+    }
+
+    /**
+     * A player's crystals: stored counts as one int per (type, tier) and the equipped slots as one
+     * byte each, so multiplier lookups and saves walk small arrays instead of parsing "TYPE_TIER" keys.
+     * Not thread-safe; mutate on the main thread.
+     */
+    public static class CrystalStorage {
+        private static final int TYPE_COUNT = CrystalType.VALUES.length;
+
+        private final int[] counts = new int[TYPE_COUNT * MAX_TIER]; // [type.ordinal() * MAX_TIER + tier - 1] -> amount
+        private final byte[] equipped = new byte[MAX_EQUIPPED_SLOTS]; // slot -> packed index + 1, 0 = empty
+
+        private static boolean isValidTier(int tier) {
+            return tier >= 1 && tier <= MAX_TIER;
+        }
+
+        /** @return The packed index of a crystal kind, as used by {@link #getStoredIndexes()}. */
+        public static int indexOf(@NotNull CrystalType type, int tier) {
+            return type.ordinal() * MAX_TIER + (tier - 1);
+        }
+
+        @NotNull
+        public static CrystalType typeAt(int index) {
+            return CrystalType.VALUES[index / MAX_TIER];
+        }
+
+        public static int tierAt(int index) {
+            return index % MAX_TIER + 1;
+        }
+
+        // --- Stored ---
+
+        public int getCount(@NotNull CrystalType type, int tier) {
+            return isValidTier(tier) ? counts[indexOf(type, tier)] : 0;
+        }
+
+        /** @return False (nothing added) if the tier is out of range or the amount isn't positive. */
+        public boolean add(@NotNull CrystalType type, int tier, int amount) {
+            if (!isValidTier(tier) || amount <= 0) return false;
+            int index = indexOf(type, tier);
+            counts[index] = (int) Math.min(Integer.MAX_VALUE, (long) counts[index] + amount);
+            return true;
+        }
+
+        /** @return False (nothing removed) if fewer than the amount are stored. */
+        public boolean remove(@NotNull CrystalType type, int tier, int amount) {
+            if (!isValidTier(tier) || amount <= 0) return false;
+            int index = indexOf(type, tier);
+            if (counts[index] < amount) return false;
+            counts[index] -= amount;
+            return true;
+        }
+
+        /** @return Packed indexes ({@link #typeAt}, {@link #tierAt}) of every stored kind, by type then tier. */
+        @NotNull
+        public int[] getStoredIndexes() {
+            int size = 0;
+            for (int count : counts) {
+                if (count > 0) size++;
+            }
+            int[] indexes = new int[size];
+            int next = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) indexes[next++] = i;
+            }
+            return indexes;
+        }
+
+        // --- Equipped ---
+
+        /** @return The type in a slot, or null if the slot is empty or out of range. */
+        @Nullable
+        public CrystalType getEquippedType(int slot) {
+            if (slot < 0 || slot >= MAX_EQUIPPED_SLOTS || equipped[slot] == 0) return null;
+            return typeAt(equipped[slot] - 1);
+        }
+
+        /** @return The tier in a slot, 0 if the slot is empty or out of range. */
+        public int getEquippedTier(int slot) {
+            if (slot < 0 || slot >= MAX_EQUIPPED_SLOTS || equipped[slot] == 0) return 0;
+            return tierAt(equipped[slot] - 1);
+        }
+
+        public boolean isEquipped(int slot) {
+            return slot >= 0 && slot < MAX_EQUIPPED_SLOTS && equipped[slot] != 0;
+        }
+
+        /** @return False if the slot or tier is out of range. */
+        public boolean setEquipped(int slot, @NotNull CrystalType type, int tier) {
+            if (slot < 0 || slot >= MAX_EQUIPPED_SLOTS || !isValidTier(tier)) return false;
+            equipped[slot] = (byte) (indexOf(type, tier) + 1);
+            return true;
+        }
+
+        public void clearEquipped(int slot) {
+            if (slot >= 0 && slot < MAX_EQUIPPED_SLOTS) equipped[slot] = 0;
+        }
+
+        /** @return Sum of the tiers of the equipped crystals of a type. */
+        public int getEquippedTierSum(@NotNull CrystalType type) {
+            int sum = 0;
+            for (byte packed : equipped) {
+                if (packed != 0 && (packed - 1) / MAX_TIER == type.ordinal()) sum += tierAt(packed - 1);
+            }
+            return sum;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,276 @@
+package com.strikesenchantcore.managers;
+
+import com.strikesenchantcore.EnchantCore;
+import com.strikesenchantcore.util.NumberFormatUtil;
+import com.strikesenchantcore.util.PerfStats;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Scales area enchants back while the server is under load (Degradation in config.yml).
+ * Every window it compares the average tick interval and the main-thread time EnchantCore itself
+ * spent per tick (from the {@link PerfStats} stages) with each level's Enter thresholds and jumps
+ * straight to the highest level that is exceeded. It only steps back down one level at a time, after
+ * Recover-Windows windows in a row below Recover-Ratio of the current level's thresholds, so the
+ * level doesn't flap around a threshold.
+ * <p>
+ * Effects read the current level through the getters: radius and animated block multipliers,
+ * particle multiplier, skipped animations, budgeted instead of same-tick breaks, and longer autosell
+ * summary intervals. Level 0 means no degradation.
+ * The level is updated on the main thread; the getters are safe from any thread.
+ */
+public class DegradationController {
+
+    private static final Tier NORMAL = new Tier(0, Double.MAX_VALUE, Double.MAX_VALUE, 1.0, 1.0, 1.0, false, false, 1.0);
+
+    private final EnchantCore plugin;
+    private BukkitTask sampleTask;
+    private boolean active = false; // Between start() and stop(); reloads restart sampling while active
+
+    // Settings
+    private boolean enabled = true;
+    private int windowTicks = 40;
+    private int recoverWindows = 5;
+    private double recoverRatio = 0.8;
+    private List<Tier> tiers = Collections.emptyList(); // Index 0 is level 1
+
+    // State
+    private volatile Tier current = NORMAL;
+    private int ticksInWindow = 0;
+    private long windowStart = 0L;
+    private long pluginNanosAtWindowStart = 0L;
+    private int calmWindows = 0;
+    private volatile double lastTickMillis = 0.0;
+    private volatile double lastPluginMillis = 0.0;
+    private long levelChanges = 0L;
+
+    /**
+     * One degradation level and what it changes.
+     */
+    public static final class Tier {
+        private final int level;
+        private final double enterTickMillis;
+        private final double enterPluginMillis;
+        private final double radiusMultiplier;
+        private final double maxAnimatedBlocksMultiplier;
+        private final double particleMultiplier;
+        private final boolean skipAnimations;
+        private final boolean budgetedBreaks;
+        private final double summaryDelayMultiplier;
+
+        private Tier(int level, double enterTickMillis, double enterPluginMillis, double radiusMultiplier,
+                     double maxAnimatedBlocksMultiplier, double particleMultiplier, boolean skipAnimations,
+                     boolean budgetedBreaks, double summaryDelayMultiplier) {
+            this.level = level;
+            this.enterTickMillis = enterTickMillis;
+            this.enterPluginMillis = enterPluginMillis;
+            this.radiusMultiplier = radiusMultiplier;
+            this.maxAnimatedBlocksMultiplier = maxAnimatedBlocksMultiplier;
+            this.particleMultiplier = particleMultiplier;
+            this.skipAnimations = skipAnimations;
+            this.budgetedBreaks = budgetedBreaks;
+            this.summaryDelayMultiplier = summaryDelayMultiplier;
+        }
+
+        private static Tier fromConfig(int level, ConfigurationSection section) {
+            return new Tier(level,
+                    section.getDouble("Enter-Tick-Millis", Double.MAX_VALUE),
+                    section.getDouble("Enter-Plugin-Millis", Double.MAX_VALUE),
+                    clamp(section.getDouble("Radius-Multiplier", 1.0), 0.1, 1.0),
+                    clamp(section.getDouble("Max-Animated-Blocks-Multiplier", 1.0), 0.0, 1.0),
+                    clamp(section.getDouble("Particle-Multiplier", 1.0), 0.0, 1.0),
+                    section.getBoolean("Skip-Animations", false),
+                    section.getBoolean("Budgeted-Breaks", false),
+                    Math.max(1.0, section.getDouble("AutoSell-Summary-Delay-Multiplier", 1.0)));
+        }
+
+        private boolean isExceeded(double tickMillis, double pluginMillis, double ratio) {
+            return tickMillis >= enterTickMillis * ratio || pluginMillis >= enterPluginMillis * ratio;
+        }
+    }
+
+    public DegradationController(EnchantCore plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Loads the settings (Degradation in config.yml). Levels are read in the order they are listed.
+     * @param section The config section, may be null to disable degradation.
+     */
+    public void load(@Nullable ConfigurationSection section) {
+        enabled = section != null && section.getBoolean("Enabled", true);
+        windowTicks = (section != null) ? Math.max(5, section.getInt("Window-Ticks", 40)) : 40;
+        recoverWindows = (section != null) ? Math.max(1, section.getInt("Recover-Windows", 5)) : 5;
+        recoverRatio = (section != null) ? clamp(section.getDouble("Recover-Ratio", 0.8), 0.1, 1.0) : 0.8;
+
+        List<Tier> loaded = new ArrayList<>();
+        ConfigurationSection levels = (section != null) ? section.getConfigurationSection("Levels") : null;
+        if (levels != null) {
+            for (String key : levels.getKeys(false)) {
+                ConfigurationSection levelSection = levels.getConfigurationSection(key);
+                if (levelSection == null) {
+                    plugin.getLogger().warning("[Degradation] Level '" + key + "' is not a section, skipped.");
+                    continue;
+                }
+                loaded.add(Tier.fromConfig(loaded.size() + 1, levelSection));
+            }
+        }
+        tiers = Collections.unmodifiableList(loaded);
+        if (active) restart(); // Start over at full quality; the next windows re-evaluate
+    }
+
+    public void start() {
+        active = true;
+        restart();
+    }
+
+    public void stop() {
+        active = false;
+        cancelTask();
+        setLevel(0, 0.0, 0.0);
+    }
+
+    private void restart() {
+        cancelTask();
+        setLevel(0, 0.0, 0.0);
+        if (!enabled || tiers.isEmpty()) return;
+        resetWindow();
+        sampleTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                if (++ticksInWindow >= windowTicks) evaluate();
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
+    }
+
+    private void cancelTask() {
+        if (sampleTask != null) {
+            try {
+                sampleTask.cancel();
+            } catch (IllegalStateException ignore) {}
+            sampleTask = null;
+        }
+    }
+
+    // --- Evaluation ---
+
+    private void evaluate() {
+        long now = System.nanoTime();
+        long pluginNanos = pluginMainThreadNanos();
+        double tickMillis = (now - windowStart) / 1_000_000.0 / ticksInWindow;
+        double pluginMillis = (pluginNanos - pluginNanosAtWindowStart) / 1_000_000.0 / ticksInWindow;
+        lastTickMillis = tickMillis;
+        lastPluginMillis = pluginMillis;
+
+        int target = 0;
+        for (Tier tier : tiers) {
+            if (tier.isExceeded(tickMillis, pluginMillis, 1.0)) target = tier.level;
+        }
+
+        int level = current.level;
+        if (target > level) {
+            calmWindows = 0;
+            setLevel(target, tickMillis, pluginMillis);
+        } else if (level > 0 && !current.isExceeded(tickMillis, pluginMillis, recoverRatio)) {
+            if (++calmWindows >= recoverWindows) {
+                calmWindows = 0;
+                setLevel(level - 1, tickMillis, pluginMillis);
+            }
+        } else {
+            calmWindows = 0;
+        }
+
+        ticksInWindow = 0;
+        windowStart = now;
+        pluginNanosAtWindowStart = pluginNanos;
+    }
+
+    private void setLevel(int level, double tickMillis, double pluginMillis) {
+        Tier next = (level <= 0 || level > tiers.size()) ? NORMAL : tiers.get(level - 1);
+        if (next.level != current.level && (tickMillis > 0 || pluginMillis > 0)) { // Resets to 0 aren't logged
+            levelChanges++;
+            plugin.getLogger().info("[Degradation] Level " + current.level + " -> " + next.level + " (tick "
+                    + NumberFormatUtil.formatFixed(tickMillis, 1) + " ms, EnchantCore "
+                    + NumberFormatUtil.formatFixed(pluginMillis, 2) + " ms/tick)");
+        }
+        current = next;
+    }
+
+    private void resetWindow() {
+        ticksInWindow = 0;
+        calmWindows = 0;
+        windowStart = System.nanoTime();
+        pluginNanosAtWindowStart = pluginMainThreadNanos();
+    }
+
+    /** Main-thread time in EnchantCore's top-level stages, which don't contain one another. */
+    private static long pluginMainThreadNanos() {
+        return PerfStats.BLOCK_BREAK.getLifetimeNanos()
+                + PerfStats.AREA_TASK_TICK.getLifetimeNanos()
+                + PerfStats.BREAK_PIPELINE_TICK.getLifetimeNanos();
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    // --- Effects ---
+
+    /** @return The current level, 0 when running at full quality. */
+    public int getLevel() { return current.level; }
+    public int getMaxLevel() { return tiers.size(); }
+    public boolean isEnabled() { return enabled; }
+
+    /** Scales an area enchant radius; never below 1. */
+    public int scaleRadius(int radius) {
+        return (current.radiusMultiplier >= 1.0) ? radius : Math.max(1, (int) Math.round(radius * current.radiusMultiplier));
+    }
+
+    public double scaleRadius(double radius) {
+        return (current.radiusMultiplier >= 1.0) ? radius : Math.max(1.0, radius * current.radiusMultiplier);
+    }
+
+    /** Scales the Blackhole's MaxAnimatedBlocks; never below 1, so a vortex keeps consuming blocks. */
+    public int scaleMaxAnimatedBlocks(int maxAnimatedBlocks) {
+        return (current.maxAnimatedBlocksMultiplier >= 1.0) ? maxAnimatedBlocks
+                : Math.max(1, (int) Math.round(maxAnimatedBlocks * current.maxAnimatedBlocksMultiplier));
+    }
+
+    /** Scales a particle count; may return 0. */
+    public int scaleParticles(int count) {
+        return (current.particleMultiplier >= 1.0) ? count : (int) Math.round(count * current.particleMultiplier);
+    }
+
+    /** @return True if enchant animations (Blackhole sphere and floating blocks) should be skipped. */
+    public boolean isSkipAnimations() { return current.skipAnimations; }
+
+    /** @return True if enchants that break everything in one tick (Nuke, Disc) should queue their blocks in the {@link BreakPipeline}. */
+    public boolean isBudgetedBreaks() { return current.budgetedBreaks; }
+
+    /** @return Multiplier for the autosell summary interval, so summaries are sent less often. */
+    public double getSummaryDelayMultiplier() { return current.summaryDelayMultiplier; }
+
+    // --- Stats ---
+
+    public double getLastTickMillis() { return lastTickMillis; }
+    public double getLastPluginMillis() { return lastPluginMillis; }
+    public long getLevelChanges() { return levelChanges; }
+
+    /** One-line status for /enchantcore perf. */
+    @NotNull
+    public String getStatusLine() {
+        if (!enabled || tiers.isEmpty()) return "&7Degradation: &8disabled";
+        Tier tier = current;
+        String color = (tier.level == 0) ? "&a" : (tier.level < tiers.size() ? "&e" : "&c");
+        return "&7Degradation: " + color + "level " + tier.level + "/" + tiers.size()
+                + " &8(tick " + NumberFormatUtil.formatFixed(lastTickMillis, 1) + " ms, EnchantCore "
+                + NumberFormatUtil.formatFixed(lastPluginMillis, 2) + " ms/tick, " + levelChanges + " changes)";
+    }
+}
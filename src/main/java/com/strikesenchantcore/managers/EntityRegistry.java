@@ -0,0 +1,270 @@
+package com.strikesenchantcore.managers;
+
+import com.strikesenchantcore.EnchantCore;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Index of entities spawned by the plugin (e.g. loot piñatas).
+ * Holds the UUID and chunk coordinates of each entity, so lookups never scan world entity lists.
+ * Entities are resolved by UUID when needed, since a reference captured at spawn goes stale when
+ * its chunk unloads and reloads. Expiry is driven by a priority queue ordered by deadline: the check task
+ * only looks at the head of the queue, so its cost doesn't grow with the number of live entities.
+ * Entities carrying one of the registered orphan tags that show up in a loading chunk without
+ * being registered (left over from a crash or an older version) are removed as their chunk loads,
+ * through the same cleanup the owning feature uses for its live entities.
+ * Main thread only.
+ */
+public class EntityRegistry implements Listener {
+
+    private static final long CHECK_PERIOD_TICKS = 5L;
+
+    private final EnchantCore plugin;
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final PriorityQueue<Entry> expiryQueue = new PriorityQueue<>((a, b) -> Long.compare(a.expiresAt, b.expiresAt));
+    private final Map<NamespacedKey, Consumer<Entity>> orphanTags = new ConcurrentHashMap<>(); // Tag -> remover
+    private BukkitTask expiryTask;
+    private long orphansRemoved = 0L;
+
+    /**
+     * A registered entity.
+     */
+    public static final class Entry {
+        private final UUID uuid;
+        private final String worldName;
+        private final int chunkX;
+        private final int chunkZ;
+        private final long expiresAt; // Long.MAX_VALUE = never
+        @Nullable private final BiConsumer<UUID, Entity> onExpire;
+        private final Consumer<Entity> remover;
+        private boolean removed = false; // Lazily skipped in the expiry queue once unregistered
+
+        private Entry(Entity entity, long expiresAt, @Nullable BiConsumer<UUID, Entity> onExpire, Consumer<Entity> remover) {
+            Location location = entity.getLocation();
+            this.uuid = entity.getUniqueId();
+            this.worldName = (location.getWorld() != null) ? location.getWorld().getName() : "";
+            this.chunkX = location.getBlockX() >> 4;
+            this.chunkZ = location.getBlockZ() >> 4;
+            this.expiresAt = expiresAt;
+            this.onExpire = onExpire;
+            this.remover = remover;
+        }
+
+        @NotNull public UUID getUniqueId() { return uuid; }
+        @NotNull public String getWorldName() { return worldName; }
+        public int getChunkX() { return chunkX; }
+        public int getChunkZ() { return chunkZ; }
+        public long getExpiresAt() { return expiresAt; }
+    }
+
+    public EntityRegistry(EnchantCore plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Starts the expiry check task.
+     */
+    public void start() {
+        stop();
+        expiryTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                processExpired(System.currentTimeMillis());
+            }
+        }.runTaskTimer(plugin, CHECK_PERIOD_TICKS, CHECK_PERIOD_TICKS);
+    }
+
+    public void stop() {
+        if (expiryTask != null) {
+            try {
+                expiryTask.cancel();
+            } catch (IllegalStateException ignore) {}
+            expiryTask = null;
+        }
+    }
+
+    /**
+     * Entities with this PDC key (a BYTE flag) are treated as plugin-owned; unregistered ones are removed when their chunk loads.
+     */
+    public void addOrphanTag(@NotNull NamespacedKey key) {
+        addOrphanTag(key, Entity::remove);
+    }
+
+    /**
+     * Like {@link #addOrphanTag(NamespacedKey)}, removing orphans with the owning feature's cleanup (e.g. model teardown).
+     */
+    public void addOrphanTag(@NotNull NamespacedKey key, @NotNull Consumer<Entity> remover) {
+        orphanTags.put(key, remover);
+    }
+
+    /**
+     * Registers an entity without a timeout.
+     */
+    public void register(@NotNull Entity entity) {
+        register(entity, Long.MAX_VALUE, null, Entity::remove);
+    }
+
+    /**
+     * Registers an entity that expires at the given time.
+     * @param expiresAt Epoch millis of the deadline, or Long.MAX_VALUE for none.
+     * @param onExpire Called on the main thread when the deadline passes with the entity's UUID and its current
+     *                 instance, looked up by UUID (null if its chunk isn't loaded; it is then caught as an orphan
+     *                 when the chunk loads). The entry is unregistered before the callback runs.
+     * @param remover  Removes the entity from the world, used by {@link #removeAll()}.
+     */
+    public void register(@NotNull Entity entity, long expiresAt, @Nullable BiConsumer<UUID, Entity> onExpire,
+                         @NotNull Consumer<Entity> remover) {
+        Entry previous = entries.remove(entity.getUniqueId());
+        if (previous != null) previous.removed = true;
+
+        Entry entry = new Entry(entity, expiresAt, onExpire, remover);
+        entries.put(entry.uuid, entry);
+        if (expiresAt != Long.MAX_VALUE) {
+            expiryQueue.add(entry);
+        }
+    }
+
+    /**
+     * Removes the entity from the registry (does not remove it from the world).
+     * @return True if it was registered.
+     */
+    public boolean unregister(@NotNull UUID uuid) {
+        Entry entry = entries.remove(uuid);
+        if (entry == null) return false;
+        entry.removed = true;
+        if (expiryQueue.size() > 2 * entries.size() + 16) {
+            expiryQueue.removeIf(e -> e.removed); // Keep cancelled entries from piling up
+        }
+        return true;
+    }
+
+    /**
+     * @return The current instance of a registered entity, or null if it isn't registered or its chunk isn't loaded.
+     */
+    @Nullable
+    public Entity getEntity(@NotNull UUID uuid) {
+        return entries.containsKey(uuid) ? resolve(uuid) : null;
+    }
+
+    @Nullable
+    public Entry getEntry(@NotNull UUID uuid) {
+        return entries.get(uuid);
+    }
+
+    public boolean isRegistered(@NotNull UUID uuid) {
+        return entries.containsKey(uuid);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getOrphansRemoved() {
+        return orphansRemoved;
+    }
+
+    /**
+     * Removes every registered entity from the world and clears the registry. Called on disable.
+     * @return The number of entities removed.
+     */
+    public int removeAll() {
+        int removed = 0;
+        for (Entry entry : new ArrayList<>(entries.values())) {
+            entry.removed = true;
+            Entity entity = resolve(entry.uuid);
+            if (entity != null && removeEntity(entry.remover, entity)) {
+                removed++;
+            }
+        }
+        entries.clear();
+        expiryQueue.clear();
+        return removed;
+    }
+
+    // --- Expiry ---
+
+    private void processExpired(long now) {
+        Entry head;
+        while ((head = expiryQueue.peek()) != null && (head.removed || head.expiresAt <= now)) {
+            expiryQueue.poll();
+            if (head.removed) continue;
+            entries.remove(head.uuid);
+            head.removed = true;
+            if (head.onExpire == null) continue;
+            try {
+                head.onExpire.accept(head.uuid, resolve(head.uuid));
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "[EntityRegistry] Error in expiry callback for " + head.uuid, e);
+            }
+        }
+    }
+
+    /**
+     * Looks the entity up by UUID, so an instance replaced by a chunk reload is never used.
+     */
+    @Nullable
+    private Entity resolve(@NotNull UUID uuid) {
+        Entity entity = plugin.getServer().getEntity(uuid);
+        return (entity != null && entity.isValid()) ? entity : null;
+    }
+
+    private boolean removeEntity(@NotNull Consumer<Entity> remover, @NotNull Entity entity) {
+        try {
+            remover.accept(entity);
+            return true;
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "[EntityRegistry] Error removing entity " + entity.getUniqueId(), e);
+            entity.remove();
+            return false;
+        }
+    }
+
+    // --- Orphan Detection ---
+
+    /**
+     * Checks only the entities of the chunk being loaded for unregistered plugin-owned entities.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        if (orphanTags.isEmpty()) return;
+        int removedHere = 0;
+        for (Entity entity : event.getEntities()) {
+            if (entries.containsKey(entity.getUniqueId())) continue;
+            PersistentDataContainer pdc = entity.getPersistentDataContainer();
+            for (Map.Entry<NamespacedKey, Consumer<Entity>> tag : orphanTags.entrySet()) {
+                if (pdc.has(tag.getKey(), PersistentDataType.BYTE)) {
+                    if (removeEntity(tag.getValue(), entity)) removedHere++;
+                    break;
+                }
+            }
+        }
+        if (removedHere > 0) {
+            orphansRemoved += removedHere;
+            Chunk chunk = event.getChunk();
+            plugin.getLogger().info("[EntityRegistry] Removed " + removedHere + " orphaned entities in chunk "
+                    + chunk.getWorld().getName() + " " + chunk.getX() + "," + chunk.getZ());
+        }
+    }
+}
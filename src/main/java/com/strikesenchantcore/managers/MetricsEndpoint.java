@@ -0,0 +1,296 @@
+package com.strikesenchantcore.managers;
+
+import com.strikesenchantcore.EnchantCore;
+import com.strikesenchantcore.data.PlayerDataManager;
+import com.strikesenchantcore.gui.GuiItemCache;
+import com.strikesenchantcore.listeners.BlockBreakListener;
+import com.strikesenchantcore.util.ColorUtils;
+import com.strikesenchantcore.util.PapiHook;
+import com.strikesenchantcore.util.PerfStats;
+import com.strikesenchantcore.util.PlaceholderCache;
+import com.strikesenchantcore.util.VaultHook;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+
+/**
+ * Optional HTTP endpoint serving EnchantCore's internal counters in the Prometheus text format
+ * (Metrics-Endpoint in config.yml, off by default). Binds to 127.0.0.1 unless configured otherwise.
+ * The page is rendered once a second on the main thread, where the gauges can be read safely;
+ * the HTTP thread only ever hands out the last rendered page, so a scrape never touches game state.
+ */
+public class MetricsEndpoint {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final long RENDER_PERIOD_TICKS = 20L;
+
+    private final EnchantCore plugin;
+    private HttpServer server;
+    private ExecutorService executor;
+    private BukkitTask renderTask;
+    private volatile byte[] page = new byte[0];
+    private boolean active = false; // Between start() and stop(); reloads only rebind while active
+
+    private boolean enabled = false;
+    private String bindAddress = "127.0.0.1";
+    private int port = 9941;
+
+    public MetricsEndpoint(EnchantCore plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Loads the settings (Metrics-Endpoint in config.yml) and restarts the endpoint if they changed.
+     * @param section The config section, may be null to use defaults (disabled).
+     */
+    public void load(@Nullable ConfigurationSection section) {
+        boolean newEnabled = section != null && section.getBoolean("Enabled", false);
+        String newBindAddress = (section != null) ? section.getString("Bind-Address", "127.0.0.1") : "127.0.0.1";
+        int newPort = (section != null) ? section.getInt("Port", 9941) : 9941;
+        if (newPort < 0 || newPort > 65535) { // 0 binds a free port, see getBoundPort()
+            plugin.getLogger().warning("[Metrics] Invalid Port " + newPort + ", using 9941.");
+            newPort = 9941;
+        }
+
+        boolean changed = newEnabled != enabled || !newBindAddress.equals(bindAddress) || newPort != port;
+        enabled = newEnabled;
+        bindAddress = newBindAddress;
+        port = newPort;
+        if (changed && active) { // Reload: rebind with the new settings (or shut down)
+            unbind();
+            bind();
+        }
+    }
+
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /** @return The port the endpoint listens on, or -1 when it isn't running. */
+    public int getBoundPort() {
+        HttpServer httpServer = server;
+        return (httpServer != null) ? httpServer.getAddress().getPort() : -1;
+    }
+
+    /** Starts the endpoint if enabled. Called once the plugin is up. */
+    public void start() {
+        active = true;
+        unbind();
+        bind();
+    }
+
+    public void stop() {
+        active = false;
+        unbind();
+    }
+
+    private void bind() {
+        if (!enabled) return;
+
+        try {
+            HttpServer httpServer = HttpServer.create(new InetSocketAddress(bindAddress, port), 0);
+            httpServer.createContext("/metrics", this::handle);
+            executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "EnchantCore-Metrics");
+                thread.setDaemon(true);
+                return thread;
+            });
+            httpServer.setExecutor(executor);
+            httpServer.start();
+            server = httpServer;
+        } catch (IOException | IllegalArgumentException e) {
+            plugin.getLogger().log(Level.WARNING, "[Metrics] Could not bind " + bindAddress + ":" + port + ", endpoint disabled.", e);
+            shutdownExecutor();
+            return;
+        }
+
+        render();
+        renderTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                render();
+            }
+        }.runTaskTimer(plugin, RENDER_PERIOD_TICKS, RENDER_PERIOD_TICKS);
+        plugin.getLogger().info("[Metrics] Serving http://" + bindAddress + ":" + getBoundPort() + "/metrics");
+    }
+
+    private void unbind() {
+        if (renderTask != null) {
+            try {
+                renderTask.cancel();
+            } catch (IllegalStateException ignore) {}
+            renderTask = null;
+        }
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        shutdownExecutor();
+    }
+
+    private void shutdownExecutor() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    // --- HTTP ---
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod()) && !"HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = page;
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // --- Rendering (main thread) ---
+
+    private void render() {
+        try {
+            page = buildPage().getBytes(StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "[Metrics] Error rendering metrics", e);
+        }
+    }
+
+    @NotNull
+    private String buildPage() {
+        StringBuilder sb = new StringBuilder(4096);
+        BreakPipeline pipeline = plugin.getBreakPipeline();
+        BlockBreakListener listener = plugin.getBlockBreakListener();
+
+        // Blocks and enchants
+        long pipelineBroken = (pipeline != null) ? pipeline.getTotalBroken() : 0L;
+        counter(sb, "enchantcore_blocks_broken_total", "Blocks broken by EnchantCore (player breaks plus queued enchant breaks).",
+                PerfStats.SINGLE_BLOCK.getLifetimeCount() + pipelineBroken);
+
+        header(sb, "enchantcore_enchant_procs_total", "counter", "Enchant activations by enchant.");
+        Map<String, PerfStats.Stage> enchantStages = new TreeMap<>(PerfStats.getEnchantStages()); // Stable label order
+        for (Map.Entry<String, PerfStats.Stage> entry : enchantStages.entrySet()) {
+            sample(sb, "enchantcore_enchant_procs_total{enchant=\"" + escapeLabel(entry.getKey()) + "\"}", entry.getValue().getLifetimeCount());
+        }
+
+        // Queues
+        gauge(sb, "enchantcore_area_pending_blocks", "Blocks waiting in running area break tasks.",
+                (listener != null) ? listener.getPendingAreaBlocks() : 0);
+        gauge(sb, "enchantcore_area_tasks", "Running area break tasks.",
+                (listener != null) ? listener.getActiveAreaTaskCount() : 0);
+        gauge(sb, "enchantcore_break_queue_blocks", "Blocks waiting in the shared break pipeline.",
+                (pipeline != null) ? pipeline.getQueuedBlocks() : 0);
+        gauge(sb, "enchantcore_break_queue_jobs", "Jobs in the shared break pipeline.",
+                (pipeline != null) ? pipeline.getActiveJobs() : 0);
+        counter(sb, "enchantcore_break_budget_exhausted_ticks_total", "Ticks in which the break pipeline used its whole budget.",
+                (pipeline != null) ? pipeline.getBudgetExhaustedTicks() : 0L);
+
+        // Player data saves
+        PlayerDataManager playerDataManager = plugin.getPlayerDataManager();
+        gauge(sb, "enchantcore_save_queue_depth", "Async player data saves scheduled but not yet written.",
+                (playerDataManager != null) ? playerDataManager.getPendingSaves() : 0);
+        header(sb, "enchantcore_player_save_seconds", "summary", "Time spent writing player data files.");
+        sample(sb, "enchantcore_player_save_seconds_sum", PerfStats.PLAYER_SAVE.getLifetimeNanos() / 1_000_000_000.0);
+        sample(sb, "enchantcore_player_save_seconds_count", PerfStats.PLAYER_SAVE.getLifetimeCount());
+        header(sb, "enchantcore_player_cache_entries", "gauge", "Cached player data by tier.");
+        if (playerDataManager != null) {
+            sample(sb, "enchantcore_player_cache_entries{tier=\"online\"}", playerDataManager.getOnlineCacheSize());
+            sample(sb, "enchantcore_player_cache_entries{tier=\"offline\"}", playerDataManager.getOfflineCacheSize());
+        }
+        counter(sb, "enchantcore_player_cache_evictions_total", "Offline player data entries saved and dropped from the cache.",
+                (playerDataManager != null) ? playerDataManager.getEvictions() : 0L);
+        gauge(sb, "enchantcore_player_cache_estimated_bytes", "Rough memory held by cached player data.",
+                (playerDataManager != null) ? playerDataManager.getEstimatedBytes() : 0L);
+
+        // Caches
+        header(sb, "enchantcore_cache_hits_total", "counter", "Cache hits by cache.");
+        GuiItemCache guiItemCache = plugin.getGuiItemCache();
+        PapiHook papiHook = plugin.getPapiHook();
+        PlaceholderCache placeholderCache = (papiHook != null) ? papiHook.getCache() : null;
+        if (guiItemCache != null) sample(sb, "enchantcore_cache_hits_total{cache=\"gui_items\"}", guiItemCache.getHits());
+        sample(sb, "enchantcore_cache_hits_total{cache=\"color\"}", ColorUtils.getCacheHits());
+        if (placeholderCache != null) sample(sb, "enchantcore_cache_hits_total{cache=\"placeholders\"}", placeholderCache.getHits());
+        if (playerDataManager != null) {
+            sample(sb, "enchantcore_cache_hits_total{cache=\"player_data\",tier=\"online\"}", playerDataManager.getOnlineHits());
+            sample(sb, "enchantcore_cache_hits_total{cache=\"player_data\",tier=\"offline\"}", playerDataManager.getOfflineHits());
+        }
+        header(sb, "enchantcore_cache_misses_total", "counter", "Cache misses by cache.");
+        if (guiItemCache != null) sample(sb, "enchantcore_cache_misses_total{cache=\"gui_items\"}", guiItemCache.getMisses());
+        sample(sb, "enchantcore_cache_misses_total{cache=\"color\"}", ColorUtils.getCacheMisses());
+        if (placeholderCache != null) sample(sb, "enchantcore_cache_misses_total{cache=\"placeholders\"}", placeholderCache.getMisses());
+        if (playerDataManager != null) { // A miss in both tiers is one load from disk
+            sample(sb, "enchantcore_cache_misses_total{cache=\"player_data\"}", playerDataManager.getLoads());
+        }
+
+        // Economy
+        VaultHook vaultHook = plugin.getVaultHook();
+        counter(sb, "enchantcore_vault_deposits_total", "Vault deposits made by EnchantCore.",
+                (vaultHook != null) ? vaultHook.getDepositCount() : 0L);
+        counter(sb, "enchantcore_vault_deposit_failures_total", "Vault deposits the economy rejected.",
+                (vaultHook != null) ? vaultHook.getFailedDepositCount() : 0L);
+
+        // Effects
+        DegradationController degradation = plugin.getDegradationController();
+        gauge(sb, "enchantcore_degradation_level", "Current load degradation level (0 = full quality).",
+                (degradation != null) ? degradation.getLevel() : 0);
+        gauge(sb, "enchantcore_active_nukes", "Players with a Nuke running.",
+                (listener != null) ? listener.getActiveNukeCount() : 0);
+        BlackholeManager blackholeManager = plugin.getBlackholeManager(); // Every running vortex is registered here
+        gauge(sb, "enchantcore_active_blackholes", "Blackholes currently active.",
+                (blackholeManager != null) ? blackholeManager.getActiveCount() : 0);
+        return sb.toString();
+    }
+
+    private static void counter(StringBuilder sb, String name, String help, long value) {
+        header(sb, name, "counter", help);
+        sample(sb, name, value);
+    }
+
+    private static void gauge(StringBuilder sb, String name, String help, long value) {
+        header(sb, name, "gauge", help);
+        sample(sb, name, value);
+    }
+
+    private static void header(StringBuilder sb, String name, String type, String help) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder sb, String series, long value) {
+        sb.append(series).append(' ').append(value).append('\n');
+    }
+
+    private static void sample(StringBuilder sb, String series, double value) {
+        sb.append(series).append(' ').append(value).append('\n');
+    }
+
+    private static String escapeLabel(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
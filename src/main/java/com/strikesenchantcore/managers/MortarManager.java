@@ -1,5 +1,6 @@
 package com.strikesenchantcore.managers;
 
+import com.strikesenchantcore.util.NumberFormatUtil;
 import com.strikesenchantcore.EnchantCore;
 import com.strikesenchantcore.data.PlayerData;
 import com.strikesenchantcore.data.PlayerDataManager;
@@ -12,47 +13,126 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 
 public class MortarManager {
 
+    private static final long ROLL_INTERVAL_MILLIS = 1000L; // One activation roll per second
+
     private final EnchantCore plugin;
     private final PlayerDataManager playerDataManager;
     private final Map<UUID, Long> mortarCooldowns;
 
+    // --- Activation Schedule (main thread only) ---
+    // Each player with a mortar has exactly one live entry holding their next activation time.
+    private final PriorityQueue<ScheduledActivation> activationQueue = new PriorityQueue<>((a, b) -> Long.compare(a.dueAt, b.dueAt));
+    private final Map<UUID, ScheduledActivation> scheduledActivations = new HashMap<>();
+
+    private static final class ScheduledActivation {
+        private final UUID playerId;
+        private final long dueAt;
+
+        private ScheduledActivation(UUID playerId, long dueAt) {
+            this.playerId = playerId;
+            this.dueAt = dueAt;
+        }
+    }
+
     public MortarManager(EnchantCore plugin) {
         this.plugin = plugin;
         this.playerDataManager = plugin.getPlayerDataManager();
-        this.mortarCooldowns = new HashMap<>();
+        this.mortarCooldowns = new ConcurrentHashMap<>();
 
         // Start the mortar activation task
         startMortarTask();
+        // Players already online (e.g. after a reload) don't fire a join event
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                reschedule(player.getUniqueId());
+            }
+        });
     }
 
+    /**
+     * Processes only the players whose sampled activation time has arrived.
+     * Cost per run is O(activations), not O(online players).
+     */
     private void startMortarTask() {
         new BukkitRunnable() {
             @Override
             public void run() {
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    checkMortarActivation(player);
-                }
+                processDueActivations(System.currentTimeMillis());
             }
         }.runTaskTimer(plugin, 20L, 20L); // Run every second
     }
 
+    private void processDueActivations(long now) {
+        ScheduledActivation head;
+        while ((head = activationQueue.peek()) != null && head.dueAt <= now) {
+            activationQueue.poll();
+            if (scheduledActivations.get(head.playerId) != head) continue; // Superseded or cancelled
+            scheduledActivations.remove(head.playerId);
+
+            Player player = Bukkit.getPlayer(head.playerId);
+            if (player == null || !player.isOnline()) continue; // Rescheduled on join
+            checkMortarActivation(player);
+            reschedule(head.playerId);
+        }
+    }
+
+    /**
+     * (Re)computes a player's next activation time. Call whenever their mortar level changes
+     * or they join; players without a mortar are simply removed from the schedule.
+     * The per-second activation roll is replaced by sampling the number of seconds until the first
+     * success from the matching geometric distribution, starting once any cooldown has ended.
+     */
+    public void reschedule(UUID playerId) {
+        cancelSchedule(playerId);
+        int level = getMortarData(playerId).getLevel();
+        if (level <= 0) return;
+
+        long now = System.currentTimeMillis();
+        Long cooldownEnd = mortarCooldowns.get(playerId);
+        long start = (cooldownEnd != null && cooldownEnd > now) ? cooldownEnd : now;
+
+        ScheduledActivation activation = new ScheduledActivation(playerId, start + sampleRollsUntilActivation(level) * ROLL_INTERVAL_MILLIS);
+        scheduledActivations.put(playerId, activation);
+        activationQueue.add(activation);
+    }
+
+    /**
+     * Removes a player from the activation schedule (e.g. on quit).
+     */
+    public void cancelSchedule(UUID playerId) {
+        ScheduledActivation previous = scheduledActivations.remove(playerId);
+        if (previous != null && activationQueue.size() > 2 * scheduledActivations.size() + 16) {
+            activationQueue.removeIf(a -> scheduledActivations.get(a.playerId) != a); // Drop stale entries
+        }
+    }
+
+    /**
+     * @return The number of one-second rolls (>= 1) until the first success with chance 0.001 * level.
+     */
+    private static long sampleRollsUntilActivation(int level) {
+        double activationChance = 0.001 * level; // 0.1% per level per second
+        if (activationChance >= 1.0) return 1L;
+        double u = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+        return 1L + (long) Math.floor(Math.log(u) / Math.log(1.0 - activationChance));
+    }
+
+    /**
+     * Fires a scheduled activation. The activation roll itself already happened when the time was sampled.
+     */
     private void checkMortarActivation(Player player) {
         UUID playerId = player.getUniqueId();
         MortarData mortarData = getMortarData(playerId);
 
         if (mortarData.getLevel() == 0) return; // No mortar
 
-        // Check if cooldown is over
+        // Check if cooldown is over (e.g. activated from elsewhere since it was scheduled)
         if (isOnCooldown(playerId)) return;
 
-        // Random chance to activate based on level (higher level = more frequent)
-        double activationChance = 0.001 * mortarData.getLevel(); // 0.1% per level per second
-        if (ThreadLocalRandom.current().nextDouble() > activationChance) return;
-
         // Check Lightning Strike upgrade for double activation
         if (mortarData.hasUpgrade(MortarUpgrade.LIGHTNING_STRIKE)) {
             double doubleChance = 0.01 + (0.005 * mortarData.getUpgradeLevel(MortarUpgrade.LIGHTNING_STRIKE));
@@ -110,7 +190,7 @@ public class MortarManager {
 
         // Send feedback to player
         ChatUtil.sendMessage(player, "&6&lMORTAR ACTIVATED! &e" + selectedEnchants.size() + " enchants triggered!");
-        ChatUtil.sendMessage(player, "&eBoost: &6" + String.format("%.1f", baseMultiplier) + "x &efor 10 seconds!");
+        ChatUtil.sendMessage(player, "&eBoost: &6" + NumberFormatUtil.formatFixed(baseMultiplier, 1) + "x &efor 10 seconds!");
 
         if (isDouble) {
             ChatUtil.sendMessage(player, "&d&lLIGHTNING STRIKE! &eDouble activation!");
@@ -204,6 +284,7 @@ public class MortarManager {
 
         // Upgrade mortar
         mortarData.setLevel(mortarData.getLevel() + 1);
+        reschedule(playerId);
 
         ChatUtil.sendMessage(player, "&6&lMORTAR UPGRADED! &eLevel: &6" + mortarData.getLevel());
 
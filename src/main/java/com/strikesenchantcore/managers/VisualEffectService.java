@@ -0,0 +1,284 @@
+package com.strikesenchantcore.managers;
+
+import com.strikesenchantcore.EnchantCore;
+import com.strikesenchantcore.data.PlayerData;
+import com.strikesenchantcore.data.PlayerDataManager;
+import com.strikesenchantcore.util.NumberFormatUtil;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+
+/**
+ * Central emitter for enchant particle effects.
+ * Instead of broadcasting with world.spawnParticle, effects are sent per viewer with
+ * player.spawnParticle, and only to players who have enchant animations enabled.
+ * Particle counts are reduced with distance (level of detail), and a global per-tick budget caps
+ * both the number of particles and the number of particle packets sent. Effects that don't fit
+ * in the remaining budget are trimmed or dropped and counted in the usage statistics.
+ * Main thread only.
+ */
+public class VisualEffectService {
+
+    // --- Defaults (used when config.yml has no Visual-Effects section) ---
+    private static final int DEFAULT_MAX_PARTICLES_PER_TICK = 6000;
+    private static final int DEFAULT_MAX_PACKETS_PER_TICK = 600;
+    private static final double DEFAULT_VIEW_DISTANCE = 48.0;
+    private static final double DEFAULT_FULL_DETAIL_DISTANCE = 16.0;
+    private static final double DEFAULT_MIN_DETAIL_FRACTION = 0.25;
+    private static final int STATS_WINDOW_TICKS = 20;
+
+    private final EnchantCore plugin;
+    private BukkitTask tickTask;
+
+    // Settings
+    private int maxParticlesPerTick = DEFAULT_MAX_PARTICLES_PER_TICK;
+    private int maxPacketsPerTick = DEFAULT_MAX_PACKETS_PER_TICK;
+    private double viewDistanceSquared = DEFAULT_VIEW_DISTANCE * DEFAULT_VIEW_DISTANCE;
+    private double viewDistance = DEFAULT_VIEW_DISTANCE;
+    private double fullDetailDistance = DEFAULT_FULL_DETAIL_DISTANCE;
+    private double minDetailFraction = DEFAULT_MIN_DETAIL_FRACTION;
+
+    // Current tick usage
+    private int particlesThisTick = 0;
+    private int packetsThisTick = 0;
+
+    // Rolling window (last STATS_WINDOW_TICKS ticks) and lifetime counters
+    private final int[] windowParticles = new int[STATS_WINDOW_TICKS];
+    private final int[] windowPackets = new int[STATS_WINDOW_TICKS];
+    private int windowIndex = 0;
+    private int peakParticlesPerTick = 0;
+    private int peakPacketsPerTick = 0;
+    private long totalParticles = 0L;
+    private long totalPackets = 0L;
+    private long trimmedEffects = 0L;
+    private long droppedEffects = 0L;
+    private long skippedViewers = 0L; // Viewers in range with animations disabled
+
+    public VisualEffectService(EnchantCore plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Loads the budget and LOD settings (Visual-Effects in config.yml).
+     * @param section The config section, may be null to use defaults.
+     */
+    public void load(@Nullable ConfigurationSection section) {
+        if (section == null) {
+            maxParticlesPerTick = DEFAULT_MAX_PARTICLES_PER_TICK;
+            maxPacketsPerTick = DEFAULT_MAX_PACKETS_PER_TICK;
+            viewDistance = DEFAULT_VIEW_DISTANCE;
+            fullDetailDistance = DEFAULT_FULL_DETAIL_DISTANCE;
+            minDetailFraction = DEFAULT_MIN_DETAIL_FRACTION;
+        } else {
+            maxParticlesPerTick = Math.max(0, section.getInt("Max-Particles-Per-Tick", DEFAULT_MAX_PARTICLES_PER_TICK));
+            maxPacketsPerTick = Math.max(0, section.getInt("Max-Packets-Per-Tick", DEFAULT_MAX_PACKETS_PER_TICK));
+            viewDistance = Math.max(1.0, section.getDouble("View-Distance", DEFAULT_VIEW_DISTANCE));
+            fullDetailDistance = Math.max(0.0, Math.min(viewDistance, section.getDouble("Full-Detail-Distance", DEFAULT_FULL_DETAIL_DISTANCE)));
+            minDetailFraction = Math.max(0.0, Math.min(1.0, section.getDouble("Min-Detail-Fraction", DEFAULT_MIN_DETAIL_FRACTION)));
+        }
+        viewDistanceSquared = viewDistance * viewDistance;
+    }
+
+    /**
+     * Starts the per-tick task that rolls the budget window over.
+     */
+    public void start() {
+        stop();
+        tickTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                rollTick();
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
+    }
+
+    public void stop() {
+        if (tickTask != null) {
+            try {
+                tickTask.cancel();
+            } catch (IllegalStateException ignore) {}
+            tickTask = null;
+        }
+    }
+
+    // --- Emitting ---
+
+    /**
+     * Spawns a particle effect for every opted-in player near the location.
+     * @param owner The player who triggered the effect; served first so they keep their effect when the budget is tight. May be null.
+     * @param count Particle count at full detail.
+     * @param spread Offset used on all three axes.
+     * @param extra Particle speed / extra data.
+     * @param data Particle data (e.g. DustOptions), or null.
+     */
+    public void spawn(@Nullable Player owner, @NotNull Particle particle, @NotNull Location location, int count,
+                      double spread, double extra, @Nullable Object data) {
+        spawn(owner, particle, location, count, spread, spread, spread, extra, data);
+    }
+
+    /**
+     * Spawns a particle effect for every opted-in player near the location, with per-axis offsets.
+     */
+    public void spawn(@Nullable Player owner, @NotNull Particle particle, @NotNull Location location, int count,
+                      double offsetX, double offsetY, double offsetZ, double extra, @Nullable Object data) {
+        World world = location.getWorld();
+        DegradationController degradation = plugin.getDegradationController();
+        if (degradation != null) count = degradation.scaleParticles(count); // Fewer particles while the server is degraded
+        if (world == null || count <= 0) return;
+
+        if (particlesThisTick >= maxParticlesPerTick || packetsThisTick >= maxPacketsPerTick) {
+            droppedEffects++;
+            return;
+        }
+
+        boolean trimmed = false;
+        if (owner != null && owner.isOnline() && owner.getWorld() == world) {
+            trimmed |= emitTo(owner, particle, location, count, offsetX, offsetY, offsetZ, extra, data);
+        }
+        for (Player viewer : world.getPlayers()) {
+            if (viewer == owner) continue;
+            trimmed |= emitTo(viewer, particle, location, count, offsetX, offsetY, offsetZ, extra, data);
+        }
+        if (trimmed) trimmedEffects++;
+    }
+
+    /**
+     * Sends the effect to one viewer if they are opted in, in range and the budget allows.
+     * @return True if the particle count was reduced or the viewer skipped because of the budget.
+     */
+    private boolean emitTo(Player viewer, Particle particle, Location location, int count,
+                           double offsetX, double offsetY, double offsetZ, double extra, @Nullable Object data) {
+        Location viewerLocation = viewer.getLocation();
+        double dx = viewerLocation.getX() - location.getX();
+        double dy = viewerLocation.getY() - location.getY();
+        double dz = viewerLocation.getZ() - location.getZ();
+        double distanceSquared = dx * dx + dy * dy + dz * dz;
+        if (distanceSquared > viewDistanceSquared) return false;
+
+        if (!isOptedIn(viewer)) {
+            skippedViewers++;
+            return false;
+        }
+
+        if (packetsThisTick >= maxPacketsPerTick) return true;
+
+        int scaled = scaleForDistance(count, distanceSquared);
+        int remaining = maxParticlesPerTick - particlesThisTick;
+        boolean trimmed = false;
+        if (scaled > remaining) {
+            scaled = remaining;
+            trimmed = true;
+        }
+        if (scaled <= 0) return true;
+
+        try {
+            viewer.spawnParticle(particle, location, scaled, offsetX, offsetY, offsetZ, extra, data);
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.FINE, "[Effects] Failed to send " + particle + " to " + viewer.getName(), e);
+            return trimmed;
+        }
+        particlesThisTick += scaled;
+        packetsThisTick++;
+        return trimmed;
+    }
+
+    private int scaleForDistance(int count, double distanceSquared) {
+        double fullSquared = fullDetailDistance * fullDetailDistance;
+        if (distanceSquared <= fullSquared || viewDistance <= fullDetailDistance) return count;
+        double t = (Math.sqrt(distanceSquared) - fullDetailDistance) / (viewDistance - fullDetailDistance);
+        double fraction = 1.0 - (1.0 - minDetailFraction) * Math.min(1.0, t);
+        return Math.max(1, (int) Math.round(count * fraction));
+    }
+
+    private boolean isOptedIn(Player viewer) {
+        PlayerDataManager dataManager = plugin.getPlayerDataManager();
+        if (dataManager == null) return true;
+        PlayerData data = dataManager.getPlayerData(viewer.getUniqueId());
+        return data == null || data.isShowEnchantAnimations();
+    }
+
+    // --- Budget Window ---
+
+    private void rollTick() {
+        windowParticles[windowIndex] = particlesThisTick;
+        windowPackets[windowIndex] = packetsThisTick;
+        windowIndex = (windowIndex + 1) % STATS_WINDOW_TICKS;
+        if (particlesThisTick > peakParticlesPerTick) peakParticlesPerTick = particlesThisTick;
+        if (packetsThisTick > peakPacketsPerTick) peakPacketsPerTick = packetsThisTick;
+        totalParticles += particlesThisTick;
+        totalPackets += packetsThisTick;
+        particlesThisTick = 0;
+        packetsThisTick = 0;
+    }
+
+    // --- Reporting ---
+
+    /** @return Average particles sent per tick over the last second. */
+    public double getAverageParticlesPerTick() {
+        long sum = 0;
+        for (int value : windowParticles) sum += value;
+        return (double) sum / STATS_WINDOW_TICKS;
+    }
+
+    /** @return Average particle packets sent per tick over the last second. */
+    public double getAveragePacketsPerTick() {
+        long sum = 0;
+        for (int value : windowPackets) sum += value;
+        return (double) sum / STATS_WINDOW_TICKS;
+    }
+
+    /** @return Fraction (0..1+) of the particle budget used on average over the last second. */
+    public double getBudgetUsage() {
+        double particleUsage = maxParticlesPerTick <= 0 ? 1.0 : getAverageParticlesPerTick() / maxParticlesPerTick;
+        double packetUsage = maxPacketsPerTick <= 0 ? 1.0 : getAveragePacketsPerTick() / maxPacketsPerTick;
+        return Math.max(particleUsage, packetUsage);
+    }
+
+    public int getMaxParticlesPerTick() { return maxParticlesPerTick; }
+    public int getMaxPacketsPerTick() { return maxPacketsPerTick; }
+    public int getPeakParticlesPerTick() { return peakParticlesPerTick; }
+    public int getPeakPacketsPerTick() { return peakPacketsPerTick; }
+    public long getTotalParticles() { return totalParticles; }
+    public long getTotalPackets() { return totalPackets; }
+    public long getTrimmedEffects() { return trimmedEffects; }
+    public long getDroppedEffects() { return droppedEffects; }
+    public long getSkippedViewers() { return skippedViewers; }
+
+    /**
+     * @return Human readable budget usage lines (uncolored) for commands and logs.
+     */
+    @NotNull
+    public List<String> getUsageReport() {
+        List<String> lines = new ArrayList<>();
+        lines.add("Particles/tick: avg " + NumberFormatUtil.formatFixed(getAverageParticlesPerTick(), 1)
+                + ", peak " + peakParticlesPerTick + ", budget " + maxParticlesPerTick);
+        lines.add("Packets/tick: avg " + NumberFormatUtil.formatFixed(getAveragePacketsPerTick(), 1)
+                + ", peak " + peakPacketsPerTick + ", budget " + maxPacketsPerTick);
+        lines.add("Budget usage (last second): " + NumberFormatUtil.formatFixed(getBudgetUsage() * 100.0, 1) + "%");
+        lines.add("Effects trimmed: " + trimmedEffects + ", dropped: " + droppedEffects
+                + ", opted-out viewers skipped: " + skippedViewers);
+        lines.add("Total sent: " + totalParticles + " particles in " + totalPackets + " packets");
+        return lines;
+    }
+
+    /** Resets peak and lifetime counters. */
+    public void resetStats() {
+        peakParticlesPerTick = 0;
+        peakPacketsPerTick = 0;
+        totalParticles = 0L;
+        totalPackets = 0L;
+        trimmedEffects = 0L;
+        droppedEffects = 0L;
+        skippedViewers = 0L;
+    }
+}
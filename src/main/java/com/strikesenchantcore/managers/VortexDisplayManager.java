@@ -0,0 +1,336 @@
+package com.strikesenchantcore.managers;
+
+import com.strikesenchantcore.EnchantCore;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.BlockDisplay;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.util.Transformation;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Level;
+
+/**
+ * Owns the block displays used by vortex animations (Blackhole).
+ * Each animated block is a non-persistent BlockDisplay that is hidden by default and only shown
+ * to players near the vortex. Movement is sent as interpolated transformation updates instead of
+ * teleports, so the client smooths the motion between updates and the server never moves or ticks
+ * physics for these entities, and never saves them.
+ * <p>
+ * Limitation: the displays are still real server entities. They are in the world's entity list
+ * and count toward entity limits until removed. Client-only displays need packets (ProtocolLib or
+ * NMS), which this plugin does not depend on. Every display is therefore tracked here and tagged
+ * with {@link #getDisplayKey()}: shutdown removes the tracked ones, and {@link #removeOrphans()}
+ * sweeps the loaded worlds for tagged displays no group owns (e.g. after a failed disable).
+ */
+public class VortexDisplayManager {
+
+    // Size of the rendered block relative to a full block (matches the old armor stand helmet size)
+    private static final float DISPLAY_SCALE = 0.625f;
+    // How often (in group flushes) viewers entering/leaving range are re-evaluated
+    private static final int VIEWER_REFRESH_INTERVAL = 10;
+    private static final int POSE_STRIDE = 6;
+
+    private final EnchantCore plugin;
+    private final NamespacedKey displayKey; // PDC tag on every display this manager spawns
+    private final Set<DisplayGroup> groups = new HashSet<>(); // Main thread only
+
+    public VortexDisplayManager(EnchantCore plugin) {
+        this.plugin = plugin;
+        this.displayKey = new NamespacedKey(plugin, "vortex_display");
+    }
+
+    /** @return The PDC key (BYTE) every vortex display carries. */
+    @NotNull
+    public NamespacedKey getDisplayKey() {
+        return displayKey;
+    }
+
+    /**
+     * Creates a display group for one vortex.
+     * @param anchor Location used for viewer range checks (usually the vortex center).
+     * @param viewDistance Players within this distance of the anchor see the group.
+     * @param interpolationTicks Client-side interpolation length; should match the update period.
+     */
+    @NotNull
+    public DisplayGroup createGroup(@NotNull Location anchor, double viewDistance, int interpolationTicks) {
+        DisplayGroup group = new DisplayGroup(anchor.clone(), viewDistance, Math.max(0, interpolationTicks));
+        groups.add(group);
+        return group;
+    }
+
+    /**
+     * Removes every display spawned by every group. Called on disable.
+     * @return The number of display entities removed.
+     */
+    public int removeAll() {
+        int removed = 0;
+        for (DisplayGroup group : new ArrayList<>(groups)) {
+            removed += group.removeAll();
+        }
+        groups.clear();
+        return removed;
+    }
+
+    /**
+     * Failsafe sweep of all loaded worlds for tagged displays that no group owns, left behind by a
+     * previous plugin instance or a failed cleanup. Scans every entity, so only call it on enable and disable.
+     * @return The number of display entities removed.
+     */
+    public int removeOrphans() {
+        Set<UUID> tracked = new HashSet<>();
+        for (DisplayGroup group : groups) {
+            for (BlockDisplay display : group.displays) {
+                if (display != null) tracked.add(display.getUniqueId());
+            }
+        }
+        int removed = 0;
+        for (World world : Bukkit.getWorlds()) {
+            for (Entity entity : world.getEntities()) {
+                if (entity instanceof BlockDisplay && !tracked.contains(entity.getUniqueId())
+                        && entity.getPersistentDataContainer().has(displayKey, PersistentDataType.BYTE)) {
+                    entity.remove();
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            plugin.getLogger().info("[VortexDisplay] Removed " + removed + " orphaned block displays.");
+        }
+        return removed;
+    }
+
+    public int getActiveDisplayCount() {
+        int count = 0;
+        for (DisplayGroup group : groups) count += group.size();
+        return count;
+    }
+
+    /**
+     * A set of block displays belonging to a single vortex, addressed by integer handles.
+     * Moves are buffered in flat primitive arrays and applied together in {@link #flush()}
+     * once per animation update, so queuing a move allocates nothing.
+     */
+    public final class DisplayGroup {
+        private final Location anchor;
+        private final double viewDistanceSquared;
+        private final int interpolationTicks;
+
+        private final List<BlockDisplay> displays = new ArrayList<>();
+        private final List<Integer> freeHandles = new ArrayList<>();
+        // Per handle: entity origin (3 doubles) and the queued pose (dx, dy, dz, pitch, yaw, roll)
+        private double[] origins = new double[3 * 16];
+        private float[] poses = new float[POSE_STRIDE * 16];
+        private boolean[] dirty = new boolean[16];
+        // Viewer -> the Player instance the displays were shown to; a relog creates a new instance that must be shown again
+        private final Map<UUID, Player> viewers = new HashMap<>();
+        private final Quaternionf rotation = new Quaternionf(); // Scratch, reused for every transformation
+        private final Vector3f halfExtent = new Vector3f();
+        private int flushCount = 0;
+        private int liveCount = 0;
+
+        private DisplayGroup(Location anchor, double viewDistance, int interpolationTicks) {
+            this.anchor = anchor;
+            this.viewDistanceSquared = viewDistance * viewDistance;
+            this.interpolationTicks = interpolationTicks;
+            refreshViewers();
+        }
+
+        /**
+         * Spawns a hidden display centered on the given location and shows it to current viewers.
+         * @return The handle used for {@link #move} and {@link #remove}, or -1 if spawning failed.
+         */
+        public int spawn(@NotNull Location center, @NotNull BlockData blockData) {
+            World world = center.getWorld();
+            if (world == null) return -1;
+            BlockDisplay display;
+            try {
+                display = world.spawn(center, BlockDisplay.class, d -> {
+                    d.setPersistent(false);
+                    d.getPersistentDataContainer().set(displayKey, PersistentDataType.BYTE, (byte) 1);
+                    d.setVisibleByDefault(false);
+                    d.setBlock(blockData);
+                    d.setBrightness(new Display.Brightness(15, 15));
+                    d.setInterpolationDuration(interpolationTicks);
+                    d.setTransformation(buildTransformation(0f, 0f, 0f, 0f, 0f, 0f));
+                });
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "[VortexDisplay] Failed to spawn block display", e);
+                return -1;
+            }
+
+            for (Player viewer : viewers.values()) {
+                if (viewer.isOnline()) viewer.showEntity(plugin, display);
+            }
+
+            int handle;
+            if (!freeHandles.isEmpty()) {
+                handle = freeHandles.remove(freeHandles.size() - 1);
+                displays.set(handle, display);
+            } else {
+                handle = displays.size();
+                displays.add(display);
+                ensureCapacity(handle + 1);
+            }
+            origins[handle * 3] = center.getX();
+            origins[handle * 3 + 1] = center.getY();
+            origins[handle * 3 + 2] = center.getZ();
+            dirty[handle] = false;
+            liveCount++;
+            return handle;
+        }
+
+        /**
+         * Queues a move of the display's center to an absolute position with the given rotation
+         * (radians, applied X then Y then Z like an armor stand head pose). Applied on {@link #flush()}.
+         */
+        public void move(int handle, double x, double y, double z, float pitch, float yaw, float roll) {
+            if (get(handle) == null) return;
+            int p = handle * POSE_STRIDE;
+            poses[p] = (float) (x - origins[handle * 3]);
+            poses[p + 1] = (float) (y - origins[handle * 3 + 1]);
+            poses[p + 2] = (float) (z - origins[handle * 3 + 2]);
+            poses[p + 3] = pitch;
+            poses[p + 4] = yaw;
+            poses[p + 5] = roll;
+            dirty[handle] = true;
+        }
+
+        /**
+         * Applies all queued moves in one pass and periodically updates who can see the group.
+         */
+        public void flush() {
+            if (++flushCount % VIEWER_REFRESH_INTERVAL == 0) {
+                refreshViewers();
+            }
+            for (int i = 0; i < displays.size(); i++) {
+                if (!dirty[i]) continue;
+                dirty[i] = false;
+                BlockDisplay display = displays.get(i);
+                if (display == null || !display.isValid()) continue;
+                int p = i * POSE_STRIDE;
+                display.setInterpolationDelay(0); // Restart interpolation from the current pose
+                display.setTransformation(buildTransformation(poses[p], poses[p + 1], poses[p + 2], poses[p + 3], poses[p + 4], poses[p + 5]));
+            }
+        }
+
+        public void remove(int handle) {
+            BlockDisplay display = get(handle);
+            if (display == null) return;
+            display.remove();
+            displays.set(handle, null);
+            dirty[handle] = false;
+            freeHandles.add(handle);
+            liveCount--;
+        }
+
+        /**
+         * Removes every display in this group and unregisters it from the manager.
+         * @return The number of displays removed.
+         */
+        public int removeAll() {
+            int removed = 0;
+            for (BlockDisplay display : displays) {
+                if (display != null) {
+                    display.remove();
+                    removed++;
+                }
+            }
+            displays.clear();
+            freeHandles.clear();
+            viewers.clear();
+            liveCount = 0;
+            groups.remove(this);
+            return removed;
+        }
+
+        public int size() {
+            return liveCount;
+        }
+
+        // --- Internal Helpers ---
+
+        private BlockDisplay get(int handle) {
+            return (handle < 0 || handle >= displays.size()) ? null : displays.get(handle);
+        }
+
+        private void ensureCapacity(int handles) {
+            if (handles <= dirty.length) return;
+            int capacity = Math.max(handles, dirty.length * 2);
+            origins = Arrays.copyOf(origins, capacity * 3);
+            poses = Arrays.copyOf(poses, capacity * POSE_STRIDE);
+            dirty = Arrays.copyOf(dirty, capacity);
+        }
+
+        /**
+         * Builds a transformation that places the scaled block's center at the given offset from the
+         * entity location and rotates it around its own center.
+         */
+        private Transformation buildTransformation(float dx, float dy, float dz, float pitch, float yaw, float roll) {
+            rotation.identity().rotateXYZ(pitch, yaw, roll);
+            halfExtent.set(DISPLAY_SCALE * 0.5f).rotate(rotation);
+            return new Transformation(
+                    new Vector3f(dx - halfExtent.x, dy - halfExtent.y, dz - halfExtent.z),
+                    new Quaternionf(rotation),
+                    new Vector3f(DISPLAY_SCALE),
+                    new Quaternionf());
+        }
+
+        /**
+         * Shows the group to players who came into range and hides it from players who left.
+         */
+        private void refreshViewers() {
+            World world = anchor.getWorld();
+            if (world == null) return;
+
+            Map<UUID, Player> inRange = new HashMap<>();
+            for (Player player : world.getPlayers()) {
+                if (player.getLocation().distanceSquared(anchor) <= viewDistanceSquared) {
+                    inRange.put(player.getUniqueId(), player);
+                }
+            }
+
+            Iterator<Map.Entry<UUID, Player>> iterator = viewers.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<UUID, Player> entry = iterator.next();
+                Player shownTo = entry.getValue();
+                // Same online instance and still in range: already showing. A relogged player is a new instance.
+                if (inRange.get(entry.getKey()) == shownTo && shownTo.isOnline()) {
+                    inRange.remove(entry.getKey());
+                    continue;
+                }
+                iterator.remove();
+                if (shownTo.isOnline()) setVisible(shownTo, false);
+            }
+            for (Player viewer : inRange.values()) {
+                viewers.put(viewer.getUniqueId(), viewer);
+                setVisible(viewer, true);
+            }
+        }
+
+        private void setVisible(Player viewer, boolean visible) {
+            for (BlockDisplay display : displays) {
+                if (display == null) continue;
+                if (visible) viewer.showEntity(plugin, display);
+                else viewer.hideEntity(plugin, display);
+            }
+        }
+    }
+}
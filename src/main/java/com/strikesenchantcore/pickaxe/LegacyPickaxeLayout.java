@@ -0,0 +1,99 @@
+package com.strikesenchantcore.pickaxe;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The pre-{@link PickaxeRecord} layout, one PDC key per value in the plugin's namespace:
+ * <pre>
+ * enchantcore_pickaxe (BYTE 1)   pickaxe_level (INTEGER)   pickaxe_blocks_mined (LONG)
+ * pickaxe_skin (STRING)          enchant_&lt;rawName&gt; (INTEGER) per enchant
+ * </pre>
+ * Enchant levels are found by key pattern rather than by the registered enchants, so levels of
+ * enchants that were removed from enchants.yml are migrated (and their keys cleaned up) too.
+ */
+public final class LegacyPickaxeLayout {
+
+    public static final String TAG_KEY = "enchantcore_pickaxe";
+    public static final String LEVEL_KEY = "pickaxe_level";
+    public static final String BLOCKS_MINED_KEY = "pickaxe_blocks_mined";
+    public static final String SKIN_KEY = "pickaxe_skin";
+    public static final String ENCHANT_KEY_PREFIX = "enchant_";
+
+    private LegacyPickaxeLayout() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * @return The enchant raw name if the key is a legacy enchant level key of the namespace, else null.
+     */
+    @Nullable
+    public static String enchantName(@NotNull NamespacedKey key, @NotNull String namespace) {
+        if (!namespace.equals(key.getNamespace())) return null;
+        String name = key.getKey();
+        return (name.length() > ENCHANT_KEY_PREFIX.length() && name.startsWith(ENCHANT_KEY_PREFIX))
+                ? name.substring(ENCHANT_KEY_PREFIX.length())
+                : null;
+    }
+
+    /**
+     * Reads a pickaxe stored in the legacy layout. Values that are missing keep the defaults.
+     * @param defaults Record holding the first-join level and blocks mined; filled in and returned.
+     * @return The record, marked {@link PickaxeRecord#isLegacy()}.
+     */
+    @NotNull
+    public static PickaxeRecord read(@NotNull PersistentDataContainer pdc, @NotNull String namespace, @NotNull PickaxeRecord defaults) {
+        for (NamespacedKey key : pdc.getKeys()) {
+            if (!namespace.equals(key.getNamespace())) continue;
+            switch (key.getKey()) {
+                case LEVEL_KEY -> {
+                    Integer level = get(pdc, key, PersistentDataType.INTEGER);
+                    if (level != null) defaults.setLevel(level);
+                }
+                case BLOCKS_MINED_KEY -> {
+                    Long blocksMined = get(pdc, key, PersistentDataType.LONG);
+                    if (blocksMined != null) defaults.setBlocksMined(blocksMined);
+                }
+                case SKIN_KEY -> defaults.setSkin(get(pdc, key, PersistentDataType.STRING));
+                default -> {
+                    String enchant = enchantName(key, namespace);
+                    if (enchant == null) continue;
+                    Integer enchantLevel = get(pdc, key, PersistentDataType.INTEGER);
+                    if (enchantLevel != null) defaults.setEnchantLevel(enchant, enchantLevel);
+                }
+            }
+        }
+        defaults.setLegacy(true);
+        return defaults;
+    }
+
+    /**
+     * Removes every legacy key of the namespace: the fixed keys and all enchant level keys.
+     */
+    public static void removeKeys(@NotNull PersistentDataContainer pdc, @NotNull String namespace) {
+        List<NamespacedKey> toRemove = new ArrayList<>();
+        for (NamespacedKey key : pdc.getKeys()) {
+            if (!namespace.equals(key.getNamespace())) continue;
+            String name = key.getKey();
+            if (name.equals(TAG_KEY) || name.equals(LEVEL_KEY) || name.equals(BLOCKS_MINED_KEY) || name.equals(SKIN_KEY)
+                    || enchantName(key, namespace) != null) {
+                toRemove.add(key);
+            }
+        }
+        for (NamespacedKey key : toRemove) {
+            pdc.remove(key);
+        }
+    }
+
+    /** Typed read that skips a value stored with another type instead of failing the whole pickaxe. */
+    @Nullable
+    private static <T> T get(PersistentDataContainer pdc, NamespacedKey key, PersistentDataType<T, T> type) {
+        return pdc.has(key, type) ? pdc.get(key, type) : null;
+    }
+}
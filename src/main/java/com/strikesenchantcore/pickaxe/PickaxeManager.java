@@ -10,9 +10,12 @@ import com.strikesenchantcore.config.PickaxeConfig;
 import com.strikesenchantcore.data.PlayerData;
 import com.strikesenchantcore.enchants.EnchantmentWrapper;
 import com.strikesenchantcore.enchants.EnchantRegistry;
+import com.strikesenchantcore.tasks.PassiveEffectTask;
 import com.strikesenchantcore.util.ColorUtils;
 import com.strikesenchantcore.config.SkinConfig;
+import com.strikesenchantcore.util.NumberFormatUtil;
 import com.strikesenchantcore.util.PDCUtil;
+import com.strikesenchantcore.util.PerfStats;
 import com.strikesenchantcore.util.PapiHook;
 import me.clip.placeholderapi.PlaceholderAPI; // Keep for PapiHook usage
 import com.strikesenchantcore.util.ItemsAdderUtil;
@@ -39,8 +42,6 @@ import java.util.Comparator; // For potential sorting
 import java.util.logging.Level;
 import java.util.logging.Logger; // Use Logger
 import java.util.stream.Collectors;
-import java.text.NumberFormat;
-import java.util.Locale;
 import java.util.UUID;
 // --- END IMPORTS ---
 
@@ -49,8 +50,6 @@ public class PickaxeManager {
     private final EnchantCore plugin;
     private final Logger logger;
     private final ItemsAdderUtil itemsAdderUtil;// Cache logger
-    // Cache NumberFormat instance - reuse it
-    private final NumberFormat numberFormat = NumberFormat.getNumberInstance(Locale.US);
 
     public PickaxeManager(EnchantCore plugin) {
         this.plugin = plugin;
@@ -471,6 +470,16 @@ public class PickaxeManager {
      */
     @NotNull
     public ItemStack updatePickaxe(@NotNull ItemStack pickaxe, @Nullable OfflinePlayer player) {
+        long start = System.nanoTime();
+        try {
+            return doUpdatePickaxe(pickaxe, player);
+        } finally {
+            PerfStats.UPDATE_PICKAXE.recordSince(start);
+        }
+    }
+
+    @NotNull
+    private ItemStack doUpdatePickaxe(@NotNull ItemStack pickaxe, @Nullable OfflinePlayer player) {
         // Initial checks
         if (!PDCUtil.isEnchantCorePickaxe(pickaxe)) {
             if(plugin.getConfigManager().isDebugMode()) logger.finest("[UpdatePickaxe] Item is not an EC pickaxe, skipping update.");
@@ -491,7 +500,6 @@ public class PickaxeManager {
         final boolean debug = plugin.getConfigManager().isDebugMode();
         if (debug) logger.finest("[UpdatePickaxe] Starting update for player: " + (player != null ? player.getName() : "None"));
 
-
         // --- Cache Config Values ---
         String nameFormat = pConfig.getPickaxeNameFormat();
         List<String> baseLoreFormat = pConfig.getPickaxeLoreFormat(); // Already colored by config loader
@@ -514,10 +522,23 @@ public class PickaxeManager {
         // --- End PlayerData ---
 
 
-        // --- Get Pickaxe Stats from PDC ---
-        int level = PDCUtil.getPickaxeLevel(pickaxe);
-        long blocksMined = PDCUtil.getPickaxeBlocksMined(pickaxe);
-        Map<String, Integer> enchantLevels = getAllEnchantLevels(pickaxe); // Get enchant levels from PDC
+        // --- Get Pickaxe Stats from PDC (one record decode) ---
+        PickaxeRecord record = PDCUtil.readPickaxe(meta);
+        if (record == null) return pickaxe; // Checked above; the record can't be missing here
+        int level = record.getLevel();
+        long blocksMined = record.getBlocksMined();
+        Map<String, Integer> enchantLevels = record.getEnchants(); // Lowercase raw name -> level
+        if (record.isLegacy()) {
+            PDCUtil.writePickaxe(meta, record); // Convert to the packed record; applied with the meta below
+        }
+        if (player != null) {
+            // Mining rebuilds the lore every block; cached state is only dropped when enchant levels change
+            Map<String, Integer> registeredLevels = registeredLevels(record, registry);
+            PapiHook papiHook = plugin.getPapiHook();
+            if (papiHook != null) papiHook.getCache().pickaxeUpdated(player.getUniqueId(), registeredLevels);
+            PassiveEffectTask passiveEffects = plugin.getPassiveEffects();
+            if (passiveEffects != null) passiveEffects.pickaxeUpdated(player.getUniqueId(), registeredLevels);
+        }
         // --- End Pickaxe Stats ---
 
 
@@ -579,8 +600,7 @@ public class PickaxeManager {
 
 
         // --- Apply Model Data ---
-        NamespacedKey skinKey = new NamespacedKey(plugin, "pickaxe_skin");
-        String appliedSkinId = meta.getPersistentDataContainer().get(skinKey, PersistentDataType.STRING);
+        String appliedSkinId = record.getSkin();
         boolean hasSkinApplied = appliedSkinId != null;
 
         if (hasSkinApplied) {
@@ -614,7 +634,8 @@ public class PickaxeManager {
                     }
                 } else {
                     logger.warning("Applied skin '" + appliedSkinId + "' not found in skins.yml - removing skin data");
-                    meta.getPersistentDataContainer().remove(skinKey);
+                    record.setSkin(null);
+                    PDCUtil.writePickaxe(meta, record);
                 }
             }
         } else {
@@ -722,11 +743,11 @@ public class PickaxeManager {
         // --- Replace EnchantCore Placeholders ---
         // Basic Stats
         result = result.replace("%enchantcore_level%", String.valueOf(level));
-        result = result.replace("%enchantcore_blocks_mined%", numberFormat.format(blocksMined));
-        result = result.replace("%enchantcore_blocks_required%", requiredForNext == Long.MAX_VALUE ? "Max" : numberFormat.format(requiredForNext));
+        result = result.replace("%enchantcore_blocks_mined%", NumberFormatUtil.formatGrouped(blocksMined));
+        result = result.replace("%enchantcore_blocks_required%", requiredForNext == Long.MAX_VALUE ? "Max" : NumberFormatUtil.formatGrouped(requiredForNext));
         // Progress within current level
-        result = result.replace("%enchantcore_blocks_progress%", numberFormat.format(blocksInLevel));
-        result = result.replace("%enchantcore_blocks_needed_for_level%", totalForLevel == Long.MAX_VALUE ? "Max" : numberFormat.format(totalForLevel));
+        result = result.replace("%enchantcore_blocks_progress%", NumberFormatUtil.formatGrouped(blocksInLevel));
+        result = result.replace("%enchantcore_blocks_needed_for_level%", totalForLevel == Long.MAX_VALUE ? "Max" : NumberFormatUtil.formatGrouped(totalForLevel));
 
         // Player Name
         if (player != null) {
@@ -990,38 +1011,31 @@ public class PickaxeManager {
 
 
     /**
-     * Gets the level of a specific enchantment stored in the pickaxe's PDC.
+     * Gets the level of a specific enchantment stored on the pickaxe.
      * @param pickaxe The EnchantCore pickaxe ItemStack.
      * @param enchantKey The raw name (config key) of the enchantment (case-insensitive).
      * @return The enchantment level, or 0 if not found or not an EC pickaxe.
      */
     public int getEnchantLevel(@NotNull ItemStack pickaxe, @NotNull String enchantKey) {
-        if (!PDCUtil.isEnchantCorePickaxe(pickaxe)) return 0;
         if (enchantKey == null || enchantKey.isEmpty()) return 0;
 
         EnchantmentWrapper enchant = plugin.getEnchantRegistry().getEnchant(enchantKey); // Handles lowercase
         if (enchant == null) return 0; // Enchant definition not found
 
-        NamespacedKey pdcKey = enchant.getPdcLevelKey();
-        if (pdcKey == null) { // Should not happen if wrapper loaded correctly
-            logger.severe("PDC Key is NULL for enchant: " + enchantKey + " in EnchantmentWrapper!");
-            return 0;
-        }
-        // Get value, default to 0 if key doesn't exist on the item
-        return PDCUtil.getInt(pickaxe, pdcKey, 0);
+        PickaxeRecord record = PDCUtil.readPickaxe(pickaxe);
+        return (record != null) ? record.getEnchantLevel(enchant.getRawName()) : 0;
     }
 
 
     /**
-     * Sets the level of a specific enchantment in the pickaxe's PDC.
-     * Removes the key if level is 0 or less.
+     * Sets the level of a specific enchantment on the pickaxe.
+     * Removes the enchant if level is 0 or less.
      * @param pickaxe The EnchantCore pickaxe ItemStack.
      * @param enchantKey The raw name (config key) of the enchantment (case-insensitive).
      * @param level The level to set.
      * @return True if successful, false otherwise (e.g., not EC pickaxe, enchant not found, meta error).
      */
     public boolean setEnchantLevel(@NotNull ItemStack pickaxe, @NotNull String enchantKey, int level) {
-        if (!PDCUtil.isEnchantCorePickaxe(pickaxe)) return false;
         if (enchantKey == null || enchantKey.isEmpty()) return false;
 
         EnchantmentWrapper enchant = plugin.getEnchantRegistry().getEnchant(enchantKey); // Handles lowercase
@@ -1029,28 +1043,17 @@ public class PickaxeManager {
             logger.warning("Attempted set level for unknown enchant key: " + enchantKey);
             return false;
         }
-        NamespacedKey pdcKey = enchant.getPdcLevelKey();
-        if (pdcKey == null) {
-            logger.severe("PDC Key is NULL for enchant: " + enchantKey + ". Cannot set level.");
-            return false;
-        }
 
         ItemMeta meta = pickaxe.getItemMeta();
         if (meta == null) {
             logger.severe("Failed set enchant level: ItemMeta is null for pickaxe!");
             return false;
         }
-        PersistentDataContainer pdc = meta.getPersistentDataContainer();
+        PickaxeRecord record = PDCUtil.readPickaxe(meta);
+        if (record == null) return false; // Not an EC pickaxe
 
-        // Set or remove the PDC value
-        if (level > 0) {
-            pdc.set(pdcKey, PersistentDataType.INTEGER, level);
-        } else {
-            // Only remove if the key actually exists
-            if (pdc.has(pdcKey, PersistentDataType.INTEGER)) {
-                pdc.remove(pdcKey);
-            }
-        }
+        record.setEnchantLevel(enchant.getRawName(), level);
+        PDCUtil.writePickaxe(meta, record);
 
         // Apply the modified meta back
         if (!pickaxe.setItemMeta(meta)) {
@@ -1062,39 +1065,31 @@ public class PickaxeManager {
 
 
     /**
-     * Retrieves all EnchantCore enchantment levels stored in the pickaxe's PDC.
+     * Retrieves all EnchantCore enchantment levels stored on the pickaxe (one record decode).
+     * Levels of enchants that are no longer registered stay on the item but are not returned.
      * @param pickaxe The EnchantCore pickaxe ItemStack.
      * @return A Map where the key is the lowercase raw enchantment name and the value is the level. Returns an empty map if not an EC pickaxe or on error.
      */
     @NotNull
     public Map<String, Integer> getAllEnchantLevels(@NotNull ItemStack pickaxe) {
-        Map<String, Integer> levels = new HashMap<>();
-        if (!PDCUtil.isEnchantCorePickaxe(pickaxe)) return levels; // Return empty map
-
-        ItemMeta meta = pickaxe.getItemMeta();
-        if (meta == null) {
-            logger.warning("Could not getAllEnchantLevels: ItemMeta is null.");
-            return levels; // Return empty map
-        }
-        PersistentDataContainer pdc = meta.getPersistentDataContainer();
+        PickaxeRecord record = PDCUtil.readPickaxe(pickaxe);
+        if (record == null) return new HashMap<>(); // Return empty map
 
-        // Iterate through all *known* enchantments from the registry
         EnchantRegistry registry = plugin.getEnchantRegistry();
         if (registry == null) {
             logger.severe("Cannot getAllEnchantLevels: EnchantRegistry is null!");
-            return levels;
+            return new HashMap<>();
         }
-        for (EnchantmentWrapper enchant : registry.getAllEnchants()) { // Use Collection import
-            if (enchant == null) continue; // Should not happen
-
-            NamespacedKey key = enchant.getPdcLevelKey();
-            // Check if the item has this specific enchantment key in its PDC
-            if (key != null && pdc.has(key, PersistentDataType.INTEGER)) {
-                int level = pdc.getOrDefault(key, PersistentDataType.INTEGER, 0);
-                if (level > 0) {
-                    // Store using the consistent lowercase raw name
-                    levels.put(enchant.getRawName().toLowerCase(), level);
-                }
+        return registeredLevels(record, registry);
+    }
+
+    /** @return The record's levels of registered enchants, keyed by lowercase raw name. */
+    @NotNull
+    private static Map<String, Integer> registeredLevels(@NotNull PickaxeRecord record, @NotNull EnchantRegistry registry) {
+        Map<String, Integer> levels = new HashMap<>();
+        for (Map.Entry<String, Integer> entry : record.getEnchants().entrySet()) {
+            if (registry.getEnchant(entry.getKey()) != null) {
+                levels.put(entry.getKey(), entry.getValue());
             }
         }
         return levels;
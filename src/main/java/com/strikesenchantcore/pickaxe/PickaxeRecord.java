@@ -0,0 +1,174 @@
+package com.strikesenchantcore.pickaxe;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * All EnchantCore state of one pickaxe (level, blocks mined, enchant levels, skin), stored on the
+ * item as a single BYTE_ARRAY PDC value so one read decodes the whole pickaxe.
+ * <p>
+ * Format (version 1), integers as unsigned LEB128 varints:
+ * <pre>
+ * version(byte) flags(byte: 1 = has skin) level blocksMined enchantCount
+ * { nameLength name(UTF-8) enchantLevel } * enchantCount
+ * [ skinLength skin(UTF-8) ]
+ * </pre>
+ * Enchants are keyed by their lowercase raw name rather than a numeric id, so reordering or
+ * removing entries in enchants.yml never shifts another enchant's level. Levels of enchants that are
+ * no longer registered are kept, so re-adding the enchant restores them.
+ * Not thread-safe; each read creates a new instance.
+ */
+public final class PickaxeRecord {
+
+    public static final byte VERSION = 1;
+    private static final int FLAG_SKIN = 1;
+    private static final int MAX_STRING_BYTES = 256; // Guards against corrupt lengths
+
+    private int level;
+    private long blocksMined;
+    private final Map<String, Integer> enchants = new LinkedHashMap<>(); // Lowercase raw name -> level (> 0)
+    @Nullable private String skin;
+    private boolean legacy = false; // Read from the old one-key-per-value layout; its keys are removed on write
+
+    public PickaxeRecord(int level, long blocksMined) {
+        this.level = Math.max(1, level);
+        this.blocksMined = Math.max(0L, blocksMined);
+    }
+
+    // --- Values ---
+
+    public int getLevel() { return level; }
+    public void setLevel(int level) { this.level = Math.max(1, level); }
+
+    public long getBlocksMined() { return blocksMined; }
+    public void setBlocksMined(long blocksMined) { this.blocksMined = Math.max(0L, blocksMined); }
+
+    /** @return The level of an enchant, 0 if not on the pickaxe. */
+    public int getEnchantLevel(@NotNull String rawName) {
+        Integer enchantLevel = enchants.get(rawName.toLowerCase());
+        return (enchantLevel != null) ? enchantLevel : 0;
+    }
+
+    /** Sets an enchant level; 0 or less removes the enchant. */
+    public void setEnchantLevel(@NotNull String rawName, int enchantLevel) {
+        if (enchantLevel > 0) {
+            enchants.put(rawName.toLowerCase(), enchantLevel);
+        } else {
+            enchants.remove(rawName.toLowerCase());
+        }
+    }
+
+    /** @return Every stored enchant (lowercase raw name -> level), read-only. */
+    @NotNull
+    public Map<String, Integer> getEnchants() { return Collections.unmodifiableMap(enchants); }
+
+    @Nullable public String getSkin() { return skin; }
+    public void setSkin(@Nullable String skin) { this.skin = (skin == null || skin.isEmpty()) ? null : skin; }
+
+    /** @return True if this record was read from the legacy per-value PDC keys. */
+    public boolean isLegacy() { return legacy; }
+    public void setLegacy(boolean legacy) { this.legacy = legacy; }
+
+    // --- Codec ---
+
+    @NotNull
+    public byte[] encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + enchants.size() * 12);
+        out.write(VERSION);
+        out.write(skin != null ? FLAG_SKIN : 0);
+        writeVarLong(out, level);
+        writeVarLong(out, blocksMined);
+        writeVarLong(out, enchants.size());
+        for (Map.Entry<String, Integer> entry : enchants.entrySet()) {
+            writeString(out, entry.getKey());
+            writeVarLong(out, entry.getValue());
+        }
+        if (skin != null) writeString(out, skin);
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes a record.
+     * @throws IllegalArgumentException If the data is truncated, malformed or from an unknown version.
+     */
+    @NotNull
+    public static PickaxeRecord decode(@NotNull byte[] data) {
+        Reader in = new Reader(data);
+        int version = in.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unknown pickaxe record version " + version);
+        }
+        int flags = in.readByte();
+        PickaxeRecord record = new PickaxeRecord(in.readVarInt(), in.readVarLong());
+        int count = in.readVarInt();
+        for (int i = 0; i < count; i++) {
+            String name = in.readString();
+            record.setEnchantLevel(name, in.readVarInt());
+        }
+        if ((flags & FLAG_SKIN) != 0) record.setSkin(in.readString());
+        return record;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Bounds-checked cursor over the encoded bytes.
+     */
+    private static final class Reader {
+        private final byte[] data;
+        private int position = 0;
+
+        private Reader(byte[] data) {
+            this.data = data;
+        }
+
+        private int readByte() {
+            if (position >= data.length) throw new IllegalArgumentException("Pickaxe record is truncated");
+            return data[position++] & 0xFF;
+        }
+
+        private long readVarLong() {
+            long value = 0L;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new IllegalArgumentException("Pickaxe record has a malformed varint");
+        }
+
+        private int readVarInt() {
+            long value = readVarLong();
+            if (value < 0 || value > Integer.MAX_VALUE) throw new IllegalArgumentException("Pickaxe record value out of range: " + value);
+            return (int) value;
+        }
+
+        private String readString() {
+            int length = readVarInt();
+            if (length > MAX_STRING_BYTES || length > data.length - position) {
+                throw new IllegalArgumentException("Pickaxe record has a bad string length " + length);
+            }
+            String value = new String(data, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
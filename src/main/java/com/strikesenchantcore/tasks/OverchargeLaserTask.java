@@ -2,9 +2,12 @@ package com.strikesenchantcore.tasks;
 
 import com.strikesenchantcore.EnchantCore;
 import com.strikesenchantcore.config.AutoSellConfig;
-import com.strikesenchantcore.config.ConfigManager;
+import com.strikesenchantcore.config.ConfigSnapshot;
 import com.strikesenchantcore.data.PlayerData;
 import com.strikesenchantcore.listeners.PinataListener;
+import com.strikesenchantcore.managers.BreakPipeline;
+import com.strikesenchantcore.managers.VisualEffectService;
+import com.strikesenchantcore.util.LongHashSet;
 import com.strikesenchantcore.util.PDCUtil;
 import com.strikesenchantcore.util.VaultHook;
 import com.strikesenchantcore.util.WorldGuardHook;
@@ -12,87 +15,220 @@ import org.bukkit.Color;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
+/**
+ * Streams the Overcharge beam forward each tick.
+ * The beam's center line is walked voxel by voxel with a 3D DDA (Amanatides &amp; Woo), so every block
+ * the line passes through is visited exactly once with no per-step Location/Vector allocation. Each
+ * visited voxel is widened to a cube of the configured radius; a primitive set of packed coordinates
+ * dedupes the overlap between neighbouring cubes. The new blocks of a tick are checked against
+ * WorldGuard in one batch (denied blocks are skipped, the beam keeps going) and the breakable ones
+ * are handed to the shared {@link BreakPipeline}, which breaks them within the server-wide budget.
+ */
 public class OverchargeLaserTask extends BukkitRunnable {
 
+    private static final Particle.DustOptions BEAM_DUST = new Particle.DustOptions(Color.RED, 1.2F);
+    private static final double PARTICLE_STEP = 0.5;
+
     private final Player player;
     private final PlayerData playerData;
     private final ItemStack pickaxe;
     private final int maxLength;
+    private final int radius;
+    private final double blocksPerTick;
     private final EnchantCore plugin;
     private final WorldGuardHook worldGuardHook;
     private final VaultHook vaultHook;
     private final AutoSellConfig autoSellConfig;
-    private final ConfigManager configManager;
+    private final VisualEffectService visualEffects;
+    private final boolean autoSellEnabled;
+    private final boolean autoPickupEnabled;
 
-    private final Location startLocation;
-    private final Vector direction;
+    private final World world;
+    private final int minY;
+    private final int maxY;
+    private final double originX, originY, originZ;
+    private final double dirX, dirY, dirZ;
+    private final Location particlePoint; // Reused for every particle position
     private double distanceTraveled = 0;
-    private final Set<Block> alreadyBroken = new HashSet<>();
 
-    public OverchargeLaserTask(Player player, PlayerData playerData, ItemStack pickaxe, int maxLength, EnchantCore plugin) {
+    // --- DDA state (current voxel of the center line) ---
+    private int voxelX, voxelY, voxelZ;
+    private final int stepX, stepY, stepZ;
+    private double tMaxX, tMaxY, tMaxZ; // Distance along the ray to the next boundary on each axis
+    private final double tDeltaX, tDeltaY, tDeltaZ; // Distance along the ray between boundaries on each axis
+    private double voxelEntry = 0; // Distance at which the ray entered the current voxel
+
+    private final LongHashSet visited;
+    private int[] batchX = new int[64];
+    private int[] batchY = new int[64];
+    private int[] batchZ = new int[64];
+    private int batchSize = 0;
+
+    @Nullable
+    private final BreakPipeline.Job breakJob;
+
+    public OverchargeLaserTask(Player player, PlayerData playerData, ItemStack pickaxe, int maxLength, int radius,
+                               double blocksPerTick, EnchantCore plugin) {
         this.player = player;
         this.playerData = playerData;
         this.pickaxe = pickaxe;
         this.maxLength = maxLength;
+        this.radius = radius;
+        this.blocksPerTick = blocksPerTick;
         this.plugin = plugin;
 
         this.worldGuardHook = plugin.getWorldGuardHook();
         this.vaultHook = plugin.getVaultHook();
         this.autoSellConfig = plugin.getAutoSellConfig();
-        this.configManager = plugin.getConfigManager();
+        this.visualEffects = plugin.getVisualEffects();
+        ConfigSnapshot config = plugin.getConfigManager().getSnapshot();
+        this.autoSellEnabled = config.isAutoSellEnabled();
+        this.autoPickupEnabled = config.isAutoPickupEnabled();
 
-        this.startLocation = player.getEyeLocation();
-        this.direction = player.getEyeLocation().getDirection().normalize();
+        Location eye = player.getEyeLocation();
+        Vector direction = eye.getDirection().normalize();
+        this.world = eye.getWorld();
+        this.minY = world.getMinHeight();
+        this.maxY = world.getMaxHeight() - 1;
+        this.originX = eye.getX();
+        this.originY = eye.getY();
+        this.originZ = eye.getZ();
+        this.dirX = direction.getX();
+        this.dirY = direction.getY();
+        this.dirZ = direction.getZ();
+        this.particlePoint = eye.clone();
+
+        this.voxelX = eye.getBlockX();
+        this.voxelY = eye.getBlockY();
+        this.voxelZ = eye.getBlockZ();
+        this.stepX = (dirX > 0) ? 1 : (dirX < 0 ? -1 : 0);
+        this.stepY = (dirY > 0) ? 1 : (dirY < 0 ? -1 : 0);
+        this.stepZ = (dirZ > 0) ? 1 : (dirZ < 0 ? -1 : 0);
+        this.tDeltaX = (stepX != 0) ? Math.abs(1.0 / dirX) : Double.POSITIVE_INFINITY;
+        this.tDeltaY = (stepY != 0) ? Math.abs(1.0 / dirY) : Double.POSITIVE_INFINITY;
+        this.tDeltaZ = (stepZ != 0) ? Math.abs(1.0 / dirZ) : Double.POSITIVE_INFINITY;
+        this.tMaxX = firstBoundary(originX, voxelX, dirX, stepX);
+        this.tMaxY = firstBoundary(originY, voxelY, dirY, stepY);
+        this.tMaxZ = firstBoundary(originZ, voxelZ, dirZ, stepZ);
+
+        int side = 2 * radius + 1;
+        this.visited = new LongHashSet(maxLength * side * side);
+
+        BreakPipeline pipeline = plugin.getBreakPipeline();
+        this.breakJob = (pipeline != null) ? pipeline.submit(player.getUniqueId(), "Overcharge", this::breakIfStillBreakable) : null;
+    }
+
+    /** Distance along the ray from the origin to the first voxel boundary on one axis. */
+    private static double firstBoundary(double origin, int voxel, double dir, int step) {
+        if (step > 0) return (voxel + 1 - origin) / dir;
+        if (step < 0) return (origin - voxel) / -dir;
+        return Double.POSITIVE_INFINITY;
     }
 
     @Override
     public void run() {
         if (!player.isOnline()) {
+            if (breakJob != null) breakJob.cancel();
             this.cancel();
             return;
         }
 
-        for (double i = 0; i < 2.0; i += 0.5) {
-            Location currentPoint = startLocation.clone().add(direction.clone().multiply(distanceTraveled + i));
-
-            Particle.DustOptions dustOptions = new Particle.DustOptions(Color.RED, 1.2F);
-            player.getWorld().spawnParticle(Particle.REDSTONE, currentPoint, 15, 0.3, 0.3, 0.3, 0, dustOptions);
-            player.getWorld().spawnParticle(Particle.SMOKE_NORMAL, currentPoint, 2, 0.1, 0.1, 0.1, 0);
+        double target = Math.min(maxLength, distanceTraveled + blocksPerTick);
 
-            for (int x = -1; x <= 1; x++) {
-                for (int y = -1; y <= 1; y++) {
-                    for (int z = -1; z <= 1; z++) {
-                        Block block = currentPoint.getBlock().getRelative(x, y, z);
+        for (double d = distanceTraveled; d < target; d += PARTICLE_STEP) {
+            particlePoint.setX(originX + dirX * d);
+            particlePoint.setY(originY + dirY * d);
+            particlePoint.setZ(originZ + dirZ * d);
+            if (visualEffects != null) {
+                visualEffects.spawn(player, Particle.REDSTONE, particlePoint, 15, 0.3, 0, BEAM_DUST);
+                visualEffects.spawn(player, Particle.SMOKE_NORMAL, particlePoint, 2, 0.1, 0, null);
+            } else {
+                world.spawnParticle(Particle.REDSTONE, particlePoint, 15, 0.3, 0.3, 0.3, 0, BEAM_DUST);
+                world.spawnParticle(Particle.SMOKE_NORMAL, particlePoint, 2, 0.1, 0.1, 0.1, 0);
+            }
+        }
 
-                        if (alreadyBroken.contains(block) || !isBreakable(block)) {
-                            continue;
-                        }
+        // Walk the center line up to this tick's end, collecting the widened voxels
+        batchSize = 0;
+        while (voxelEntry < target) {
+            collectCube(voxelX, voxelY, voxelZ);
+            if (tMaxX < tMaxY) {
+                if (tMaxX < tMaxZ) {
+                    voxelEntry = tMaxX; voxelX += stepX; tMaxX += tDeltaX;
+                } else {
+                    voxelEntry = tMaxZ; voxelZ += stepZ; tMaxZ += tDeltaZ;
+                }
+            } else {
+                if (tMaxY < tMaxZ) {
+                    voxelEntry = tMaxY; voxelY += stepY; tMaxY += tDeltaY;
+                } else {
+                    voxelEntry = tMaxZ; voxelZ += stepZ; tMaxZ += tDeltaZ;
+                }
+            }
+        }
+        queueBatch();
 
-                        if (worldGuardHook != null && !worldGuardHook.isEnchantAllowed(block.getLocation())) {
-                            this.cancel();
-                            return;
-                        }
+        distanceTraveled = target;
+        if (distanceTraveled >= maxLength) {
+            if (breakJob != null) breakJob.finish();
+            this.cancel();
+        }
+    }
 
-                        breakBlockWithLogic(block);
-                        alreadyBroken.add(block);
+    /** Adds the not yet visited blocks of the cube around a center-line voxel to the batch. */
+    private void collectCube(int cx, int cy, int cz) {
+        for (int x = cx - radius; x <= cx + radius; x++) {
+            for (int y = Math.max(minY, cy - radius); y <= Math.min(maxY, cy + radius); y++) {
+                for (int z = cz - radius; z <= cz + radius; z++) {
+                    if (!visited.add(LongHashSet.packBlock(x, y, z))) continue;
+                    if (batchSize == batchX.length) {
+                        int grown = batchSize * 2;
+                        batchX = Arrays.copyOf(batchX, grown);
+                        batchY = Arrays.copyOf(batchY, grown);
+                        batchZ = Arrays.copyOf(batchZ, grown);
                     }
+                    batchX[batchSize] = x;
+                    batchY[batchSize] = y;
+                    batchZ[batchSize] = z;
+                    batchSize++;
                 }
             }
         }
+    }
 
-        distanceTraveled += 2.0;
+    /** Region-checks the batch in one call and queues the breakable blocks. */
+    private void queueBatch() {
+        if (batchSize == 0) return;
+        boolean[] allowed = (worldGuardHook != null) ? worldGuardHook.areEnchantsAllowed(world, batchX, batchY, batchZ, batchSize) : null;
 
-        if (distanceTraveled >= maxLength) {
-            this.cancel();
+        for (int i = 0; i < batchSize; i++) {
+            if (allowed != null && !allowed[i]) continue;
+            if (!world.isChunkLoaded(batchX[i] >> 4, batchZ[i] >> 4)) continue; // Don't load chunks for the beam
+            Block block = world.getBlockAt(batchX[i], batchY[i], batchZ[i]);
+            if (!isBreakable(block)) continue;
+            if (breakJob != null) {
+                breakJob.offer(block);
+            } else {
+                breakBlockWithLogic(block); // Pipeline unavailable (plugin disabling)
+            }
+        }
+    }
+
+    /** Pipeline callback: the block may have changed since it was queued. */
+    private void breakIfStillBreakable(Block block) {
+        if (player.isOnline() && isBreakable(block)) {
+            breakBlockWithLogic(block);
         }
     }
 
@@ -101,7 +237,6 @@ public class OverchargeLaserTask extends BukkitRunnable {
         boolean blockSold = false;
         boolean dropsCancelled = false;
 
-        boolean autoSellEnabled = configManager.getConfig().getBoolean("AutoSell.Enabled", false);
         if (autoSellEnabled && vaultHook != null && vaultHook.isEnabled() && player.hasPermission("enchantcore.autosell")) {
             double price = autoSellConfig.getSellPrice(originalMaterial);
             if (price > 0) {
@@ -121,7 +256,6 @@ public class OverchargeLaserTask extends BukkitRunnable {
         }
 
         if (!blockSold) {
-            boolean autoPickupEnabled = configManager.getConfig().getBoolean("AutoPickup.Enabled", false);
             if (autoPickupEnabled && player.hasPermission("enchantcore.autopickup")) {
                 Collection<ItemStack> drops = block.getDrops(pickaxe, player);
                 if (!drops.isEmpty()) {
@@ -150,11 +284,10 @@ public class OverchargeLaserTask extends BukkitRunnable {
 
     private boolean isBreakable(Block block) {
         if (block == null) return false;
-        if (PinataListener.activePinatas.containsKey(block.getLocation())) return false;
         Material t = block.getType();
         if (t.isAir() || t == Material.BEDROCK || t == Material.END_PORTAL_FRAME || t == Material.END_GATEWAY || t == Material.BARRIER) {
             return false;
         }
-        return true;
+        return !PinataListener.activePinatas.containsKey(block.getLocation());
     }
-}
\ No newline at end of file
+}
@@ -2,99 +2,229 @@ package com.strikesenchantcore.tasks;
 
 import com.strikesenchantcore.EnchantCore;
 import com.strikesenchantcore.data.PlayerData;
+import com.strikesenchantcore.enchants.EnchantSettings;
 import com.strikesenchantcore.enchants.EnchantmentWrapper;
-import com.strikesenchantcore.util.ChatUtil;
+import com.strikesenchantcore.util.MessageTemplate;
 import com.strikesenchantcore.util.PDCUtil;
 import net.md_5.bungee.api.ChatMessageType;
 import net.md_5.bungee.api.chat.TextComponent;
 import org.bukkit.Bukkit;
-import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.scheduler.BukkitRunnable;
+import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
-
+/**
+ * Runs every tick and handles passive per-player effects (currently the Overcharge action bar).
+ * Online players are spread over SPREAD_TICKS so each tick only processes a slice, plus any
+ * players explicitly marked dirty (e.g. their charge changed). The action bar is only re-sent
+ * when the rendered text changes or the client is about to fade the previous one out.
+ */
 public class PassiveEffectTask extends BukkitRunnable {
 
+    // --- Scheduling ---
+    // Every player is revisited once per SPREAD_TICKS (matches the old 1 second period)
+    private static final int SPREAD_TICKS = 20;
+    // Client action bars fade after ~3 seconds; resend unchanged text a bit before that
+    private static final long RESEND_INTERVAL_MILLIS = 2000L;
+    // Safety net for pickaxe changes we don't get notified about (e.g. inventory edits)
+    private static final long LEVEL_RECHECK_MILLIS = 5000L;
+
+    // Pre-colored progress bars indexed by number of filled segments (0..PROGRESS_BAR_LENGTH)
+    private static final int PROGRESS_BAR_LENGTH = 10;
+    private static final String[] PROGRESS_BARS = new String[PROGRESS_BAR_LENGTH + 1];
+    static {
+        for (int i = 0; i <= PROGRESS_BAR_LENGTH; i++) {
+            PROGRESS_BARS[i] = ChatColor.GREEN + String.join("", Collections.nCopies(i, "❚")) +
+                    ChatColor.GRAY + String.join("", Collections.nCopies(PROGRESS_BAR_LENGTH - i, "❚"));
+        }
+    }
+
     private final EnchantCore plugin;
 
+    private final Map<UUID, OverchargeState> states = new ConcurrentHashMap<>();
+    private final Set<UUID> dirtyPlayers = ConcurrentHashMap.newKeySet();
+    private List<Player> cycle = Collections.emptyList(); // Snapshot of online players for the current spread cycle
+    private int tick = 0;
+
+    // Cached Overcharge settings; refreshed when the registry hands out a new wrapper (reload)
+    private EnchantmentWrapper cachedEnchant;
+    private EnchantSettings cachedSettings;
+
+    /**
+     * Per-player state used to skip redundant pickaxe lookups and action bar packets.
+     */
+    private static final class OverchargeState {
+        int heldSlot = -1;
+        int level = 0;
+        boolean pickaxeStale = true;
+        long levelCheckedAt = 0L;
+        String lastMessage;
+        long lastSentAt = 0L;
+    }
+
     public PassiveEffectTask(EnchantCore plugin) {
         this.plugin = plugin;
     }
 
-    @Override
-    public void run() {
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            // --- Other passive effects like speed/haste would go here ---
+    /**
+     * Requests an update for the player on the next tick (e.g. after their Overcharge charge changed).
+     */
+    public void markDirty(@NotNull UUID playerUUID) {
+        dirtyPlayers.add(playerUUID);
+    }
 
+    /**
+     * Forces the player's held pickaxe to be re-read on their next update (e.g. after an enchant upgrade).
+     */
+    public void markPickaxeChanged(@NotNull UUID playerUUID) {
+        OverchargeState state = states.get(playerUUID);
+        if (state != null) state.pickaxeStale = true;
+        dirtyPlayers.add(playerUUID);
+    }
 
-            // --- Overcharge Action Bar Logic ---
-            handleOverchargeActionBar(player);
+    /**
+     * Called whenever a player's pickaxe is rebuilt, which happens on every mined block. Only
+     * re-reads the held pickaxe when its Overcharge level differs from the one last read; charge
+     * changes go through {@link #markDirty}.
+     * @param levels The updated pickaxe's enchant levels, keyed by lowercase raw name.
+     */
+    public void pickaxeUpdated(@NotNull UUID playerUUID, @NotNull Map<String, Integer> levels) {
+        OverchargeState state = states.get(playerUUID);
+        if (state != null && !state.pickaxeStale && state.level != levels.getOrDefault("overcharge", 0)) {
+            markPickaxeChanged(playerUUID);
         }
     }
 
-    private void handleOverchargeActionBar(Player player) {
+    @Override
+    public void run() {
         // Essential manager checks
         if (plugin.getPlayerDataManager() == null || plugin.getPickaxeManager() == null || plugin.getEnchantRegistry() == null) {
             return;
         }
 
-        PlayerData playerData = plugin.getPlayerDataManager().getPlayerData(player.getUniqueId());
-        if (playerData == null) {
-            return;
+        int slice = tick % SPREAD_TICKS;
+        if (slice == 0) {
+            startCycle();
         }
+        tick++;
+
+        long now = System.currentTimeMillis();
+
+        // --- Scheduled slice ---
+        int size = cycle.size();
+        int from = (int) ((long) size * slice / SPREAD_TICKS);
+        int to = (int) ((long) size * (slice + 1) / SPREAD_TICKS);
+        for (int i = from; i < to; i++) {
+            Player player = cycle.get(i);
+            if (!player.isOnline()) continue;
+            dirtyPlayers.remove(player.getUniqueId()); // Handled now, no need to repeat below
+            // --- Other passive effects like speed/haste would go here ---
 
-        // *** FIX: Check the item in the player's main hand ***
-        ItemStack itemInHand = player.getInventory().getItemInMainHand();
+            // --- Overcharge Action Bar Logic ---
+            handleOverchargeActionBar(player, now);
+        }
 
-        // Check if the item in hand is a pickaxe with the Overcharge enchant
-        if (!PDCUtil.isEnchantCorePickaxe(itemInHand)) {
-            return; // Exit if not holding an EnchantCore pickaxe
+        // --- Dirty players (changed since their last slice) ---
+        if (!dirtyPlayers.isEmpty()) {
+            Iterator<UUID> iterator = dirtyPlayers.iterator();
+            while (iterator.hasNext()) {
+                UUID uuid = iterator.next();
+                iterator.remove();
+                Player player = Bukkit.getPlayer(uuid);
+                if (player != null) handleOverchargeActionBar(player, now);
+            }
         }
+    }
 
-        int level = plugin.getPickaxeManager().getEnchantLevel(itemInHand, "overcharge");
-        if (level <= 0) {
-            return; // Exit if the pickaxe in hand doesn't have Overcharge
+    /**
+     * Snapshots online players for the next SPREAD_TICKS ticks and drops state for players who left.
+     */
+    private void startCycle() {
+        cycle = new ArrayList<>(Bukkit.getOnlinePlayers());
+        if (states.size() > cycle.size()) {
+            states.keySet().removeIf(uuid -> Bukkit.getPlayer(uuid) == null);
+        }
+    }
+
+    private void handleOverchargeActionBar(Player player, long now) {
+        PlayerData playerData = plugin.getPlayerDataManager().getPlayerData(player.getUniqueId());
+        if (playerData == null) {
+            return;
         }
 
         EnchantmentWrapper ench = plugin.getEnchantRegistry().getEnchant("overcharge");
         if (ench == null || !ench.isEnabled()) {
             return;
         }
+        refreshSettings(ench);
+
+        OverchargeState state = states.computeIfAbsent(player.getUniqueId(), k -> new OverchargeState());
+
+        // Only re-read the held item (ItemMeta clone) when the slot changed, the pickaxe was
+        // updated, or the periodic recheck is due
+        int heldSlot = player.getInventory().getHeldItemSlot();
+        if (state.pickaxeStale || heldSlot != state.heldSlot || now - state.levelCheckedAt >= LEVEL_RECHECK_MILLIS) {
+            ItemStack itemInHand = player.getInventory().getItemInMainHand();
+            state.level = PDCUtil.isEnchantCorePickaxe(itemInHand) ? plugin.getPickaxeManager().getEnchantLevel(itemInHand, "overcharge") : 0;
+            state.heldSlot = heldSlot;
+            state.pickaxeStale = false;
+            state.levelCheckedAt = now;
+        }
+
+        if (state.level <= 0) {
+            state.lastMessage = null; // Not holding an Overcharge pickaxe; nothing to show
+            return;
+        }
 
-        ConfigurationSection s = ench.getCustomSettings();
-        int base = s.getInt("BlocksToChargeBase", 500);
-        int decrease = s.getInt("BlocksToChargeDecreasePerLevel", 10);
-        int required = Math.max(1, base - (decrease * (level - 1)));
+        int required = (cachedSettings != null) ? cachedSettings.getBlocksToCharge(state.level) : Math.max(1, 500 - (10 * (state.level - 1)));
         int current = playerData.getOverchargeCharge();
 
+        // Templates are pre-colored at load, so only the dynamic values are concatenated here
         String message;
         long cooldownEnd = playerData.getOverchargeFireCooldownEnd();
 
-        if (System.currentTimeMillis() < cooldownEnd) {
+        if (now < cooldownEnd) {
             // On Cooldown
-            long remainingSeconds = TimeUnit.MILLISECONDS.toSeconds(cooldownEnd - System.currentTimeMillis()) + 1;
-            message = s.getString("ActionBarCooldown", "&cOn Cooldown &7(%time%s)");
-            message = message.replace("%time%", String.valueOf(remainingSeconds));
+            long remainingSeconds = TimeUnit.MILLISECONDS.toSeconds(cooldownEnd - now) + 1;
+            message = ench.getMessageTemplate("ActionBarCooldown", "&cOn Cooldown &7(%time%s)")
+                    .render("time", String.valueOf(remainingSeconds));
         } else if (current >= required) {
             // Ready to fire
-            message = s.getString("ActionBarReady", "&c&lOVERCHARGE READY!");
+            message = ench.getMessageTemplate("ActionBarReady", "&c&lOVERCHARGE READY!").getText();
         } else {
             // Charging
-            message = s.getString("ActionBarCharging", "&eCharge &6[%bar%&6] &7(&e%current%&7/&6%required%&7)");
             double ratio = Math.min(1.0, (double) current / required);
-            int progressChars = (int) (ratio * 10);
-            String bar = "&a" + String.join("", Collections.nCopies(progressChars, "❚")) +
-                    "&7" + String.join("", Collections.nCopies(10 - progressChars, "❚"));
+            int progressChars = (int) (ratio * PROGRESS_BAR_LENGTH);
+            MessageTemplate template = ench.getMessageTemplate("ActionBarCharging", "&eCharge &6[%bar%&6] &7(&e%current%&7/&6%required%&7)");
+            message = template.render("bar", PROGRESS_BARS[progressChars],
+                    "current", String.valueOf(current),
+                    "required", String.valueOf(required));
+        }
 
-            message = message.replace("%bar%", bar)
-                    .replace("%current%", String.valueOf(current))
-                    .replace("%required%", String.valueOf(required));
+        // --- Diffing ---
+        if (message.equals(state.lastMessage) && now - state.lastSentAt < RESEND_INTERVAL_MILLIS) {
+            return;
         }
+        player.spigot().sendMessage(ChatMessageType.ACTION_BAR, new TextComponent(message));
+        state.lastMessage = message;
+        state.lastSentAt = now;
+    }
 
-        player.spigot().sendMessage(ChatMessageType.ACTION_BAR, new TextComponent(ChatUtil.color(message)));
+    private void refreshSettings(EnchantmentWrapper ench) {
+        if (ench == cachedEnchant) return;
+        cachedSettings = ench.getSettings();
+        cachedEnchant = ench;
     }
-}
\ No newline at end of file
+}
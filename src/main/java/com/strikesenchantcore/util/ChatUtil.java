@@ -37,6 +37,18 @@ public class ChatUtil {
         }
     }
 
+    /**
+     * Sends an already color-translated message (e.g. a rendered MessageTemplate) to a CommandSender.
+     * Skips translation so dynamic output doesn't churn the color cache.
+     * @param sender The CommandSender to send the message to.
+     * @param message The pre-colored message string.
+     */
+    public static void sendColoredMessage(CommandSender sender, String message) {
+        if (sender != null && message != null && !message.isEmpty()) {
+            sender.sendMessage(message);
+        }
+    }
+
     /**
      * Removes standard Bukkit/legacy color codes and attempts to remove hex sequences.
      * @param input The string to strip colors from.
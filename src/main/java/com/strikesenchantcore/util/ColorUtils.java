@@ -3,63 +3,97 @@ package com.strikesenchantcore.util;
 import org.bukkit.ChatColor;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
  * Utility class for translating color codes, including legacy (&) and hex (#RRGGBB).
- * Uses corrected regex for hex codes followed by other characters.
+ * Translation is a single regex-free pass, with results kept in a bounded LRU cache.
  * This class does NOT use the Adventure API.
  */
 public class ColorUtils {
 
-    // Corrected Regex: Finds #RRGGBB regardless of following character
-    private static final Pattern HEX_PATTERN = Pattern.compile("#([A-Fa-f0-9]{6})");
+    // Characters accepted after '&' (same set as ChatColor.translateAlternateColorCodes)
+    private static final String LEGACY_CODES = "0123456789AaBbCcDdEeFfKkLlMmNnOoRrXx";
 
-    /**
-     * Translates a hex code like #RRGGBB into the Spigot §x§R§R§G§G§B§B format.
-     * Internal use.
-     * @param hex The hex code string (e.g., "#FF00FF")
-     * @return The Spigot internal format string.
-     */
-    private static String hexToSpigotFormat(String hex) {
-        if (hex == null || !hex.startsWith("#") || hex.length() != 7) return hex;
-        try { Integer.parseInt(hex.substring(1), 16); } catch (NumberFormatException e) { return hex; } // Validate hex
+    // --- Translation Cache ---
+    private static final int CACHE_SIZE = 2048;
+    private static final int MAX_CACHED_LENGTH = 512;
+    private static final LruCache<String, String> TRANSLATION_CACHE = new LruCache<>(CACHE_SIZE);
 
-        char[] chars = hex.substring(1).toCharArray();
-        StringBuilder builder = new StringBuilder(ChatColor.COLOR_CHAR + "x"); // Use '§'
-        for (char c : chars) {
-            builder.append(ChatColor.COLOR_CHAR).append(Character.toLowerCase(c));
-        }
-        return builder.toString();
-    }
+    /** @return Translation cache hits since startup. */
+    public static long getCacheHits() { return TRANSLATION_CACHE.getHits(); }
+
+    /** @return Translation cache misses since startup. */
+    public static long getCacheMisses() { return TRANSLATION_CACHE.getMisses(); }
 
     /**
      * Translates a string containing hex codes (#RRGGBB) and legacy codes (&c,&l,etc.)
      * into a string using Spigot's internal color codes (§c, §l, §x§R§R§G§G§B§B).
      * This is the main method you should call for any text needing color.
+     * Results are cached in a bounded LRU cache since most input is constant config text.
      * @param text The input string with potential color codes like "&cHello #FF00FFWorld".
      * @return The translated string ready for sending via standard Bukkit/Spigot methods.
      */
     public static String translateColors(String text) {
         if (text == null || text.isEmpty()) return text;
+        // Nothing to translate; skip the cache entirely
+        if (text.indexOf('&') < 0 && text.indexOf('#') < 0) return text;
+        // Very long strings are usually one-off dynamic content; don't let them evict templates
+        if (text.length() > MAX_CACHED_LENGTH) return translateColorsUncached(text);
+        return TRANSLATION_CACHE.computeIfAbsent(text, ColorUtils::translateColorsUncached);
+    }
 
-        // First, translate legacy codes (&) to Spigot codes (§)
-        String legacyTranslated = ChatColor.translateAlternateColorCodes('&', text);
+    /**
+     * Single-pass, regex-free translation of legacy (&) and hex (#RRGGBB) codes.
+     * Produces the same output as translateAlternateColorCodes followed by hex replacement.
+     * @param text The input string.
+     * @return The translated string.
+     */
+    public static String translateColorsUncached(String text) {
+        if (text == null || text.isEmpty()) return text;
 
-        // Then, find and replace hex codes (#RRGGBB) using the corrected pattern
-        Matcher matcher = HEX_PATTERN.matcher(legacyTranslated);
-        StringBuffer buffer = new StringBuffer(legacyTranslated.length()); // Use StringBuffer for matcher replacement
+        final int length = text.length();
+        StringBuilder builder = null; // Only allocated once a code is found
+        int copiedUpTo = 0;
 
-        while (matcher.find()) {
-            String hexCode = matcher.group(0); // Includes the '#' e.g., #FF00AA
-            String spigotHex = hexToSpigotFormat(hexCode);
-            matcher.appendReplacement(buffer, Matcher.quoteReplacement(spigotHex)); // Escape replacement string
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '&' && i + 1 < length && LEGACY_CODES.indexOf(text.charAt(i + 1)) >= 0) {
+                if (builder == null) builder = new StringBuilder(length + 16);
+                builder.append(text, copiedUpTo, i)
+                        .append(ChatColor.COLOR_CHAR)
+                        .append(Character.toLowerCase(text.charAt(i + 1)));
+                i++;
+                copiedUpTo = i + 1;
+            } else if (c == '#' && isHexRun(text, i + 1)) {
+                if (builder == null) builder = new StringBuilder(length + 32);
+                builder.append(text, copiedUpTo, i).append(ChatColor.COLOR_CHAR).append('x');
+                for (int j = i + 1; j <= i + 6; j++) {
+                    builder.append(ChatColor.COLOR_CHAR).append(Character.toLowerCase(text.charAt(j)));
+                }
+                i += 6;
+                copiedUpTo = i + 1;
+            }
         }
-        matcher.appendTail(buffer);
 
-        return buffer.toString();
+        if (builder == null) return text;
+        builder.append(text, copiedUpTo, length);
+        return builder.toString();
+    }
+
+    /** Clears the translation cache (e.g. after a config reload). */
+    public static void clearCache() {
+        TRANSLATION_CACHE.clear();
+    }
+
+    private static boolean isHexRun(String text, int start) {
+        if (start + 6 > text.length()) return false;
+        for (int i = start; i < start + 6; i++) {
+            char c = text.charAt(i);
+            boolean hex = (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+            if (!hex) return false;
+        }
+        return true;
     }
 
     /**
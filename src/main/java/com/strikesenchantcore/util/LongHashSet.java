@@ -0,0 +1,81 @@
+package com.strikesenchantcore.util;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing set of primitive longs (linear probing), for deduplicating packed block
+ * coordinates without boxing or Block objects. Long.MIN_VALUE is reserved as the empty marker
+ * and cannot be stored. Not thread-safe.
+ */
+public final class LongHashSet {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] table;
+    private int size = 0;
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        table = new long[capacity];
+        Arrays.fill(table, EMPTY);
+    }
+
+    /**
+     * Adds a value.
+     * @return True if the value was not already present.
+     */
+    public boolean add(long value) {
+        if (value == EMPTY) throw new IllegalArgumentException("Long.MIN_VALUE cannot be stored");
+        if ((size + 1) * 2 > table.length) resize();
+        return insert(table, value);
+    }
+
+    public boolean contains(long value) {
+        int mask = table.length - 1;
+        int i = mix(value) & mask;
+        long current;
+        while ((current = table[i]) != EMPTY) {
+            if (current == value) return true;
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() { return size; }
+
+    private boolean insert(long[] target, long value) {
+        int mask = target.length - 1;
+        int i = mix(value) & mask;
+        long current;
+        while ((current = target[i]) != EMPTY) {
+            if (current == value) return false;
+            i = (i + 1) & mask;
+        }
+        target[i] = value;
+        size++;
+        return true;
+    }
+
+    private void resize() {
+        long[] old = table;
+        table = new long[old.length << 1];
+        Arrays.fill(table, EMPTY);
+        size = 0;
+        for (long value : old) {
+            if (value != EMPTY) insert(table, value);
+        }
+    }
+
+    private static int mix(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Packs block coordinates into one long (26 bits x, 12 bits y, 26 bits z), matching the
+     * layout Minecraft uses for block positions.
+     */
+    public static long packBlock(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (long) (y & 0xFFF);
+    }
+}
@@ -0,0 +1,72 @@
+package com.strikesenchantcore.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Small thread-safe, size-bounded LRU cache.
+ * Used for caching derived strings (translated colors, compiled templates) that are
+ * requested from both the main thread and async threads (e.g. PlaceholderAPI).
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public class LruCache<K, V> {
+
+    private final int maxSize;
+    private final LinkedHashMap<K, V> map;
+    private long hits = 0L;
+    private long misses = 0L;
+
+    public LruCache(int maxSize) {
+        this.maxSize = Math.max(1, maxSize);
+        // accessOrder=true so get() refreshes an entry's position
+        this.map = new LinkedHashMap<K, V>(Math.min(this.maxSize, 256), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > LruCache.this.maxSize;
+            }
+        };
+    }
+
+    @Nullable
+    public synchronized V get(@NotNull K key) {
+        V value = map.get(key);
+        if (value != null) hits++;
+        else misses++;
+        return value;
+    }
+
+    public synchronized void put(@NotNull K key, @NotNull V value) {
+        map.put(key, value);
+    }
+
+    /**
+     * Returns the cached value, computing and storing it on a miss.
+     * The mapping function runs outside the lock so slow computations don't block other threads.
+     * @throws NullPointerException If the mapping function returns null; this cache holds no null values.
+     */
+    @NotNull
+    public V computeIfAbsent(@NotNull K key, @NotNull Function<K, V> mappingFunction) {
+        V value = get(key);
+        if (value != null) return value;
+        value = Objects.requireNonNull(mappingFunction.apply(key), "LruCache mapping function returned null");
+        put(key, value);
+        return value;
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    public synchronized long getHits() { return hits; }
+    public synchronized long getMisses() { return misses; }
+
+    public synchronized void clear() {
+        map.clear();
+    }
+}
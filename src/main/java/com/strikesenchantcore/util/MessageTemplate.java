@@ -0,0 +1,185 @@
+package com.strikesenchantcore.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable, pre-colored message with the offsets of its %placeholder% slots.
+ * Colors are translated once at compile time; rendering is a single StringBuilder pass over
+ * the literal runs and supplied values, so it never re-runs color translation or String.replace.
+ * Placeholder values are inserted as-is (they are NOT color-translated).
+ */
+public final class MessageTemplate {
+
+    private static final int CACHE_SIZE = 512;
+    private static final LruCache<String, MessageTemplate> TEMPLATE_CACHE = new LruCache<>(CACHE_SIZE);
+    private static final MessageTemplate EMPTY = new MessageTemplate("", new int[0], new int[0], new String[0], Collections.emptyList());
+
+    private final String text; // Fully colored text with placeholders intact
+    // Slot offsets into 'text': slot i covers [slotStarts[i], slotEnds[i]) including both '%' characters
+    private final int[] slotStarts;
+    private final int[] slotEnds;
+    private final String[] placeholders; // Placeholder names without the surrounding '%'
+    private final List<String> problems; // Malformed placeholder tokens found while compiling
+
+    private MessageTemplate(String text, int[] slotStarts, int[] slotEnds, String[] placeholders, List<String> problems) {
+        this.text = text;
+        this.slotStarts = slotStarts;
+        this.slotEnds = slotEnds;
+        this.placeholders = placeholders;
+        this.problems = problems;
+    }
+
+    /**
+     * Translates colors in the raw string and records the offsets of its %placeholder% slots.
+     * Tokens that start like a placeholder and reach a closing '%' without whitespace but contain
+     * characters a name can't (e.g. "%amount.x%") are recorded as problems so callers can report
+     * them once at load time. A '%' not followed by that shape is kept as a literal without warning.
+     * @param raw The raw config string (may contain & / # color codes and %placeholders%).
+     * @return The compiled template.
+     */
+    @NotNull
+    public static MessageTemplate compile(@Nullable String raw) {
+        if (raw == null || raw.isEmpty()) return EMPTY;
+        String colored = ColorUtils.translateColorsUncached(raw);
+
+        List<Integer> starts = new ArrayList<>();
+        List<Integer> ends = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<String> problems = null;
+
+        int i = 0;
+        final int length = colored.length();
+        while (i < length) {
+            if (colored.charAt(i) != '%') {
+                i++;
+                continue;
+            }
+            int nameEnd = i + 1;
+            while (nameEnd < length && isNameChar(colored.charAt(nameEnd))) nameEnd++;
+
+            if (nameEnd > i + 1 && nameEnd < length && colored.charAt(nameEnd) == '%') {
+                starts.add(i);
+                ends.add(nameEnd + 1);
+                names.add(colored.substring(i + 1, nameEnd));
+                i = nameEnd + 1;
+            } else {
+                // Only "%name<junk>%" reads as a broken placeholder; "50% off" or "%bonus" are literal text
+                int close = (nameEnd > i + 1) ? findTokenEnd(colored, nameEnd) : -1;
+                if (close >= 0) {
+                    if (problems == null) problems = new ArrayList<>();
+                    problems.add("malformed placeholder '" + colored.substring(i, close + 1) + "'");
+                }
+                i++; // Literal '%'
+            }
+        }
+
+        int[] slotStarts = new int[starts.size()];
+        int[] slotEnds = new int[ends.size()];
+        for (int j = 0; j < slotStarts.length; j++) {
+            slotStarts[j] = starts.get(j);
+            slotEnds[j] = ends.get(j);
+        }
+        return new MessageTemplate(colored, slotStarts, slotEnds, names.toArray(new String[0]),
+                problems == null ? Collections.emptyList() : Collections.unmodifiableList(problems));
+    }
+
+    /**
+     * Returns a compiled template for the raw string, reusing a cached one when available.
+     * Use this for strings that are only known at runtime; config text should be compiled at load.
+     */
+    @NotNull
+    public static MessageTemplate of(@Nullable String raw) {
+        if (raw == null || raw.isEmpty()) return EMPTY;
+        return TEMPLATE_CACHE.computeIfAbsent(raw, MessageTemplate::compile);
+    }
+
+    /** Clears the shared template cache (e.g. after a config reload). */
+    public static void clearCache() {
+        TEMPLATE_CACHE.clear();
+    }
+
+    /** @return The colored text with placeholders left untouched. */
+    @NotNull
+    public String getText() { return text; }
+
+    public boolean hasPlaceholders() { return placeholders.length > 0; }
+
+    /** @return The placeholder names (without '%') in order of appearance. */
+    @NotNull
+    public List<String> getPlaceholders() { return Collections.unmodifiableList(Arrays.asList(placeholders)); }
+
+    /** @return Descriptions of malformed placeholder tokens, empty if the template is valid. */
+    @NotNull
+    public List<String> getProblems() { return problems; }
+
+    public boolean isEmpty() { return text.isEmpty(); }
+
+    /**
+     * Renders the template with name/value pairs, e.g. {@code render("time", "5", "player", name)}.
+     * Names are given without '%'. Placeholders without a value are left as "%name%".
+     */
+    @NotNull
+    public String render(@NotNull String... namesAndValues) {
+        if (placeholders.length == 0) return text;
+        StringBuilder sb = new StringBuilder(text.length() + 16);
+        int copied = 0;
+        for (int i = 0; i < placeholders.length; i++) {
+            String value = lookup(namesAndValues, placeholders[i]);
+            if (value == null) continue; // Leave the token in place; it is copied with the next literal run
+            sb.append(text, copied, slotStarts[i]).append(value);
+            copied = slotEnds[i];
+        }
+        return sb.append(text, copied, text.length()).toString();
+    }
+
+    /**
+     * Renders the template using a map of placeholder name (without '%') to value.
+     */
+    @NotNull
+    public String render(@NotNull Map<String, String> values) {
+        if (placeholders.length == 0) return text;
+        StringBuilder sb = new StringBuilder(text.length() + 16);
+        int copied = 0;
+        for (int i = 0; i < placeholders.length; i++) {
+            String value = values.get(placeholders[i]);
+            if (value == null) continue;
+            sb.append(text, copied, slotStarts[i]).append(value);
+            copied = slotEnds[i];
+        }
+        return sb.append(text, copied, text.length()).toString();
+    }
+
+    // --- Internal Helpers ---
+
+    @Nullable
+    private static String lookup(String[] namesAndValues, String name) {
+        for (int i = 0; i + 1 < namesAndValues.length; i += 2) {
+            if (name.equals(namesAndValues[i])) return namesAndValues[i + 1];
+        }
+        return null;
+    }
+
+    /**
+     * Finds the '%' that closes a token whose name stopped at {@code from}.
+     * @return Its index, or -1 if whitespace or the end of the text comes first.
+     */
+    private static int findTokenEnd(@NotNull String text, int from) {
+        for (int j = from; j < text.length(); j++) {
+            char c = text.charAt(j);
+            if (c == '%') return j;
+            if (Character.isWhitespace(c)) return -1;
+        }
+        return -1;
+    }
+
+    private static boolean isNameChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+}
@@ -0,0 +1,224 @@
+package com.strikesenchantcore.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Thread-safe, allocation-light number formatting.
+ * Replaces shared DecimalFormat/NumberFormat instances (which are not thread-safe) and
+ * String.format calls in hot paths. All output uses US conventions: ',' grouping and '.' decimals.
+ * The append* methods write into a caller-supplied StringBuilder; the format* methods reuse a
+ * per-thread builder so only the resulting String is allocated.
+ */
+public final class NumberFormatUtil {
+
+    private static final long K = 1_000L;
+    private static final long M = 1_000_000L;
+    private static final long B = 1_000_000_000L;
+    private static final long T = 1_000_000_000_000L;
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L
+    };
+    private static final int MAX_FRACTION_DIGITS = POWERS_OF_TEN.length - 1;
+    // Above this, value * 10^decimals no longer fits a long exactly; fall back to BigDecimal
+    private static final double FAST_PATH_LIMIT = 9.0E15;
+    // Products this close to x.5 may be ties that rounding error moved; those take the slow path
+    private static final int TIE_TOLERANCE_ULPS = 8;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(32));
+
+    private NumberFormatUtil() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    // --- String Convenience Methods ---
+
+    /** @return The value with comma grouping, e.g. "1,234,567". */
+    @NotNull
+    public static String formatGrouped(long value) {
+        StringBuilder sb = buffer();
+        appendGrouped(sb, value);
+        return sb.toString();
+    }
+
+    /** @return The value rounded to exactly {@code decimals} places without grouping, e.g. "1234.5". */
+    @NotNull
+    public static String formatFixed(double value, int decimals) {
+        StringBuilder sb = buffer();
+        appendDecimal(sb, value, decimals, decimals, false);
+        return sb.toString();
+    }
+
+    /** @return The value rounded to exactly {@code decimals} places with grouping, e.g. "1,234.50". */
+    @NotNull
+    public static String formatGroupedFixed(double value, int decimals) {
+        StringBuilder sb = buffer();
+        appendDecimal(sb, value, decimals, decimals, true);
+        return sb.toString();
+    }
+
+    /**
+     * @return The value with between {@code minDecimals} and {@code maxDecimals} fraction digits
+     *         (trailing zeros trimmed down to the minimum), optionally grouped.
+     */
+    @NotNull
+    public static String formatDecimal(double value, int minDecimals, int maxDecimals, boolean grouping) {
+        StringBuilder sb = buffer();
+        appendDecimal(sb, value, minDecimals, maxDecimals, grouping);
+        return sb.toString();
+    }
+
+    /** @return The value with a K/M/B/T suffix and at most one decimal, e.g. "1.5M" or "2K". */
+    @NotNull
+    public static String formatCompact(long value) {
+        StringBuilder sb = buffer();
+        appendCompact(sb, value);
+        return sb.toString();
+    }
+
+    // --- Append Methods ---
+
+    /**
+     * Appends the value with comma grouping.
+     */
+    @NotNull
+    public static StringBuilder appendGrouped(@NotNull StringBuilder sb, long value) {
+        if (value == Long.MIN_VALUE) {
+            // Cannot be negated; rare enough to take the slow path
+            return sb.append(new BigDecimal(value).toPlainString().replaceAll("(\\d)(?=(\\d{3})+$)", "$1,"));
+        }
+        if (value < 0) {
+            sb.append('-');
+            value = -value;
+        }
+        if (value < 1000) {
+            return sb.append(value);
+        }
+        char[] digits = new char[26]; // 19 digits + 6 separators
+        int pos = digits.length;
+        int count = 0;
+        while (value > 0) {
+            if (count > 0 && count % 3 == 0) digits[--pos] = ',';
+            digits[--pos] = (char) ('0' + (value % 10));
+            value /= 10;
+            count++;
+        }
+        return sb.append(digits, pos, digits.length - pos);
+    }
+
+    /**
+     * Appends a decimal value rounded half-even to {@code maxDecimals} places, trimming trailing
+     * zeros down to {@code minDecimals}. Ties are judged on the value's shortest decimal form (as
+     * {@link Double#toString} prints it), so 0.125 gives "0.12" and 2.675 gives "2.68".
+     * NaN and infinities are appended as-is.
+     */
+    @NotNull
+    public static StringBuilder appendDecimal(@NotNull StringBuilder sb, double value, int minDecimals, int maxDecimals, boolean grouping) {
+        maxDecimals = Math.max(0, Math.min(MAX_FRACTION_DIGITS, maxDecimals));
+        minDecimals = Math.max(0, Math.min(maxDecimals, minDecimals));
+
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return sb.append(value);
+        }
+
+        boolean negative = value < 0;
+        double abs = Math.abs(value);
+        long scale = POWERS_OF_TEN[maxDecimals];
+
+        if (abs * scale >= FAST_PATH_LIMIT) {
+            return appendDecimalSlow(sb, value, minDecimals, maxDecimals, grouping);
+        }
+
+        double scaledValue = abs * scale;
+        double floor = Math.floor(scaledValue);
+        double remainder = scaledValue - floor;
+        if (Math.abs(remainder - 0.5) <= TIE_TOLERANCE_ULPS * Math.ulp(scaledValue)) {
+            // At or next to a tie the double product cannot tell which way to go (2.675 * 100 is
+            // 267.49999999999997); the slow path rounds the decimal value itself
+            return appendDecimalSlow(sb, value, minDecimals, maxDecimals, grouping);
+        }
+        long scaled = (long) floor + ((remainder > 0.5) ? 1 : 0);
+        long integerPart = scaled / scale;
+        long fractionPart = scaled % scale;
+
+        if (negative && scaled != 0) sb.append('-');
+        if (grouping) appendGrouped(sb, integerPart);
+        else sb.append(integerPart);
+
+        // Trim trailing zeros down to the minimum number of fraction digits
+        int digits = maxDecimals;
+        while (digits > minDecimals && fractionPart % 10 == 0) {
+            fractionPart /= 10;
+            digits--;
+        }
+        if (digits > 0) {
+            sb.append('.');
+            for (int i = digits - 1; i > 0 && fractionPart < POWERS_OF_TEN[i]; i--) {
+                sb.append('0'); // Leading zeros in the fraction
+            }
+            sb.append(fractionPart);
+        }
+        return sb;
+    }
+
+    /**
+     * Appends the value with a K/M/B/T suffix. Exact multiples are shown without a decimal ("2K"),
+     * otherwise one decimal is shown ("2.5K"). Values below 1,000 are appended unchanged.
+     */
+    @NotNull
+    public static StringBuilder appendCompact(@NotNull StringBuilder sb, long value) {
+        if (value < 0) {
+            if (value == Long.MIN_VALUE) return sb.append(value);
+            sb.append('-');
+            value = -value;
+        }
+        if (value < K) return sb.append(value);
+        if (value < M) return appendWithSuffix(sb, value, K, 'K');
+        if (value < B) return appendWithSuffix(sb, value, M, 'M');
+        if (value < T) return appendWithSuffix(sb, value, B, 'B');
+        return appendWithSuffix(sb, value, T, 'T');
+    }
+
+    // --- Internal Helpers ---
+
+    private static StringBuilder appendWithSuffix(StringBuilder sb, long value, long divisor, char suffix) {
+        if (value % divisor == 0) {
+            return sb.append(value / divisor).append(suffix);
+        }
+        return appendDecimal(sb, (double) value / divisor, 1, 1, false).append(suffix);
+    }
+
+    private static StringBuilder appendDecimalSlow(StringBuilder sb, double value, int minDecimals, int maxDecimals, boolean grouping) {
+        BigDecimal rounded = BigDecimal.valueOf(value).setScale(maxDecimals, RoundingMode.HALF_EVEN);
+        String plain = rounded.abs().toPlainString();
+        int dot = plain.indexOf('.');
+        String integerDigits = (dot < 0) ? plain : plain.substring(0, dot);
+        String fractionDigits = (dot < 0) ? "" : plain.substring(dot + 1);
+
+        if (rounded.signum() < 0) sb.append('-');
+        if (grouping) {
+            int firstGroup = integerDigits.length() % 3;
+            if (firstGroup == 0) firstGroup = 3;
+            sb.append(integerDigits, 0, firstGroup);
+            for (int i = firstGroup; i < integerDigits.length(); i += 3) {
+                sb.append(',').append(integerDigits, i, i + 3);
+            }
+        } else {
+            sb.append(integerDigits);
+        }
+
+        int end = fractionDigits.length();
+        while (end > minDecimals && fractionDigits.charAt(end - 1) == '0') end--;
+        if (end > 0) sb.append('.').append(fractionDigits, 0, end);
+        return sb;
+    }
+
+    private static StringBuilder buffer() {
+        StringBuilder sb = BUFFER.get();
+        sb.setLength(0);
+        return sb;
+    }
+}
@@ -2,8 +2,8 @@ package com.strikesenchantcore.util;
 
 import com.strikesenchantcore.EnchantCore;
 import com.strikesenchantcore.config.PickaxeConfig; // Import PickaxeConfig
-import com.strikesenchantcore.enchants.EnchantmentWrapper;
-import com.strikesenchantcore.enchants.EnchantRegistry; // Import EnchantRegistry
+import com.strikesenchantcore.pickaxe.LegacyPickaxeLayout;
+import com.strikesenchantcore.pickaxe.PickaxeRecord;
 import org.bukkit.Material; // Import Material
 import org.bukkit.NamespacedKey;
 import org.bukkit.inventory.ItemStack;
@@ -13,6 +13,11 @@ import org.bukkit.persistence.PersistentDataType;
 import org.jetbrains.annotations.NotNull; // Import NotNull
 import org.jetbrains.annotations.Nullable; // Import Nullable
 
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID; // Keep UUID import if needed for other keys potentially
 import java.util.logging.Logger; // Import Logger
 
@@ -41,20 +46,48 @@ public class PDCUtil {
 
 
     // --- Key Definitions ---
-    // It's generally safe to create these keys on demand using methods.
+    // Created once on first use (the plugin instance must exist by then) and shared afterwards.
+    private static final class Keys {
+        private static final NamespacedKey PICKAXE_DATA = new NamespacedKey(getPlugin(), "pickaxe_data");
+        // Legacy layout (one key per value); read as a fallback and removed when a pickaxe is next written
+        private static final NamespacedKey PICKAXE_TAG = new NamespacedKey(getPlugin(), LegacyPickaxeLayout.TAG_KEY);
+        private static final NamespacedKey PICKAXE_LEVEL = new NamespacedKey(getPlugin(), LegacyPickaxeLayout.LEVEL_KEY);
+        private static final NamespacedKey PICKAXE_BLOCKS_MINED = new NamespacedKey(getPlugin(), LegacyPickaxeLayout.BLOCKS_MINED_KEY);
+        private static final NamespacedKey PICKAXE_SKIN = new NamespacedKey(getPlugin(), LegacyPickaxeLayout.SKIN_KEY);
+    }
+
+    // Unreadable records already warned about, keyed by their bytes (the same item gives the same bytes)
+    private static final int MAX_WARNED_RECORDS = 256;
+    private static final Set<ByteBuffer> warnedRecords = Collections.newSetFromMap(Collections.synchronizedMap(
+            new LinkedHashMap<ByteBuffer, Boolean>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Boolean> eldest) {
+                    return size() > MAX_WARNED_RECORDS;
+                }
+            }));
+
+    /** Key of the packed {@link PickaxeRecord}. */
+    @NotNull
+    public static NamespacedKey getPickaxeDataKey() {
+        return Keys.PICKAXE_DATA;
+    }
     @NotNull
     public static NamespacedKey getPickaxeTagKey() {
-        return new NamespacedKey(getPlugin(), "enchantcore_pickaxe");
+        return Keys.PICKAXE_TAG;
     }
     @NotNull
     public static NamespacedKey getPickaxeLevelKey() {
-        return new NamespacedKey(getPlugin(), "pickaxe_level");
+        return Keys.PICKAXE_LEVEL;
     }
     @NotNull
     public static NamespacedKey getPickaxeBlocksMinedKey() {
-        return new NamespacedKey(getPlugin(), "pickaxe_blocks_mined");
+        return Keys.PICKAXE_BLOCKS_MINED;
+    }
+    @NotNull
+    public static NamespacedKey getPickaxeSkinKey() {
+        return Keys.PICKAXE_SKIN;
     }
-    // Note: Enchantment-specific keys are generated via EnchantmentWrapper.getPdcLevelKey()
+    // Note: Legacy enchant level keys are "enchant_<rawName>" (see LegacyPickaxeLayout and EnchantmentWrapper.getPdcLevelKey())
 
     // --- Generic PDC Accessor Methods ---
 
@@ -130,20 +163,104 @@ public class PDCUtil {
     // --- Specific EnchantCore Pickaxe Methods ---
 
     /**
-     * Checks if an ItemStack is a valid EnchantCore pickaxe by checking for its specific tag.
+     * Checks if an ItemStack is a valid EnchantCore pickaxe: it has a pickaxe record, or the legacy tag.
      * @param item The ItemStack to check (can be null).
      * @return True if it's a valid EnchantCore pickaxe, false otherwise.
      */
     public static boolean isEnchantCorePickaxe(@Nullable ItemStack item) {
-        // Check tag key exists and its value is 1 (byte)
-        return hasKey(item, getPickaxeTagKey(), PersistentDataType.BYTE) &&
-                getByte(item, getPickaxeTagKey(), (byte) 0) == (byte) 1;
+        if (item == null || item.getType() == Material.AIR) return false;
+        ItemMeta meta = item.getItemMeta();
+        return meta != null && isEnchantCorePickaxe(meta.getPersistentDataContainer());
+    }
+
+    private static boolean isEnchantCorePickaxe(@NotNull PersistentDataContainer pdc) {
+        return pdc.has(Keys.PICKAXE_DATA, PersistentDataType.BYTE_ARRAY)
+                || pdc.getOrDefault(Keys.PICKAXE_TAG, PersistentDataType.BYTE, (byte) 0) == (byte) 1;
+    }
+
+    /**
+     * Reads all pickaxe state in one go.
+     * Pickaxes still in the legacy layout are read from their old keys (the record is marked
+     * {@link PickaxeRecord#isLegacy()}) and converted the next time they are written.
+     * @param item The ItemStack (can be null).
+     * @return The pickaxe's record, or null if the item isn't an EnchantCore pickaxe.
+     */
+    @Nullable
+    public static PickaxeRecord readPickaxe(@Nullable ItemStack item) {
+        if (item == null || item.getType() == Material.AIR) return null;
+        return readPickaxe(item.getItemMeta());
+    }
+
+    /**
+     * Same as {@link #readPickaxe(ItemStack)} for a meta that is being edited.
+     */
+    @Nullable
+    public static PickaxeRecord readPickaxe(@Nullable ItemMeta meta) {
+        if (meta == null) return null;
+        PersistentDataContainer pdc = meta.getPersistentDataContainer();
+
+        byte[] data = pdc.get(Keys.PICKAXE_DATA, PersistentDataType.BYTE_ARRAY);
+        if (data != null) {
+            try {
+                return PickaxeRecord.decode(data);
+            } catch (IllegalArgumentException e) {
+                // Pickaxes are read on every block break; warn once per damaged record, not per read
+                if (warnedRecords.add(ByteBuffer.wrap(data))) {
+                    getLogger().warning("Unreadable pickaxe data (" + e.getMessage() + "); falling back to legacy keys."
+                            + " Further reads of this pickaxe fall back silently.");
+                }
+            }
+        }
+        if (pdc.getOrDefault(Keys.PICKAXE_TAG, PersistentDataType.BYTE, (byte) 0) != (byte) 1) {
+            return (data != null) ? newRecord() : null; // A damaged record still marks a pickaxe
+        }
+        return readLegacy(pdc);
+    }
+
+    /** Reads the legacy one-key-per-value layout, including levels of enchants that are no longer registered. */
+    @NotNull
+    private static PickaxeRecord readLegacy(@NotNull PersistentDataContainer pdc) {
+        return LegacyPickaxeLayout.read(pdc, Keys.PICKAXE_DATA.getNamespace(), newRecord());
+    }
+
+    /** A record with the first-join defaults from pickaxe.yml. */
+    @NotNull
+    private static PickaxeRecord newRecord() {
+        PickaxeConfig pConfig = getPlugin().getPickaxeConfig();
+        return (pConfig != null)
+                ? new PickaxeRecord(pConfig.getFirstJoinLevel(), pConfig.getFirstJoinBlocksMined())
+                : new PickaxeRecord(1, 0L); // Fallback default if config fails
+    }
+
+    /**
+     * Stores a record on a meta that is being edited (the caller applies the meta).
+     * A legacy record's old keys are removed, completing its migration.
+     */
+    public static void writePickaxe(@NotNull ItemMeta meta, @NotNull PickaxeRecord record) {
+        PersistentDataContainer pdc = meta.getPersistentDataContainer();
+        pdc.set(Keys.PICKAXE_DATA, PersistentDataType.BYTE_ARRAY, record.encode());
+        if (record.isLegacy()) {
+            removeLegacyKeys(pdc);
+            record.setLegacy(false);
+        }
+    }
+
+    /**
+     * Stores a record on an item.
+     * @return True if setting the meta succeeded.
+     */
+    public static boolean writePickaxe(@Nullable ItemStack item, @NotNull PickaxeRecord record) {
+        if (item == null || item.getType() == Material.AIR) return false;
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) return false;
+        writePickaxe(meta, record);
+        return item.setItemMeta(meta);
     }
 
     /**
      * Tags an ItemStack as an EnchantCore pickaxe.
-     * Also initializes level and blocks mined PDC values if they don't exist,
-     * using defaults from PickaxeConfig to ensure essential data is present.
+     * A new pickaxe gets a record with the first join level and blocks mined from PickaxeConfig;
+     * an existing one keeps its values (a legacy pickaxe is converted).
      * @param item The ItemStack to tag (modified directly).
      * @return True if tagging (and setting meta) was successful, false otherwise.
      */
@@ -152,93 +269,85 @@ public class PDCUtil {
         ItemMeta meta = item.getItemMeta();
         if (meta == null) return false;
 
-        PersistentDataContainer pdc = meta.getPersistentDataContainer();
-        PickaxeConfig pConfig = getPlugin().getPickaxeConfig(); // Get config for defaults
-        if (pConfig == null) {
+        if (getPlugin().getPickaxeConfig() == null) {
             getLogger().severe("Cannot tag pickaxe: PickaxeConfig is null!");
             return false; // Cannot proceed without defaults
         }
 
-        // Set the main tag
-        pdc.set(getPickaxeTagKey(), PersistentDataType.BYTE, (byte) 1);
-
-        // Initialize level and blocks mined IF THEY DON'T EXIST to prevent data inconsistency.
-        // Uses the defaults defined for the first join pickaxe in pickaxe.yml.
-        if (!pdc.has(getPickaxeLevelKey(), PersistentDataType.INTEGER)) {
-            pdc.set(getPickaxeLevelKey(), PersistentDataType.INTEGER, pConfig.getFirstJoinLevel());
+        PickaxeRecord record = readPickaxe(meta);
+        if (record == null) {
+            record = newRecord();
             if (getPlugin().getConfigManager().isDebugMode()) {
-                getLogger().fine("Initialized pickaxe level PDC for item " + item.getType() + " to default: " + pConfig.getFirstJoinLevel());
+                getLogger().fine("Initialized pickaxe data for item " + item.getType() + " to level " + record.getLevel() + ", " + record.getBlocksMined() + " blocks.");
             }
         }
-        if (!pdc.has(getPickaxeBlocksMinedKey(), PersistentDataType.LONG)) {
-            pdc.set(getPickaxeBlocksMinedKey(), PersistentDataType.LONG, pConfig.getFirstJoinBlocksMined());
-            if (getPlugin().getConfigManager().isDebugMode()) {
-                getLogger().fine("Initialized pickaxe blocks mined PDC for item " + item.getType() + " to default: " + pConfig.getFirstJoinBlocksMined());
-            }
-        }
-
+        writePickaxe(meta, record);
         return item.setItemMeta(meta); // Apply changes
     }
 
     /**
-     * Gets the level stored in the pickaxe's PDC.
+     * Gets the level stored on the pickaxe.
      * Returns the configured default level (from PickaxeConfig's FirstJoinLevel) if the item
-     * isn't a valid pickaxe or the level key is missing.
+     * isn't a valid pickaxe.
      * @param pickaxe The pickaxe ItemStack (can be null).
      * @return The pickaxe level, or the default if unavailable.
      */
     public static int getPickaxeLevel(@Nullable ItemStack pickaxe) {
-        PickaxeConfig pConfig = getPlugin().getPickaxeConfig();
-        int defaultValue = (pConfig != null) ? pConfig.getFirstJoinLevel() : 1; // Fallback default if config fails
-
-        if (!isEnchantCorePickaxe(pickaxe)) { // Includes null/air check via isEnchantCorePickaxe
-            return defaultValue;
-        }
-        // Use the same default value if the key is present but somehow invalid, or just missing
-        return getInt(pickaxe, getPickaxeLevelKey(), defaultValue);
+        PickaxeRecord record = readPickaxe(pickaxe);
+        return (record != null) ? record.getLevel() : newRecord().getLevel();
     }
 
     /**
-     * Sets the level in the pickaxe's PDC. Only applies if it's a valid EC pickaxe.
+     * Sets the level on the pickaxe. Only applies if it's a valid EC pickaxe.
      * @param pickaxe The pickaxe ItemStack (can be null).
-     * @param level The level to set.
+     * @param level The level to set (at least 1).
      */
     public static void setPickaxeLevel(@Nullable ItemStack pickaxe, int level) {
-        if (isEnchantCorePickaxe(pickaxe)) { // Includes null/air check
-            setInt(pickaxe, getPickaxeLevelKey(), Math.max(1, level)); // Ensure level is at least 1
+        PickaxeRecord record = readPickaxe(pickaxe);
+        if (record != null) {
+            record.setLevel(level);
+            writePickaxe(pickaxe, record);
         }
     }
 
     /**
-     * Gets the blocks mined count stored in the pickaxe's PDC.
+     * Gets the blocks mined count stored on the pickaxe.
      * Returns the configured default blocks (from PickaxeConfig's FirstJoinBlocksMined) if the item
-     * isn't a valid pickaxe or the blocks key is missing.
+     * isn't a valid pickaxe.
      * @param pickaxe The pickaxe ItemStack (can be null).
      * @return The blocks mined count, or the default if unavailable.
      */
     public static long getPickaxeBlocksMined(@Nullable ItemStack pickaxe) {
-        PickaxeConfig pConfig = getPlugin().getPickaxeConfig();
-        long defaultValue = (pConfig != null) ? pConfig.getFirstJoinBlocksMined() : 0L; // Fallback default
-
-        if (!isEnchantCorePickaxe(pickaxe)) { // Includes null/air check
-            return defaultValue;
-        }
-        return getLong(pickaxe, getPickaxeBlocksMinedKey(), defaultValue);
+        PickaxeRecord record = readPickaxe(pickaxe);
+        return (record != null) ? record.getBlocksMined() : newRecord().getBlocksMined();
     }
 
     /**
-     * Sets the blocks mined count in the pickaxe's PDC. Only applies if it's a valid EC pickaxe.
+     * Sets the blocks mined count on the pickaxe. Only applies if it's a valid EC pickaxe.
      * @param pickaxe The pickaxe ItemStack (can be null).
-     * @param count The block count to set.
+     * @param count The block count to set (at least 0).
      */
     public static void setPickaxeBlocksMined(@Nullable ItemStack pickaxe, long count) {
-        if (isEnchantCorePickaxe(pickaxe)) { // Includes null/air check
-            setLong(pickaxe, getPickaxeBlocksMinedKey(), Math.max(0L, count)); // Ensure count is non-negative
+        PickaxeRecord record = readPickaxe(pickaxe);
+        if (record != null) {
+            record.setBlocksMined(count);
+            writePickaxe(pickaxe, record);
         }
     }
 
     /**
-     * Removes EnchantCore specific tags (core tag, level, blocks, all enchant levels)
+     * Gets the id of the skin applied to the pickaxe.
+     * @param pickaxe The pickaxe ItemStack (can be null).
+     * @return The skin id, or null if none is applied or the item isn't a valid pickaxe.
+     */
+    @Nullable
+    public static String getPickaxeSkin(@Nullable ItemStack pickaxe) {
+        PickaxeRecord record = readPickaxe(pickaxe);
+        return (record != null) ? record.getSkin() : null;
+    }
+
+    /**
+     * Removes EnchantCore specific tags (pickaxe record and every legacy key)
      * from an ItemMeta's PersistentDataContainer.
      * Useful for display items in GUI to prevent them being treated as real pickaxes by mistake.
      * @param meta The ItemMeta to modify (can be null).
@@ -247,27 +356,13 @@ public class PDCUtil {
         if (meta == null) return;
 
         PersistentDataContainer pdc = meta.getPersistentDataContainer();
+        pdc.remove(Keys.PICKAXE_DATA);
+        removeLegacyKeys(pdc);
+    }
 
-        // Remove core tags
-        pdc.remove(getPickaxeTagKey());
-        pdc.remove(getPickaxeLevelKey());
-        pdc.remove(getPickaxeBlocksMinedKey());
-
-        // Also remove all known enchantment level keys
-        EnchantCore pluginInstance = getPlugin(); // Get instance once
-        EnchantRegistry registry = pluginInstance.getEnchantRegistry(); // Get registry
-        if (registry != null) { // Check if registry is available
-            for (EnchantmentWrapper enchant : registry.getAllEnchants()) {
-                if (enchant != null) {
-                    NamespacedKey key = enchant.getPdcLevelKey();
-                    if (key != null) { // Check if key is valid
-                        pdc.remove(key); // Remove the specific enchant level key
-                    }
-                }
-            }
-        } else {
-            getLogger().warning("Cannot remove enchant level tags in removePickaxeTags: EnchantRegistry is null.");
-        }
+    private static void removeLegacyKeys(@NotNull PersistentDataContainer pdc) {
+        // Matches enchant level keys by pattern, so keys of enchants no longer registered go too
+        LegacyPickaxeLayout.removeKeys(pdc, Keys.PICKAXE_DATA.getNamespace());
     }
 
     /**
@@ -1,24 +1,30 @@
 package com.strikesenchantcore.util;
 
 import com.strikesenchantcore.EnchantCore;
+import com.strikesenchantcore.config.ConfigManager;
 import com.strikesenchantcore.config.PickaxeConfig;
 import com.strikesenchantcore.data.PlayerData;
 import com.strikesenchantcore.data.PlayerDataManager;
+import com.strikesenchantcore.enchants.EnchantSettings;
 import com.strikesenchantcore.enchants.EnchantmentWrapper;
 import com.strikesenchantcore.enchants.EnchantRegistry;
+import com.strikesenchantcore.managers.DegradationController;
 import com.strikesenchantcore.pickaxe.PickaxeManager;
 import me.clip.placeholderapi.PlaceholderAPI;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.text.DecimalFormat;
-import java.text.NumberFormat;
 import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -29,20 +35,29 @@ public class PapiHook extends PlaceholderExpansion {
     private final Logger logger;
     private boolean isHooked = false;
 
-    private static final DecimalFormat PERCENT_FORMAT = new DecimalFormat("#0.0");
-    private static final DecimalFormat BOOSTER_MULTIPLIER_FORMAT = new DecimalFormat("#0.0");
-    private static final NumberFormat COMMA_SEPARATOR_FORMAT = NumberFormat.getNumberInstance(Locale.US);
-
-    private static final long K = 1_000L;
-    private static final long M = 1_000_000L;
-    private static final long B = 1_000_000_000L;
-    private static final long T = 1_000_000_000_000L;
+    // --- Response Caching ---
+    private static final int MAX_LOWER_IDENTIFIERS = 1024;
+    private final PlaceholderCache cache = new PlaceholderCache();
+    private final Map<String, String> lowerIdentifiers = new ConcurrentHashMap<>();
 
     public PapiHook(@NotNull EnchantCore plugin) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
+        reloadCacheSettings();
+    }
+
+    /**
+     * (Re)loads the Placeholders.Cache section from config.yml and clears cached values.
+     */
+    public void reloadCacheSettings() {
+        ConfigManager configManager = plugin.getConfigManager();
+        FileConfiguration config = (configManager != null) ? configManager.getConfig() : null;
+        cache.load(config != null ? config.getConfigurationSection("Placeholders.Cache") : null);
     }
 
+    @NotNull
+    public PlaceholderCache getCache() { return cache; }
+
     public boolean setupPlaceholderAPI() {
         if (Bukkit.getPluginManager().getPlugin("PlaceholderAPI") != null) {
             isHooked = true;
@@ -104,65 +119,74 @@ public class PapiHook extends PlaceholderExpansion {
             return "Error: Managers Null";
         }
 
-        PlayerData playerData = playerDataManager.getPlayerData(player.getUniqueId());
-        if (playerData == null && player.isOnline()) {
-            playerData = playerDataManager.loadPlayerData(player.getUniqueId());
-        }
-
-        String lowerIdentifier = identifier.toLowerCase();
+        String lowerIdentifier = toLowerIdentifier(identifier);
         if (lowerIdentifier.equals("max_pickaxe_level")) {
             int maxLvlConf = pickaxeConfig.getMaxLevel();
             return (maxLvlConf > 0) ? String.valueOf(maxLvlConf) : "Unlimited";
         }
+        if (lowerIdentifier.equals("degradation_level")) { // Server-wide, so not cached per player
+            DegradationController degradation = plugin.getDegradationController();
+            return String.valueOf((degradation != null) ? degradation.getLevel() : 0);
+        }
 
+        UUID uuid = player.getUniqueId();
+        PlayerData playerData = playerDataManager.getPlayerData(uuid);
+        if (playerData == null && player.isOnline()) {
+            playerData = playerDataManager.loadPlayerData(uuid);
+        }
         if (playerData == null) {
             return null;
         }
 
-        ItemStack pickaxe = null;
-        if (player.isOnline() && player.getPlayer() != null) {
-            pickaxe = pickaxeManager.findPickaxe(player.getPlayer());
-        }
+        // --- Cache Lookup ---
+        // Entries are tied to the PlayerData revision (any mutation invalidates them) and the pickaxe
+        // revision; pickaxe-only placeholders ignore the PlayerData revision, which changes every block
+        long revision = isPickaxeOnly(lowerIdentifier) ? PlaceholderCache.ANY_REVISION : playerData.getRevision();
+        long pickaxeRevision = cache.getPickaxeRevision(uuid);
+        String cached = cache.get(uuid, lowerIdentifier, revision);
+        if (cached != null) return cached;
+
+        String result = resolvePlaceholder(player, playerData, identifier, lowerIdentifier, pickaxeManager, pickaxeConfig, enchantRegistry);
+        cache.put(uuid, lowerIdentifier, revision, pickaxeRevision, result);
+        return result;
+    }
+
+    /** @return True for placeholders computed only from the pickaxe snapshot and config. */
+    private static boolean isPickaxeOnly(@NotNull String lowerIdentifier) {
+        return lowerIdentifier.equals("overcharge_required")
+                || lowerIdentifier.equals("pickaxe_enchants_count")
+                || lowerIdentifier.equals("enchant_pinata_health")
+                || lowerIdentifier.startsWith("enchant_level_")
+                || lowerIdentifier.startsWith("enchant_max_level_");
+    }
 
+    @Nullable
+    private String resolvePlaceholder(@NotNull OfflinePlayer player, @NotNull PlayerData playerData,
+                                      @NotNull String identifier, @NotNull String lowerIdentifier,
+                                      @NotNull PickaxeManager pickaxeManager, @NotNull PickaxeConfig pickaxeConfig,
+                                      @NotNull EnchantRegistry enchantRegistry) {
         int currentLvl = playerData.getPickaxeLevel();
         int maxLvl = pickaxeConfig.getMaxLevel();
-
-        long requiredForCurrent = pickaxeManager.getBlocksRequiredForLevel(currentLvl);
-        long requiredForNext = (maxLvl > 0 && currentLvl >= maxLvl) ? Long.MAX_VALUE : pickaxeManager.getBlocksRequiredForLevel(currentLvl + 1);
+        boolean atMaxLevel = maxLvl > 0 && currentLvl >= maxLvl;
 
         switch (lowerIdentifier) {
             // --- Overcharge Placeholders ---
             case "overcharge_charge":
-                return COMMA_SEPARATOR_FORMAT.format(playerData.getOverchargeCharge());
+                return NumberFormatUtil.formatGrouped(playerData.getOverchargeCharge());
             case "overcharge_required": {
-                if (pickaxe == null) return "0";
-                int level = pickaxeManager.getEnchantLevel(pickaxe, "overcharge");
-                if (level <= 0) return "0";
-                EnchantmentWrapper ench = enchantRegistry.getEnchant("overcharge");
-                if (ench == null || !ench.isEnabled() || ench.getCustomSettings() == null) return "0";
-
-                ConfigurationSection s = ench.getCustomSettings();
-                int base = s.getInt("BlocksToChargeBase", 500);
-                int decrease = s.getInt("BlocksToChargeDecreasePerLevel", 10);
-                int required = Math.max(1, base - (decrease * (level - 1)));
-                return COMMA_SEPARATOR_FORMAT.format(required);
+                int required = getOverchargeRequired(getPickaxeSnapshot(player, pickaxeManager), enchantRegistry);
+                return required > 0 ? NumberFormatUtil.formatGrouped(required) : "0";
             }
             case "overcharge_status": {
-                if (pickaxe == null) return "N/A";
-                int level = pickaxeManager.getEnchantLevel(pickaxe, "overcharge");
-                if (level <= 0) return "N/A";
+                PlaceholderCache.PickaxeSnapshot snapshot = getPickaxeSnapshot(player, pickaxeManager);
+                if (!snapshot.isPresent() || snapshot.getEnchantLevel("overcharge") <= 0) return "N/A";
 
                 if (System.currentTimeMillis() < playerData.getOverchargeFireCooldownEnd()) {
                     return "Cooldown";
                 }
 
-                EnchantmentWrapper ench = enchantRegistry.getEnchant("overcharge");
-                if (ench == null || !ench.isEnabled() || ench.getCustomSettings() == null) return "N/A";
-
-                ConfigurationSection s = ench.getCustomSettings();
-                int base = s.getInt("BlocksToChargeBase", 500);
-                int decrease = s.getInt("BlocksToChargeDecreasePerLevel", 10);
-                int required = Math.max(1, base - (decrease * (level - 1)));
+                int required = getOverchargeRequired(snapshot, enchantRegistry);
+                if (required <= 0) return "N/A";
 
                 if (playerData.getOverchargeCharge() >= required) {
                     return "Ready";
@@ -181,44 +205,51 @@ public class PapiHook extends PlaceholderExpansion {
 
             // --- Block Progress Placeholders ---
             case "progress": {
-                if (maxLvl > 0 && currentLvl >= maxLvl) return "Max";
+                if (atMaxLevel) return "Max";
+                long requiredForCurrent = pickaxeManager.getBlocksRequiredForLevel(currentLvl);
                 if (requiredForCurrent < 0) return "Error";
                 long blocksInLevel = Math.max(0, playerData.getBlocksMined() - requiredForCurrent);
-                return COMMA_SEPARATOR_FORMAT.format(blocksInLevel);
+                return NumberFormatUtil.formatGrouped(blocksInLevel);
             }
             case "needed": {
-                if (maxLvl > 0 && currentLvl >= maxLvl) return "Max";
+                if (atMaxLevel) return "Max";
+                long requiredForCurrent = pickaxeManager.getBlocksRequiredForLevel(currentLvl);
+                long requiredForNext = pickaxeManager.getBlocksRequiredForLevel(currentLvl + 1);
                 if (requiredForNext == Long.MAX_VALUE) return "Max";
                 if (requiredForCurrent < 0 || requiredForNext < 0 || requiredForNext <= requiredForCurrent) return "Error";
                 long totalForLevel = Math.max(1, requiredForNext - requiredForCurrent);
-                return COMMA_SEPARATOR_FORMAT.format(totalForLevel);
+                return NumberFormatUtil.formatGrouped(totalForLevel);
             }
             case "progress_percentage": {
-                if (maxLvl > 0 && currentLvl >= maxLvl) return "100.0";
+                if (atMaxLevel) return "100.0";
+                long requiredForCurrent = pickaxeManager.getBlocksRequiredForLevel(currentLvl);
+                long requiredForNext = pickaxeManager.getBlocksRequiredForLevel(currentLvl + 1);
                 if (requiredForNext == Long.MAX_VALUE) return "100.0";
                 if (requiredForCurrent < 0 || requiredForNext < 0 || requiredForNext <= requiredForCurrent) return "Error";
                 long blocksInLevel = Math.max(0, playerData.getBlocksMined() - requiredForCurrent);
                 long totalForLevel = Math.max(1, requiredForNext - requiredForCurrent);
                 double perc = (totalForLevel == 0) ? 100.0 : ((double) blocksInLevel / totalForLevel) * 100.0;
-                return PERCENT_FORMAT.format(Math.min(100.0, Math.max(0.0, perc)));
+                return NumberFormatUtil.formatFixed(Math.min(100.0, Math.max(0.0, perc)), 1);
             }
             case "blocks_required": {
-                if (maxLvl > 0 && currentLvl >= maxLvl) return "Max";
-                return requiredForNext == Long.MAX_VALUE ? "Max" : COMMA_SEPARATOR_FORMAT.format(requiredForNext);
+                if (atMaxLevel) return "Max";
+                long requiredForNext = pickaxeManager.getBlocksRequiredForLevel(currentLvl + 1);
+                return requiredForNext == Long.MAX_VALUE ? "Max" : NumberFormatUtil.formatGrouped(requiredForNext);
             }
 
             // --- Standard Placeholders ---
             case "level": return String.valueOf(currentLvl);
-            case "blocks_mined": return COMMA_SEPARATOR_FORMAT.format(playerData.getBlocksMined());
+            case "blocks_mined": return NumberFormatUtil.formatGrouped(playerData.getBlocksMined());
             case "tokens_raw": return String.valueOf(playerData.getTokens());
-            case "tokens_formatted": return formatNumberFixed(playerData.getTokens());
-            case "tokens_comma": return COMMA_SEPARATOR_FORMAT.format(playerData.getTokens());
+            case "tokens_formatted": return NumberFormatUtil.formatCompact(playerData.getTokens());
+            case "tokens_comma": return NumberFormatUtil.formatGrouped(playerData.getTokens());
             case "pickaxe_enchants_count": {
-                return (pickaxe != null) ? String.valueOf(pickaxeManager.getAllEnchantLevels(pickaxe).size()) : "0";
+                PlaceholderCache.PickaxeSnapshot snapshot = getPickaxeSnapshot(player, pickaxeManager);
+                return snapshot.isPresent() ? String.valueOf(snapshot.getEnchantCount()) : "0";
             }
             case "gems_raw": return String.valueOf(playerData.getGems());
-            case "gems_formatted": return formatNumberFixed(playerData.getGems());
-            case "gems_comma": return COMMA_SEPARATOR_FORMAT.format(playerData.getGems());
+            case "gems_formatted": return NumberFormatUtil.formatCompact(playerData.getGems());
+            case "gems_comma": return NumberFormatUtil.formatGrouped(playerData.getGems());
             case "messages_enabled_tf": return String.valueOf(playerData.isShowEnchantMessages());
             case "sounds_enabled_tf": return String.valueOf(playerData.isShowEnchantSounds());
             case "messages_enabled_status": return playerData.isShowEnchantMessages() ? "Enabled" : "Disabled";
@@ -227,7 +258,7 @@ public class PapiHook extends PlaceholderExpansion {
             case "blockbooster_active_status": return playerData.isBlockBoosterActive() ? "Active" : "Inactive";
             case "blockbooster_multiplier": {
                 double multi = playerData.getBlockBoosterMultiplier();
-                return "x" + BOOSTER_MULTIPLIER_FORMAT.format(multi);
+                return "x" + NumberFormatUtil.formatFixed(multi, 1);
             }
             case "blockbooster_time_remaining": return String.valueOf(playerData.getBlockBoosterRemainingSeconds());
             case "blockbooster_time_formatted": return formatTime(playerData.getBlockBoosterRemainingSeconds());
@@ -235,7 +266,8 @@ public class PapiHook extends PlaceholderExpansion {
             default:
                 if (lowerIdentifier.startsWith("enchant_level_")) {
                     String key = identifier.substring(14);
-                    return (pickaxe != null) ? String.valueOf(pickaxeManager.getEnchantLevel(pickaxe, key)) : "0";
+                    PlaceholderCache.PickaxeSnapshot snapshot = getPickaxeSnapshot(player, pickaxeManager);
+                    return snapshot.isPresent() ? String.valueOf(snapshot.getEnchantLevel(key)) : "0";
                 }
                 if (lowerIdentifier.startsWith("enchant_max_level_")) {
                     String key = identifier.substring(18);
@@ -244,12 +276,13 @@ public class PapiHook extends PlaceholderExpansion {
                 }
                 // --- Pinata Health Placeholder ---
                 if (lowerIdentifier.equals("enchant_pinata_health")) {
-                    if (pickaxe == null) return "0";
-                    int level = pickaxeManager.getEnchantLevel(pickaxe, "lootpinata");
+                    PlaceholderCache.PickaxeSnapshot snapshot = getPickaxeSnapshot(player, pickaxeManager);
+                    if (!snapshot.isPresent()) return "0";
+                    int level = snapshot.getEnchantLevel("lootpinata");
                     if (level <= 0) return "0";
                     EnchantmentWrapper ench = enchantRegistry.getEnchant("lootpinata");
-                    if (ench == null || !ench.isEnabled() || ench.getCustomSettings() == null) return "0";
-                    ConfigurationSection s = ench.getCustomSettings();
+                    if (ench == null || !ench.isEnabled() || ench.getSettings() == null) return "0";
+                    EnchantSettings s = ench.getSettings();
                     int base = s.getInt("PinataHealthBase", 10);
                     int increase = s.getInt("PinataHealthIncreasePerLevel", 2);
                     return String.valueOf(base + (increase * (level - 1)));
@@ -258,19 +291,46 @@ public class PapiHook extends PlaceholderExpansion {
         }
     }
 
-    private String formatNumberFixed(long value) {
-        if (value < K) return String.valueOf(value);
-        if (value < M) return formatWithSuffix(value, K, "K");
-        if (value < B) return formatWithSuffix(value, M, "M");
-        if (value < T) return formatWithSuffix(value, B, "B");
-        return formatWithSuffix(value, T, "T");
+    /**
+     * Returns the cached pickaxe snapshot for the player, scanning the inventory only when
+     * the snapshot has expired or was invalidated by a pickaxe update.
+     */
+    @NotNull
+    private PlaceholderCache.PickaxeSnapshot getPickaxeSnapshot(@NotNull OfflinePlayer player, @NotNull PickaxeManager pickaxeManager) {
+        Player online = player.getPlayer();
+        if (online == null) return PlaceholderCache.emptySnapshot();
+
+        PlaceholderCache.PickaxeSnapshot snapshot = cache.getPickaxeSnapshot(online.getUniqueId());
+        if (snapshot != null) return snapshot;
+
+        ItemStack pickaxe = pickaxeManager.findPickaxe(online);
+        return cache.storePickaxeSnapshot(online.getUniqueId(), pickaxe != null ? pickaxeManager.getAllEnchantLevels(pickaxe) : null);
+    }
+
+    /**
+     * @return Blocks required for a full Overcharge, or 0 if the pickaxe has no Overcharge.
+     */
+    private int getOverchargeRequired(@NotNull PlaceholderCache.PickaxeSnapshot snapshot, @NotNull EnchantRegistry enchantRegistry) {
+        if (!snapshot.isPresent()) return 0;
+        int level = snapshot.getEnchantLevel("overcharge");
+        if (level <= 0) return 0;
+        EnchantmentWrapper ench = enchantRegistry.getEnchant("overcharge");
+        if (ench == null || !ench.isEnabled() || ench.getSettings() == null) return 0;
+        return ench.getSettings().getBlocksToCharge(level);
     }
 
-    private String formatWithSuffix(long value, long divisor, String suffix) {
-        if (value % divisor == 0) {
-            return (value / divisor) + suffix;
+    /**
+     * Lowercases identifiers through a small lookup so repeated scoreboard requests don't allocate.
+     */
+    @NotNull
+    private String toLowerIdentifier(@NotNull String identifier) {
+        String lower = lowerIdentifiers.get(identifier);
+        if (lower != null) return lower;
+        lower = identifier.toLowerCase(Locale.ROOT);
+        if (lowerIdentifiers.size() < MAX_LOWER_IDENTIFIERS) {
+            lowerIdentifiers.put(identifier, lower);
         }
-        return String.format(Locale.US, "%.1f%s", (double) value / divisor, suffix);
+        return lower;
     }
 
     private String formatTime(int totalSeconds) {
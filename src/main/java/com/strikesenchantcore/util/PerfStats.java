@@ -0,0 +1,214 @@
+package com.strikesenchantcore.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Low-overhead timing of hot-path stages (/enchantcore perf).
+ * Each stage keeps a call count, total and max time and a log-linear histogram of nanosecond
+ * samples (16 sub-buckets per power of two, so percentiles are within ~6%), all in preallocated
+ * arrays: recording a sample doesn't allocate. Stage times are inclusive, so a stage that calls
+ * another (e.g. block break -> enchant handler) also contains the inner stage's time.
+ * Recording is thread-safe (saves run async).
+ */
+public final class PerfStats {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = 64 * SUB_BUCKETS;
+
+    private static final Map<String, Stage> stages = new ConcurrentHashMap<>();
+    private static final Map<String, Stage> enchantStages = new ConcurrentHashMap<>();
+    private static volatile long windowStart = System.nanoTime();
+
+    // --- Instrumented Stages ---
+    public static final Stage BLOCK_BREAK = stage("block_break");
+    public static final Stage SINGLE_BLOCK = stage("single_block");
+    public static final Stage AREA_TASK_TICK = stage("area_task_tick");
+    public static final Stage BREAK_PIPELINE_TICK = stage("break_pipeline_tick");
+    public static final Stage UPDATE_PICKAXE = stage("update_pickaxe");
+    public static final Stage PLAYER_SAVE = stage("player_save");
+
+    private PerfStats() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * One timed stage.
+     */
+    public static final class Stage {
+        private final String name;
+        private final long[] buckets = new long[BUCKETS];
+        private long count = 0L;
+        private long totalNanos = 0L;
+        private long maxNanos = 0L;
+        private long lifetimeCount = 0L; // Not cleared by reset (exported as monotonic counters)
+        private long lifetimeNanos = 0L;
+
+        private Stage(String name) {
+            this.name = name;
+        }
+
+        /** Records one sample. */
+        public synchronized void record(long nanos) {
+            if (nanos < 0) nanos = 0;
+            buckets[bucketIndex(nanos)]++;
+            count++;
+            totalNanos += nanos;
+            if (nanos > maxNanos) maxNanos = nanos;
+            lifetimeCount++;
+            lifetimeNanos += nanos;
+        }
+
+        /** Convenience for {@code long start = System.nanoTime(); ... stage.recordSince(start);}. */
+        public void recordSince(long startNanos) {
+            record(System.nanoTime() - startNanos);
+        }
+
+        private synchronized void reset() {
+            Arrays.fill(buckets, 0L);
+            count = 0L;
+            totalNanos = 0L;
+            maxNanos = 0L;
+        }
+
+        private synchronized Snapshot snapshot(double windowSeconds) {
+            return new Snapshot(name, count, totalNanos, maxNanos,
+                    percentile(0.50), percentile(0.99), windowSeconds > 0 ? count / windowSeconds : 0.0);
+        }
+
+        private long percentile(double p) {
+            if (count == 0) return 0L;
+            long rank = Math.max(1L, (long) Math.ceil(p * count));
+            long seen = 0L;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets[i];
+                if (seen >= rank) return Math.min(bucketMidpoint(i), maxNanos);
+            }
+            return maxNanos;
+        }
+
+        @NotNull public String getName() { return name; }
+        public synchronized long getLifetimeCount() { return lifetimeCount; }
+        public synchronized long getLifetimeNanos() { return lifetimeNanos; }
+    }
+
+    /**
+     * Immutable view of a stage.
+     */
+    public static final class Snapshot {
+        public final String name;
+        public final long count;
+        public final long totalNanos;
+        public final long maxNanos;
+        public final long p50Nanos;
+        public final long p99Nanos;
+        public final double callsPerSecond;
+
+        private Snapshot(String name, long count, long totalNanos, long maxNanos, long p50Nanos, long p99Nanos, double callsPerSecond) {
+            this.name = name;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.p50Nanos = p50Nanos;
+            this.p99Nanos = p99Nanos;
+            this.callsPerSecond = callsPerSecond;
+        }
+    }
+
+    // --- Histogram Buckets ---
+
+    /** Values below 16 get exact buckets; above that, 16 buckets per power of two. */
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (msb - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (msb - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    private static long bucketMidpoint(int index) {
+        if (index < SUB_BUCKETS) return index;
+        int msb = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int sub = index % SUB_BUCKETS;
+        long width = 1L << (msb - SUB_BUCKET_BITS);
+        return ((long) (SUB_BUCKETS + sub) << (msb - SUB_BUCKET_BITS)) + width / 2;
+    }
+
+    // --- Registry ---
+
+    /** Returns the stage with this name, creating it on first use. Keep the result in a field on hot paths. */
+    @NotNull
+    public static Stage stage(@NotNull String name) {
+        return stages.computeIfAbsent(name, Stage::new);
+    }
+
+    /** Returns the stage for an enchant handler ("enchant.&lt;key&gt;"); no allocation once created. */
+    @NotNull
+    public static Stage enchant(@NotNull String enchantKey) {
+        Stage stage = enchantStages.get(enchantKey);
+        if (stage == null) {
+            stage = enchantStages.computeIfAbsent(enchantKey, key -> stage("enchant." + key));
+        }
+        return stage;
+    }
+
+    /** Enchant handler stages by enchant key (live, read-only view). */
+    @NotNull
+    public static Map<String, Stage> getEnchantStages() {
+        return Collections.unmodifiableMap(enchantStages);
+    }
+
+    /** Clears every stage and restarts the calls/sec window (lifetime totals are kept). */
+    public static void reset() {
+        for (Stage stage : stages.values()) stage.reset();
+        windowStart = System.nanoTime();
+    }
+
+    /** Snapshots of every stage that has samples, most total time first. */
+    @NotNull
+    public static List<Snapshot> snapshot() {
+        double windowSeconds = (System.nanoTime() - windowStart) / 1_000_000_000.0;
+        List<Snapshot> result = new ArrayList<>();
+        for (Stage stage : stages.values()) {
+            Snapshot snapshot = stage.snapshot(windowSeconds);
+            if (snapshot.count > 0) result.add(snapshot);
+        }
+        result.sort(Comparator.comparingLong((Snapshot s) -> s.totalNanos).reversed());
+        return result;
+    }
+
+    public static double getWindowSeconds() {
+        return (System.nanoTime() - windowStart) / 1_000_000_000.0;
+    }
+
+    /**
+     * Writes snapshots as CSV (times in microseconds).
+     */
+    public static void writeCsv(@NotNull File file, @NotNull List<Snapshot> snapshots) throws IOException {
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Could not create directory " + parent.getAbsolutePath());
+        }
+        try (PrintWriter out = new PrintWriter(file, StandardCharsets.UTF_8)) {
+            out.println("stage,calls,calls_per_sec,p50_us,p99_us,max_us,total_ms");
+            for (Snapshot s : snapshots) {
+                out.println(s.name + "," + s.count + "," + NumberFormatUtil.formatFixed(s.callsPerSecond, 2) + ","
+                        + NumberFormatUtil.formatFixed(s.p50Nanos / 1000.0, 1) + ","
+                        + NumberFormatUtil.formatFixed(s.p99Nanos / 1000.0, 1) + ","
+                        + NumberFormatUtil.formatFixed(s.maxNanos / 1000.0, 1) + ","
+                        + NumberFormatUtil.formatFixed(s.totalNanos / 1_000_000.0, 2));
+            }
+        }
+    }
+}
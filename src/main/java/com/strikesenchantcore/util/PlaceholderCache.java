@@ -0,0 +1,233 @@
+package com.strikesenchantcore.util;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-player, per-identifier cache for PlaceholderAPI responses.
+ * Entries expire after a configurable TTL and are tagged with two revisions: the PlayerData revision
+ * (counters, bumped on every mined block) and a pickaxe revision kept here, bumped only when the
+ * pickaxe's enchant levels change. Pickaxe-only placeholders are cached against the pickaxe revision
+ * alone, so mining doesn't invalidate them.
+ * Additionally holds a short-lived snapshot of the player's pickaxe so placeholders
+ * don't need to scan the inventory on every request.
+ */
+public class PlaceholderCache {
+
+    // --- Defaults (used when config.yml has no Placeholders.Cache section) ---
+    private static final long DEFAULT_TTL_MILLIS = 1000L;
+    private static final long DEFAULT_SNAPSHOT_TTL_MILLIS = 1000L;
+
+    private volatile boolean enabled = true;
+    private volatile long defaultTtlMillis = DEFAULT_TTL_MILLIS;
+    private volatile long snapshotTtlMillis = DEFAULT_SNAPSHOT_TTL_MILLIS;
+    private volatile Map<String, Long> ttlOverrides = Collections.emptyMap();
+
+    private final Map<UUID, PlayerEntries> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /** Pass as the data revision for values that don't depend on PlayerData counters. */
+    public static final long ANY_REVISION = -1L;
+
+    /**
+     * Cached value for one identifier, tagged with the revisions it was built from.
+     */
+    private static final class CachedValue {
+        final String value;
+        final long revision;         // PlayerData revision, or ANY_REVISION
+        final long pickaxeRevision;
+        final long expiresAt;
+
+        CachedValue(String value, long revision, long pickaxeRevision, long expiresAt) {
+            this.value = value;
+            this.revision = revision;
+            this.pickaxeRevision = pickaxeRevision;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * All cached state for a single player.
+     */
+    private static final class PlayerEntries {
+        final Map<String, CachedValue> values = new ConcurrentHashMap<>();
+        volatile PickaxeSnapshot pickaxeSnapshot;
+        volatile long pickaxeRevision = 0L; // Bumped when the pickaxe's enchant levels change
+    }
+
+    /**
+     * Immutable view of the pickaxe-derived values placeholders need.
+     */
+    public static final class PickaxeSnapshot {
+        private static final PickaxeSnapshot EMPTY = new PickaxeSnapshot(false, Collections.emptyMap(), 0L);
+
+        private final boolean present;
+        private final Map<String, Integer> enchantLevels; // lowercase raw name -> level
+        private final long expiresAt;
+
+        private PickaxeSnapshot(boolean present, Map<String, Integer> enchantLevels, long expiresAt) {
+            this.present = present;
+            this.enchantLevels = enchantLevels;
+            this.expiresAt = expiresAt;
+        }
+
+        public boolean isPresent() { return present; }
+        public int getEnchantLevel(@NotNull String key) { return enchantLevels.getOrDefault(key.toLowerCase(Locale.ROOT), 0); }
+        public int getEnchantCount() { return enchantLevels.size(); }
+    }
+
+    /**
+     * Loads cache settings from the given section (Placeholders.Cache in config.yml).
+     * Clears all cached values so new TTLs apply immediately.
+     * @param section The config section, may be null to use defaults.
+     */
+    public void load(@Nullable ConfigurationSection section) {
+        if (section == null) {
+            enabled = true;
+            defaultTtlMillis = DEFAULT_TTL_MILLIS;
+            snapshotTtlMillis = DEFAULT_SNAPSHOT_TTL_MILLIS;
+            ttlOverrides = Collections.emptyMap();
+        } else {
+            enabled = section.getBoolean("Enabled", true);
+            defaultTtlMillis = Math.max(0L, section.getLong("Default-TTL-Millis", DEFAULT_TTL_MILLIS));
+            snapshotTtlMillis = Math.max(0L, section.getLong("Pickaxe-Snapshot-TTL-Millis", DEFAULT_SNAPSHOT_TTL_MILLIS));
+
+            Map<String, Long> overrides = new HashMap<>();
+            ConfigurationSection ttlSection = section.getConfigurationSection("TTL-Millis");
+            if (ttlSection != null) {
+                for (String key : ttlSection.getKeys(false)) {
+                    overrides.put(key.toLowerCase(Locale.ROOT), Math.max(0L, ttlSection.getLong(key)));
+                }
+            }
+            ttlOverrides = Collections.unmodifiableMap(overrides);
+        }
+        clear();
+    }
+
+    public boolean isEnabled() { return enabled; }
+
+    /** @return The player's current pickaxe revision; read it before computing a value to cache. */
+    public long getPickaxeRevision(@NotNull UUID uuid) {
+        PlayerEntries playerEntries = entries.get(uuid);
+        return (playerEntries != null) ? playerEntries.pickaxeRevision : 0L;
+    }
+
+    /**
+     * Returns the cached value if it is still within its TTL and was built from the current revisions.
+     * @param revision The PlayerData revision, or {@link #ANY_REVISION} for pickaxe-only placeholders.
+     * @return The cached value, or null on a miss.
+     */
+    @Nullable
+    public String get(@NotNull UUID uuid, @NotNull String identifier, long revision) {
+        if (!enabled) return null;
+        PlayerEntries playerEntries = entries.get(uuid);
+        CachedValue cached = (playerEntries != null) ? playerEntries.values.get(identifier) : null;
+        if (cached == null) {
+            misses.increment();
+            return null;
+        }
+        if (cached.revision != revision || cached.pickaxeRevision != playerEntries.pickaxeRevision
+                || System.currentTimeMillis() >= cached.expiresAt) {
+            playerEntries.values.remove(identifier, cached);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return cached.value;
+    }
+
+    public long getHits() { return hits.sum(); }
+    public long getMisses() { return misses.sum(); }
+
+    /**
+     * Stores a computed value. Null values and identifiers with a TTL of 0 are not cached.
+     * @param pickaxeRevision The pickaxe revision read before the value was computed.
+     */
+    public void put(@NotNull UUID uuid, @NotNull String identifier, long revision, long pickaxeRevision, @Nullable String value) {
+        if (!enabled || value == null) return;
+        long ttl = ttlOverrides.getOrDefault(identifier, defaultTtlMillis);
+        if (ttl <= 0) return;
+        entries.computeIfAbsent(uuid, k -> new PlayerEntries())
+                .values.put(identifier, new CachedValue(value, revision, pickaxeRevision, System.currentTimeMillis() + ttl));
+    }
+
+    /**
+     * Returns the cached pickaxe snapshot if still fresh.
+     * @return The snapshot, or null if it must be rebuilt.
+     */
+    @Nullable
+    public PickaxeSnapshot getPickaxeSnapshot(@NotNull UUID uuid) {
+        if (!enabled) return null;
+        PlayerEntries playerEntries = entries.get(uuid);
+        if (playerEntries == null) return null;
+        PickaxeSnapshot snapshot = playerEntries.pickaxeSnapshot;
+        if (snapshot == null || System.currentTimeMillis() >= snapshot.expiresAt) return null;
+        return snapshot;
+    }
+
+    /**
+     * Builds and stores a snapshot from the given enchant levels.
+     * @param enchantLevels Levels keyed by lowercase raw name, or null if the player has no pickaxe.
+     * @return The new snapshot (always non-null).
+     */
+    @NotNull
+    public PickaxeSnapshot storePickaxeSnapshot(@NotNull UUID uuid, @Nullable Map<String, Integer> enchantLevels) {
+        long expiresAt = System.currentTimeMillis() + snapshotTtlMillis;
+        PickaxeSnapshot snapshot = (enchantLevels == null)
+                ? new PickaxeSnapshot(false, Collections.emptyMap(), expiresAt)
+                : new PickaxeSnapshot(true, Collections.unmodifiableMap(new HashMap<>(enchantLevels)), expiresAt);
+        if (enabled && snapshotTtlMillis > 0) {
+            entries.computeIfAbsent(uuid, k -> new PlayerEntries()).pickaxeSnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Called whenever the pickaxe item is rebuilt (which happens on every counted block, for the lore).
+     * Only if the enchant levels differ from the snapshot are the snapshot and pickaxe-derived values
+     * dropped, so mining alone keeps them.
+     * @param enchantLevels The rebuilt pickaxe's registered enchant levels, keyed by lowercase raw name.
+     */
+    public void pickaxeUpdated(@NotNull UUID uuid, @NotNull Map<String, Integer> enchantLevels) {
+        PlayerEntries playerEntries = entries.get(uuid);
+        if (playerEntries == null) return;
+        PickaxeSnapshot snapshot = playerEntries.pickaxeSnapshot;
+        if (snapshot != null && snapshot.present && snapshot.enchantLevels.equals(enchantLevels)) return;
+        invalidatePickaxe(uuid);
+    }
+
+    /**
+     * Drops the pickaxe snapshot and all pickaxe-derived values for a player.
+     */
+    public void invalidatePickaxe(@NotNull UUID uuid) {
+        PlayerEntries playerEntries = entries.get(uuid);
+        if (playerEntries == null) return;
+        playerEntries.pickaxeSnapshot = null;
+        playerEntries.pickaxeRevision++;
+    }
+
+    /**
+     * Drops everything cached for a player (e.g. on quit).
+     */
+    public void invalidate(@NotNull UUID uuid) {
+        entries.remove(uuid);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    /** Empty snapshot used when no player is online. */
+    @NotNull
+    public static PickaxeSnapshot emptySnapshot() { return PickaxeSnapshot.EMPTY; }
+}
@@ -11,6 +11,7 @@ import org.jetbrains.annotations.NotNull; // Import NotNull
 
 import java.text.NumberFormat;
 import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
 import java.util.logging.Logger; // Import Logger
 
@@ -24,6 +25,8 @@ public class VaultHook {
     private final Logger logger; // Cache logger
     private Economy economy = null; // Vault Economy provider instance
     private boolean enabled = false; // Flag indicating successful hook
+    private final LongAdder deposits = new LongAdder();
+    private final LongAdder failedDeposits = new LongAdder();
 
     public VaultHook(@NotNull EnchantCore plugin) {
         this.plugin = plugin;
@@ -158,17 +161,27 @@ public class VaultHook {
         }
         try {
             EconomyResponse response = economy.depositPlayer(player, amount);
-            if (!response.transactionSuccess()) {
+            if (response.transactionSuccess()) {
+                deposits.increment();
+            } else {
+                failedDeposits.increment();
                 // Log Vault's specific error message if deposit failed
                 logger.warning("Vault deposit failed for " + player.getName() + " (Amount: " + amount + "): " + response.errorMessage);
             }
             return response.transactionSuccess();
         } catch (Exception e) {
             logger.log(Level.SEVERE, "Vault Error depositing " + amount + " to player " + player.getName(), e);
+            failedDeposits.increment();
             return false; // Return false on error
         }
     }
 
+    /** @return Successful deposits since startup. */
+    public long getDepositCount() { return deposits.sum(); }
+
+    /** @return Deposits that failed or threw since startup. */
+    public long getFailedDepositCount() { return failedDeposits.sum(); }
+
     /**
      * Formats a currency amount according to Vault's configured economy plugin.
      * Includes fallback formatting.
@@ -0,0 +1,171 @@
+package com.strikesenchantcore.util;
+
+import org.bukkit.block.data.BlockData;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Struct-of-arrays state for blocks flying from their origin into a vortex.
+ * All blocks of one vortex are advanced in a single loop over primitive arrays, so an update
+ * allocates nothing. Easing (smoothstep) and the parabolic arc factor are read from
+ * precomputed lookup tables instead of being recomputed per block.
+ * Not thread-safe; each vortex task owns its own instance.
+ */
+public final class VortexMotion {
+
+    // --- Easing Tables ---
+    private static final int EASING_STEPS = 1024;
+    private static final double[] EASE = new double[EASING_STEPS + 1]; // smoothstep(t)
+    private static final double[] ARC = new double[EASING_STEPS + 1];  // 4 * s * (1 - s), s = smoothstep(t)
+    static {
+        for (int i = 0; i <= EASING_STEPS; i++) {
+            double t = (double) i / EASING_STEPS;
+            double s = t * t * (3 - 2 * t);
+            EASE[i] = s;
+            ARC[i] = 4 * s * (1 - s);
+        }
+    }
+
+    private int size = 0;
+
+    // Per-block state, index i across all arrays describes one block
+    private double[] startX, startY, startZ;
+    private double[] endX, endY, endZ;
+    private double[] arcHeight;
+    private double[] progress;
+    private float[] pitch, yaw, roll;
+    private float[] pitchSpeed, yawSpeed, rollSpeed;
+    private double[] currentX, currentY, currentZ; // Output of the last advance()
+    private int[] handles; // Display handle, -1 when not displayed
+    private BlockData[] blockData;
+
+    public VortexMotion(int initialCapacity) {
+        allocate(Math.max(8, initialCapacity));
+    }
+
+    /**
+     * Adds a block travelling from start to end with the given arc height and rotation speeds (radians per update).
+     * @return The index of the new block (valid until the next {@link #removeAt}).
+     */
+    public int add(double fromX, double fromY, double fromZ, double toX, double toY, double toZ,
+                   double arc, float pitchStep, float yawStep, float rollStep, @NotNull BlockData data) {
+        if (size == progress.length) {
+            grow();
+        }
+        int i = size++;
+        startX[i] = fromX; startY[i] = fromY; startZ[i] = fromZ;
+        endX[i] = toX; endY[i] = toY; endZ[i] = toZ;
+        arcHeight[i] = arc;
+        progress[i] = 0.0;
+        pitch[i] = 0f; yaw[i] = 0f; roll[i] = 0f;
+        pitchSpeed[i] = pitchStep; yawSpeed[i] = yawStep; rollSpeed[i] = rollStep;
+        currentX[i] = fromX; currentY[i] = fromY; currentZ[i] = fromZ;
+        handles[i] = -1;
+        blockData[i] = data;
+        return i;
+    }
+
+    /**
+     * Advances every block by {@code speed} progress and recomputes its position and rotation.
+     */
+    public void advance(double speed) {
+        final int n = size;
+        for (int i = 0; i < n; i++) {
+            double t = progress[i] + speed;
+            if (t > 1.0) t = 1.0;
+            progress[i] = t;
+
+            // Table lookup with linear interpolation between neighbouring samples
+            double scaled = t * EASING_STEPS;
+            int k = (int) scaled;
+            double s, a;
+            if (k >= EASING_STEPS) {
+                s = EASE[EASING_STEPS];
+                a = ARC[EASING_STEPS];
+            } else {
+                double f = scaled - k;
+                s = EASE[k] + (EASE[k + 1] - EASE[k]) * f;
+                a = ARC[k] + (ARC[k + 1] - ARC[k]) * f;
+            }
+
+            currentX[i] = startX[i] + (endX[i] - startX[i]) * s;
+            currentY[i] = startY[i] + (endY[i] - startY[i]) * s + arcHeight[i] * a;
+            currentZ[i] = startZ[i] + (endZ[i] - startZ[i]) * s;
+
+            pitch[i] += pitchSpeed[i];
+            yaw[i] += yawSpeed[i];
+            roll[i] += rollSpeed[i];
+        }
+    }
+
+    /**
+     * Removes the block at index i by moving the last block into its place.
+     * Iterate from the end when removing during a loop.
+     */
+    public void removeAt(int i) {
+        int last = --size;
+        if (i != last) {
+            startX[i] = startX[last]; startY[i] = startY[last]; startZ[i] = startZ[last];
+            endX[i] = endX[last]; endY[i] = endY[last]; endZ[i] = endZ[last];
+            arcHeight[i] = arcHeight[last];
+            progress[i] = progress[last];
+            pitch[i] = pitch[last]; yaw[i] = yaw[last]; roll[i] = roll[last];
+            pitchSpeed[i] = pitchSpeed[last]; yawSpeed[i] = yawSpeed[last]; rollSpeed[i] = rollSpeed[last];
+            currentX[i] = currentX[last]; currentY[i] = currentY[last]; currentZ[i] = currentZ[last];
+            handles[i] = handles[last];
+            blockData[i] = blockData[last];
+        }
+        blockData[last] = null;
+    }
+
+    public void clear() {
+        Arrays.fill(blockData, 0, size, null);
+        size = 0;
+    }
+
+    // --- Accessors ---
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public boolean isComplete(int i) { return progress[i] >= 1.0; }
+    public double getX(int i) { return currentX[i]; }
+    public double getY(int i) { return currentY[i]; }
+    public double getZ(int i) { return currentZ[i]; }
+    public double getStartX(int i) { return startX[i]; }
+    public double getStartY(int i) { return startY[i]; }
+    public double getStartZ(int i) { return startZ[i]; }
+    public float getPitch(int i) { return pitch[i]; }
+    public float getYaw(int i) { return yaw[i]; }
+    public float getRoll(int i) { return roll[i]; }
+    public int getHandle(int i) { return handles[i]; }
+    public void setHandle(int i, int handle) { handles[i] = handle; }
+    @NotNull public BlockData getBlockData(int i) { return blockData[i]; }
+
+    // --- Internal Helpers ---
+
+    private void allocate(int capacity) {
+        startX = new double[capacity]; startY = new double[capacity]; startZ = new double[capacity];
+        endX = new double[capacity]; endY = new double[capacity]; endZ = new double[capacity];
+        arcHeight = new double[capacity];
+        progress = new double[capacity];
+        pitch = new float[capacity]; yaw = new float[capacity]; roll = new float[capacity];
+        pitchSpeed = new float[capacity]; yawSpeed = new float[capacity]; rollSpeed = new float[capacity];
+        currentX = new double[capacity]; currentY = new double[capacity]; currentZ = new double[capacity];
+        handles = new int[capacity];
+        blockData = new BlockData[capacity];
+    }
+
+    private void grow() {
+        int capacity = progress.length * 2;
+        startX = Arrays.copyOf(startX, capacity); startY = Arrays.copyOf(startY, capacity); startZ = Arrays.copyOf(startZ, capacity);
+        endX = Arrays.copyOf(endX, capacity); endY = Arrays.copyOf(endY, capacity); endZ = Arrays.copyOf(endZ, capacity);
+        arcHeight = Arrays.copyOf(arcHeight, capacity);
+        progress = Arrays.copyOf(progress, capacity);
+        pitch = Arrays.copyOf(pitch, capacity); yaw = Arrays.copyOf(yaw, capacity); roll = Arrays.copyOf(roll, capacity);
+        pitchSpeed = Arrays.copyOf(pitchSpeed, capacity); yawSpeed = Arrays.copyOf(yawSpeed, capacity); rollSpeed = Arrays.copyOf(rollSpeed, capacity);
+        currentX = Arrays.copyOf(currentX, capacity); currentY = Arrays.copyOf(currentY, capacity); currentZ = Arrays.copyOf(currentZ, capacity);
+        handles = Arrays.copyOf(handles, capacity);
+        blockData = Arrays.copyOf(blockData, capacity);
+    }
+}
@@ -1,6 +1,7 @@
 package com.strikesenchantcore.util;
 
 import com.sk89q.worldedit.bukkit.BukkitAdapter;
+import com.sk89q.worldedit.math.BlockVector3;
 import com.sk89q.worldguard.WorldGuard;
 import com.sk89q.worldguard.protection.ApplicableRegionSet;
 import com.sk89q.worldguard.protection.flags.Flag; // Import Flag base class
@@ -8,6 +9,7 @@ import com.sk89q.worldguard.protection.flags.StateFlag;
 import com.sk89q.worldguard.protection.flags.registry.FlagConflictException;
 import com.sk89q.worldguard.protection.flags.registry.FlagRegistry;
 import com.sk89q.worldguard.protection.managers.RegionManager;
+import com.sk89q.worldguard.protection.regions.ProtectedCuboidRegion;
 import com.sk89q.worldguard.protection.regions.ProtectedRegion;
 import com.sk89q.worldguard.protection.regions.RegionContainer;
 import com.strikesenchantcore.EnchantCore;
@@ -18,6 +20,7 @@ import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull; // Import NotNull
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
 import java.util.Collections; // Import Collections for emptySet
 import java.util.HashSet;
 import java.util.Set;
@@ -195,6 +198,66 @@ public class WorldGuardHook {
         }
     }
 
+    /**
+     * Batched form of {@link #isEnchantAllowed(Location)} for many blocks of one world.
+     * The region manager is looked up once, and the regions touching the bounding box of all blocks
+     * are queried once: if every one of them is a cuboid covering the whole box, all blocks share the
+     * same applicable regions and a single flag query answers for the batch. Otherwise each block is
+     * queried individually (still without allocating Locations).
+     *
+     * @param count Number of entries of xs/ys/zs to check.
+     * @return Per-block result, same semantics as isEnchantAllowed (all true when the hook is disabled, all false on error).
+     */
+    @NotNull
+    public boolean[] areEnchantsAllowed(@NotNull World world, @NotNull int[] xs, @NotNull int[] ys, @NotNull int[] zs, int count) {
+        boolean[] allowed = new boolean[count];
+        if (count == 0) return allowed;
+        if (!isEnabled()) {
+            Arrays.fill(allowed, true);
+            return allowed;
+        }
+
+        RegionManager regions = worldGuardInstance.getPlatform().getRegionContainer().get(BukkitAdapter.adapt(world));
+        if (regions == null) {
+            logger.warning("Could not get WorldGuard RegionManager for world: " + world.getName());
+            Arrays.fill(allowed, true);
+            return allowed;
+        }
+
+        try {
+            int minX = xs[0], minY = ys[0], minZ = zs[0], maxX = minX, maxY = minY, maxZ = minZ;
+            for (int i = 1; i < count; i++) {
+                minX = Math.min(minX, xs[i]); maxX = Math.max(maxX, xs[i]);
+                minY = Math.min(minY, ys[i]); maxY = Math.max(maxY, ys[i]);
+                minZ = Math.min(minZ, zs[i]); maxZ = Math.max(maxZ, zs[i]);
+            }
+            BlockVector3 min = BlockVector3.at(minX, minY, minZ);
+            BlockVector3 max = BlockVector3.at(maxX, maxY, maxZ);
+            ApplicableRegionSet boxSet = regions.getApplicableRegions(new ProtectedCuboidRegion("enchantcore_batch_probe", min, max));
+
+            boolean uniform = true;
+            for (ProtectedRegion region : boxSet.getRegions()) {
+                if (!(region instanceof ProtectedCuboidRegion) || !region.contains(min) || !region.contains(max)) {
+                    uniform = false;
+                    break;
+                }
+            }
+
+            if (uniform) {
+                Arrays.fill(allowed, boxSet.queryState(null, ENCHANTCORE_FLAG) == StateFlag.State.ALLOW);
+            } else {
+                for (int i = 0; i < count; i++) {
+                    ApplicableRegionSet pointSet = regions.getApplicableRegions(BlockVector3.at(xs[i], ys[i], zs[i]));
+                    allowed[i] = pointSet.queryState(null, ENCHANTCORE_FLAG) == StateFlag.State.ALLOW;
+                }
+            }
+        } catch (Exception e) {
+            logger.log(Level.SEVERE, "Error querying WorldGuard flag '" + FLAG_NAME + "' for " + count + " blocks in world: " + world.getName(), e);
+            Arrays.fill(allowed, false);
+        }
+        return allowed;
+    }
+
     /**
      * Gets the set of applicable regions at a location, but only if the overall effective state
      * of the given flag at that location matches the desiredState.
@@ -0,0 +1,135 @@
+package com.strikesenchantcore.config;
+
+import com.strikesenchantcore.EnchantCore;
+import com.strikesenchantcore.enchants.EnchantmentWrapper;
+import com.strikesenchantcore.testing.FakeServer;
+import org.bukkit.Material;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ConfigManagerTest {
+
+    private FakeServer server;
+    private EnchantCore plugin;
+    private ConfigManager configManager;
+
+    @BeforeEach
+    void setUp() {
+        server = FakeServer.get();
+        server.reset();
+        plugin = server.enableEnchantCore(null, null);
+        configManager = plugin.getConfigManager();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.reset();
+    }
+
+    private File dataFile(String name) {
+        return new File(plugin.getDataFolder(), name);
+    }
+
+    /** Starts a reload and runs its async part, leaving the publish step queued for the next tick. */
+    private AtomicReference<Boolean> startReload() throws Exception {
+        AtomicReference<Boolean> result = new AtomicReference<>();
+        configManager.reloadConfigs(result::set);
+        server.getScheduler().tick(); // Starts the async build
+        server.getScheduler().awaitAsync(10, TimeUnit.SECONDS);
+        return result;
+    }
+
+    // --- Reload ---
+
+    @Test
+    void reloadPublishesEveryFileAtOnce() throws Exception {
+        ConfigSnapshot before = configManager.getSnapshot();
+        assertEquals(ConfigManager.CurrencyType.TOKENS, before.getCurrencyType());
+        double bedrockBefore = plugin.getAutoSellConfig().getSellPrice(Material.BEDROCK);
+
+        FakeServer.writeConfig(plugin.getDataFolder(), "config.yml", config -> config.set("Settings.CurrencyType", "POINTS"));
+        FakeServer.writeConfig(plugin.getDataFolder(), "autosell.yml", config -> config.set("DefaultPrice", 5.0));
+        FakeServer.writeConfig(plugin.getDataFolder(), "enchants.yml", config -> config.set("EnchantGUI.Title", "&aReloaded"));
+        AtomicReference<Boolean> result = startReload();
+
+        // Built but not yet published: readers still see every old file
+        assertSame(before, configManager.getSnapshot());
+        assertEquals(bedrockBefore, plugin.getAutoSellConfig().getSellPrice(Material.BEDROCK));
+        assertNull(result.get());
+
+        server.getScheduler().tick();
+
+        ConfigSnapshot after = configManager.getSnapshot();
+        assertNotSame(before, after);
+        assertEquals(Boolean.TRUE, result.get());
+        assertEquals(ConfigManager.CurrencyType.POINTS, after.getCurrencyType());
+        assertEquals(5.0, plugin.getAutoSellConfig().getSellPrice(Material.BEDROCK));
+        assertEquals("&aReloaded", plugin.getEnchantManager().getGuiTitleFormat());
+        // Enchants without their own Currency were compiled with the new config.yml
+        EnchantmentWrapper efficiency = plugin.getEnchantRegistry().getEnchant("efficiency");
+        assertNotNull(efficiency);
+        assertSame(after.getEnchants().get("efficiency"), efficiency);
+        assertEquals(ConfigManager.CurrencyType.POINTS, efficiency.getCurrencyType());
+        assertEquals(List.of(), server.getErrors());
+    }
+
+    @Test
+    void brokenFileKeepsItsPreviousValues() throws Exception {
+        FakeServer.writeConfig(plugin.getDataFolder(), "autosell.yml", config -> config.set("DefaultPrice", 5.0));
+        Material pickaxeMaterial = plugin.getPickaxeConfig().getPickaxeMaterial();
+        Files.writeString(dataFile("pickaxe.yml").toPath(), "Pickaxe: [unclosed", StandardCharsets.UTF_8);
+
+        AtomicReference<Boolean> result = startReload();
+        server.getScheduler().tick();
+
+        assertEquals(Boolean.TRUE, result.get());
+        assertEquals(pickaxeMaterial, plugin.getPickaxeConfig().getPickaxeMaterial());
+        assertEquals(5.0, plugin.getAutoSellConfig().getSellPrice(Material.BEDROCK));
+    }
+
+    @Test
+    void laterReloadWins() throws Exception {
+        FakeServer.writeConfig(plugin.getDataFolder(), "config.yml", config -> config.set("Settings.CurrencyType", "GEMS"));
+        AtomicReference<Boolean> first = new AtomicReference<>();
+        AtomicReference<Boolean> second = new AtomicReference<>();
+        configManager.reloadConfigs(first::set);
+        configManager.reloadConfigs(second::set);
+        server.getScheduler().tick();
+        server.getScheduler().awaitAsync(10, TimeUnit.SECONDS);
+        server.getScheduler().tick();
+
+        // The builds may finish in either order; an older one finishing last must not replace the newer
+        assertNotNull(first.get());
+        assertEquals(Boolean.TRUE, second.get());
+        assertEquals(4L, configManager.getSnapshot().getGeneration()); // setup, loadConfigs, then the two reloads
+        assertEquals(ConfigManager.CurrencyType.GEMS, configManager.getCurrencyType());
+    }
+
+    @Test
+    void disabledPluginDoesNotPublish() throws Exception {
+        ConfigSnapshot before = configManager.getSnapshot();
+        AtomicReference<Boolean> result = new AtomicReference<>();
+        configManager.reloadConfigs(result::set);
+        server.disable(plugin);
+        server.getScheduler().tick();
+        server.getScheduler().awaitAsync(10, TimeUnit.SECONDS);
+        server.getScheduler().tick();
+
+        assertSame(before, configManager.getSnapshot());
+        assertNull(result.get());
+    }
+}
@@ -0,0 +1,155 @@
+package com.strikesenchantcore.enchants;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EnchantCostTest {
+
+    // Closed forms and the reference sum round differently; compare relative to the magnitude
+    private static void assertClose(double expected, double actual, String message) {
+        double tolerance = Math.max(1e-9, Math.abs(expected) * 1e-9);
+        assertEquals(expected, actual, tolerance, message);
+    }
+
+    private static void assertMatchesIterative(EnchantCost cost, int[][] ranges) {
+        for (int[] range : ranges) {
+            double expected = cost.forLevelsIterative(range[0], range[1]);
+            double actual = cost.forLevels(range[0], range[1]);
+            assertClose(expected, actual, "levels " + range[0] + " -> " + range[1]);
+        }
+    }
+
+    private static final int[][] RANGES = {
+            {0, 1}, {0, 2}, {0, 10}, {1, 2}, {3, 7}, {5, 5}, {7, 3}, {0, 1000}, {250, 10_000}, {0, 100_000}
+    };
+
+    // --- LINEAR ---
+
+    @Test
+    void linearPositiveIncrementMatchesIterative() {
+        assertMatchesIterative(new EnchantCost("LINEAR", 100.0, 25.0, 0), RANGES);
+        assertMatchesIterative(new EnchantCost("LINEAR", 1.5, 0.75, 0), RANGES);
+    }
+
+    @Test
+    void linearZeroIncrementMatchesIterative() {
+        EnchantCost cost = new EnchantCost("LINEAR", 40.0, 0.0, 0);
+        assertMatchesIterative(cost, RANGES);
+        assertEquals(40.0 * 100_000, cost.forLevels(0, 100_000));
+    }
+
+    @Test
+    void linearNegativeIncrementMatchesIterative() {
+        // Costs reach 0 at level 11 and stay there
+        EnchantCost cost = new EnchantCost("LINEAR", 100.0, -10.0, 0);
+        assertMatchesIterative(cost, RANGES);
+        assertMatchesIterative(cost, new int[][]{{9, 12}, {10, 11}, {11, 50}, {12, 100_000}});
+        assertEquals(0.0, cost.forLevels(20, 30));
+        // Increment that doesn't divide the base evenly
+        assertMatchesIterative(new EnchantCost("LINEAR", 100.0, -7.0, 0), RANGES);
+    }
+
+    @Test
+    void linearNegativeBaseMatchesIterative() {
+        assertMatchesIterative(new EnchantCost("LINEAR", -50.0, 20.0, 0), RANGES);
+    }
+
+    @Test
+    void linearRespectsMaxLevel() {
+        EnchantCost cost = new EnchantCost("LINEAR", 10.0, 5.0, 20);
+        assertMatchesIterative(cost, new int[][]{{0, 20}, {5, 20}, {19, 20}});
+        assertEquals(-1.0, cost.forLevels(0, 21));
+        assertEquals(-1.0, cost.forLevels(-1, 5));
+    }
+
+    // --- EXPONENTIAL ---
+
+    @Test
+    void exponentialMatchesIterative() {
+        assertMatchesIterative(new EnchantCost("EXPONENTIAL", 100.0, 1.05, 0),
+                new int[][]{{0, 1}, {0, 2}, {0, 50}, {3, 7}, {100, 500}, {0, 2000}});
+        assertMatchesIterative(new EnchantCost("EXPONENTIAL", 2.5, 1.5, 0),
+                new int[][]{{0, 1}, {1, 2}, {10, 40}, {0, 300}});
+    }
+
+    @Test
+    void exponentialMultiplierAtOrBelowOneUsesFloor() {
+        assertMatchesIterative(new EnchantCost("EXPONENTIAL", 10.0, 1.0, 0),
+                new int[][]{{0, 1}, {0, 100}, {500, 5000}});
+        assertMatchesIterative(new EnchantCost("EXPONENTIAL", 10.0, 0.5, 0),
+                new int[][]{{0, 10}, {0, 10_000}});
+    }
+
+    @Test
+    void exponentialOverflowIsMaxValue() {
+        EnchantCost cost = new EnchantCost("EXPONENTIAL", 1000.0, 2.0, 0);
+        assertEquals(Double.MAX_VALUE, cost.forLevels(0, 5000));
+        assertEquals(Double.MAX_VALUE, cost.forLevelsIterative(0, 5000));
+    }
+
+    @Test
+    void unknownFormulaIsLinear() {
+        EnchantCost linear = new EnchantCost("LINEAR", 100.0, 25.0, 0);
+        EnchantCost unknown = new EnchantCost("QUADRATIC", 100.0, 25.0, 0);
+        assertEquals(linear.forLevels(0, 500), unknown.forLevels(0, 500));
+    }
+
+    // --- Max Affordable Level ---
+
+    @Test
+    void budgetExactlyEqualToCostIsAffordable() {
+        EnchantCost cost = new EnchantCost("LINEAR", 100.0, 25.0, 0);
+        double toTen = cost.forLevels(3, 10);
+        assertEquals(10, cost.maxAffordableLevel(3, toTen, 1000));
+    }
+
+    @Test
+    void budgetOneBelowCostStopsALevelShort() {
+        EnchantCost cost = new EnchantCost("LINEAR", 100.0, 25.0, 0);
+        double toTen = cost.forLevels(3, 10);
+        assertEquals(9, cost.maxAffordableLevel(3, toTen - 1.0, 1000));
+        // Not even the next level
+        assertEquals(3, cost.maxAffordableLevel(3, cost.forLevel(4) - 1.0, 1000));
+    }
+
+    @Test
+    void exponentialBudgetBoundaries() {
+        EnchantCost cost = new EnchantCost("EXPONENTIAL", 50.0, 1.1, 0);
+        double toForty = cost.forLevels(0, 40);
+        assertEquals(40, cost.maxAffordableLevel(0, toForty, 10_000));
+        assertEquals(39, cost.maxAffordableLevel(0, toForty - 1.0, 10_000));
+    }
+
+    @Test
+    void affordableLevelIsCapped() {
+        EnchantCost unlimited = new EnchantCost("LINEAR", 1.0, 0.0, 0);
+        assertEquals(500, unlimited.maxAffordableLevel(0, 1e12, 500));
+
+        EnchantCost maxed = new EnchantCost("LINEAR", 1.0, 0.0, 100);
+        assertEquals(100, maxed.maxAffordableLevel(0, 1e12, 500)); // MaxLevel below the cap
+        assertEquals(100, maxed.maxAffordableLevel(100, 1e12, 500)); // Already at max
+        assertEquals(30, maxed.maxAffordableLevel(30, 1e12, 20)); // Cap below current level
+    }
+
+    @Test
+    void negativeOrZeroBudget() {
+        EnchantCost cost = new EnchantCost("LINEAR", 10.0, 1.0, 0);
+        assertEquals(5, cost.maxAffordableLevel(5, -1.0, 100));
+        assertEquals(5, cost.maxAffordableLevel(5, 0.0, 100));
+        // Free levels are always affordable
+        EnchantCost free = new EnchantCost("LINEAR", 0.0, 0.0, 50);
+        assertEquals(50, free.maxAffordableLevel(0, 0.0, 1000));
+    }
+
+    @Test
+    void affordableLevelMatchesLinearScan() {
+        EnchantCost cost = new EnchantCost("LINEAR", 100.0, -3.0, 0);
+        for (double budget = 0.0; budget < 2500.0; budget += 97.0) {
+            int expected = 0;
+            while (expected < 200 && cost.forLevelsIterative(0, expected + 1) <= budget) expected++;
+            int actual = cost.maxAffordableLevel(0, budget, 200);
+            assertEquals(expected, actual, "budget " + budget);
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.strikesenchantcore.listeners;
+
+import com.strikesenchantcore.EnchantCore;
+import com.strikesenchantcore.managers.BreakPipeline;
+import com.strikesenchantcore.managers.EntityRegistry;
+import com.strikesenchantcore.managers.VortexDisplayManager;
+import com.strikesenchantcore.pickaxe.PickaxeManager;
+import com.strikesenchantcore.testing.FakePlayer;
+import com.strikesenchantcore.testing.FakeScheduler;
+import com.strikesenchantcore.testing.FakeServer;
+import com.strikesenchantcore.testing.FakeWorld;
+import com.strikesenchantcore.testing.FakeWorldGuardHook;
+import com.strikesenchantcore.util.PerfStats;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.TNTPrimed;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the real plugin on {@link FakeServer} tick by tick: players mine a stone mine with Nuke,
+ * Explosive, Disc and Blackhole on their pickaxes and proc chances raised, and each tick is
+ * measured on the thread playing the main thread. Fails when a budget in load-test.yml is
+ * exceeded or anything threw. Runs with {@code gradle loadTest} and {@code gradle check}, not {@code gradle test}.
+ */
+@Tag("load")
+class BlockBreakLoadTest {
+
+    private static final String CONFIG_RESOURCE = "/load-test.yml";
+    private static final String OVERRIDE_PREFIX = "enchantcore.loadtest.";
+    private static final String[] AREA_ENCHANTS = {"explosive", "disc", "nuke", "blackhole"};
+    private static final int MAX_PICK_ATTEMPTS = 8;
+    private static final int REFILL_CHECK_TICKS = 20;
+
+    private FakeServer server;
+
+    @BeforeEach
+    void setUp() {
+        server = FakeServer.get();
+        server.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.reset();
+    }
+
+    // --- Config ---
+
+    /** load-test.yml with enchantcore.loadtest.* system properties applied on top. */
+    private static YamlConfiguration loadConfig() {
+        YamlConfiguration config;
+        try (InputStream in = BlockBreakLoadTest.class.getResourceAsStream(CONFIG_RESOURCE)) {
+            assertNotNull(in, CONFIG_RESOURCE + " is missing from the test resources");
+            config = YamlConfiguration.loadConfiguration(new InputStreamReader(in, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith(OVERRIDE_PREFIX)) {
+                config.set(name.substring(OVERRIDE_PREFIX.length()), parseValue(System.getProperty(name)));
+            }
+        }
+        return config;
+    }
+
+    // Typed, because ConfigurationSection.getDouble/getInt ignore String values
+    private static Object parseValue(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException notInt) {
+            try {
+                return Double.parseDouble(value.trim());
+            } catch (NumberFormatException notDouble) {
+                return value;
+            }
+        }
+    }
+
+    /** Writes enchants.yml with the configured proc chances into the empty data folder. */
+    private static void writeEnchants(File dataFolder, ConfigurationSection procChances) {
+        YamlConfiguration enchants;
+        try (InputStream in = EnchantCore.class.getResourceAsStream("/enchants.yml")) {
+            assertNotNull(in, "enchants.yml is missing from the plugin resources");
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                enchants = YamlConfiguration.loadConfiguration(reader);
+            }
+            for (String enchant : AREA_ENCHANTS) {
+                String settings = "enchants." + enchant + ".Settings.";
+                enchants.set(settings + "ChanceBase", procChances.getDouble(enchant));
+                enchants.set(settings + "ChanceIncreasePerLevel", 0.0);
+            }
+            enchants.save(new File(dataFolder, "enchants.yml"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // --- Load Test ---
+
+    @Test
+    void areaEnchantsStayWithinBudget() throws Exception {
+        YamlConfiguration config = loadConfig();
+        ConfigurationSection budget = config.getConfigurationSection("Budget");
+        ConfigurationSection procChances = config.getConfigurationSection("Proc-Chance");
+        assertNotNull(budget, "load-test.yml has no Budget section");
+        assertNotNull(procChances, "load-test.yml has no Proc-Chance section");
+
+        int playerCount = config.getInt("Players");
+        int mineSize = config.getInt("Mine-Size");
+        int breaksPerTick = config.getInt("Breaks-Per-Player-Per-Tick");
+        int warmupTicks = config.getInt("Warmup-Ticks");
+        int ticks = config.getInt("Ticks");
+        int enchantLevel = config.getInt("Enchant-Level");
+
+        FakeWorld mine = server.addWorld("mine");
+        int max = mineSize - 1;
+        mine.fill(0, 0, 0, max, max, max, Material.STONE);
+        EnchantCore plugin = server.enableEnchantCore(dataFolder -> writeEnchants(dataFolder, procChances),
+                enchantCore -> new FakeWorldGuardHook(enchantCore, mine.getWorld(), 0, 0, 0, max, max, max));
+        PickaxeManager pickaxeManager = plugin.getPickaxeManager();
+        BlockBreakListener listener = plugin.getBlockBreakListener();
+        BreakPipeline pipeline = plugin.getBreakPipeline();
+        EntityRegistry entityRegistry = plugin.getEntityRegistry();
+        VortexDisplayManager vortexDisplays = plugin.getVortexDisplayManager();
+        assertNotNull(pickaxeManager, "PickaxeManager");
+        assertNotNull(listener, "BlockBreakListener");
+        assertNotNull(pipeline, "BreakPipeline");
+        assertNotNull(entityRegistry, "EntityRegistry");
+        assertNotNull(vortexDisplays, "VortexDisplayManager");
+
+        Random random = new Random(42);
+        List<FakePlayer> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            Location standing = new Location(mine.getWorld(), random.nextInt(mineSize) + 0.5, mineSize, random.nextInt(mineSize) + 0.5);
+            FakePlayer player = server.addPlayer("Miner" + i, standing);
+            ItemStack pickaxe = pickaxeManager.createDefaultPickaxe();
+            for (String enchant : AREA_ENCHANTS) {
+                pickaxeManager.setEnchantLevel(pickaxe, enchant, enchantLevel);
+            }
+            pickaxeManager.updatePickaxe(pickaxe, player.getPlayer());
+            player.setItemInMainHand(pickaxe);
+            players.add(player);
+        }
+        FakeScheduler scheduler = server.getScheduler();
+        scheduler.tick();
+        scheduler.awaitAsync(10, TimeUnit.SECONDS); // Player data loads
+
+        Map<String, Long> procsBefore = new HashMap<>();
+        long[] tickNanos = new long[ticks];
+        long allocatedBytes = 0L;
+        int peakQueuedBlocks = 0;
+        int peakPendingAreaBlocks = 0;
+        int peakEntities = 0;
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        boolean allocationSupported = threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled();
+
+        for (int tick = -warmupTicks; tick < ticks; tick++) {
+            if (tick == 0) {
+                for (String enchant : AREA_ENCHANTS) procsBefore.put(enchant, PerfStats.enchant(enchant).getLifetimeCount());
+            }
+            if (tick % REFILL_CHECK_TICKS == 0 && mine.countSolid(0, 0, 0, max, max, max) * 2 < mineSize * mineSize * mineSize) {
+                mine.fill(0, 0, 0, max, max, max, Material.STONE); // Like a mine reset, not charged to EnchantCore
+            }
+
+            long allocStart = allocationSupported ? threads.getCurrentThreadAllocatedBytes() : 0L;
+            long start = System.nanoTime();
+            for (FakePlayer player : players) {
+                for (int i = 0; i < breaksPerTick; i++) {
+                    Block block = pickSolidBlock(mine, mineSize, random);
+                    if (block == null) continue;
+                    BlockBreakEvent event = server.callEvent(new BlockBreakEvent(block, player.getPlayer()));
+                    if (!event.isCancelled()) block.setType(Material.AIR); // What the server does after the event
+                }
+            }
+            scheduler.tick();
+            long elapsed = System.nanoTime() - start;
+            long allocated = allocationSupported ? threads.getCurrentThreadAllocatedBytes() - allocStart : 0L;
+
+            if (tick >= 0) {
+                tickNanos[tick] = elapsed;
+                allocatedBytes += allocated;
+                peakQueuedBlocks = Math.max(peakQueuedBlocks, pipeline.getQueuedBlocks());
+                peakPendingAreaBlocks = Math.max(peakPendingAreaBlocks, listener.getPendingAreaBlocks());
+                peakEntities = Math.max(peakEntities, countEntities(mine, vortexDisplays, entityRegistry));
+            }
+        }
+        scheduler.awaitAsync(10, TimeUnit.SECONDS);
+
+        // --- Report ---
+        long[] sorted = tickNanos.clone();
+        Arrays.sort(sorted);
+        double p99Millis = sorted[Math.max(0, (int) Math.ceil(0.99 * sorted.length) - 1)] / 1_000_000.0;
+        double meanMillis = Arrays.stream(tickNanos).average().orElse(0.0) / 1_000_000.0;
+        double allocMbPerSecond = allocatedBytes / (1024.0 * 1024.0) / (ticks / 20.0);
+        Map<String, Long> procs = new HashMap<>();
+        for (String enchant : AREA_ENCHANTS) {
+            procs.put(enchant, PerfStats.enchant(enchant).getLifetimeCount() - procsBefore.get(enchant));
+        }
+        String report = String.format(Locale.US,
+                "%d players, %d ticks: tick p99 %.2f ms, mean %.2f ms, alloc %s, peak queued %d, pending area %d, entities %d, procs %s",
+                playerCount, ticks, p99Millis, meanMillis,
+                allocationSupported ? String.format(Locale.US, "%.1f MB/s", allocMbPerSecond) : "unavailable",
+                peakQueuedBlocks, peakPendingAreaBlocks, peakEntities, procs);
+        server.getLogger().info("[LoadTest] " + report);
+
+        List<Executable> checks = new ArrayList<>();
+        checks.add(() -> assertEquals(List.of(), server.getErrors(), "Exceptions in event handlers or tasks"));
+        for (String enchant : AREA_ENCHANTS) {
+            checks.add(() -> assertTrue(procs.get(enchant) > 0, enchant + " never activated, the run did not exercise it. " + report));
+        }
+        checks.add(() -> assertWithin("Tick p99 ms", p99Millis, budget.getDouble("Max-Tick-Millis-P99"), report));
+        checks.add(() -> assertWithin("Tick mean ms", meanMillis, budget.getDouble("Max-Tick-Millis-Mean"), report));
+        if (allocationSupported) {
+            checks.add(() -> assertWithin("Allocation MB/s", allocMbPerSecond, budget.getDouble("Max-Alloc-MB-Per-Second"), report));
+        }
+        int queuedBlocks = peakQueuedBlocks;
+        int pendingAreaBlocks = peakPendingAreaBlocks;
+        int entities = peakEntities;
+        checks.add(() -> assertWithin("Queued blocks", queuedBlocks, budget.getInt("Max-Queued-Blocks"), report));
+        checks.add(() -> assertWithin("Pending area blocks", pendingAreaBlocks, budget.getInt("Max-Pending-Area-Blocks"), report));
+        checks.add(() -> assertWithin("Entities", entities, budget.getInt("Max-Entities"), report));
+        assertAll(checks);
+    }
+
+    // --- Helpers ---
+
+    private static Block pickSolidBlock(FakeWorld mine, int mineSize, Random random) {
+        for (int attempt = 0; attempt < MAX_PICK_ATTEMPTS; attempt++) {
+            int x = random.nextInt(mineSize);
+            int y = random.nextInt(mineSize);
+            int z = random.nextInt(mineSize);
+            if (mine.getType(x, y, z) != Material.AIR) return mine.getBlockAt(x, y, z);
+        }
+        return null;
+    }
+
+    /** Vortex block displays, Nuke TNT and piñatas: the entities EnchantCore keeps in the world. */
+    private static int countEntities(FakeWorld mine, VortexDisplayManager vortexDisplays, EntityRegistry entityRegistry) {
+        int primedTnt = 0;
+        for (Entity entity : mine.getEntities()) {
+            if (entity instanceof TNTPrimed) primedTnt++;
+        }
+        return vortexDisplays.getActiveDisplayCount() + primedTnt + entityRegistry.size();
+    }
+
+    private static void assertWithin(String metric, double measured, double budget, String report) {
+        assertTrue(measured <= budget, metric + " " + measured + " is over the budget of " + budget + ". " + report);
+    }
+}
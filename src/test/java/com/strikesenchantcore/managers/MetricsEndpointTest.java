@@ -0,0 +1,125 @@
+package com.strikesenchantcore.managers;
+
+import com.strikesenchantcore.EnchantCore;
+import com.strikesenchantcore.testing.FakePlayer;
+import com.strikesenchantcore.testing.FakeServer;
+import com.strikesenchantcore.testing.FakeWorld;
+import com.strikesenchantcore.testing.FakeWorldGuardHook;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsEndpointTest {
+
+    private static final int MINE_SIZE = 8;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private FakeServer server;
+    private FakeWorld mine;
+    private EnchantCore plugin;
+    private MetricsEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        server = FakeServer.get();
+        server.reset();
+        mine = server.addWorld("mine");
+        int max = MINE_SIZE - 1;
+        mine.fill(0, 0, 0, max, max, max, Material.STONE);
+        plugin = server.enableEnchantCore(
+                dataFolder -> FakeServer.writeConfig(dataFolder, "config.yml", config -> {
+                    config.set("Metrics-Endpoint.Enabled", true);
+                    config.set("Metrics-Endpoint.Bind-Address", "127.0.0.1");
+                    config.set("Metrics-Endpoint.Port", 0); // Ephemeral, tests may run in parallel
+                }),
+                enchantCore -> new FakeWorldGuardHook(enchantCore, mine.getWorld(), 0, 0, 0, max, max, max));
+        endpoint = plugin.getMetricsEndpoint();
+        assertNotNull(endpoint, "MetricsEndpoint");
+        assertTrue(endpoint.isRunning(), "Endpoint did not bind");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.reset();
+    }
+
+    private HttpResponse<String> send(String method) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + endpoint.getBoundPort() + "/metrics"))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .timeout(Duration.ofSeconds(5))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static long sampleValue(String page, String series) {
+        for (String line : page.split("\n")) {
+            if (line.startsWith(series + " ")) return Long.parseLong(line.substring(series.length() + 1).trim());
+        }
+        throw new AssertionError("No sample " + series + " in:\n" + page);
+    }
+
+    // --- Page ---
+
+    @Test
+    void servesPrometheusTextFormat() throws Exception {
+        HttpResponse<String> response = send("GET");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("text/plain; version=0.0.4; charset=utf-8", response.headers().firstValue("Content-Type").orElse(null));
+        String page = response.body();
+        assertTrue(page.contains("# TYPE enchantcore_blocks_broken_total counter\n"), page);
+        assertTrue(page.contains("# TYPE enchantcore_break_queue_blocks gauge\n"), page);
+        assertEquals(0L, sampleValue(page, "enchantcore_break_queue_blocks"));
+        assertEquals(0L, sampleValue(page, "enchantcore_active_blackholes"));
+        sampleValue(page, "enchantcore_cache_hits_total{cache=\"player_data\",tier=\"online\"}");
+        sampleValue(page, "enchantcore_cache_misses_total{cache=\"player_data\"}");
+        assertTrue(server.getErrors().isEmpty(), () -> "Errors: " + server.getErrors());
+    }
+
+    @Test
+    void countsBrokenBlocksAfterTheNextRender() throws Exception {
+        FakePlayer player = server.addPlayer("Miner", new Location(mine.getWorld(), 4.5, MINE_SIZE, 4.5));
+        player.setItemInMainHand(plugin.getPickaxeManager().createDefaultPickaxe());
+        long before = sampleValue(send("GET").body(), "enchantcore_blocks_broken_total");
+
+        server.callEvent(new BlockBreakEvent(mine.getBlockAt(4, 4, 4), player.getPlayer()));
+        server.getScheduler().tick(20); // The page is rendered once a second on the main thread
+
+        long after = sampleValue(send("GET").body(), "enchantcore_blocks_broken_total");
+        assertTrue(after > before, "blocks broken went from " + before + " to " + after);
+        assertEquals(List.of(), server.getErrors());
+    }
+
+    @Test
+    void rejectsOtherMethods() throws Exception {
+        HttpResponse<String> post = send("POST");
+        assertEquals(405, post.statusCode());
+
+        HttpResponse<String> head = send("HEAD");
+        assertEquals(200, head.statusCode());
+        assertTrue(head.body().isEmpty());
+    }
+
+    @Test
+    void stopsWithThePlugin() {
+        server.reset();
+        assertFalse(endpoint.isRunning());
+        assertEquals(-1, endpoint.getBoundPort());
+    }
+}
@@ -0,0 +1,119 @@
+package com.strikesenchantcore.pickaxe;
+
+import com.strikesenchantcore.testing.FakeDataContainer;
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LegacyPickaxeLayoutTest {
+
+    private static final String NAMESPACE = "enchantcore";
+
+    private static NamespacedKey key(String name) {
+        return new NamespacedKey(NAMESPACE, name);
+    }
+
+    /** A pickaxe as older versions wrote it, plus keys that aren't part of the legacy layout. */
+    private static PersistentDataContainer legacyPickaxe() {
+        PersistentDataContainer pdc = FakeDataContainer.create();
+        pdc.set(key("enchantcore_pickaxe"), PersistentDataType.BYTE, (byte) 1);
+        pdc.set(key("pickaxe_level"), PersistentDataType.INTEGER, 42);
+        pdc.set(key("pickaxe_blocks_mined"), PersistentDataType.LONG, 987_654L);
+        pdc.set(key("pickaxe_skin"), PersistentDataType.STRING, "galaxy");
+        pdc.set(key("enchant_efficiency"), PersistentDataType.INTEGER, 5);
+        pdc.set(key("enchant_tokenator"), PersistentDataType.INTEGER, 300);
+        pdc.set(key("enchant_removed_enchant"), PersistentDataType.INTEGER, 7); // No longer in enchants.yml
+        // Not part of the legacy layout
+        pdc.set(key("skin_id"), PersistentDataType.STRING, "display");
+        pdc.set(key("pickaxe_data"), PersistentDataType.BYTE_ARRAY, new byte[]{1});
+        pdc.set(new NamespacedKey("otherplugin", "enchant_efficiency"), PersistentDataType.INTEGER, 99);
+        return pdc;
+    }
+
+    // --- Key Pattern ---
+
+    @Test
+    void enchantKeyPattern() {
+        assertEquals("efficiency", LegacyPickaxeLayout.enchantName(key("enchant_efficiency"), NAMESPACE));
+        assertEquals("removed_enchant", LegacyPickaxeLayout.enchantName(key("enchant_removed_enchant"), NAMESPACE));
+        assertNull(LegacyPickaxeLayout.enchantName(key("enchant_"), NAMESPACE));
+        assertNull(LegacyPickaxeLayout.enchantName(key("enchantcore_pickaxe"), NAMESPACE));
+        assertNull(LegacyPickaxeLayout.enchantName(key("pickaxe_level"), NAMESPACE));
+        assertNull(LegacyPickaxeLayout.enchantName(new NamespacedKey("otherplugin", "enchant_efficiency"), NAMESPACE));
+    }
+
+    // --- Migration ---
+
+    @Test
+    void readsEveryLegacyValue() {
+        PickaxeRecord record = LegacyPickaxeLayout.read(legacyPickaxe(), NAMESPACE, new PickaxeRecord(1, 0L));
+        assertEquals(42, record.getLevel());
+        assertEquals(987_654L, record.getBlocksMined());
+        assertEquals("galaxy", record.getSkin());
+        assertTrue(record.isLegacy());
+    }
+
+    @Test
+    void migratesUnregisteredEnchantsAndIgnoresOtherNamespaces() {
+        PickaxeRecord record = LegacyPickaxeLayout.read(legacyPickaxe(), NAMESPACE, new PickaxeRecord(1, 0L));
+        assertEquals(Map.of("efficiency", 5, "tokenator", 300, "removed_enchant", 7), record.getEnchants());
+    }
+
+    @Test
+    void missingValuesKeepDefaults() {
+        PersistentDataContainer pdc = FakeDataContainer.create();
+        pdc.set(key("enchantcore_pickaxe"), PersistentDataType.BYTE, (byte) 1);
+        PickaxeRecord record = LegacyPickaxeLayout.read(pdc, NAMESPACE, new PickaxeRecord(3, 100L));
+        assertEquals(3, record.getLevel());
+        assertEquals(100L, record.getBlocksMined());
+        assertNull(record.getSkin());
+        assertTrue(record.getEnchants().isEmpty());
+    }
+
+    @Test
+    void valueOfWrongTypeIsSkipped() {
+        PersistentDataContainer pdc = FakeDataContainer.create();
+        pdc.set(key("pickaxe_level"), PersistentDataType.STRING, "ten");
+        pdc.set(key("enchant_efficiency"), PersistentDataType.LONG, 5L);
+        pdc.set(key("enchant_fortune"), PersistentDataType.INTEGER, 2);
+        PickaxeRecord record = LegacyPickaxeLayout.read(pdc, NAMESPACE, new PickaxeRecord(1, 0L));
+        assertEquals(1, record.getLevel());
+        assertEquals(Map.of("fortune", 2), record.getEnchants());
+    }
+
+    @Test
+    void migratedRecordSurvivesTheCodec() {
+        PickaxeRecord record = LegacyPickaxeLayout.read(legacyPickaxe(), NAMESPACE, new PickaxeRecord(1, 0L));
+        PickaxeRecord decoded = PickaxeRecord.decode(record.encode());
+        assertEquals(record.getEnchants(), decoded.getEnchants());
+        assertEquals(record.getLevel(), decoded.getLevel());
+        assertEquals(record.getBlocksMined(), decoded.getBlocksMined());
+        assertEquals(record.getSkin(), decoded.getSkin());
+    }
+
+    // --- Cleanup ---
+
+    @Test
+    void removesLegacyKeysByPattern() {
+        PersistentDataContainer pdc = legacyPickaxe();
+        LegacyPickaxeLayout.removeKeys(pdc, NAMESPACE);
+        assertEquals(Set.of(key("skin_id"), key("pickaxe_data"), new NamespacedKey("otherplugin", "enchant_efficiency")),
+                pdc.getKeys());
+    }
+
+    @Test
+    void removingFromCleanContainerIsANoOp() {
+        PersistentDataContainer pdc = FakeDataContainer.create();
+        pdc.set(key("pickaxe_data"), PersistentDataType.BYTE_ARRAY, new byte[]{1});
+        LegacyPickaxeLayout.removeKeys(pdc, NAMESPACE);
+        assertEquals(Set.of(key("pickaxe_data")), pdc.getKeys());
+    }
+}
@@ -0,0 +1,129 @@
+package com.strikesenchantcore.pickaxe;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PickaxeRecordTest {
+
+    private static PickaxeRecord sample() {
+        PickaxeRecord record = new PickaxeRecord(57, 1_234_567L);
+        record.setEnchantLevel("efficiency", 5);
+        record.setEnchantLevel("Tokenator", 1000);
+        record.setEnchantLevel("blackhole", 1);
+        record.setSkin("galaxy");
+        return record;
+    }
+
+    private static void assertSameRecord(PickaxeRecord expected, PickaxeRecord actual) {
+        assertEquals(expected.getLevel(), actual.getLevel());
+        assertEquals(expected.getBlocksMined(), actual.getBlocksMined());
+        assertEquals(expected.getEnchants(), actual.getEnchants());
+        assertEquals(expected.getSkin(), actual.getSkin());
+    }
+
+    // --- Round Trip ---
+
+    @Test
+    void roundTrip() {
+        PickaxeRecord record = sample();
+        PickaxeRecord decoded = PickaxeRecord.decode(record.encode());
+        assertSameRecord(record, decoded);
+        assertEquals(5, decoded.getEnchantLevel("EFFICIENCY"));
+        assertEquals(1000, decoded.getEnchantLevel("tokenator")); // Names are stored lowercase
+    }
+
+    @Test
+    void roundTripWithoutSkinOrEnchants() {
+        PickaxeRecord record = new PickaxeRecord(1, 0L);
+        PickaxeRecord decoded = PickaxeRecord.decode(record.encode());
+        assertSameRecord(record, decoded);
+        assertNull(decoded.getSkin());
+        assertTrue(decoded.getEnchants().isEmpty());
+    }
+
+    @Test
+    void roundTripExtremeValues() {
+        PickaxeRecord record = new PickaxeRecord(Integer.MAX_VALUE, Long.MAX_VALUE);
+        record.setEnchantLevel("max", Integer.MAX_VALUE);
+        record.setSkin("ünïcødé_skin");
+        assertSameRecord(record, PickaxeRecord.decode(record.encode()));
+    }
+
+    @Test
+    void reEncodingIsStable() {
+        byte[] encoded = sample().encode();
+        assertArrayEquals(encoded, PickaxeRecord.decode(encoded).encode());
+    }
+
+    @Test
+    void decodedRecordIsNotLegacy() {
+        PickaxeRecord record = sample();
+        record.setLegacy(true);
+        assertEquals(false, PickaxeRecord.decode(record.encode()).isLegacy());
+    }
+
+    // --- Malformed Input ---
+
+    @Test
+    void everyTruncationIsRejected() {
+        byte[] encoded = sample().encode();
+        for (int length = 0; length < encoded.length; length++) {
+            byte[] truncated = Arrays.copyOf(encoded, length);
+            assertThrows(IllegalArgumentException.class, () -> PickaxeRecord.decode(truncated), "length " + length);
+        }
+    }
+
+    @Test
+    void unknownVersionIsRejected() {
+        byte[] encoded = sample().encode();
+        for (byte version : new byte[]{0, 2, (byte) 0xFF}) {
+            encoded[0] = version;
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> PickaxeRecord.decode(encoded));
+            assertTrue(e.getMessage().contains("version"), e.getMessage());
+        }
+    }
+
+    @Test
+    void stringLongerThanLimitIsRejected() {
+        // version, flags, level 1, blocks 0, 1 enchant, name length 300 (varint 0xAC 0x02)
+        byte[] data = {PickaxeRecord.VERSION, 0, 1, 0, 1, (byte) 0xAC, 0x02, 'a', 'b'};
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> PickaxeRecord.decode(data));
+        assertTrue(e.getMessage().contains("string length"), e.getMessage());
+    }
+
+    @Test
+    void stringLongerThanDataIsRejected() {
+        byte[] data = {PickaxeRecord.VERSION, 0, 1, 0, 1, 10, 'a', 'b', 'c'};
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> PickaxeRecord.decode(data));
+        assertTrue(e.getMessage().contains("string length"), e.getMessage());
+    }
+
+    @Test
+    void malformedVarintIsRejected() {
+        byte[] data = new byte[12];
+        data[0] = PickaxeRecord.VERSION;
+        Arrays.fill(data, 2, data.length, (byte) 0x80); // Continuation bit never cleared
+        assertThrows(IllegalArgumentException.class, () -> PickaxeRecord.decode(data));
+    }
+
+    @Test
+    void outOfRangeLevelIsRejected() {
+        // Level 2^31 does not fit an int
+        byte[] data = {PickaxeRecord.VERSION, 0, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x08, 0, 0};
+        assertThrows(IllegalArgumentException.class, () -> PickaxeRecord.decode(data));
+    }
+
+    @Test
+    void enchantMapIsReadOnly() {
+        Map<String, Integer> enchants = sample().getEnchants();
+        assertThrows(UnsupportedOperationException.class, () -> enchants.put("x", 1));
+    }
+}
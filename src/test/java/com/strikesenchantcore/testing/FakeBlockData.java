@@ -0,0 +1,46 @@
+package com.strikesenchantcore.testing;
+
+import org.bukkit.Material;
+import org.bukkit.block.data.BlockData;
+
+import java.lang.reflect.Method;
+
+/**
+ * {@link BlockData} of a material in its default state; {@code getAsString} gives the vanilla
+ * form ("minecraft:stone") so data written by the plugin can be read back.
+ */
+public final class FakeBlockData {
+
+    private FakeBlockData() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    private record State(Material material) implements Fakes.Handler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            return switch (method.getName()) {
+                case "getMaterial" -> material;
+                case "getAsString" -> material.getKey().toString();
+                case "clone", "merge" -> of(material);
+                case "matches" -> args[0] instanceof BlockData other && other.getMaterial() == material;
+                case "equals" -> args.length == 1 && Fakes.handlerOf(args[0]) instanceof State other && other.material == material;
+                case "hashCode" -> material.hashCode();
+                case "toString" -> "FakeBlockData{" + material.getKey() + "}";
+                default -> Fakes.UNHANDLED;
+            };
+        }
+    }
+
+    public static BlockData of(Material material) {
+        return Fakes.create(BlockData.class, new State(material));
+    }
+
+    /** Parses "minecraft:stone" or "stone[axis=y]"; block states are ignored. */
+    public static BlockData parse(String data) {
+        int states = data.indexOf('[');
+        String name = (states >= 0) ? data.substring(0, states) : data;
+        Material material = Material.matchMaterial(name);
+        if (material == null) throw new IllegalArgumentException("Could not parse data: " + data);
+        return of(material);
+    }
+}
@@ -0,0 +1,117 @@
+package com.strikesenchantcore.testing;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * In-memory {@link PersistentDataContainer} for tests. Values are stored with their primitive type,
+ * and typed reads of a value stored with another type behave like CraftBukkit's: {@code has} is false
+ * and {@code get} throws. Methods the tests don't need throw UnsupportedOperationException.
+ */
+public final class FakeDataContainer {
+
+    private FakeDataContainer() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    private record Stored(Class<?> type, Object value) {}
+
+    private static final class Values implements InvocationHandler {
+        private final Map<NamespacedKey, Stored> values = new LinkedHashMap<>();
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "set" -> {
+                    PersistentDataType<?, ?> type = (PersistentDataType<?, ?>) args[1];
+                    values.put((NamespacedKey) args[0], new Stored(type.getPrimitiveType(), args[2]));
+                    return null;
+                }
+                case "has" -> {
+                    Stored stored = values.get((NamespacedKey) args[0]);
+                    if (args.length == 1) return stored != null;
+                    return stored != null && stored.type() == ((PersistentDataType<?, ?>) args[1]).getPrimitiveType();
+                }
+                case "get", "getOrDefault" -> {
+                    Stored stored = values.get((NamespacedKey) args[0]);
+                    if (stored == null) return args.length > 2 ? args[2] : null;
+                    if (stored.type() != ((PersistentDataType<?, ?>) args[1]).getPrimitiveType()) {
+                        throw new IllegalArgumentException("The found tag instance cannot store " + args[1]);
+                    }
+                    return stored.value();
+                }
+                case "getKeys" -> {
+                    return new LinkedHashSet<>(values.keySet());
+                }
+                case "remove" -> {
+                    values.remove((NamespacedKey) args[0]);
+                    return null;
+                }
+                case "isEmpty" -> {
+                    return values.isEmpty();
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "toString" -> {
+                    return "FakeDataContainer" + values.keySet();
+                }
+                default -> throw new UnsupportedOperationException(method.getName());
+            }
+        }
+    }
+
+    public static PersistentDataContainer create() {
+        return (PersistentDataContainer) Proxy.newProxyInstance(FakeDataContainer.class.getClassLoader(),
+                new Class<?>[]{PersistentDataContainer.class}, new Values());
+    }
+
+    /** A new container holding the same values, like the copy CraftBukkit makes when item meta is cloned. */
+    public static PersistentDataContainer copy(PersistentDataContainer pdc) {
+        PersistentDataContainer copy = create();
+        values(copy).putAll(values(pdc));
+        return copy;
+    }
+
+    /** Whether two containers hold the same keys and values (arrays compared by content). */
+    public static boolean sameContents(PersistentDataContainer a, PersistentDataContainer b) {
+        Map<NamespacedKey, Stored> first = values(a);
+        Map<NamespacedKey, Stored> second = values(b);
+        if (!first.keySet().equals(second.keySet())) return false;
+        for (Map.Entry<NamespacedKey, Stored> entry : first.entrySet()) {
+            Stored other = second.get(entry.getKey());
+            if (entry.getValue().type() != other.type()
+                    || !Objects.deepEquals(entry.getValue().value(), other.value())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Hash consistent with {@link #sameContents}. */
+    public static int contentHash(PersistentDataContainer pdc) {
+        int hash = 1;
+        for (Map.Entry<NamespacedKey, Stored> entry : values(pdc).entrySet()) {
+            Object value = entry.getValue().value();
+            hash += entry.getKey().hashCode() ^ Arrays.deepHashCode(new Object[]{value});
+        }
+        return hash;
+    }
+
+    private static Map<NamespacedKey, Stored> values(PersistentDataContainer pdc) {
+        return ((Values) Proxy.getInvocationHandler(pdc)).values;
+    }
+}
@@ -0,0 +1,82 @@
+package com.strikesenchantcore.testing;
+
+import net.milkbowl.vault.economy.Economy;
+import net.milkbowl.vault.economy.EconomyResponse;
+import org.bukkit.OfflinePlayer;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Vault {@link Economy} keeping balances in memory by player name. Every deposit succeeds; a
+ * withdrawal succeeds while the balance covers it.
+ */
+public final class FakeEconomy {
+
+    private final Map<String, Double> balances = new ConcurrentHashMap<>();
+    private final Economy economy = Fakes.create(Economy.class, this::handle);
+
+    public Economy getEconomy() {
+        return economy;
+    }
+
+    public double getBalance(String playerName) {
+        return balances.getOrDefault(playerName, 0.0);
+    }
+
+    void reset() {
+        balances.clear();
+    }
+
+    private static String account(Object holder) {
+        return (holder instanceof OfflinePlayer player) ? player.getName() : String.valueOf(holder);
+    }
+
+    private Object handle(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "isEnabled", "hasAccount", "createPlayerAccount" -> {
+                return true;
+            }
+            case "getName" -> {
+                return "FakeEconomy";
+            }
+            case "fractionalDigits" -> {
+                return 2;
+            }
+            case "format" -> {
+                return String.format("%.2f", (Double) args[0]);
+            }
+            case "currencyNamePlural", "currencyNameSingular" -> {
+                return "$";
+            }
+            case "getBalance" -> {
+                return getBalance(account(args[0]));
+            }
+            case "has" -> {
+                return getBalance(account(args[0])) >= (Double) args[args.length - 1];
+            }
+            case "depositPlayer" -> {
+                double amount = (Double) args[args.length - 1];
+                double balance = balances.merge(account(args[0]), amount, Double::sum);
+                return new EconomyResponse(amount, balance, EconomyResponse.ResponseType.SUCCESS, null);
+            }
+            case "withdrawPlayer" -> {
+                String account = account(args[0]);
+                double amount = (Double) args[args.length - 1];
+                double balance = getBalance(account);
+                if (balance < amount) {
+                    return new EconomyResponse(0, balance, EconomyResponse.ResponseType.FAILURE, "Insufficient funds");
+                }
+                balances.put(account, balance - amount);
+                return new EconomyResponse(amount, balance - amount, EconomyResponse.ResponseType.SUCCESS, null);
+            }
+            default -> {
+                if (method.getReturnType() == EconomyResponse.class) {
+                    return new EconomyResponse(0, 0, EconomyResponse.ResponseType.NOT_IMPLEMENTED, method.getName());
+                }
+                return Fakes.UNHANDLED;
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.strikesenchantcore.testing;
+
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemFactory;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.meta.Damageable;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.inventory.meta.Repairable;
+import org.bukkit.persistence.PersistentDataContainer;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * {@link ItemFactory} whose item meta is an in-memory {@link ItemMeta} (also {@link Damageable} and
+ * {@link Repairable}) for every material. Meta keeps display name, lore, flags, enchants, model data
+ * and other plain properties, and is deep-copied on clone like CraftMetaItem, PDC included.
+ */
+public final class FakeItems {
+
+    private FakeItems() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static ItemFactory factory() {
+        return Fakes.create(ItemFactory.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getItemMeta" -> newMeta();
+            case "isApplicable" -> true;
+            case "asMetaFor" -> args[0];
+            case "updateMaterial" -> args[1];
+            case "equals" -> args.length == 2 ? Objects.equals(stateOf(args[0]), stateOf(args[1])) : Fakes.UNHANDLED;
+            default -> Fakes.UNHANDLED;
+        });
+    }
+
+    public static ItemMeta newMeta() {
+        return newMeta(new MetaState());
+    }
+
+    private static ItemMeta newMeta(MetaState state) {
+        return Fakes.create(ItemMeta.class, state, Damageable.class, Repairable.class);
+    }
+
+    /** Null meta compares like empty meta, as in CraftItemFactory. */
+    private static MetaState stateOf(Object meta) {
+        return (meta == null) ? new MetaState() : (MetaState) Fakes.handlerOf(meta);
+    }
+
+    private static final class MetaState implements Fakes.Handler {
+        private final Map<String, Object> properties = new LinkedHashMap<>();
+        private final Set<ItemFlag> flags = EnumSet.noneOf(ItemFlag.class);
+        private final Map<Enchantment, Integer> enchants = new LinkedHashMap<>();
+        private final PersistentDataContainer pdc;
+
+        MetaState() {
+            this.pdc = FakeDataContainer.create();
+        }
+
+        private MetaState(MetaState source) {
+            properties.putAll(source.properties);
+            flags.addAll(source.flags);
+            enchants.putAll(source.enchants);
+            pdc = FakeDataContainer.copy(source.pdc);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "getPersistentDataContainer" -> {
+                    return pdc;
+                }
+                case "clone" -> {
+                    return newMeta(new MetaState(this));
+                }
+                case "getLore" -> {
+                    List<String> lore = (List<String>) properties.get("Lore");
+                    return (lore != null) ? new ArrayList<>(lore) : null;
+                }
+                case "setLore" -> {
+                    List<String> lore = (List<String>) args[0];
+                    if (lore == null || lore.isEmpty()) {
+                        properties.remove("Lore");
+                    } else {
+                        properties.put("Lore", new ArrayList<>(lore));
+                    }
+                    return null;
+                }
+                // --- Flags ---
+                case "addItemFlags" -> {
+                    Collections.addAll(flags, (ItemFlag[]) args[0]);
+                    return null;
+                }
+                case "removeItemFlags" -> {
+                    for (ItemFlag flag : (ItemFlag[]) args[0]) flags.remove(flag);
+                    return null;
+                }
+                case "getItemFlags" -> {
+                    return new HashSet<>(flags);
+                }
+                case "hasItemFlag" -> {
+                    return flags.contains((ItemFlag) args[0]);
+                }
+                // --- Enchants ---
+                case "addEnchant" -> {
+                    Integer previous = enchants.put((Enchantment) args[0], (Integer) args[1]);
+                    return previous == null || previous != (int) (Integer) args[1];
+                }
+                case "removeEnchant" -> {
+                    return enchants.remove((Enchantment) args[0]) != null;
+                }
+                case "getEnchants" -> {
+                    return Collections.unmodifiableMap(new LinkedHashMap<>(enchants));
+                }
+                case "hasEnchants" -> {
+                    return !enchants.isEmpty();
+                }
+                case "hasEnchant" -> {
+                    return enchants.containsKey((Enchantment) args[0]);
+                }
+                case "getEnchantLevel" -> {
+                    return enchants.getOrDefault((Enchantment) args[0], 0);
+                }
+                // --- Object ---
+                case "equals" -> {
+                    return args.length == 1 && equals(Fakes.handlerOf(args[0]));
+                }
+                case "hashCode" -> {
+                    return hashCode();
+                }
+                case "toString" -> {
+                    return "FakeItemMeta" + properties + flags + enchants + pdc;
+                }
+                default -> {
+                    return Fakes.property(properties, method, args);
+                }
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof MetaState state && properties.equals(state.properties) && flags.equals(state.flags)
+                    && enchants.equals(state.enchants) && FakeDataContainer.sameContents(pdc, state.pdc);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(properties, flags, enchants, FakeDataContainer.contentHash(pdc));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.strikesenchantcore.testing;
+
+import org.bukkit.metadata.MetadataValue;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Metadata of one fake block, entity or player, with Bukkit's MetadataStore rules: one value per
+ * key and owning plugin, and removal only of the given plugin's value.
+ */
+final class FakeMetadata {
+
+    private final Map<String, List<MetadataValue>> values = new HashMap<>();
+
+    /** @return The result, or {@link Fakes#UNHANDLED} if the method isn't a Metadatable method. */
+    Object handle(Method method, Object[] args) {
+        switch (method.getName()) {
+            case "setMetadata" -> {
+                MetadataValue value = (MetadataValue) args[1];
+                List<MetadataValue> list = values.computeIfAbsent((String) args[0], key -> new ArrayList<>());
+                list.removeIf(existing -> existing.getOwningPlugin() == value.getOwningPlugin());
+                list.add(value);
+                return null;
+            }
+            case "getMetadata" -> {
+                List<MetadataValue> list = values.get((String) args[0]);
+                return (list != null) ? new ArrayList<>(list) : new ArrayList<MetadataValue>();
+            }
+            case "hasMetadata" -> {
+                return values.containsKey((String) args[0]);
+            }
+            case "removeMetadata" -> {
+                List<MetadataValue> list = values.get((String) args[0]);
+                if (list != null) {
+                    Plugin owner = (Plugin) args[1];
+                    list.removeIf(existing -> existing.getOwningPlugin() == owner);
+                    if (list.isEmpty()) values.remove((String) args[0]);
+                }
+                return null;
+            }
+            default -> {
+                return Fakes.UNHANDLED;
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        return values.isEmpty();
+    }
+}
@@ -0,0 +1,254 @@
+package com.strikesenchantcore.testing;
+
+import net.md_5.bungee.api.ChatMessageType;
+import net.md_5.bungee.api.chat.BaseComponent;
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.persistence.PersistentDataContainer;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An online {@link Player} with every permission, a location, and an inventory that holds the
+ * hotbar but accepts any number of picked up items (they are counted, not stored), so long runs
+ * never fill it. Messages, sounds and particles sent to the player are counted.
+ */
+public final class FakePlayer {
+
+    private static final int INVENTORY_SIZE = 41;
+
+    private final UUID uuid;
+    private final String name;
+    private final Player player;
+    private final PlayerInventory inventory;
+    private final ItemStack[] contents = new ItemStack[INVENTORY_SIZE];
+    private final FakeMetadata metadata = new FakeMetadata();
+    private final PersistentDataContainer pdc = FakeDataContainer.create();
+    private final AtomicInteger messages = new AtomicInteger();
+    private final AtomicInteger sounds = new AtomicInteger();
+    private final AtomicInteger particles = new AtomicInteger();
+    private long pickedUpItems;
+    private int heldSlot;
+    private Location location;
+    private GameMode gameMode = GameMode.SURVIVAL;
+    private volatile boolean online = true;
+
+    FakePlayer(String name, Location location) {
+        this.uuid = UUID.nameUUIDFromBytes(("OfflinePlayer:" + name).getBytes(StandardCharsets.UTF_8));
+        this.name = name;
+        this.location = location.clone();
+        this.player = Fakes.create(Player.class, this::handlePlayer);
+        this.inventory = Fakes.create(PlayerInventory.class, this::handleInventory);
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public UUID getUniqueId() {
+        return uuid;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setLocation(Location location) {
+        this.location = location.clone();
+    }
+
+    public void setGameMode(GameMode gameMode) {
+        this.gameMode = gameMode;
+    }
+
+    /** Puts the item in the held slot. */
+    public void setItemInMainHand(ItemStack item) {
+        contents[heldSlot] = item;
+    }
+
+    public ItemStack getItemInMainHand() {
+        ItemStack item = contents[heldSlot];
+        return (item != null) ? item : new ItemStack(Material.AIR);
+    }
+
+    public long getPickedUpItems() {
+        return pickedUpItems;
+    }
+
+    public int getMessagesReceived() {
+        return messages.get();
+    }
+
+    public int getSoundsReceived() {
+        return sounds.get();
+    }
+
+    public int getParticlesReceived() {
+        return particles.get();
+    }
+
+    void setOnline(boolean online) {
+        this.online = online;
+    }
+
+    private Object handlePlayer(Object proxy, Method method, Object[] args) {
+        Object metadataResult = metadata.handle(method, args);
+        if (metadataResult != Fakes.UNHANDLED) return metadataResult;
+        switch (method.getName()) {
+            case "getUniqueId" -> {
+                return uuid;
+            }
+            case "getName", "getDisplayName", "getPlayerListName" -> {
+                return name;
+            }
+            case "isOnline", "isValid" -> {
+                return online;
+            }
+            case "hasPlayedBefore", "canSee" -> {
+                return true;
+            }
+            case "isDead" -> {
+                return false;
+            }
+            case "hasPermission", "isPermissionSet" -> {
+                return true;
+            }
+            case "getPlayer" -> {
+                return online ? proxy : null;
+            }
+            case "getType" -> {
+                return EntityType.PLAYER;
+            }
+            case "getGameMode" -> {
+                return gameMode;
+            }
+            case "setGameMode" -> {
+                gameMode = (GameMode) args[0];
+                return null;
+            }
+            case "getWorld" -> {
+                return location.getWorld();
+            }
+            case "getLocation" -> {
+                if (args.length == 0) return location.clone();
+                Location target = (Location) args[0];
+                if (target != null) {
+                    target.setWorld(location.getWorld());
+                    target.setX(location.getX());
+                    target.setY(location.getY());
+                    target.setZ(location.getZ());
+                    target.setYaw(location.getYaw());
+                    target.setPitch(location.getPitch());
+                }
+                return target;
+            }
+            case "getEyeLocation" -> {
+                return location.clone().add(0, 1.62, 0);
+            }
+            case "teleport" -> {
+                location = ((Location) args[0]).clone();
+                return true;
+            }
+            case "getInventory" -> {
+                return inventory;
+            }
+            case "getPersistentDataContainer" -> {
+                return pdc;
+            }
+            case "spigot" -> {
+                return new Player.Spigot() {
+                    @Override
+                    public void sendMessage(ChatMessageType position, BaseComponent component) {
+                        messages.incrementAndGet();
+                    }
+
+                    @Override
+                    public void sendMessage(ChatMessageType position, BaseComponent... components) {
+                        messages.incrementAndGet();
+                    }
+                };
+            }
+            case "sendMessage", "sendRawMessage", "sendTitle", "sendActionBar" -> {
+                messages.incrementAndGet();
+                return null;
+            }
+            case "playSound" -> {
+                sounds.incrementAndGet();
+                return null;
+            }
+            case "spawnParticle" -> {
+                particles.incrementAndGet();
+                return null;
+            }
+            case "equals" -> {
+                return args.length == 1 && proxy == args[0];
+            }
+            case "hashCode" -> {
+                return uuid.hashCode();
+            }
+            case "toString" -> {
+                return "FakePlayer{" + name + "}";
+            }
+            default -> {
+                return Fakes.UNHANDLED;
+            }
+        }
+    }
+
+    private Object handleInventory(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getItemInMainHand" -> {
+                return getItemInMainHand();
+            }
+            case "setItemInMainHand" -> {
+                setItemInMainHand((ItemStack) args[0]);
+                return null;
+            }
+            case "getItemInOffHand" -> {
+                return new ItemStack(Material.AIR);
+            }
+            case "getHeldItemSlot" -> {
+                return heldSlot;
+            }
+            case "setHeldItemSlot" -> {
+                heldSlot = (Integer) args[0];
+                return null;
+            }
+            case "getItem" -> {
+                return (args[0] instanceof Integer slot) ? contents[slot] : Fakes.UNHANDLED;
+            }
+            case "setItem" -> {
+                if (!(args[0] instanceof Integer slot)) return Fakes.UNHANDLED;
+                contents[slot] = (ItemStack) args[1];
+                return null;
+            }
+            case "getContents", "getStorageContents" -> {
+                return contents.clone();
+            }
+            case "getSize" -> {
+                return INVENTORY_SIZE;
+            }
+            case "addItem" -> {
+                for (ItemStack item : (ItemStack[]) args[0]) {
+                    if (item != null) pickedUpItems += item.getAmount();
+                }
+                return new HashMap<Integer, ItemStack>();
+            }
+            case "getHolder" -> {
+                return player;
+            }
+            default -> {
+                return Fakes.UNHANDLED;
+            }
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.strikesenchantcore.testing;
+
+import org.bukkit.plugin.IllegalPluginAccessException;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * {@link BukkitScheduler} driven by the test, one {@link #tick()} per server tick. Tasks run in
+ * CraftBukkit's order: a task scheduled during tick N runs on tick N + max(1, delay), sync tasks
+ * on the ticking thread, async tasks on a daemon pool. A task that throws is logged and recorded
+ * with the server ({@link FakeServer#getErrors()}) instead of stopping the tick.
+ */
+public final class FakeScheduler {
+
+    private final FakeServer server;
+    private final BukkitScheduler scheduler = Fakes.create(BukkitScheduler.class, this::handle);
+    private final Map<Integer, Task> tasks = new LinkedHashMap<>();
+    private final List<Future<?>> asyncRuns = new ArrayList<>();
+    private final ExecutorService asyncPool = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "FakeScheduler-Async");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private int nextId = 1;
+    private long currentTick;
+    private Task running;
+
+    FakeScheduler(FakeServer server) {
+        this.server = server;
+    }
+
+    private final class Task {
+        final int id;
+        final Plugin owner;
+        final Object body; // Runnable or Consumer<BukkitTask>
+        final boolean async;
+        final long period; // < 0 for one-shot tasks
+        final BukkitTask handle;
+        long nextRun;
+        volatile boolean cancelled;
+
+        Task(int id, Plugin owner, Object body, boolean async, long delay, long period) {
+            this.id = id;
+            this.owner = owner;
+            this.body = body;
+            this.async = async;
+            this.period = period;
+            this.nextRun = currentTick + Math.max(1L, delay);
+            this.handle = Fakes.create(BukkitTask.class, (proxy, method, args) -> switch (method.getName()) {
+                case "getTaskId" -> id;
+                case "getOwner" -> owner;
+                case "isSync" -> !async;
+                case "isCancelled" -> cancelled;
+                case "cancel" -> {
+                    cancel(id);
+                    yield null;
+                }
+                default -> Fakes.UNHANDLED;
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        void run() {
+            try {
+                if (body instanceof Runnable runnable) {
+                    runnable.run();
+                } else {
+                    ((Consumer<BukkitTask>) body).accept(handle);
+                }
+            } catch (Throwable t) {
+                owner.getLogger().log(Level.WARNING, "Task #" + id + " for " + owner.getName() + " generated an exception", t);
+                server.recordError(t);
+            }
+        }
+    }
+
+    public BukkitScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /** Number of tasks waiting to run, repeating tasks included. */
+    public synchronized int getPendingTaskCount() {
+        return tasks.size();
+    }
+
+    /** Runs one server tick: every sync task that is due, in scheduling order, and starts the due async ones. */
+    public void tick() {
+        List<Task> due;
+        synchronized (this) {
+            currentTick++;
+            due = new ArrayList<>();
+            for (Task task : tasks.values()) {
+                if (task.nextRun <= currentTick) due.add(task);
+            }
+            due.sort(Comparator.comparingLong((Task task) -> task.nextRun).thenComparingInt(task -> task.id));
+        }
+        for (Task task : due) {
+            synchronized (this) {
+                if (task.cancelled) continue;
+                if (task.period < 0) {
+                    tasks.remove(task.id);
+                } else {
+                    task.nextRun = currentTick + Math.max(1L, task.period);
+                }
+            }
+            if (task.async) {
+                synchronized (asyncRuns) {
+                    asyncRuns.add(asyncPool.submit(task::run));
+                }
+            } else {
+                running = task;
+                try {
+                    task.run();
+                } finally {
+                    running = null;
+                }
+            }
+        }
+    }
+
+    public void tick(int ticks) {
+        for (int i = 0; i < ticks; i++) tick();
+    }
+
+    /** Waits until every async run started so far has finished. */
+    public void awaitAsync(long timeout, TimeUnit unit) throws TimeoutException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (true) {
+            List<Future<?>> pending;
+            synchronized (asyncRuns) {
+                asyncRuns.removeIf(Future::isDone);
+                if (asyncRuns.isEmpty()) return;
+                pending = new ArrayList<>(asyncRuns);
+            }
+            for (Future<?> future : pending) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) throw new TimeoutException(pending.size() + " async tasks still running");
+                try {
+                    future.get(remaining, TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    throw e;
+                } catch (Exception ignored) {
+                    // Failures were already recorded by the task itself
+                }
+            }
+        }
+    }
+
+    /** Cancels every task and forgets the tick count. */
+    synchronized void reset() {
+        for (Task task : tasks.values()) task.cancelled = true;
+        tasks.clear();
+        currentTick = 0L;
+    }
+
+    // --- BukkitScheduler ---
+
+    private Object handle(Object proxy, Method method, Object[] args) {
+        String name = method.getName();
+        if (name.startsWith("runTask") || name.startsWith("schedule")) {
+            boolean async = name.contains("Async");
+            boolean repeating = name.contains("Timer") || name.contains("Repeating");
+            long delay = (args.length > 2) ? (Long) args[2] : 0L;
+            long period = repeating && args.length > 3 ? (Long) args[3] : -1L;
+            Task task = schedule((Plugin) args[0], args[1], async, delay, period);
+            if (method.getReturnType() == int.class) return task.id;
+            if (method.getReturnType() == void.class) return null;
+            return task.handle;
+        }
+        switch (name) {
+            case "callSyncMethod" -> {
+                FutureTask<?> future = new FutureTask<>((Callable<?>) args[1]);
+                schedule((Plugin) args[0], future, false, 0L, -1L);
+                return future;
+            }
+            case "cancelTask" -> {
+                cancel((Integer) args[0]);
+                return null;
+            }
+            case "cancelTasks" -> {
+                synchronized (this) {
+                    for (Iterator<Task> it = tasks.values().iterator(); it.hasNext(); ) {
+                        Task task = it.next();
+                        if (task.owner == args[0]) {
+                            task.cancelled = true;
+                            it.remove();
+                        }
+                    }
+                }
+                return null;
+            }
+            case "isQueued" -> {
+                synchronized (this) {
+                    return tasks.containsKey((Integer) args[0]);
+                }
+            }
+            case "isCurrentlyRunning" -> {
+                Task current = running;
+                return current != null && current.id == (Integer) args[0];
+            }
+            case "getPendingTasks" -> {
+                synchronized (this) {
+                    List<BukkitTask> pending = new ArrayList<>();
+                    for (Task task : tasks.values()) pending.add(task.handle);
+                    return pending;
+                }
+            }
+            default -> {
+                return Fakes.UNHANDLED;
+            }
+        }
+    }
+
+    private synchronized Task schedule(Plugin owner, Object body, boolean async, long delay, long period) {
+        if (!owner.isEnabled()) {
+            throw new IllegalPluginAccessException("Plugin attempted to register task while disabled");
+        }
+        Task task = new Task(nextId++, owner, body, async, delay, period);
+        tasks.put(task.id, task);
+        return task;
+    }
+
+    private synchronized void cancel(int id) {
+        Task task = tasks.remove(id);
+        if (task != null) task.cancelled = true;
+    }
+}
@@ -0,0 +1,619 @@
+package com.strikesenchantcore.testing;
+
+import com.strikesenchantcore.EnchantCore;
+import com.strikesenchantcore.util.WorldGuardHook;
+import net.milkbowl.vault.economy.Economy;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.Registry;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventException;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.ItemFactory;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.plugin.InvalidDescriptionException;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.plugin.RegisteredServiceProvider;
+import org.bukkit.plugin.ServicePriority;
+import org.bukkit.plugin.ServicesManager;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.java.JavaPluginLoader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * In-memory Bukkit {@link Server} for tests and benchmarks, in the spirit of MockBukkit: worlds
+ * and players are fakes, the scheduler only runs when the test ticks it, and EnchantCore is
+ * enabled through its real {@code onLoad}/{@code onEnable} with a fake Vault economy and,
+ * optionally, a {@link FakeWorldGuardHook}.
+ * <p>
+ * Bukkit allows one server per JVM, so there is a single instance; {@link #reset()} disables
+ * the plugins and forgets all state between tests. Exceptions thrown by tasks and event handlers
+ * are logged and collected in {@link #getErrors()} rather than thrown, as on a real server.
+ * Log output below the level of the {@code enchantcore.test.logLevel} system property (default
+ * WARNING) is dropped.
+ */
+public final class FakeServer {
+
+    private static FakeServer instance;
+
+    private final Logger logger = Logger.getLogger("FakeServer");
+    private final Server server = Fakes.create(Server.class, this::handleServer);
+    private final PluginManager pluginManager = Fakes.create(PluginManager.class, this::handlePluginManager);
+    private final ServicesManager servicesManager = Fakes.create(ServicesManager.class, this::handleServicesManager);
+    private final ItemFactory itemFactory = FakeItems.factory();
+    private final FakeScheduler scheduler = new FakeScheduler(this);
+    private final FakeEconomy economy = new FakeEconomy();
+    private final Map<String, Plugin> plugins = new LinkedHashMap<>();
+    private final Map<String, PluginCommand> commands = new HashMap<>();
+    private final Map<Class<?>, RegisteredServiceProvider<?>> services = new HashMap<>();
+    private final Map<UUID, FakePlayer> players = new LinkedHashMap<>();
+    private final Map<String, FakeWorld> worlds = new LinkedHashMap<>();
+    private final List<Registration> registrations = new ArrayList<>();
+    private final Map<Class<?>, List<Registration>> registrationCache = new HashMap<>();
+    private final List<Throwable> errors = new CopyOnWriteArrayList<>();
+    private final List<String> dispatchedCommands = new CopyOnWriteArrayList<>();
+    private final List<Path> tempFolders = new ArrayList<>();
+    private volatile Thread mainThread = Thread.currentThread();
+
+    private record Registration(Plugin plugin, Listener listener, Class<?> eventType, EventPriority priority,
+                                boolean ignoreCancelled, EventExecutor executor) {}
+
+    private FakeServer() {
+        logger.setUseParentHandlers(false);
+        ConsoleHandler handler = new ConsoleHandler();
+        handler.setLevel(Level.parse(System.getProperty("enchantcore.test.logLevel", "WARNING")));
+        logger.addHandler(handler);
+    }
+
+    /** The JVM-wide fake server, installed as Bukkit's server on first use. */
+    public static synchronized FakeServer get() {
+        if (instance == null) {
+            instance = new FakeServer();
+            Bukkit.setServer(instance.server);
+        }
+        return instance;
+    }
+
+    public Server getServer() {
+        return server;
+    }
+
+    public FakeScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public FakeEconomy getEconomy() {
+        return economy;
+    }
+
+    public Logger getLogger() {
+        return logger;
+    }
+
+    /** Exceptions thrown by scheduled tasks and event handlers since the last reset. */
+    public List<Throwable> getErrors() {
+        return errors;
+    }
+
+    void recordError(Throwable error) {
+        errors.add(error);
+    }
+
+    public List<String> getDispatchedCommands() {
+        return dispatchedCommands;
+    }
+
+    /** Disables every plugin and forgets worlds, players, tasks, listeners and errors. */
+    public synchronized void reset() {
+        for (Plugin plugin : new ArrayList<>(plugins.values())) {
+            if (plugin instanceof JavaPlugin javaPlugin) disable(javaPlugin);
+        }
+        scheduler.reset();
+        economy.reset();
+        plugins.clear();
+        commands.clear();
+        services.clear();
+        players.clear();
+        worlds.clear();
+        registrations.clear();
+        registrationCache.clear();
+        errors.clear();
+        dispatchedCommands.clear();
+        for (Path folder : tempFolders) deleteRecursively(folder);
+        tempFolders.clear();
+        mainThread = Thread.currentThread();
+    }
+
+    // --- Worlds & Players ---
+
+    public FakeWorld addWorld(String name) {
+        FakeWorld world = new FakeWorld(this, name);
+        worlds.put(name, world);
+        return world;
+    }
+
+    /** Adds an online player and calls PlayerJoinEvent, as when the player logs in. */
+    public FakePlayer addPlayer(String name, Location location) {
+        FakePlayer player = new FakePlayer(name, location);
+        players.put(player.getUniqueId(), player);
+        callEvent(new PlayerJoinEvent(player.getPlayer(), name + " joined the game"));
+        return player;
+    }
+
+    /** Calls PlayerQuitEvent and takes the player offline. */
+    public void removePlayer(FakePlayer player) {
+        callEvent(new PlayerQuitEvent(player.getPlayer(), player.getName() + " left the game"));
+        players.remove(player.getUniqueId());
+        player.setOnline(false);
+    }
+
+    public List<Player> getOnlinePlayers() {
+        List<Player> online = new ArrayList<>(players.size());
+        for (FakePlayer player : players.values()) online.add(player.getPlayer());
+        return online;
+    }
+
+    // --- Events ---
+
+    /** Calls the event on every matching handler by priority, like SimplePluginManager. */
+    public <T extends Event> T callEvent(T event) {
+        List<Registration> handlers;
+        synchronized (registrations) {
+            handlers = registrationCache.computeIfAbsent(event.getClass(), type -> registrations.stream()
+                    .filter(registration -> registration.eventType().isAssignableFrom(type))
+                    .sorted(Comparator.comparingInt(registration -> registration.priority().ordinal()))
+                    .toList());
+        }
+        for (Registration registration : handlers) {
+            if (!registration.plugin().isEnabled()) continue;
+            if (registration.ignoreCancelled() && event instanceof Cancellable cancellable && cancellable.isCancelled()) continue;
+            try {
+                registration.executor().execute(registration.listener(), event);
+            } catch (Throwable t) {
+                Throwable cause = (t.getCause() != null) ? t.getCause() : t;
+                logger.log(Level.SEVERE, "Could not pass event " + event.getEventName() + " to " + registration.plugin().getName(), cause);
+                recordError(cause);
+            }
+        }
+        return event;
+    }
+
+    private void registerEvents(Listener listener, Plugin plugin) {
+        Set<Method> methods = new LinkedHashSet<>(List.of(listener.getClass().getMethods()));
+        methods.addAll(List.of(listener.getClass().getDeclaredMethods()));
+        for (Method method : methods) {
+            EventHandler annotation = method.getAnnotation(EventHandler.class);
+            if (annotation == null || method.isBridge() || method.isSynthetic()) continue;
+            if (method.getParameterCount() != 1 || !Event.class.isAssignableFrom(method.getParameterTypes()[0])) continue;
+            method.setAccessible(true);
+            EventExecutor executor = (target, event) -> {
+                try {
+                    method.invoke(target, event);
+                } catch (InvocationTargetException e) {
+                    throw new EventException(e.getCause());
+                } catch (IllegalAccessException e) {
+                    throw new EventException(e);
+                }
+            };
+            addRegistration(new Registration(plugin, listener, method.getParameterTypes()[0], annotation.priority(),
+                    annotation.ignoreCancelled(), executor));
+        }
+    }
+
+    private void addRegistration(Registration registration) {
+        synchronized (registrations) {
+            registrations.add(registration);
+            registrationCache.clear();
+        }
+    }
+
+    // --- EnchantCore ---
+
+    /**
+     * Creates EnchantCore with a fresh data folder and runs onLoad and onEnable. A fake Vault with
+     * {@link #getEconomy()} is installed first.
+     * @param configure  Runs on the empty data folder before enabling, e.g. to write config files. May be null.
+     * @param worldGuard Creates the WorldGuard hook the plugin uses. May be null for no hook, which also
+     *                   leaves the block break listener unregistered.
+     */
+    public synchronized EnchantCore enableEnchantCore(Consumer<File> configure,
+                                                      Function<EnchantCore, ? extends WorldGuardHook> worldGuard) {
+        mainThread = Thread.currentThread();
+        installVault();
+        try {
+            Path root = Files.createTempDirectory("enchantcore-server");
+            tempFolders.add(root);
+            File pluginsFolder = root.resolve("plugins").toFile();
+            File dataFolder = new File(pluginsFolder, "EnchantCore");
+            if (!dataFolder.mkdirs()) throw new IOException("Could not create " + dataFolder);
+            disableBStats(new File(pluginsFolder, "bStats"));
+            if (configure != null) configure.accept(dataFolder);
+
+            PluginDescriptionFile description;
+            try (InputStream in = EnchantCore.class.getClassLoader().getResourceAsStream("plugin.yml")) {
+                if (in == null) throw new IOException("plugin.yml is not on the classpath");
+                description = new PluginDescriptionFile(in);
+            }
+            Constructor<EnchantCore> constructor = EnchantCore.class.getDeclaredConstructor(
+                    JavaPluginLoader.class, PluginDescriptionFile.class, File.class, File.class);
+            constructor.setAccessible(true);
+            EnchantCore plugin = constructor.newInstance(new JavaPluginLoader(server), description, dataFolder,
+                    new File(pluginsFolder, "EnchantCore.jar"));
+            plugins.put(description.getName(), plugin);
+            registerCommands(plugin, description);
+
+            plugin.onLoad();
+            if (worldGuard != null) {
+                Field hookField = EnchantCore.class.getDeclaredField("worldGuardHook");
+                hookField.setAccessible(true);
+                hookField.set(plugin, worldGuard.apply(plugin));
+            }
+            setEnabled(plugin, true);
+            if (!plugin.isEnabled()) throw new IllegalStateException("EnchantCore disabled itself during onEnable");
+            return plugin;
+        } catch (IOException | InvalidDescriptionException | ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not enable EnchantCore", e);
+        }
+    }
+
+    /**
+     * Writes one of the plugin's default config files into the data folder after editing it, for use
+     * in the configure step of {@link #enableEnchantCore}. The plugin then loads it instead of its default.
+     * @param resource The file name in the plugin jar, e.g. "config.yml".
+     */
+    public static void writeConfig(File dataFolder, String resource, Consumer<YamlConfiguration> edit) {
+        try (InputStream in = EnchantCore.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) throw new IOException(resource + " is not on the classpath");
+            YamlConfiguration config;
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                config = YamlConfiguration.loadConfiguration(reader);
+            }
+            edit.accept(config);
+            config.save(new File(dataFolder, resource));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Runs onDisable and drops the plugin's tasks, listeners and commands. */
+    public synchronized void disable(JavaPlugin plugin) {
+        if (plugin.isEnabled()) {
+            try {
+                setEnabled(plugin, false);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Could not disable " + plugin.getName(), e);
+            }
+        }
+        scheduler.getScheduler().cancelTasks(plugin);
+        synchronized (registrations) {
+            registrations.removeIf(registration -> registration.plugin() == plugin);
+            registrationCache.clear();
+        }
+        commands.values().removeIf(command -> command.getPlugin() == plugin);
+        plugins.remove(plugin.getName());
+    }
+
+    private static void setEnabled(JavaPlugin plugin, boolean enabled) throws ReflectiveOperationException {
+        Method setEnabled = JavaPlugin.class.getDeclaredMethod("setEnabled", boolean.class);
+        setEnabled.setAccessible(true);
+        try {
+            setEnabled.invoke(plugin, enabled);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException((enabled ? "onEnable" : "onDisable") + " of " + plugin.getName() + " failed", e.getCause());
+        }
+    }
+
+    private void registerCommands(Plugin plugin, PluginDescriptionFile description) throws ReflectiveOperationException {
+        Constructor<PluginCommand> constructor = PluginCommand.class.getDeclaredConstructor(String.class, Plugin.class);
+        constructor.setAccessible(true);
+        String prefix = description.getName().toLowerCase(Locale.ROOT) + ":";
+        for (String name : description.getCommands().keySet()) {
+            PluginCommand command = constructor.newInstance(name, plugin);
+            commands.put(name.toLowerCase(Locale.ROOT), command);
+            commands.put(prefix + name.toLowerCase(Locale.ROOT), command);
+        }
+    }
+
+    private void installVault() {
+        if (plugins.containsKey("Vault")) return;
+        Plugin vault = fakePlugin("Vault", "1.7.3", "net.milkbowl.vault.Vault");
+        plugins.put("Vault", vault);
+        services.put(Economy.class, new RegisteredServiceProvider<>(Economy.class, economy.getEconomy(), ServicePriority.Normal, vault));
+    }
+
+    private Plugin fakePlugin(String name, String version, String main) {
+        PluginDescriptionFile description = new PluginDescriptionFile(name, version, main);
+        return Fakes.create(Plugin.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getName" -> name;
+            case "getDescription" -> description;
+            case "isEnabled" -> true;
+            case "getLogger" -> logger;
+            case "getServer" -> server;
+            default -> Fakes.UNHANDLED;
+        });
+    }
+
+    /** bStats reads this before the relocation check; disabled, it never sends anything. */
+    private static void disableBStats(File folder) throws IOException {
+        if (!folder.mkdirs()) throw new IOException("Could not create " + folder);
+        Files.writeString(new File(folder, "config.yml").toPath(), "enabled: false\n"
+                + "serverUuid: \"" + UUID.randomUUID() + "\"\n"
+                + "logFailedRequests: false\n"
+                + "logSentData: false\n"
+                + "logResponseStatusText: false\n", StandardCharsets.UTF_8);
+    }
+
+    private static void deleteRecursively(Path root) {
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException ignored) {
+            // Temp folder, the OS cleans it up eventually
+        }
+    }
+
+    // --- Server ---
+
+    private Player findPlayer(Object key, boolean exact) {
+        if (key instanceof UUID uuid) {
+            FakePlayer player = players.get(uuid);
+            return (player != null) ? player.getPlayer() : null;
+        }
+        String name = String.valueOf(key).toLowerCase(Locale.ROOT);
+        for (FakePlayer player : players.values()) {
+            String playerName = player.getName().toLowerCase(Locale.ROOT);
+            if (exact ? playerName.equals(name) : playerName.startsWith(name)) return player.getPlayer();
+        }
+        return null;
+    }
+
+    private OfflinePlayer offlinePlayer(Object key) {
+        Player online = findPlayer(key, true);
+        if (online != null) return online;
+        UUID uuid = (key instanceof UUID id) ? id
+                : UUID.nameUUIDFromBytes(("OfflinePlayer:" + key).getBytes(StandardCharsets.UTF_8));
+        String name = (key instanceof UUID) ? null : String.valueOf(key);
+        return Fakes.create(OfflinePlayer.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getUniqueId" -> uuid;
+            case "getName" -> name;
+            default -> Fakes.UNHANDLED;
+        });
+    }
+
+    private Entity findEntity(UUID uuid) {
+        FakePlayer player = players.get(uuid);
+        if (player != null) return player.getPlayer();
+        for (FakeWorld world : worlds.values()) {
+            Entity entity = world.getEntity(uuid);
+            if (entity != null) return entity;
+        }
+        return null;
+    }
+
+    private Object handleServer(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getLogger" -> {
+                return logger;
+            }
+            case "getName" -> {
+                return "FakeServer";
+            }
+            case "getVersion" -> {
+                return "FakeServer (MC: 1.20.1)";
+            }
+            case "getBukkitVersion" -> {
+                return "1.20.1-R0.1-SNAPSHOT";
+            }
+            case "getScheduler" -> {
+                return scheduler.getScheduler();
+            }
+            case "getPluginManager" -> {
+                return pluginManager;
+            }
+            case "getServicesManager" -> {
+                return servicesManager;
+            }
+            case "getItemFactory" -> {
+                return itemFactory;
+            }
+            case "isPrimaryThread" -> {
+                return Thread.currentThread() == mainThread;
+            }
+            case "createBlockData" -> {
+                return (args[0] instanceof Material material) ? FakeBlockData.of(material) : FakeBlockData.parse((String) args[0]);
+            }
+            case "getPlayer" -> {
+                return findPlayer(args[0], false);
+            }
+            case "getPlayerExact" -> {
+                return findPlayer(args[0], true);
+            }
+            case "getOnlinePlayers" -> {
+                return getOnlinePlayers();
+            }
+            case "getOfflinePlayer" -> {
+                return offlinePlayer(args[0]);
+            }
+            case "getWorld" -> {
+                if (args[0] instanceof UUID uuid) {
+                    for (FakeWorld world : worlds.values()) {
+                        if (world.getWorld().getUID().equals(uuid)) return world.getWorld();
+                    }
+                    return null;
+                }
+                FakeWorld world = worlds.get((String) args[0]);
+                return (world != null) ? world.getWorld() : null;
+            }
+            case "getWorlds" -> {
+                List<World> list = new ArrayList<>();
+                for (FakeWorld world : worlds.values()) list.add(world.getWorld());
+                return list;
+            }
+            case "getEntity" -> {
+                return findEntity((UUID) args[0]);
+            }
+            case "getPluginCommand" -> {
+                return commands.get(((String) args[0]).toLowerCase(Locale.ROOT));
+            }
+            case "createBossBar" -> {
+                List<Player> viewers = new ArrayList<>();
+                Map<String, Object> properties = new HashMap<>();
+                return Fakes.create(method.getReturnType(), (bar, barMethod, barArgs) -> switch (barMethod.getName()) {
+                    case "addPlayer" -> {
+                        viewers.add((Player) barArgs[0]);
+                        yield null;
+                    }
+                    case "removePlayer" -> {
+                        viewers.remove((Player) barArgs[0]);
+                        yield null;
+                    }
+                    case "removeAll" -> {
+                        viewers.clear();
+                        yield null;
+                    }
+                    case "getPlayers" -> new ArrayList<>(viewers);
+                    default -> Fakes.property(properties, barMethod, barArgs);
+                });
+            }
+            case "getConsoleSender" -> {
+                return Fakes.create(ConsoleCommandSender.class, (sender, senderMethod, senderArgs) -> switch (senderMethod.getName()) {
+                    case "getName" -> "CONSOLE";
+                    case "hasPermission", "isOp" -> true;
+                    default -> Fakes.UNHANDLED;
+                });
+            }
+            case "dispatchCommand" -> {
+                dispatchedCommands.add((String) args[1]);
+                return true;
+            }
+            case "getRegistry" -> {
+                return Fakes.empty(Registry.class);
+            }
+            case "getMaxPlayers" -> {
+                return 100;
+            }
+            case "getViewDistance", "getSimulationDistance" -> {
+                return 10;
+            }
+            default -> {
+                return Fakes.UNHANDLED;
+            }
+        }
+    }
+
+    private Object handlePluginManager(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getPlugin" -> {
+                return plugins.get((String) args[0]);
+            }
+            case "getPlugins" -> {
+                return plugins.values().toArray(new Plugin[0]);
+            }
+            case "isPluginEnabled" -> {
+                Plugin plugin = (args[0] instanceof Plugin p) ? p : plugins.get((String) args[0]);
+                return plugin != null && plugin.isEnabled();
+            }
+            case "registerEvents" -> {
+                registerEvents((Listener) args[0], (Plugin) args[1]);
+                return null;
+            }
+            case "registerEvent" -> {
+                boolean ignoreCancelled = args.length > 5 && (Boolean) args[5];
+                addRegistration(new Registration((Plugin) args[4], (Listener) args[1], (Class<?>) args[0],
+                        (EventPriority) args[2], ignoreCancelled, (EventExecutor) args[3]));
+                return null;
+            }
+            case "callEvent" -> {
+                callEvent((Event) args[0]);
+                return null;
+            }
+            case "disablePlugin" -> {
+                if (args[0] instanceof JavaPlugin plugin) disable(plugin);
+                return null;
+            }
+            default -> {
+                return Fakes.UNHANDLED;
+            }
+        }
+    }
+
+    private Object handleServicesManager(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "register" -> {
+                registerService((Class<?>) args[0], args[1], (Plugin) args[2], (ServicePriority) args[3]);
+                return null;
+            }
+            case "getRegistration" -> {
+                return services.get((Class<?>) args[0]);
+            }
+            case "getRegistrations" -> {
+                if (!(args[0] instanceof Class<?> service)) return Fakes.UNHANDLED;
+                RegisteredServiceProvider<?> provider = services.get(service);
+                return (provider != null) ? new ArrayList<>(List.of(provider)) : new ArrayList<>();
+            }
+            case "load" -> {
+                RegisteredServiceProvider<?> provider = services.get((Class<?>) args[0]);
+                return (provider != null) ? provider.getProvider() : null;
+            }
+            case "isProvidedFor" -> {
+                return services.containsKey((Class<?>) args[0]);
+            }
+            case "getKnownServices" -> {
+                return new LinkedHashSet<>(services.keySet());
+            }
+            default -> {
+                return Fakes.UNHANDLED;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void registerService(Class<T> service, Object provider, Plugin plugin, ServicePriority priority) {
+        services.put(service, new RegisteredServiceProvider<>(service, (T) provider, priority, plugin));
+    }
+}
@@ -0,0 +1,386 @@
+package com.strikesenchantcore.testing;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.persistence.PersistentDataContainer;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * A flat in-memory {@link World}: every block is AIR until set, and {@code spawn} creates fake
+ * entities of the requested type that stay valid until removed. Blocks compare equal by world and
+ * position like CraftBlock, so they work as map keys.
+ */
+public final class FakeWorld {
+
+    private static final AtomicInteger NEXT_ENTITY_ID = new AtomicInteger(1);
+
+    private final FakeServer server;
+    private final String name;
+    private final UUID uid = UUID.randomUUID();
+    private final World world;
+    private final Map<Long, Material> blocks = new HashMap<>();
+    private final Map<Long, FakeMetadata> blockMetadata = new HashMap<>();
+    private final Map<UUID, Entity> entities = new LinkedHashMap<>();
+    private int blockChanges;
+
+    FakeWorld(FakeServer server, String name) {
+        this.server = server;
+        this.name = name;
+        this.world = Fakes.create(World.class, this::handleWorld);
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMinHeight() {
+        return -64;
+    }
+
+    public int getMaxHeight() {
+        return 320;
+    }
+
+    // --- Blocks ---
+
+    private static long key(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    public Material getType(int x, int y, int z) {
+        return blocks.getOrDefault(key(x, y, z), Material.AIR);
+    }
+
+    public void setType(int x, int y, int z, Material material) {
+        if (material == null || material.isAir()) {
+            blocks.remove(key(x, y, z));
+        } else {
+            blocks.put(key(x, y, z), material);
+        }
+        blockChanges++;
+    }
+
+    /** Sets every block of the cuboid (corners inclusive, in any order). */
+    public void fill(int x1, int y1, int z1, int x2, int y2, int z2, Material material) {
+        for (int x = Math.min(x1, x2); x <= Math.max(x1, x2); x++) {
+            for (int y = Math.min(y1, y2); y <= Math.max(y1, y2); y++) {
+                for (int z = Math.min(z1, z2); z <= Math.max(z1, z2); z++) {
+                    setType(x, y, z, material);
+                }
+            }
+        }
+    }
+
+    /** Counts the blocks of the cuboid (corners inclusive) that are not air. */
+    public int countSolid(int x1, int y1, int z1, int x2, int y2, int z2) {
+        int count = 0;
+        for (int x = Math.min(x1, x2); x <= Math.max(x1, x2); x++) {
+            for (int y = Math.min(y1, y2); y <= Math.max(y1, y2); y++) {
+                for (int z = Math.min(z1, z2); z <= Math.max(z1, z2); z++) {
+                    if (blocks.containsKey(key(x, y, z))) count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /** Number of block changes so far, including the test's own. */
+    public int getBlockChanges() {
+        return blockChanges;
+    }
+
+    public Block getBlockAt(int x, int y, int z) {
+        return Fakes.create(Block.class, new BlockHandler(x, y, z));
+    }
+
+    private int getHighestBlockYAt(int x, int z) {
+        for (int y = getMaxHeight() - 1; y >= getMinHeight(); y--) {
+            if (blocks.containsKey(key(x, y, z))) return y;
+        }
+        return getMinHeight();
+    }
+
+    private final class BlockHandler implements Fakes.Handler {
+        private final int x;
+        private final int y;
+        private final int z;
+
+        BlockHandler(int x, int y, int z) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "getType" -> {
+                    return getType(x, y, z);
+                }
+                case "setType" -> {
+                    setType(x, y, z, (Material) args[0]);
+                    return null;
+                }
+                case "getBlockData" -> {
+                    return FakeBlockData.of(getType(x, y, z));
+                }
+                case "setBlockData" -> {
+                    setType(x, y, z, ((BlockData) args[0]).getMaterial());
+                    return null;
+                }
+                case "isEmpty" -> {
+                    return getType(x, y, z).isAir();
+                }
+                case "isLiquid" -> {
+                    Material type = getType(x, y, z);
+                    return type == Material.WATER || type == Material.LAVA;
+                }
+                case "getDrops" -> {
+                    Material type = getType(x, y, z);
+                    List<ItemStack> drops = new ArrayList<>();
+                    if (type.isItem() && !type.isAir()) drops.add(new ItemStack(type));
+                    return drops;
+                }
+                case "breakNaturally" -> {
+                    if (getType(x, y, z).isAir()) return false;
+                    setType(x, y, z, Material.AIR);
+                    return true;
+                }
+                case "getRelative" -> {
+                    if (args.length == 3) return getBlockAt(x + (Integer) args[0], y + (Integer) args[1], z + (Integer) args[2]);
+                    BlockFace face = (BlockFace) args[0];
+                    int distance = (args.length > 1) ? (Integer) args[1] : 1;
+                    return getBlockAt(x + face.getModX() * distance, y + face.getModY() * distance, z + face.getModZ() * distance);
+                }
+                case "getLocation" -> {
+                    if (args.length == 0) return new Location(world, x, y, z);
+                    Location location = (Location) args[0];
+                    if (location != null) {
+                        location.setWorld(world);
+                        location.setX(x);
+                        location.setY(y);
+                        location.setZ(z);
+                        location.setYaw(0);
+                        location.setPitch(0);
+                    }
+                    return location;
+                }
+                case "getWorld" -> {
+                    return world;
+                }
+                case "getX" -> {
+                    return x;
+                }
+                case "getY" -> {
+                    return y;
+                }
+                case "getZ" -> {
+                    return z;
+                }
+                case "setMetadata", "getMetadata", "hasMetadata", "removeMetadata" -> {
+                    long key = key(x, y, z);
+                    FakeMetadata metadata = blockMetadata.computeIfAbsent(key, k -> new FakeMetadata());
+                    Object result = metadata.handle(method, args);
+                    if (metadata.isEmpty()) blockMetadata.remove(key);
+                    return result;
+                }
+                case "equals" -> {
+                    return args.length == 1 && Fakes.handlerOf(args[0]) instanceof BlockHandler other
+                            && other.world() == world && other.x == x && other.y == y && other.z == z;
+                }
+                case "hashCode" -> {
+                    return ((world.hashCode() * 31 + y) * 31 + x) * 31 + z;
+                }
+                case "toString" -> {
+                    return "FakeBlock{" + name + "," + x + "," + y + "," + z + "=" + getType(x, y, z) + "}";
+                }
+                default -> {
+                    return Fakes.UNHANDLED;
+                }
+            }
+        }
+
+        private World world() {
+            return world;
+        }
+    }
+
+    // --- Entities ---
+
+    /** Spawns a fake entity of the given type; {@code function} runs before it is added, like Bukkit's. */
+    public <T extends Entity> T spawn(Location location, Class<T> type, Consumer<? super T> function) {
+        EntityHandler handler = new EntityHandler(type, location);
+        T entity = Fakes.create(type, handler);
+        if (function != null) function.accept(entity);
+        entities.put(handler.uuid, entity);
+        return entity;
+    }
+
+    /** Entities that are still valid. */
+    public List<Entity> getEntities() {
+        return new ArrayList<>(entities.values());
+    }
+
+    Entity getEntity(UUID uuid) {
+        return entities.get(uuid);
+    }
+
+    /** Entity state shared by every fake entity type; type specific setters and getters are stored as properties. */
+    private final class EntityHandler implements Fakes.Handler {
+        private final UUID uuid = UUID.randomUUID();
+        private final int entityId = NEXT_ENTITY_ID.getAndIncrement();
+        private final EntityType entityType;
+        private final Map<String, Object> properties = new HashMap<>();
+        private final FakeMetadata metadata = new FakeMetadata();
+        private final PersistentDataContainer pdc = FakeDataContainer.create();
+        private Location location;
+        private boolean removed;
+
+        EntityHandler(Class<? extends Entity> type, Location location) {
+            this.location = location.clone();
+            this.entityType = entityTypeOf(type);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            Object metadataResult = metadata.handle(method, args);
+            if (metadataResult != Fakes.UNHANDLED) return metadataResult;
+            switch (method.getName()) {
+                case "getUniqueId" -> {
+                    return uuid;
+                }
+                case "getEntityId" -> {
+                    return entityId;
+                }
+                case "getType" -> {
+                    return entityType;
+                }
+                case "getWorld" -> {
+                    return world;
+                }
+                case "getLocation" -> {
+                    if (args.length == 0) return location.clone();
+                    Location target = (Location) args[0];
+                    if (target != null) {
+                        target.setWorld(location.getWorld());
+                        target.setX(location.getX());
+                        target.setY(location.getY());
+                        target.setZ(location.getZ());
+                        target.setYaw(location.getYaw());
+                        target.setPitch(location.getPitch());
+                    }
+                    return target;
+                }
+                case "teleport" -> {
+                    if (removed) return false;
+                    location = (args[0] instanceof Entity other) ? other.getLocation() : ((Location) args[0]).clone();
+                    return true;
+                }
+                case "isValid" -> {
+                    return !removed;
+                }
+                case "isDead" -> {
+                    return removed;
+                }
+                case "remove" -> {
+                    removed = true;
+                    entities.remove(uuid);
+                    return null;
+                }
+                case "getPersistentDataContainer" -> {
+                    return pdc;
+                }
+                default -> {
+                    return Fakes.property(properties, method, args);
+                }
+            }
+        }
+    }
+
+    private static EntityType entityTypeOf(Class<? extends Entity> type) {
+        for (EntityType entityType : EntityType.values()) {
+            if (entityType.getEntityClass() == type) return entityType;
+        }
+        return EntityType.UNKNOWN;
+    }
+
+    // --- World ---
+
+    private List<Player> getPlayers() {
+        List<Player> players = new ArrayList<>();
+        for (Player player : server.getOnlinePlayers()) {
+            if (player.getWorld() == world) players.add(player);
+        }
+        return players;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object handleWorld(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getName" -> {
+                return name;
+            }
+            case "getUID" -> {
+                return uid;
+            }
+            case "getMinHeight" -> {
+                return getMinHeight();
+            }
+            case "getMaxHeight" -> {
+                return getMaxHeight();
+            }
+            case "getEnvironment" -> {
+                return World.Environment.NORMAL;
+            }
+            case "getBlockAt" -> {
+                if (args.length == 3) return getBlockAt((Integer) args[0], (Integer) args[1], (Integer) args[2]);
+                Location location = (Location) args[0];
+                return getBlockAt(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+            }
+            case "getHighestBlockYAt" -> {
+                if (args[0] instanceof Location location) return getHighestBlockYAt(location.getBlockX(), location.getBlockZ());
+                return getHighestBlockYAt((Integer) args[0], (Integer) args[1]);
+            }
+            case "isChunkLoaded" -> {
+                return true;
+            }
+            case "getPlayers" -> {
+                return getPlayers();
+            }
+            case "getEntities" -> {
+                return getEntities();
+            }
+            case "spawn" -> {
+                Consumer<Entity> function = null;
+                for (Object arg : args) {
+                    if (arg instanceof Consumer<?> consumer) function = (Consumer<Entity>) consumer;
+                }
+                return spawn((Location) args[0], (Class<Entity>) args[1], function);
+            }
+            default -> {
+                return Fakes.UNHANDLED;
+            }
+        }
+    }
+}
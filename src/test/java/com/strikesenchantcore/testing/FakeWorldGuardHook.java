@@ -0,0 +1,63 @@
+package com.strikesenchantcore.testing;
+
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldguard.protection.flags.StateFlag;
+import com.sk89q.worldguard.protection.regions.ProtectedCuboidRegion;
+import com.sk89q.worldguard.protection.regions.ProtectedRegion;
+import com.strikesenchantcore.EnchantCore;
+import com.strikesenchantcore.util.WorldGuardHook;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * {@link WorldGuardHook} without WorldGuard: enchants are allowed inside one cuboid "mine" region
+ * of one world and denied everywhere else, as with the enchantcore-effects flag set to ALLOW on it.
+ */
+public class FakeWorldGuardHook extends WorldGuardHook {
+
+    private final World world;
+    private final ProtectedCuboidRegion region;
+
+    public FakeWorldGuardHook(@NotNull EnchantCore plugin, @NotNull World world, int x1, int y1, int z1, int x2, int y2, int z2) {
+        super(plugin);
+        this.world = world;
+        this.region = new ProtectedCuboidRegion("mine", BlockVector3.at(Math.min(x1, x2), Math.min(y1, y2), Math.min(z1, z2)),
+                BlockVector3.at(Math.max(x1, x2), Math.max(y1, y2), Math.max(z1, z2)));
+    }
+
+    private boolean inMine(World world, int x, int y, int z) {
+        return world == this.world && region.contains(x, y, z);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnchantAllowed(@NotNull Location location) {
+        return inMine(location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    @Override
+    @NotNull
+    public boolean[] areEnchantsAllowed(@NotNull World world, @NotNull int[] xs, @NotNull int[] ys, @NotNull int[] zs, int count) {
+        boolean[] allowed = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            allowed[i] = inMine(world, xs[i], ys[i], zs[i]);
+        }
+        return allowed;
+    }
+
+    @Override
+    @NotNull
+    public Set<ProtectedRegion> getRegionsIfEffectiveStateMatches(@NotNull Location loc, @NotNull StateFlag flag, @NotNull StateFlag.State desiredState) {
+        return (desiredState == StateFlag.State.ALLOW && isEnchantAllowed(loc))
+                ? Collections.singleton(region)
+                : Collections.emptySet();
+    }
+}
@@ -0,0 +1,121 @@
+package com.strikesenchantcore.testing;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Lenient {@link Proxy} fakes of Bukkit interfaces. A fake answers the methods its handler knows;
+ * everything else returns an empty value (0, false, "", an empty collection or null) like an
+ * unstubbed mock, so code paths the tests don't exercise don't need faking.
+ */
+public final class Fakes {
+
+    /** Returned by a {@link Handler} for methods it doesn't implement. */
+    public static final Object UNHANDLED = new Object();
+
+    private Fakes() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /** The methods a fake implements. Never receives null args. */
+    @FunctionalInterface
+    public interface Handler {
+        Object invoke(Object proxy, Method method, Object[] args) throws Throwable;
+    }
+
+    private record LenientHandler(Handler handler, String name) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object[] safeArgs = (args != null) ? args : new Object[0];
+            Object result = handler.invoke(proxy, method, safeArgs);
+            if (result != UNHANDLED) return result;
+            return switch (method.getName()) {
+                case "equals" -> safeArgs.length == 1 ? proxy == safeArgs[0] : defaultValue(method.getReturnType());
+                case "hashCode" -> safeArgs.length == 0 ? System.identityHashCode(proxy) : defaultValue(method.getReturnType());
+                case "toString" -> safeArgs.length == 0 ? name : defaultValue(method.getReturnType());
+                default -> defaultValue(method.getReturnType());
+            };
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T create(Class<T> type, Handler handler, Class<?>... extraInterfaces) {
+        Class<?>[] interfaces = new Class<?>[extraInterfaces.length + 1];
+        interfaces[0] = type;
+        System.arraycopy(extraInterfaces, 0, interfaces, 1, extraInterfaces.length);
+        return (T) Proxy.newProxyInstance(Fakes.class.getClassLoader(), interfaces,
+                new LenientHandler(handler, "Fake" + type.getSimpleName()));
+    }
+
+    /** A fake that only has the empty answers. */
+    public static <T> T empty(Class<T> type) {
+        return create(type, (proxy, method, args) -> UNHANDLED);
+    }
+
+    /** @return The handler a fake was created with, or null if the object isn't a fake. */
+    public static Handler handlerOf(Object object) {
+        if (object == null || !Proxy.isProxyClass(object.getClass())) return null;
+        return (Proxy.getInvocationHandler(object) instanceof LenientHandler lenient) ? lenient.handler() : null;
+    }
+
+    public static Object defaultValue(Class<?> type) {
+        if (type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == double.class) return 0.0;
+        if (type == float.class) return 0.0F;
+        if (type == short.class) return (short) 0;
+        if (type == byte.class) return (byte) 0;
+        if (type == char.class) return '\0';
+        if (type == String.class) return "";
+        if (type == List.class || type == Collection.class || type == Iterable.class) return new ArrayList<>();
+        if (type == Set.class) return new HashSet<>();
+        if (type == Map.class) return new HashMap<>();
+        if (type == Optional.class) return Optional.empty();
+        if (type == Iterator.class) return Collections.emptyIterator();
+        if (type.isArray()) return Array.newInstance(type.getComponentType(), 0);
+        return null;
+    }
+
+    /**
+     * Bean-style property access on a map: {@code setX(v)} stores, {@code getX()}, {@code isX()} read
+     * (the empty value when unset), {@code hasX()} tells whether it is set.
+     * @return The result, or {@link #UNHANDLED} if the method isn't a property accessor.
+     */
+    public static Object property(Map<String, Object> properties, Method method, Object[] args) {
+        String name = method.getName();
+        if (args.length == 1 && name.startsWith("set") && name.length() > 3) {
+            if (args[0] == null) {
+                properties.remove(name.substring(3));
+            } else {
+                properties.put(name.substring(3), args[0]);
+            }
+            return defaultValue(method.getReturnType());
+        }
+        if (args.length != 0) return UNHANDLED;
+        if (name.startsWith("get") && name.length() > 3) {
+            Object value = properties.get(name.substring(3));
+            return (value != null) ? value : defaultValue(method.getReturnType());
+        }
+        if (name.startsWith("is") && name.length() > 2 && method.getReturnType() == boolean.class) {
+            return Boolean.TRUE.equals(properties.get(name.substring(2)));
+        }
+        if (name.startsWith("has") && name.length() > 3 && method.getReturnType() == boolean.class) {
+            return properties.containsKey(name.substring(3));
+        }
+        return UNHANDLED;
+    }
+}